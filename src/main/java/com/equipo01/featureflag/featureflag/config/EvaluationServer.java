@@ -0,0 +1,304 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import com.equipo01.featureflag.featureflag.dto.ErrorDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.impl.EnvironmentRegistry;
+import com.equipo01.featureflag.featureflag.service.impl.EvaluationCounters;
+import com.equipo01.featureflag.featureflag.service.impl.ExposurePipeline;
+import com.equipo01.featureflag.featureflag.service.impl.FlagStateRegistry;
+import com.equipo01.featureflag.featureflag.service.impl.ProjectContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lean HTTP server answering feature checks from memory, on a port of its own, for instances
+ * dedicated to evaluation.
+ *
+ * <p>It serves {@code GET ${api.features}/check} with the same parameters, authorization and
+ * answers as the REST endpoint, but bypasses Spring MVC and the security filter chain: requests are
+ * handled by the JDK HTTP server, one virtual thread each, and answered by the {@link
+ * FlagStateRegistry} without reading the database. Evaluations are counted and exposures recorded
+ * as for the REST endpoint.
+ *
+ * <p>Tokens are checked like the {@link JwtAuthorizationFilter} does the first time they are seen;
+ * the user's access and project binding are then remembered until the token expires, so a user
+ * disabled in the meantime keeps access through this server until then. At most {@code
+ * application.evaluation-server.token-cache-size} tokens are remembered.
+ *
+ * <p>Enabled with {@code application.evaluation-server.enabled}, on {@code
+ * application.evaluation-server.port}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.evaluation-server.enabled", havingValue = "true")
+public class EvaluationServer implements SmartLifecycle {
+
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+  private static final String BEARER = "Bearer ";
+
+  private final FlagStateRegistry flagStateRegistry;
+  private final EnvironmentRegistry environmentRegistry;
+  private final EvaluationCounters evaluationCounters;
+  private final ExposurePipeline exposurePipeline;
+  private final JwtUtil jwtUtil;
+  private final CustomUserDetailsService userDetailsService;
+  private final ObjectMapper objectMapper;
+  private final int configuredPort;
+  private final String checkPath;
+  private final int tokenCacheSize;
+
+  private final Map<String, Access> tokens = new ConcurrentHashMap<>();
+  private HttpServer server;
+  private ExecutorService executor;
+
+  public EvaluationServer(
+      FlagStateRegistry flagStateRegistry,
+      EnvironmentRegistry environmentRegistry,
+      EvaluationCounters evaluationCounters,
+      ExposurePipeline exposurePipeline,
+      JwtUtil jwtUtil,
+      CustomUserDetailsService userDetailsService,
+      ObjectMapper objectMapper,
+      @Value("${application.evaluation-server.port:8081}") int port,
+      @Value("${api.features}") String featuresPath,
+      @Value("${application.evaluation-server.token-cache-size:10000}") int tokenCacheSize) {
+    this.flagStateRegistry = flagStateRegistry;
+    this.environmentRegistry = environmentRegistry;
+    this.evaluationCounters = evaluationCounters;
+    this.exposurePipeline = exposurePipeline;
+    this.jwtUtil = jwtUtil;
+    this.userDetailsService = userDetailsService;
+    this.objectMapper = objectMapper;
+    this.configuredPort = port;
+    this.checkPath = featuresPath + "/check";
+    this.tokenCacheSize = tokenCacheSize;
+  }
+
+  @Override
+  public synchronized void start() {
+    try {
+      server = HttpServer.create(new InetSocketAddress(configuredPort), 0);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not start the evaluation server", e);
+    }
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    server.setExecutor(executor);
+    server.createContext(checkPath, this::check);
+    server.start();
+    log.info("Evaluation server listening on port {}", port());
+  }
+
+  @Override
+  public synchronized void stop() {
+    server.stop(0);
+    executor.close();
+    server = null;
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * Returns the port the server listens on.
+   *
+   * @return the bound port, which differs from the configured one when that is 0
+   */
+  public synchronized int port() {
+    return server.getAddress().getPort();
+  }
+
+  private void check(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        sendError(exchange, MessageError.METHOD_NOT_ALLOWED);
+        return;
+      }
+      Access access = authorize(exchange.getRequestHeaders().getFirst("Authorization"));
+      if (access == null) {
+        sendError(exchange, MessageError.UNAUTHORIZED);
+        return;
+      }
+      if (!access.allowed()) {
+        sendError(exchange, MessageError.FORBIDDEN);
+        return;
+      }
+      short projectId =
+          ProjectContext.resolve(
+              access.projectId(),
+              access.admin(),
+              exchange.getRequestHeaders().getFirst(ProjectContext.PROJECT_HEADER));
+
+      String featureName = null;
+      String clientId = null;
+      String environmentName = null;
+      String query = exchange.getRequestURI().getRawQuery();
+      for (int start = 0; query != null && start < query.length(); ) {
+        int end = query.indexOf('&', start);
+        if (end < 0) {
+          end = query.length();
+        }
+        int equals = query.indexOf('=', start);
+        if (equals > start && equals < end) {
+          String value = decode(query.substring(equals + 1, end));
+          if (query.startsWith("nameFeature=", start)) {
+            featureName = value;
+          } else if (query.startsWith("clientID=", start)) {
+            clientId = value;
+          } else if (query.startsWith("environment=", start)) {
+            environmentName = value;
+          }
+        }
+        start = end + 1;
+      }
+
+      UUID client;
+      Environment environment;
+      try {
+        client = UUID.fromString(clientId);
+        environment = Environment.valueOf(environmentName);
+      } catch (IllegalArgumentException | NullPointerException e) {
+        sendError(exchange, MessageError.VALIDATION_PARAMETER_NOT_VALID);
+        return;
+      }
+      if (featureName == null) {
+        sendError(exchange, MessageError.VALIDATION_PARAMETER_NOT_VALID);
+        return;
+      }
+      if (!environmentRegistry.isServed(environment)) {
+        sendError(exchange, MessageError.ENVIRONMENT_NOT_SERVED);
+        return;
+      }
+
+      boolean active;
+      switch (flagStateRegistry.check(projectId, featureName, environment, client)) {
+        case ENABLED -> active = true;
+        case DISABLED -> active = false;
+        case FEATURE_NOT_FOUND -> {
+          sendError(exchange, MessageError.FEATURE_NOT_FOUND);
+          return;
+        }
+        default -> {
+          sendError(exchange, MessageError.USER_NOT_FOUND);
+          return;
+        }
+      }
+      evaluationCounters.record(projectId, featureName, environment, active);
+      exposurePipeline.record(projectId, featureName, environment, client.toString(), active, null);
+      send(exchange, 200, active ? TRUE : FALSE);
+    } catch (FeatureFlagException e) {
+      sendError(exchange, e.getStatus(), e.getMessage(), e.getDescription());
+    } catch (RuntimeException e) {
+      log.error("Evaluation server request failed", e);
+      sendError(exchange, MessageError.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * Resolves the access granted by an authorization header, checking the token the first time it is
+   * seen.
+   *
+   * @return the access, or null if the header carries no valid token of an enabled user
+   */
+  private Access authorize(String authorization) {
+    if (authorization == null || !authorization.startsWith(BEARER)) {
+      return null;
+    }
+    String token = authorization.substring(BEARER.length());
+    Access access = tokens.get(token);
+    if (access != null && access.expiresAt() > System.currentTimeMillis()) {
+      return access;
+    }
+    tokens.remove(token);
+    if (!jwtUtil.validateToken(token)) {
+      return null;
+    }
+    UserDetails user;
+    try {
+      user = userDetailsService.loadUserByUsername(jwtUtil.getUsernameFromJWT(token));
+    } catch (RuntimeException e) {
+      return null;
+    }
+    if (!user.isEnabled()) {
+      return null;
+    }
+    // Same roles as the REST endpoint
+    boolean admin = false;
+    boolean allowed = false;
+    for (GrantedAuthority authority : user.getAuthorities()) {
+      admin |= "ROLE_ADMIN".equals(authority.getAuthority());
+      allowed |= admin || "ROLE_USER".equals(authority.getAuthority());
+    }
+    access =
+        new Access(
+            jwtUtil.getProjectFromJWT(token),
+            admin,
+            allowed,
+            jwtUtil.getExpirationFromJWT(token).getTime());
+    if (tokens.size() >= tokenCacheSize) {
+      // Rarely reached; the tokens still in use are checked again on their next request
+      tokens.clear();
+    }
+    tokens.put(token, access);
+    return access;
+  }
+
+  private static String decode(String value) {
+    return value.indexOf('%') < 0 && value.indexOf('+') < 0
+        ? value
+        : URLDecoder.decode(value, StandardCharsets.UTF_8);
+  }
+
+  private void sendError(HttpExchange exchange, MessageError error) throws IOException {
+    sendError(exchange, error.getStatus(), error.getMessage(), error.getDescription());
+  }
+
+  private void sendError(
+      HttpExchange exchange, HttpStatus status, String message, String description)
+      throws IOException {
+    ErrorDto body =
+        ErrorDto.builder()
+            .message(message)
+            .description(description)
+            .code(status.value())
+            .timestamp(LocalDateTime.now())
+            .build();
+    send(exchange, status.value(), objectMapper.writeValueAsBytes(body));
+  }
+
+  private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  /** Access granted by a token until it expires. */
+  private record Access(Short projectId, boolean admin, boolean allowed, long expiresAt) {}
+}
@@ -0,0 +1,45 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationCountResponseDto;
+import com.equipo01.featureflag.featureflag.service.impl.EvaluationCounters;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the evaluation counts of every feature flag, at {@code
+ * /actuator/evaluations}.
+ *
+ * <p>Counts are those of the instance that answered since it started, the same values published to
+ * the metrics registry as {@code featureflag.evaluations}, gathered in a single response.
+ */
+@Component
+@Endpoint(id = "evaluations")
+@RequiredArgsConstructor
+public class EvaluationsEndpoint {
+
+  private final EvaluationCounters evaluationCounters;
+
+  @ReadOperation
+  public List<EvaluationCountResponseDto> evaluations() {
+    return evaluationCounters.counters().stream()
+        .map(
+            counter ->
+                EvaluationCountResponseDto.builder()
+                    .projectId(counter.getProjectId())
+                    .featureName(counter.getFeatureName())
+                    .environment(counter.getEnvironment())
+                    .enabled(counter.getEnabled())
+                    .disabled(counter.getDisabled())
+                    .lastEvaluatedAt(counter.getLastEvaluatedAt())
+                    .build())
+        .sorted(
+            Comparator.comparing(EvaluationCountResponseDto::getProjectId)
+                .thenComparing(EvaluationCountResponseDto::getFeatureName)
+                .thenComparing(EvaluationCountResponseDto::getEnvironment))
+        .toList();
+  }
+}
@@ -0,0 +1,248 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.model.IdempotencyRecord;
+import com.equipo01.featureflag.featureflag.service.IdempotencyService;
+import com.equipo01.featureflag.featureflag.service.impl.ProjectContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Idempotency filter for create endpoints.
+ *
+ * <ul>
+ *   <li>It applies to {@code POST} requests on the configured paths that carry an {@code
+ *       Idempotency-Key} header; any other request passes through untouched.
+ *   <li>The first request with a key reserves it, runs normally and stores its response.
+ *   <li>A retry with the same key and body replays the stored response, marked with {@code
+ *       Idempotent-Replayed: true}, without reaching the controller, so no validation or write runs
+ *       again.
+ *   <li>Keys are scoped to the authenticated user, the project the request works in and the
+ *       endpoint, so the filter runs after {@link JwtAuthorizationFilter}.
+ * </ul>
+ *
+ * <p>Server errors (5xx) are not stored: the key is released so that a retry is processed again.
+ */
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+  private static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyService idempotencyService;
+  private final HandlerExceptionResolver handlerExceptionResolver;
+  private final ProjectContext projectContext;
+  private final Set<String> paths;
+
+  /**
+   * Constructor to initialize filter dependencies
+   *
+   * @param idempotencyService store of reserved keys and stored responses
+   * @param handlerExceptionResolver resolver rendering errors like the REST controllers do
+   * @param projectContext resolver of the project a request works in
+   * @param paths request URIs of the create endpoints to protect
+   */
+  public IdempotencyKeyFilter(
+      IdempotencyService idempotencyService,
+      HandlerExceptionResolver handlerExceptionResolver,
+      ProjectContext projectContext,
+      Set<String> paths) {
+    this.idempotencyService = idempotencyService;
+    this.handlerExceptionResolver = handlerExceptionResolver;
+    this.projectContext = projectContext;
+    this.paths = paths;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !HttpMethod.POST.matches(request.getMethod())
+        || !paths.contains(request.getRequestURI())
+        || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      reject(request, response, MessageError.IDEMPOTENCY_KEY_INVALID);
+      return;
+    }
+    short projectId;
+    try {
+      projectId = projectContext.projectId(request);
+    } catch (FeatureFlagException e) {
+      // Rejected here as the controller would, before the key is reserved
+      handlerExceptionResolver.resolveException(request, response, null, e);
+      return;
+    }
+
+    CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+    String id = sha256((scope(request, projectId) + '\n' + key).getBytes(StandardCharsets.UTF_8));
+    String requestHash = sha256(cachedRequest.body);
+
+    // 1. A known key is replayed, or rejected if it belongs to another request
+    Optional<IdempotencyRecord> stored = idempotencyService.find(id);
+    if (stored.isPresent()) {
+      replayOrReject(request, response, stored.get(), requestHash);
+      return;
+    }
+    // 2. Otherwise reserve it; losing the race means a concurrent retry is processing it
+    if (!idempotencyService.reserve(id, requestHash)) {
+      reject(request, response, MessageError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+      return;
+    }
+
+    // 3. Process the request and store its response
+    ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+    boolean completed = false;
+    try {
+      filterChain.doFilter(cachedRequest, cachedResponse);
+      if (cachedResponse.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+        idempotencyService.complete(
+            id,
+            requestHash,
+            cachedResponse.getStatus(),
+            cachedResponse.getContentType(),
+            cachedResponse.getContentAsByteArray());
+        completed = true;
+      }
+    } finally {
+      if (!completed) {
+        idempotencyService.release(id);
+      }
+      cachedResponse.copyBodyToResponse();
+    }
+  }
+
+  private void replayOrReject(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      IdempotencyRecord record,
+      String requestHash)
+      throws IOException {
+    if (!record.getRequestHash().equals(requestHash)) {
+      reject(request, response, MessageError.IDEMPOTENCY_KEY_REUSED);
+    } else if (!record.isCompleted()) {
+      reject(request, response, MessageError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    } else {
+      response.setStatus(record.getStatusCode());
+      if (record.getContentType() != null) {
+        response.setContentType(record.getContentType());
+      }
+      response.setHeader(IDEMPOTENT_REPLAYED_HEADER, "true");
+      response.getOutputStream().write(record.getResponseBody());
+    }
+  }
+
+  private void reject(
+      HttpServletRequest request, HttpServletResponse response, MessageError messageError) {
+    handlerExceptionResolver.resolveException(
+        request,
+        response,
+        null,
+        new FeatureFlagException(
+            messageError.getStatus(), messageError.getMessage(), messageError.getDescription()));
+  }
+
+  /**
+   * Scopes a key to the calling user, the project and the endpoint, so that neither different
+   * callers nor the same caller in different projects ever collide.
+   */
+  private static String scope(HttpServletRequest request, short projectId) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    String caller = authentication != null ? authentication.getName() : "";
+    return caller + ' ' + projectId + ' ' + request.getMethod() + ' ' + request.getRequestURI();
+  }
+
+  private static String sha256(byte[] value) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /** Request wrapper reading the body upfront, so it can be hashed and then read again. */
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request) throws IOException {
+      super(request);
+      this.body = request.getInputStream().readAllBytes();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream input = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return input.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          return input.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          // The body is fully buffered: all of it is available at once
+          try {
+            if (!isFinished()) {
+              readListener.onDataAvailable();
+            }
+            readListener.onAllDataRead();
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String encoding = getCharacterEncoding();
+      return new BufferedReader(
+          new InputStreamReader(
+              getInputStream(),
+              encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.equipo01.featureflag.featureflag.config;
 
+import com.equipo01.featureflag.featureflag.service.impl.ProjectContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -68,6 +69,11 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        // Scopes the request to the project the user was bound to at login
+        Short projectId = jwtUtil.getProjectFromJWT(token);
+        if (projectId != null) {
+          request.setAttribute(ProjectContext.PROJECT_ATTRIBUTE, projectId);
+        }
       } catch (Exception ex) {
         logger.error("Could not set user authentication in security context", ex);
       }
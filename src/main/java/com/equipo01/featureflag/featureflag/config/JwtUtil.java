@@ -17,6 +17,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtUtil {
 
+  // Claim holding the project the user is bound to
+  private static final String PROJECT_CLAIM = "project";
+
   // Secret key for signing and validating JWT tokens
   @Value("${application.security.jwt.secret-key}")
   private String secret;
@@ -45,6 +48,42 @@ public class JwtUtil {
         .compact();
   }
 
+  /**
+   * Generates a JWT token for an authenticated user bound to a project. The project is carried in
+   * the {@code project} claim, so the binding in force at login applies until the token expires.
+   *
+   * @param auth the authenticated user
+   * @param projectId the project the user is bound to, or null for a user working across projects
+   * @return the signed token
+   */
+  public String generateToken(Authentication auth, Short projectId) {
+    if (projectId == null) {
+      return generateToken(auth);
+    }
+    String username = auth.getName();
+    Date now = new Date();
+    Date exp = new Date(now.getTime() + expiration);
+    return Jwts.builder()
+        .setSubject(username)
+        .claim(PROJECT_CLAIM, projectId)
+        .setIssuedAt(now)
+        .setExpiration(exp)
+        .signWith(SignatureAlgorithm.HS256, secret)
+        .compact();
+  }
+
+  /**
+   * Extracts the project the user of a JWT token is bound to.
+   *
+   * @param token signed JWT token
+   * @return the project identifier, or null if the token is not bound to a project
+   */
+  public Short getProjectFromJWT(String token) {
+    Claims claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    Number projectId = claims.get(PROJECT_CLAIM, Number.class);
+    return projectId == null ? null : projectId.shortValue();
+  }
+
   /**
    * Method that extracts the username (subject) from a JWT token. -1. Parse the token using the
    * secret key. -2. Extract the subject (username) from the claims. -3. Return the username.
@@ -57,6 +96,17 @@ public class JwtUtil {
     return claims.getSubject();
   }
 
+  /**
+   * Extracts the instant a JWT token expires at.
+   *
+   * @param token signed JWT token
+   * @return the expiration date of the token
+   */
+  public Date getExpirationFromJWT(String token) {
+    Claims claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    return claims.getExpiration();
+  }
+
   /**
    * Validates that a JWT token is correct. -1. Attempts to parse the token using the secret key.
    * -2. If the token is valid, returns true. -3. If the token is invalid or has expired, catches
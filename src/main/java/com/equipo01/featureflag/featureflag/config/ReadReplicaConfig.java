@@ -0,0 +1,149 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import com.equipo01.featureflag.featureflag.util.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Sends read-only transactions to a replica database and everything else to the primary, when
+ * {@code application.datasource.replica.enabled} is set.
+ *
+ * <p>The primary pool is configured with {@code spring.datasource} as usual, and the replica pool
+ * with {@code application.datasource.replica}, both pools taking their Hikari settings from a
+ * nested {@code hikari} section. The application data source is a {@link
+ * ReadWriteRoutingDataSource} behind a {@link LazyConnectionDataSourceProxy}, so that services
+ * marked {@code @Transactional(readOnly = true)} read from the replica without any change. After a
+ * read-write transaction, the authenticated user's reads go to the primary for {@code
+ * application.datasource.replica.read-your-writes-window}, so that users see their own writes
+ * despite replication lag.
+ *
+ * <p>Each pool is published by Hikari with its pool name, {@code primary} or {@code replica}, and
+ * the connections taken from each are counted as {@code featureflag.datasource.routed}. Running on
+ * virtual threads, each pool is limited to its own size by {@link VirtualThreadConfig}.
+ *
+ * <p>SQL initialization scripts run on both databases, so that two embedded databases can stand for
+ * the primary and its replica locally; with a real replica, leave {@code spring.sql.init.mode} at
+ * its default.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("application.datasource.replica.hikari")
+  HikariDataSource replicaDataSource(
+      @Value("${application.datasource.replica.url}") String url,
+      @Value("${application.datasource.replica.username:}") String username,
+      @Value("${application.datasource.replica.password:}") String password,
+      @Value("${application.datasource.replica.driver-class-name:}") String driverClassName) {
+    DataSourceBuilder<HikariDataSource> builder =
+        DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password);
+    if (!driverClassName.isEmpty()) {
+      builder.driverClassName(driverClassName);
+    }
+    HikariDataSource dataSource = builder.build();
+    dataSource.setPoolName("replica");
+    return dataSource;
+  }
+
+  @Bean
+  ReadWriteRoutingDataSource readWriteRoutingDataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      @Value("${application.datasource.replica.read-your-writes-window:PT5S}") Duration window) {
+    return new ReadWriteRoutingDataSource(
+        primary, replica, window, ReadReplicaConfig::currentClient);
+  }
+
+  @Bean
+  @Primary
+  DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+  }
+
+  /**
+   * Runs the SQL initialization scripts on the replica. Not a {@link
+   * SqlDataSourceScriptDatabaseInitializer}, so that Spring Boot still initializes the primary.
+   */
+  @Bean
+  DataSourceScriptDatabaseInitializer replicaDataSourceInitializer(
+      @Qualifier("replicaDataSource") DataSource replica, SqlInitializationProperties properties) {
+    return new DataSourceScriptDatabaseInitializer(
+        replica, SqlDataSourceScriptDatabaseInitializer.getSettings(properties));
+  }
+
+  @Bean
+  MeterBinder readWriteRoutingMetrics(ReadWriteRoutingDataSource dataSource) {
+    return registry -> {
+      FunctionCounter.builder(
+              "featureflag.datasource.routed",
+              dataSource,
+              ReadWriteRoutingDataSource::primaryConnections)
+          .description("Connections taken from each pool")
+          .tag("pool", "primary")
+          .register(registry);
+      FunctionCounter.builder(
+              "featureflag.datasource.routed",
+              dataSource,
+              ReadWriteRoutingDataSource::replicaConnections)
+          .description("Connections taken from each pool")
+          .tag("pool", "replica")
+          .register(registry);
+      FunctionCounter.builder(
+              "featureflag.datasource.pinned.reads",
+              dataSource,
+              ReadWriteRoutingDataSource::pinnedReads)
+          .description("Read-only transactions sent to the primary after their user wrote")
+          .register(registry);
+      Gauge.builder(
+              "featureflag.datasource.pinned.clients",
+              dataSource,
+              ReadWriteRoutingDataSource::pinnedClients)
+          .description("Users reading from the primary after writing")
+          .register(registry);
+    };
+  }
+
+  /** Returns the authenticated user the current thread works for, or null. */
+  private static String currentClient() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication == null
+            || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken
+        ? null
+        : authentication.getName();
+  }
+}
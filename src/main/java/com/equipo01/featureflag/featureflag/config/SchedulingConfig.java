@@ -0,0 +1,22 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs, such as the flag change outbox relay.
+ *
+ * <p>Jobs run on Spring Boot's auto-configured scheduler, whose {@code
+ * spring.task.scheduling.pool.size} threads let long jobs such as the purge run beside the
+ * latency-sensitive refreshes, or on virtual threads with {@code spring.threads.virtual.enabled}.
+ * Setting {@code application.scheduling.enabled} to false turns every job off, for tests measuring
+ * the statements of a single thread.
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "application.scheduling.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@EnableScheduling
+public class SchedulingConfig {}
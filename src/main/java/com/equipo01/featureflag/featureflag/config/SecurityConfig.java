@@ -2,6 +2,11 @@ package com.equipo01.featureflag.featureflag.config;
 
 import com.equipo01.featureflag.featureflag.exception.CustomAccessDeniedHandler;
 import com.equipo01.featureflag.featureflag.exception.CustomAuthenticationEntryPoint;
+import com.equipo01.featureflag.featureflag.service.IdempotencyService;
+import com.equipo01.featureflag.featureflag.service.impl.ProjectContext;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +22,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.password.HaveIBeenPwnedRestApiPasswordChecker;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 /**
  * Security configuration for the application. -Defines the beans required for security
@@ -49,6 +55,20 @@ public class SecurityConfig {
     return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
   }
 
+  @Bean
+  public IdempotencyKeyFilter idempotencyKeyFilter(
+      IdempotencyService idempotencyService,
+      @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+      ProjectContext projectContext,
+      @Value("${api.features}") String featuresPath,
+      @Value("${api.configurations}") String configurationsPath) {
+    return new IdempotencyKeyFilter(
+        idempotencyService,
+        handlerExceptionResolver,
+        projectContext,
+        Set.of(featuresPath, configurationsPath));
+  }
+
   @Bean
   public CompromisedPasswordChecker compromisedPasswordChecker() {
     return new HaveIBeenPwnedRestApiPasswordChecker();
@@ -59,6 +79,7 @@ public class SecurityConfig {
   public SecurityFilterChain securityFilterChain(
       HttpSecurity http,
       JwtAuthorizationFilter jwtAuthorizationFilter,
+      IdempotencyKeyFilter idempotencyKeyFilter,
       CustomAccessDeniedHandler customAccessDeniedHandler,
       CustomAuthenticationEntryPoint customAuthenticationEntryPoint)
       throws Exception {
@@ -79,13 +100,18 @@ public class SecurityConfig {
                   "/actuator/metrics/**",
                     "/actuator/info")
                     .permitAll()
+                    // Evaluation counts name every flag in use, so they are not public
+                    .requestMatchers("/actuator/evaluations")
+                    .hasRole("ADMIN")
                     .anyRequest()
                     .authenticated())
         .exceptionHandling(
             ex ->
                 ex.authenticationEntryPoint(customAuthenticationEntryPoint)
                     .accessDeniedHandler(customAccessDeniedHandler))
-        .addFilterBefore(jwtAuthorizationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthorizationFilter, UsernamePasswordAuthenticationFilter.class)
+        // Replays run after authentication, since keys are scoped to the authenticated user
+        .addFilterAfter(idempotencyKeyFilter, JwtAuthorizationFilter.class);
     return http.build();
   }
 }
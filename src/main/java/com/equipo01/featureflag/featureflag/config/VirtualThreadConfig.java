@@ -0,0 +1,90 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import com.equipo01.featureflag.featureflag.util.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Limits concurrent database access to the size of the connection pool when the application runs on
+ * virtual threads, with {@code spring.threads.virtual.enabled}.
+ *
+ * <p>In that mode Tomcat serves every request on a virtual thread of its own, and {@code @Async}
+ * and {@code @Scheduled} work runs on virtual threads too, so the 200 platform threads of Tomcat no
+ * longer bound how many requests wait for a connection at once. The data source is wrapped in a
+ * {@link ConcurrencyLimitedDataSource} with one permit per pooled connection: requests beyond the
+ * pool size queue in order on its semaphore, and give up after the pool's connection timeout as
+ * they would in the pool. Its available permits and waiting threads are published as {@code
+ * featureflag.datasource.available} and {@code featureflag.datasource.waiting}, tagged with the
+ * name of the data source. With a read replica, each of the two pools is limited to its own size.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  /** Connection limit for data sources that are not a Hikari pool. */
+  private static final int DEFAULT_LIMIT = 10;
+
+  /** How long to wait for a connection of data sources that are not a Hikari pool. */
+  private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+  @Bean
+  static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // Proxies and routers hand out connections of pools that are limited themselves
+        if (!(bean instanceof DataSource dataSource)
+            || bean instanceof DelegatingDataSource
+            || bean instanceof AbstractRoutingDataSource) {
+          return bean;
+        }
+        // Pool settings are bound before initialization, so they are final here
+        int limit = DEFAULT_LIMIT;
+        Duration acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+        if (bean instanceof HikariDataSource hikari) {
+          limit = hikari.getMaximumPoolSize();
+          acquireTimeout = Duration.ofMillis(hikari.getConnectionTimeout());
+        }
+        log.info("Limiting data source {} to {} concurrent connections", beanName, limit);
+        return new ConcurrencyLimitedDataSource(dataSource, limit, acquireTimeout);
+      }
+    };
+  }
+
+  @Bean
+  MeterBinder concurrencyLimitedDataSourceMetrics(Map<String, DataSource> dataSources) {
+    return registry ->
+        dataSources.forEach(
+            (name, dataSource) -> {
+              if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                Gauge.builder(
+                        "featureflag.datasource.available",
+                        limited,
+                        ConcurrencyLimitedDataSource::available)
+                    .description("Connections that can be handed out without waiting")
+                    .tag("name", name)
+                    .register(registry);
+                Gauge.builder(
+                        "featureflag.datasource.waiting",
+                        limited,
+                        ConcurrencyLimitedDataSource::waiting)
+                    .description("Threads waiting for a connection")
+                    .tag("name", name)
+                    .register(registry);
+              }
+            });
+  }
+}
@@ -0,0 +1,74 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Binary wire format configuration. Registers CBOR and Smile message converters so clients can
+ * request a compact encoding with the {@code Accept} header.
+ *
+ * <p>The binary converters are built from the same {@link Jackson2ObjectMapperBuilder} as the JSON
+ * one, so every format serializes DTOs identically. They are appended after the JSON converter,
+ * which keeps JSON as the default when no specific media type is requested. Smile is configured to
+ * back-reference repeated string values, so feature names, environments and client ids that appear
+ * many times in a payload are written only once.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+  /** Media type of the Smile binary JSON encoding. */
+  public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+  private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+  public WireFormatConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+    this.objectMapperBuilder = objectMapperBuilder;
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.removeIf(
+        converter ->
+            converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+    converters.add(
+        new MappingJackson2SmileHttpMessageConverter(smileMapper(objectMapperBuilder.getObject())));
+    converters.add(
+        new MappingJackson2CborHttpMessageConverter(cborMapper(objectMapperBuilder.getObject())));
+  }
+
+  /**
+   * Builds the ObjectMapper used for Smile responses.
+   *
+   * @param builder the builder carrying the application's Jackson settings
+   * @return an ObjectMapper writing Smile with shared property names and string values
+   */
+  public static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder builder) {
+    SmileFactory factory =
+        SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+    return builder.factory(factory).build();
+  }
+
+  /**
+   * Builds the ObjectMapper used for CBOR responses.
+   *
+   * @param builder the builder carrying the application's Jackson settings
+   * @return an ObjectMapper writing CBOR
+   */
+  public static ObjectMapper cborMapper(Jackson2ObjectMapperBuilder builder) {
+    return builder.factory(new CBORFactory()).build();
+  }
+}
@@ -0,0 +1,31 @@
+package com.equipo01.featureflag.featureflag.controller;
+
+import com.equipo01.featureflag.featureflag.dto.request.EnvironmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EnvironmentResponseDto;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * REST API Controller interface for managing environments.
+ *
+ * <p>Environments are the deployment targets feature configurations apply to. Each one is
+ * identified by a small integer, which is what configurations store and what in-memory evaluation
+ * data is indexed by. Environments can be created but not renamed or deleted.
+ */
+public interface EnvironmentController {
+
+  /**
+   * Creates an environment.
+   *
+   * @param requestDto the name and description of the environment
+   * @return the created environment with HTTP status 201 (Created)
+   */
+  ResponseEntity<EnvironmentResponseDto> createEnvironment(EnvironmentRequestDto requestDto);
+
+  /**
+   * Retrieves every environment.
+   *
+   * @return the environments, by identifier
+   */
+  ResponseEntity<List<EnvironmentResponseDto>> getEnvironments();
+}
@@ -1,7 +1,15 @@
 package com.equipo01.featureflag.featureflag.controller;
 
+import com.equipo01.featureflag.featureflag.dto.VariantAllocationDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.ScheduledChangeRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.TargetingRulesRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.VariantAllocationsRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.BulkToggleResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.ScheduledChangeResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.TargetingRuleResponseDto;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 
@@ -69,10 +77,81 @@ public interface FeatureConfigController {
    *
    * @param featureConfigId the unique identifier of the feature configuration to toggle
    * @param enable true to enable the configuration, false to disable it
+   * @param ifMatch optional ETag of the configuration version the change is based on
    * @return a list of updated configurations affected by the toggle operation
    */
   ResponseEntity<List<FeatureConfigResponseDto>> setFeatureEnabledOrDisabled(
-      String featureConfigId, boolean enable);
+      String featureConfigId, boolean enable, String ifMatch);
+
+  /**
+   * Enables or disables every feature configuration matched by a set of criteria in one operation.
+   *
+   * @param requestDto the enabled state to apply and the criteria sets selecting configurations
+   * @return the number of configurations updated for each criteria set and in total
+   */
+  ResponseEntity<BulkToggleResponseDto> bulkToggle(BulkToggleRequestDto requestDto);
+
+  /**
+   * Schedules a feature configuration to be enabled or disabled at a given instant.
+   *
+   * @param featureConfigId the unique identifier of the feature configuration to toggle
+   * @param requestDto the enabled state to apply and the instant at which to apply it
+   * @return the scheduled change with HTTP status 201 (Created)
+   */
+  ResponseEntity<ScheduledChangeResponseDto> scheduleChange(
+      String featureConfigId, ScheduledChangeRequestDto requestDto);
+
+  /**
+   * Retrieves the changes still pending on a feature configuration, soonest first.
+   *
+   * @param featureConfigId the unique identifier of the feature configuration
+   * @return the pending scheduled changes of the configuration
+   */
+  ResponseEntity<List<ScheduledChangeResponseDto>> getPendingChanges(String featureConfigId);
+
+  /**
+   * Cancels a pending scheduled change.
+   *
+   * @param scheduledChangeId the unique identifier of the scheduled change
+   * @return empty response with HTTP status 204 (No Content) on successful cancellation
+   */
+  ResponseEntity<Void> cancelScheduledChange(String scheduledChangeId);
+
+  /**
+   * Retrieves the targeting rules of a feature configuration in evaluation order.
+   *
+   * @param featureConfigId the unique identifier of the feature configuration
+   * @return the targeting rules of the configuration
+   */
+  ResponseEntity<List<TargetingRuleResponseDto>> getTargetingRules(String featureConfigId);
+
+  /**
+   * Replaces the targeting rules of a feature configuration.
+   *
+   * @param featureConfigId the unique identifier of the feature configuration
+   * @param requestDto the new rules, in evaluation order
+   * @return the stored targeting rules
+   */
+  ResponseEntity<List<TargetingRuleResponseDto>> replaceTargetingRules(
+      String featureConfigId, TargetingRulesRequestDto requestDto);
+
+  /**
+   * Retrieves the variant allocation of a feature configuration.
+   *
+   * @param featureConfigId the unique identifier of the feature configuration
+   * @return the share of each allocated variant
+   */
+  ResponseEntity<List<VariantAllocationDto>> getVariantAllocation(String featureConfigId);
+
+  /**
+   * Replaces the variant allocation of a feature configuration.
+   *
+   * @param featureConfigId the unique identifier of the feature configuration
+   * @param requestDto the share of each variant, adding up to 10000
+   * @return the stored allocation
+   */
+  ResponseEntity<List<VariantAllocationDto>> replaceVariantAllocation(
+      String featureConfigId, VariantAllocationsRequestDto requestDto);
 
   /**
    * Deletes a specific feature configuration from the system.
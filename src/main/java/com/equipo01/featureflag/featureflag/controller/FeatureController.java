@@ -1,17 +1,33 @@
 package com.equipo01.featureflag.featureflag.controller;
 
+import com.equipo01.featureflag.featureflag.dto.request.BatchEvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.FeaturePrerequisitesRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.FeatureVariantsRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureDetailResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeaturePrerequisitesResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureSnapshotResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagChangeHistoryResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagHistoryStateResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.GetFeatureDetailResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.GetFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.StaleFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.VariantResponseDto;
 import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
-
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 public interface FeatureController {
@@ -54,6 +70,75 @@ public interface FeatureController {
       @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
           String featureId);
 
+  /**
+   * Obtains a paginated list of feature flags together with their configurations, with optional
+   * filters by name and enabled status.
+   *
+   * @param name optional filter by name (partial match)
+   * @param enabledByDefault optional filter by enabled status
+   * @param page page number for pagination (default: 0)
+   * @param size page size for pagination (default: 10)
+   * @return a paginated list of feature flags and their configurations
+   */
+  ResponseEntity<GetFeatureDetailResponseDto> getFeatureDetails(
+      @RequestParam(value = "name", required = false) String name,
+      @RequestParam(value = "enabled", required = false) Boolean enabledByDefault,
+      @RequestParam(value = "page", defaultValue = "0", required = false)
+          @Min(value = 0, message = "Page must be at least 0")
+          Integer page,
+      @RequestParam(value = "size", defaultValue = "10", required = false)
+          @Min(value = 1, message = "Size must be at least 1")
+          Integer size);
+
+  /**
+   * Retrieves a specific feature flag together with all of its configurations.
+   *
+   * @param featureId the UUID of the feature flag
+   * @return the feature flag and its configurations
+   */
+  ResponseEntity<FeatureDetailResponseDto> getFeatureDetail(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId);
+
+  /**
+   * Retrieves the state of every feature flag in an environment.
+   *
+   * @param environment the target environment (DEV, STAGING, PROD)
+   * @return the feature names mapped to their enabled state
+   */
+  ResponseEntity<FeatureSnapshotResponseDto> getFeatureSnapshot(@RequestParam String environment);
+
+  /**
+   * Retrieves the feature flags that have not been evaluated in any environment for some days.
+   *
+   * @param days the number of days without evaluation
+   * @return the stale feature flags, never evaluated first, then least recently evaluated first
+   */
+  ResponseEntity<List<StaleFeatureResponseDto>> getStaleFeatures(
+      @RequestParam @Min(value = 1, message = "Days must be at least 1") Integer days);
+
+  /**
+   * Retrieves the latest changes made to a feature flag and its configurations, newest first.
+   *
+   * @param featureId the UUID of the feature flag
+   * @param limit the maximum number of changes to return
+   * @return who changed the feature flag, when, and its state before and after each change
+   */
+  ResponseEntity<List<FlagChangeHistoryResponseDto>> getFeatureHistory(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId,
+      @RequestParam @Min(value = 1, message = "Limit must be at least 1") Integer limit);
+
+  /**
+   * Rebuilds the state of every feature configuration of an environment at a past instant.
+   *
+   * @param environment the target environment (DEV, STAGING, PROD)
+   * @param at the instant to rebuild the state at
+   * @return the state of every configuration of the environment at that instant
+   */
+  ResponseEntity<FlagHistoryStateResponseDto> getHistoricalState(
+      @RequestParam String environment, @RequestParam Instant at);
+
   /**
    * Checks if a specific feature flag is active for a given client and environment.
    *
@@ -69,12 +154,81 @@ public interface FeatureController {
       @RequestParam String clientID,
       @RequestParam String environment);
 
+  /**
+   * Evaluates a feature flag against a context of attributes, applying the targeting rules of the
+   * configuration that applies to the client or environment.
+   *
+   * @param requestDto the feature, environment, optional client and context to evaluate
+   * @return the evaluation result and the rule that decided it, if any
+   * @throws FeatureFlagException if the feature is not found
+   */
+  ResponseEntity<EvaluationResponseDto> evaluateFeature(@Valid EvaluationRequestDto requestDto);
+
+  /**
+   * Evaluates several feature flags against one context of attributes. Prerequisites shared by the
+   * features are evaluated once for the whole batch.
+   *
+   * @param requestDto the features, environment, optional client and context to evaluate
+   * @return the evaluation results, in the order of the requested feature names
+   * @throws FeatureFlagException if one of the features is not found
+   */
+  ResponseEntity<List<EvaluationResponseDto>> evaluateFeatures(
+      @Valid BatchEvaluationRequestDto requestDto);
+
+  /**
+   * Retrieves the features a feature flag depends on.
+   *
+   * @param featureId the UUID of the feature flag
+   * @return the feature flag and the identifiers of its prerequisites
+   */
+  ResponseEntity<FeaturePrerequisitesResponseDto> getPrerequisites(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId);
+
+  /**
+   * Replaces the features a feature flag depends on.
+   *
+   * @param featureId the UUID of the feature flag
+   * @param requestDto the new prerequisites
+   * @return the feature flag and the identifiers of its prerequisites
+   * @throws FeatureFlagException if a feature is not found or the change would create a cycle
+   */
+  ResponseEntity<FeaturePrerequisitesResponseDto> replacePrerequisites(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId,
+      @Valid @RequestBody FeaturePrerequisitesRequestDto requestDto);
+
+  /**
+   * Retrieves the typed values a feature flag can serve.
+   *
+   * @param featureId the UUID of the feature flag
+   * @return the variants of the feature flag, by name
+   */
+  ResponseEntity<List<VariantResponseDto>> getVariants(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId);
+
+  /**
+   * Replaces the typed values a feature flag can serve.
+   *
+   * @param featureId the UUID of the feature flag
+   * @param requestDto the variants of the feature flag
+   * @return the stored variants, by name
+   * @throws FeatureFlagException if the feature is not found, a value does not match its type, or a
+   *     removed variant is still allocated
+   */
+  ResponseEntity<List<VariantResponseDto>> replaceVariants(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId,
+      @Valid @RequestBody FeatureVariantsRequestDto requestDto);
+
   /**
    * Updates feature flag configuration for specific clients or environments.
    *
    * @param id the UUID of the feature flag to update (must be valid UUID format)
    * @param action the update action to perform (enable, disable, configure, etc.)
    * @param toggleRequestDto the configuration data for the update operation
+   * @param ifMatch optional ETag of the feature version the change is based on
    * @return the updated feature configuration or confirmation of the operation
    * @throws IllegalArgumentException if the UUID format is invalid
    * @throws FeatureFlagException if the feature is not found or action is unsupported
@@ -85,7 +239,8 @@ public interface FeatureController {
       @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
           String id,
       @PathVariable String action,
-      @RequestBody FeatureToggleRequestDto toggleRequestDto);
+      @RequestBody FeatureToggleRequestDto toggleRequestDto,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
   /**
    * Deletes a feature flag from the system.
@@ -99,7 +254,7 @@ public interface FeatureController {
    */
   ResponseEntity<Void> deleteFeature(@PathVariable String id);
 
-    /**
+  /**
    * Tests permission validation for feature configuration operations.
    *
    * @return a message indicating the permission test result and user access level
@@ -0,0 +1,61 @@
+package com.equipo01.featureflag.featureflag.controller;
+
+import com.equipo01.featureflag.featureflag.dto.response.KillSwitchResponseDto;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * REST API Controller interface for kill switches.
+ *
+ * <p>Kill switches turn features off during incidents with a single write, without touching their
+ * configurations: a feature kill switch turns one feature off in every environment, and the
+ * emergency mode of an environment turns every feature of the project off in it. Engaging and
+ * releasing are idempotent.
+ */
+public interface KillSwitchController {
+
+  /**
+   * Retrieves every engaged kill switch.
+   *
+   * @return the engaged kill switches, oldest first
+   */
+  ResponseEntity<List<KillSwitchResponseDto>> getKillSwitches();
+
+  /**
+   * Turns a feature off in every environment.
+   *
+   * @param featureId the UUID of the feature
+   * @return the engaged kill switch
+   */
+  ResponseEntity<KillSwitchResponseDto> killFeature(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId);
+
+  /**
+   * Releases the kill switch of a feature.
+   *
+   * @param featureId the UUID of the feature
+   * @return an empty response with HTTP status 204 (No Content)
+   */
+  ResponseEntity<Void> reviveFeature(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId);
+
+  /**
+   * Turns every feature of the project off in an environment.
+   *
+   * @param environment the name of the environment
+   * @return the engaged kill switch
+   */
+  ResponseEntity<KillSwitchResponseDto> engageEmergency(@PathVariable String environment);
+
+  /**
+   * Ends the emergency mode of an environment in the project.
+   *
+   * @param environment the name of the environment
+   * @return an empty response with HTTP status 204 (No Content)
+   */
+  ResponseEntity<Void> releaseEmergency(@PathVariable String environment);
+}
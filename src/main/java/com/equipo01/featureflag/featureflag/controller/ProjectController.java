@@ -0,0 +1,59 @@
+package com.equipo01.featureflag.featureflag.controller;
+
+import com.equipo01.featureflag.featureflag.dto.request.ProjectRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.ProjectResponseDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * REST API Controller interface for managing projects.
+ *
+ * <p>Projects are the namespaces features are created in, one per team sharing the deployment.
+ * Requests work in the project their user is bound to, or in the project named by the {@code
+ * X-Project-Id} header for administrators bound to none. Other users bound to none work in the
+ * default project.
+ */
+public interface ProjectController {
+
+  /**
+   * Creates a project.
+   *
+   * @param requestDto the name and description of the project
+   * @return the created project with HTTP status 201 (Created)
+   */
+  ResponseEntity<ProjectResponseDto> createProject(@Valid ProjectRequestDto requestDto);
+
+  /**
+   * Retrieves every project.
+   *
+   * @return the projects, by identifier
+   */
+  ResponseEntity<List<ProjectResponseDto>> getProjects();
+
+  /**
+   * Binds a user to a project.
+   *
+   * @param projectId the identifier of the project
+   * @param userId the UUID of the user
+   * @return an empty response with HTTP status 204 (No Content)
+   */
+  ResponseEntity<Void> bindUser(
+      @PathVariable Short projectId,
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String userId);
+
+  /**
+   * Unbinds a user from a project.
+   *
+   * @param projectId the identifier of the project
+   * @param userId the UUID of the user
+   * @return an empty response with HTTP status 204 (No Content)
+   */
+  ResponseEntity<Void> unbindUser(
+      @PathVariable Short projectId,
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String userId);
+}
@@ -0,0 +1,68 @@
+package com.equipo01.featureflag.featureflag.controller;
+
+import com.equipo01.featureflag.featureflag.dto.request.SegmentMembersRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.SegmentResponseDto;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * REST API Controller interface for managing client segments.
+ *
+ * <p>A segment is a named set of clients, stored once and referenced by the targeting rules of any
+ * number of feature configurations through the IN_SEGMENT operator. Members are identified by their
+ * user id and held in memory as compressed bitmaps, so checking membership during an evaluation
+ * costs a bit test rather than a query.
+ */
+public interface SegmentController {
+
+  /**
+   * Creates an empty segment.
+   *
+   * @param requestDto the name and description of the segment
+   * @return the created segment with HTTP status 201 (Created)
+   */
+  ResponseEntity<SegmentResponseDto> createSegment(SegmentRequestDto requestDto);
+
+  /**
+   * Retrieves every segment.
+   *
+   * @return the segments, by name
+   */
+  ResponseEntity<List<SegmentResponseDto>> getSegments();
+
+  /**
+   * Retrieves a segment.
+   *
+   * @param segmentId the unique identifier of the segment
+   * @return the segment
+   */
+  ResponseEntity<SegmentResponseDto> getSegment(String segmentId);
+
+  /**
+   * Adds and removes members of a segment.
+   *
+   * @param segmentId the unique identifier of the segment
+   * @param requestDto the users to add and to remove
+   * @return the segment after the change
+   */
+  ResponseEntity<SegmentResponseDto> updateMembers(
+      String segmentId, SegmentMembersRequestDto requestDto);
+
+  /**
+   * Checks whether a client belongs to a segment.
+   *
+   * @param segmentId the unique identifier of the segment
+   * @param clientId the user id of the client
+   * @return true if the client belongs to the segment
+   */
+  ResponseEntity<Boolean> isMember(String segmentId, String clientId);
+
+  /**
+   * Deletes a segment.
+   *
+   * @param segmentId the unique identifier of the segment
+   * @return empty response with HTTP status 204 (No Content) on successful deletion
+   */
+  ResponseEntity<Void> deleteSegment(String segmentId);
+}
@@ -3,11 +3,15 @@ package com.equipo01.featureflag.featureflag.controller;
 import com.equipo01.featureflag.featureflag.dto.UserDTO;
 import com.equipo01.featureflag.featureflag.dto.request.LoginRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.UserRequestDTO;
+import com.equipo01.featureflag.featureflag.dto.response.UserPageResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.Role;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.util.UUID;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface UserController {
   /**
@@ -34,11 +38,31 @@ public interface UserController {
   ResponseEntity<String> logginUser(@Valid @RequestBody LoginRequestDto loginRequestDto);
 
   /**
-   * Endpoint to retrieve all users in the system.
+   * Endpoint to retrieve all users in the system, optionally filtered by role and active status.
+   * The JSON array is streamed to the client instead of being built in memory.
    *
-   * @return ResponseEntity containing a list of all user DTOs.
+   * @param role optional role filter
+   * @param active optional active status filter
+   * @return ResponseEntity streaming a JSON array of user DTOs.
    */
-  ResponseEntity<List<UserDTO>> getAllUsers();
+  ResponseEntity<StreamingResponseBody> getAllUsers(
+      @RequestParam(value = "role", required = false) Role role,
+      @RequestParam(value = "active", required = false) Boolean active);
+
+  /**
+   * Endpoint to retrieve a page of users using keyset pagination.
+   *
+   * @param role optional role filter
+   * @param active optional active status filter
+   * @param after cursor returned by the previous page, omitted for the first page
+   * @param limit maximum number of users to return
+   * @return ResponseEntity containing the page of users and the cursor for the next page.
+   */
+  ResponseEntity<UserPageResponseDto> getUsersPage(
+      @RequestParam(value = "role", required = false) Role role,
+      @RequestParam(value = "active", required = false) Boolean active,
+      @RequestParam(value = "after", required = false) UUID after,
+      @RequestParam(value = "limit", required = false) Integer limit);
 
   /**
    * Endpoint to obtain a user by email.
@@ -0,0 +1,92 @@
+package com.equipo01.featureflag.featureflag.controller.impl;
+
+import com.equipo01.featureflag.featureflag.anotations.SwaggerApiResponses;
+import com.equipo01.featureflag.featureflag.controller.EnvironmentController;
+import com.equipo01.featureflag.featureflag.dto.request.EnvironmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EnvironmentResponseDto;
+import com.equipo01.featureflag.featureflag.service.EnvironmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller implementation for managing environments in the Feature Flag system.
+ *
+ * <p>The controller implements role-based access control with the following permissions:
+ *
+ * <ul>
+ *   <li><strong>ADMIN:</strong> Full access, including creation
+ *   <li><strong>USER:</strong> Access to retrieve environments
+ * </ul>
+ *
+ * <p>All endpoints return appropriate HTTP status codes and structured response bodies. Error
+ * responses follow the standard {@code ErrorDto} format for consistency.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${api.environments}")
+public class EnvironmentControllerImp implements EnvironmentController {
+  /** Service layer dependency for handling environment business logic. */
+  private final EnvironmentService environmentService;
+
+  /**
+   * Creates an environment.
+   *
+   * @param requestDto the name and description of the environment
+   * @return ResponseEntity with HTTP 201 status and the created environment
+   */
+  @PostMapping
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "201",
+      description = "Environment created successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = EnvironmentResponseDto.class)))
+  @Operation(
+      summary = "Create an environment",
+      description =
+          "Creates an environment with a unique upper case name, to which feature configurations can then be added.")
+  public ResponseEntity<EnvironmentResponseDto> createEnvironment(
+      @Valid @RequestBody EnvironmentRequestDto requestDto) {
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(environmentService.createEnvironment(requestDto));
+  }
+
+  /**
+   * Retrieves every environment.
+   *
+   * @return ResponseEntity containing the environments, by identifier
+   */
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Environments retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = EnvironmentResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Retrieve all environments",
+      description =
+          "Fetches every environment, by identifier, with whether the answering instance serves it.")
+  public ResponseEntity<List<EnvironmentResponseDto>> getEnvironments() {
+    return ResponseEntity.ok(environmentService.getEnvironments());
+  }
+}
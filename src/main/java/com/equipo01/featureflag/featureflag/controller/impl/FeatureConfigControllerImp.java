@@ -1,10 +1,23 @@
 package com.equipo01.featureflag.featureflag.controller.impl;
 
 import com.equipo01.featureflag.featureflag.anotations.SwaggerApiResponses;
+import com.equipo01.featureflag.featureflag.config.WireFormatConfig;
 import com.equipo01.featureflag.featureflag.controller.FeatureConfigController;
+import com.equipo01.featureflag.featureflag.dto.VariantAllocationDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.ScheduledChangeRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.TargetingRulesRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.VariantAllocationsRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.BulkToggleResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.ScheduledChangeResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.TargetingRuleResponseDto;
 import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.ScheduledChangeService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import com.equipo01.featureflag.featureflag.service.VariantService;
+import com.equipo01.featureflag.featureflag.util.ETagVersionParser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,7 +26,9 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +37,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -52,11 +68,25 @@ public class FeatureConfigControllerImp implements FeatureConfigController {
   /** Service layer dependency for handling feature configuration business logic. */
   private final FeatureConfigService featureConfigService;
 
+  /** Service layer dependency for changes scheduled on feature configurations. */
+  private final ScheduledChangeService scheduledChangeService;
+
+  /** Service layer dependency for the targeting rules of feature configurations. */
+  private final TargetingRuleService targetingRuleService;
+
+  /** Service layer dependency for the variant allocation of feature configurations. */
+  private final VariantService variantService;
+
+  /** Reads the expected entity version from If-Match headers. */
+  private final ETagVersionParser eTagVersionParser;
+
   /**
    * Enables or disables a specific feature configuration.
    *
    * @param featureConfigId the UUID string of the feature configuration to modify
    * @param enable {@code true} to enable the feature, {@code false} to disable it
+   * @param ifMatch optional ETag of the configuration version the change is based on; when present
+   *     and outdated the change is rejected with HTTP 412 Precondition Failed
    * @return ResponseEntity containing a list of updated feature configurations
    * @throws IllegalArgumentException if the featureConfigId is not a valid UUID format
    */
@@ -76,9 +106,236 @@ public class FeatureConfigControllerImp implements FeatureConfigController {
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
   public ResponseEntity<List<FeatureConfigResponseDto>> setFeatureEnabledOrDisabled(
       @RequestParam(name = "featureConfigId", required = true) String featureConfigId,
-      @RequestParam(name = "enable", required = true) boolean enable) {
+      @RequestParam(name = "enable", required = true) boolean enable,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
     UUID featureConfigUUID = UUID.fromString(featureConfigId);
-    return featureConfigService.enableOrDisableFeature(featureConfigUUID, enable);
+    return featureConfigService.enableOrDisableFeature(
+        featureConfigUUID, enable, eTagVersionParser.parseIfMatch(ifMatch));
+  }
+
+  /**
+   * Enables or disables every feature configuration matched by the given criteria sets.
+   *
+   * <p>Each criteria set runs as a single set-based update, which makes this the endpoint to use
+   * when a feature must be switched off for many clients, environments or features at once.
+   *
+   * @param requestDto the enabled state to apply and the criteria sets selecting configurations
+   * @return ResponseEntity containing the number of updated configurations per criteria set
+   */
+  @PutMapping("/bulk-toggle")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Feature configurations enabled/disabled successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = BulkToggleResponseDto.class)))
+  @Operation(
+      summary = "Enable or disable feature configurations in bulk",
+      description =
+          "Applies the enabled state to every configuration matched by each criteria set and returns the affected row counts.")
+  public ResponseEntity<BulkToggleResponseDto> bulkToggle(
+      @Valid @RequestBody BulkToggleRequestDto requestDto) {
+    return ResponseEntity.ok(featureConfigService.bulkToggle(requestDto));
+  }
+
+  /**
+   * Schedules a feature configuration to be enabled or disabled at a given instant.
+   *
+   * <p>The change is persisted and applied by the in-process scheduler through the same write path
+   * as {@code /enable-disable}, so it survives restarts and needs no external cron job.
+   *
+   * @param featureConfigId the UUID string of the feature configuration to toggle
+   * @param requestDto the enabled state to apply and the instant at which to apply it
+   * @return ResponseEntity with HTTP 201 status and the scheduled change
+   * @throws IllegalArgumentException if the featureConfigId is not a valid UUID format
+   */
+  @PostMapping("/{featureConfigId}/scheduled-changes")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "201",
+      description = "Change scheduled successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ScheduledChangeResponseDto.class)))
+  @Operation(
+      summary = "Schedule a feature configuration change",
+      description =
+          "Enables or disables the feature configuration at the given instant. Instants in the past are applied immediately.")
+  public ResponseEntity<ScheduledChangeResponseDto> scheduleChange(
+      @PathVariable String featureConfigId,
+      @Valid @RequestBody ScheduledChangeRequestDto requestDto) {
+    UUID uuid = UUID.fromString(featureConfigId);
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(scheduledChangeService.scheduleChange(uuid, requestDto));
+  }
+
+  /**
+   * Retrieves the pending scheduled changes of a feature configuration.
+   *
+   * @param featureConfigId the UUID string of the feature configuration
+   * @return ResponseEntity containing the pending changes, soonest first
+   * @throws IllegalArgumentException if the featureConfigId is not a valid UUID format
+   */
+  @GetMapping("/{featureConfigId}/scheduled-changes")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Pending scheduled changes retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ScheduledChangeResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Retrieve pending scheduled changes",
+      description = "Fetches the changes not yet applied to the feature configuration.")
+  public ResponseEntity<List<ScheduledChangeResponseDto>> getPendingChanges(
+      @PathVariable String featureConfigId) {
+    UUID uuid = UUID.fromString(featureConfigId);
+    return ResponseEntity.ok(scheduledChangeService.getPendingChanges(uuid));
+  }
+
+  /**
+   * Cancels a pending scheduled change.
+   *
+   * @param scheduledChangeId the UUID string of the scheduled change
+   * @return ResponseEntity with HTTP 204 No Content status upon successful cancellation
+   * @throws IllegalArgumentException if the scheduledChangeId is not a valid UUID format
+   */
+  @DeleteMapping("/scheduled-changes/{scheduledChangeId}")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(responseCode = "204", description = "Scheduled change cancelled successfully")
+  @Operation(
+      summary = "Cancel a scheduled change",
+      description = "Cancels the scheduled change identified by the provided UUID if still pending.")
+  public ResponseEntity<Void> cancelScheduledChange(@PathVariable String scheduledChangeId) {
+    UUID uuid = UUID.fromString(scheduledChangeId);
+    scheduledChangeService.cancelChange(uuid);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * Retrieves the targeting rules of a feature configuration.
+   *
+   * @param featureConfigId the UUID string of the feature configuration
+   * @return ResponseEntity containing the rules, in evaluation order
+   * @throws IllegalArgumentException if the featureConfigId is not a valid UUID format
+   */
+  @GetMapping("/{featureConfigId}/rules")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Targeting rules retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = TargetingRuleResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Retrieve targeting rules",
+      description = "Fetches the attribute-based targeting rules of the feature configuration.")
+  public ResponseEntity<List<TargetingRuleResponseDto>> getTargetingRules(
+      @PathVariable String featureConfigId) {
+    UUID uuid = UUID.fromString(featureConfigId);
+    return ResponseEntity.ok(targetingRuleService.getRules(uuid));
+  }
+
+  /**
+   * Replaces the targeting rules of a feature configuration.
+   *
+   * <p>The rules are evaluated in the order given, and the first one matching the evaluation
+   * context decides the enabled state served. The configuration version is incremented, so the
+   * rules are compiled again on the next evaluation.
+   *
+   * @param featureConfigId the UUID string of the feature configuration
+   * @param requestDto the new rules, in evaluation order; an empty list removes every rule
+   * @return ResponseEntity containing the stored rules
+   * @throws IllegalArgumentException if the featureConfigId is not a valid UUID format
+   */
+  @PutMapping("/{featureConfigId}/rules")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Targeting rules replaced successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = TargetingRuleResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Replace targeting rules",
+      description =
+          "Replaces the attribute-based targeting rules of the feature configuration. Clauses support the IN, STARTS_WITH, SEMVER_GTE, MATCHES and IN_SEGMENT operators.")
+  public ResponseEntity<List<TargetingRuleResponseDto>> replaceTargetingRules(
+      @PathVariable String featureConfigId,
+      @Valid @RequestBody TargetingRulesRequestDto requestDto) {
+    UUID uuid = UUID.fromString(featureConfigId);
+    return ResponseEntity.ok(targetingRuleService.replaceRules(uuid, requestDto.getRules()));
+  }
+
+  /**
+   * Retrieves the variant allocation of a feature configuration.
+   *
+   * @param featureConfigId the UUID string of the feature configuration
+   * @return ResponseEntity containing the share of each allocated variant
+   * @throws IllegalArgumentException if the featureConfigId is not a valid UUID format
+   */
+  @GetMapping("/{featureConfigId}/allocations")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Variant allocation retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = VariantAllocationDto.class, type = "array")))
+  @Operation(
+      summary = "Retrieve variant allocation",
+      description =
+          "Fetches the share of the clients of the feature configuration served each variant.")
+  public ResponseEntity<List<VariantAllocationDto>> getVariantAllocation(
+      @PathVariable String featureConfigId) {
+    UUID uuid = UUID.fromString(featureConfigId);
+    return ResponseEntity.ok(variantService.getAllocation(uuid));
+  }
+
+  /**
+   * Replaces the variant allocation of a feature configuration.
+   *
+   * <p>Weights are counted in buckets out of 10000 and must add up to 10000. The configuration
+   * version is incremented, so the variant table is built again on the next evaluation.
+   *
+   * @param featureConfigId the UUID string of the feature configuration
+   * @param requestDto the share of each variant; an empty list removes the allocation
+   * @return ResponseEntity containing the stored allocation
+   * @throws IllegalArgumentException if the featureConfigId is not a valid UUID format
+   */
+  @PutMapping("/{featureConfigId}/allocations")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Variant allocation replaced successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = VariantAllocationDto.class, type = "array")))
+  @Operation(
+      summary = "Replace variant allocation",
+      description =
+          "Replaces the share of the clients of the feature configuration served each variant of the feature. Weights must add up to 10000.")
+  public ResponseEntity<List<VariantAllocationDto>> replaceVariantAllocation(
+      @PathVariable String featureConfigId,
+      @Valid @RequestBody VariantAllocationsRequestDto requestDto) {
+    UUID uuid = UUID.fromString(featureConfigId);
+    return ResponseEntity.ok(variantService.replaceAllocation(uuid, requestDto.getAllocations()));
   }
 
   /**
@@ -102,7 +359,7 @@ public class FeatureConfigControllerImp implements FeatureConfigController {
   @Operation(
       summary = "Create a new feature configuration",
       description =
-          "Creates a new feature configuration with the provided details and returns the created configuration.")
+          "Creates a new feature configuration with the provided details and returns the created configuration. If a configuration already exists for the same feature, environment and client, its enabled state is updated instead.")
   public ResponseEntity<FeatureConfigResponseDto> createFeatureConfig(
       @Valid @RequestBody FeatureConfigRequestDto requestDto) {
     return ResponseEntity.status(HttpStatus.CREATED)
@@ -113,7 +370,8 @@ public class FeatureConfigControllerImp implements FeatureConfigController {
    * Retrieves feature configurations by their unique identifier.
    *
    * @param id the UUID string of the feature configuration to retrieve
-   * @return ResponseEntity containing a list of feature configurations matching the ID
+   * @return ResponseEntity containing a list of feature configurations matching the ID, with the
+   *     configuration version as ETag when found
    * @throws IllegalArgumentException if the id is not a valid UUID format
    * @throws FeatureNotFoundException if no feature configuration exists with the given ID
    */
@@ -133,15 +391,26 @@ public class FeatureConfigControllerImp implements FeatureConfigController {
   public ResponseEntity<List<FeatureConfigResponseDto>> getFeatureByID(
       @PathVariable("id") String id) {
     UUID uuid = UUID.fromString(id);
-    return ResponseEntity.ok(featureConfigService.getFeatureByID(uuid));
+    List<FeatureConfigResponseDto> configs = featureConfigService.getFeatureByID(uuid);
+    if (configs.size() == 1) {
+      return ResponseEntity.ok().eTag(String.valueOf(configs.get(0).getVersion())).body(configs);
+    }
+    return ResponseEntity.ok(configs);
   }
 
   /**
    * Retrieves all available feature configurations.
    *
+   * <p>Besides JSON, the list can be requested as CBOR or Smile through the Accept header.
+   *
    * @return ResponseEntity containing a list of all feature configurations
    */
-  @GetMapping
+  @GetMapping(
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        WireFormatConfig.APPLICATION_SMILE_VALUE
+      })
   @SwaggerApiResponses
   @ApiResponse(
       responseCode = "200",
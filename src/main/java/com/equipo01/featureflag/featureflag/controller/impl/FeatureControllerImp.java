@@ -1,13 +1,32 @@
 package com.equipo01.featureflag.featureflag.controller.impl;
 
 import com.equipo01.featureflag.featureflag.anotations.SwaggerApiResponses;
+import com.equipo01.featureflag.featureflag.config.WireFormatConfig;
 import com.equipo01.featureflag.featureflag.controller.FeatureController;
+import com.equipo01.featureflag.featureflag.dto.request.BatchEvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.FeaturePrerequisitesRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.FeatureVariantsRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureDetailResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeaturePrerequisitesResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureSnapshotResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagChangeHistoryResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagHistoryStateResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.GetFeatureDetailResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.GetFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.StaleFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.VariantResponseDto;
 import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.FeaturePrerequisiteService;
 import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import com.equipo01.featureflag.featureflag.service.VariantService;
+import com.equipo01.featureflag.featureflag.util.ETagVersionParser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,9 +34,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -26,6 +49,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -64,12 +88,29 @@ public class FeatureControllerImp implements FeatureController {
   /** Service layer dependency for handling feature flag business logic. */
   private final FeatureService featureService;
 
+  /** Service layer dependency for the change history of feature flags. */
+  private final FlagChangeHistoryService flagChangeHistoryService;
+
+  /** Service layer dependency for attribute-based targeting. */
+  private final TargetingRuleService targetingRuleService;
+
+  /** Service layer dependency for prerequisite relationships between feature flags. */
+  private final FeaturePrerequisiteService featurePrerequisiteService;
+
+  /** Service layer dependency for the variants of feature flags. */
+  private final VariantService variantService;
+
+  /** Reads the expected entity version from If-Match headers. */
+  private final ETagVersionParser eTagVersionParser;
+
   /**
    * Enables or disables a feature configuration for a specific client or environment.
    *
    * @param id the UUID of the feature to toggle (must be valid UUID format)
    * @param action the action to perform: "enable" or "disable"
    * @param toggleRequestDto the request data containing client or environment specifications
+   * @param ifMatch optional ETag of the feature version the change is based on; when present and
+   *     outdated the change is rejected with HTTP 412 Precondition Failed
    * @return ResponseEntity with HTTP 204 No Content status upon successful operation
    * @throws IllegalArgumentException if the ID is not a valid UUID format
    * @throws FeatureNotFoundException if no feature exists with the given ID
@@ -87,11 +128,13 @@ public class FeatureControllerImp implements FeatureController {
       @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
           String id,
       @PathVariable String action,
-      @RequestBody FeatureToggleRequestDto toggleRequestDto) {
+      @RequestBody FeatureToggleRequestDto toggleRequestDto,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
     UUID featureId = UUID.fromString(id);
     boolean enable = action.equalsIgnoreCase("enable");
-    featureService.updateFeatureForClientOrEnvironment(featureId, toggleRequestDto, enable);
+    featureService.updateFeatureForClientOrEnvironment(
+        featureId, toggleRequestDto, enable, eTagVersionParser.parseIfMatch(ifMatch));
     return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
   }
 
@@ -133,7 +176,12 @@ public class FeatureControllerImp implements FeatureController {
    * @return ResponseEntity containing paginated feature flags with metadata
    * @throws jakarta.validation.ConstraintViolationException if pagination parameters are invalid
    */
-  @GetMapping
+  @GetMapping(
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        WireFormatConfig.APPLICATION_SMILE_VALUE
+      })
   @SwaggerApiResponses
   @ApiResponse(
       responseCode = "200",
@@ -166,7 +214,8 @@ public class FeatureControllerImp implements FeatureController {
    * Retrieves the details of a specific feature flag by its UUID.
    *
    * @param featureId the UUID of the feature flag to retrieve (must be valid UUID format)
-   * @return ResponseEntity containing the detailed feature flag information
+   * @return ResponseEntity containing the detailed feature flag information, with the feature
+   *     version as ETag
    * @throws IllegalArgumentException if the featureId is not a valid UUID format
    * @throws FeatureNotFoundException if no feature flag exists with the given ID
    */
@@ -187,7 +236,211 @@ public class FeatureControllerImp implements FeatureController {
   public ResponseEntity<FeatureResponseDto> getFeature(
       @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
           String featureId) {
-    return ResponseEntity.ok(featureService.getFeatureById(featureId));
+    FeatureResponseDto feature = featureService.getFeatureById(featureId);
+    return ResponseEntity.ok().eTag(String.valueOf(feature.getVersion())).body(feature);
+  }
+
+  /**
+   * Retrieves a paginated list of feature flags together with their configurations.
+   *
+   * @param name optional filter by feature name (partial matching supported)
+   * @param enabledByDefault optional filter by default enabled status
+   * @param page the page number for pagination (0-based, default: 0)
+   * @param size the number of items per page (minimum: 1, default: 10)
+   * @return ResponseEntity containing paginated feature flags, their configurations and links
+   * @throws jakarta.validation.ConstraintViolationException if pagination parameters are invalid
+   */
+  @GetMapping(
+      value = "/details",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        WireFormatConfig.APPLICATION_SMILE_VALUE
+      })
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Feature flags and their configurations retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = GetFeatureDetailResponseDto.class)))
+  @Operation(
+      summary = "Retrieve feature flags with their configurations",
+      description =
+          "Returns a paginated list of feature flags, each one including all of its environment and client configurations. Supports the same filters as the feature listing.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<GetFeatureDetailResponseDto> getFeatureDetails(
+      @RequestParam(value = "name", required = false) String name,
+      @RequestParam(value = "enabled", required = false) Boolean enabledByDefault,
+      @RequestParam(value = "page", defaultValue = "0", required = false)
+          @Min(value = 0, message = "Page must be at least 0")
+          Integer page,
+      @RequestParam(value = "size", defaultValue = "10", required = false)
+          @Min(value = 1, message = "Size must be at least 1")
+          Integer size) {
+    return ResponseEntity.ok(featureService.getFeatureDetails(name, enabledByDefault, page, size));
+  }
+
+  /**
+   * Retrieves a specific feature flag together with all of its configurations.
+   *
+   * @param featureId the UUID of the feature flag to retrieve (must be valid UUID format)
+   * @return ResponseEntity containing the feature flag and its configurations
+   * @throws FeatureNotFoundException if no feature flag exists with the given ID
+   */
+  @GetMapping("/{featureId}/details")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Feature flag and its configurations retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = FeatureDetailResponseDto.class)))
+  @Operation(
+      summary = "Retrieve a feature flag with its configurations",
+      description =
+          "Returns a feature flag identified by its UUID together with all of its environment and client configurations.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<FeatureDetailResponseDto> getFeatureDetail(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId) {
+    FeatureDetailResponseDto feature = featureService.getFeatureDetailsById(featureId);
+    return ResponseEntity.ok().eTag(String.valueOf(feature.getVersion())).body(feature);
+  }
+
+  /**
+   * Retrieves the environment-wide state of every feature flag.
+   *
+   * <p>Intended for SDKs and evaluation nodes that evaluate flags locally. Besides JSON, the
+   * snapshot can be requested as CBOR or Smile through the Accept header.
+   *
+   * @param environment the environment name (DEV, STAGING, PROD)
+   * @return ResponseEntity containing the feature names mapped to their enabled state
+   * @throws IllegalArgumentException if the environment is invalid
+   */
+  @GetMapping(
+      value = "/snapshot",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        WireFormatConfig.APPLICATION_SMILE_VALUE
+      })
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Feature flag snapshot retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = FeatureSnapshotResponseDto.class)))
+  @Operation(
+      summary = "Retrieve the state of every feature flag in an environment",
+      description =
+          "Returns a map of feature names to their environment-wide enabled state. Supports JSON (default), CBOR and Smile encodings.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<FeatureSnapshotResponseDto> getFeatureSnapshot(
+      @RequestParam String environment) {
+    Environment env = Environment.valueOf(environment);
+    return ResponseEntity.ok(featureService.getFeatureSnapshot(env));
+  }
+
+  /**
+   * Retrieves the feature flags that have not been evaluated in any environment for some days.
+   *
+   * <p>Candidates for cleanup: flags never evaluated come first, then the least recently evaluated
+   * ones.
+   *
+   * @param days the number of days without evaluation, 30 by default
+   * @return ResponseEntity containing the stale feature flags
+   */
+  @GetMapping("/stale")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Stale feature flags retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = StaleFeatureResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Retrieve the feature flags not evaluated for some days",
+      description =
+          "Returns the feature flags not evaluated in any environment for the given number of days, never evaluated first, then least recently evaluated first.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<List<StaleFeatureResponseDto>> getStaleFeatures(
+      @RequestParam(value = "days", defaultValue = "30", required = false)
+          @Min(value = 1, message = "Days must be at least 1")
+          Integer days) {
+    return ResponseEntity.ok(featureService.getStaleFeatures(days));
+  }
+
+  /**
+   * Retrieves the latest changes made to a feature flag and its configurations.
+   *
+   * <p>Changes are kept in an append-only history, together with the user who made them and the
+   * enabled state before and after each of them.
+   *
+   * @param featureId the UUID string of the feature flag
+   * @param limit the maximum number of changes to return, 100 by default
+   * @return ResponseEntity containing the latest changes, newest first
+   * @throws IllegalArgumentException if the featureId is not a valid UUID format
+   */
+  @GetMapping("/{featureId}/history")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Feature flag history retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema =
+                  @Schema(implementation = FlagChangeHistoryResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Retrieve the change history of a feature flag",
+      description =
+          "Returns who changed the feature flag or its configurations, when, and the enabled state before and after each change, newest first.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<List<FlagChangeHistoryResponseDto>> getFeatureHistory(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId,
+      @RequestParam(value = "limit", defaultValue = "100", required = false)
+          @Min(value = 1, message = "Limit must be at least 1")
+          Integer limit) {
+    UUID uuid = UUID.fromString(featureId);
+    return ResponseEntity.ok(flagChangeHistoryService.getFeatureHistory(uuid, limit));
+  }
+
+  /**
+   * Rebuilds the state of every feature configuration of an environment at a past instant.
+   *
+   * <p>The state is loaded from the nearest earlier history checkpoint, and the changes recorded
+   * between the checkpoint and the instant are replayed on top of it.
+   *
+   * @param environment the environment name (DEV, STAGING, PROD)
+   * @param at the ISO-8601 instant to rebuild the state at
+   * @return ResponseEntity containing the state of every configuration at that instant
+   * @throws IllegalArgumentException if the environment is invalid
+   */
+  @GetMapping("/history/state")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Historical feature flag state rebuilt successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = FlagHistoryStateResponseDto.class)))
+  @Operation(
+      summary = "Rebuild the state of every feature flag in an environment at a past instant",
+      description =
+          "Returns the enabled state of every configuration of the environment as it was at the given instant.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<FlagHistoryStateResponseDto> getHistoricalState(
+      @RequestParam String environment, @RequestParam Instant at) {
+    Environment env = Environment.valueOf(environment);
+    return ResponseEntity.ok(flagChangeHistoryService.getStateAt(env, at));
   }
 
   /**
@@ -212,7 +465,13 @@ public class FeatureControllerImp implements FeatureController {
       summary = "Check if a feature is active for a client in a specific environment",
       description =
           "Returns true if the feature is active for the specified client in the given environment, false otherwise. Essential for runtime feature flag evaluation.")
-  @GetMapping("/check")
+  @GetMapping(
+      value = "/check",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        WireFormatConfig.APPLICATION_SMILE_VALUE
+      })
   @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
   public ResponseEntity<Boolean> checkFeatureIsActive(
       @RequestParam String nameFeature,
@@ -224,6 +483,197 @@ public class FeatureControllerImp implements FeatureController {
     return ResponseEntity.ok(isActive);
   }
 
+  /**
+   * Evaluates a feature against a context of attributes such as country, plan or app version.
+   *
+   * <p>The targeting rules of the applicable configuration are compiled once per configuration
+   * version, so an evaluation only tests pre-built predicates against the context.
+   *
+   * @param requestDto the feature, environment, optional client and context to evaluate
+   * @return ResponseEntity containing the evaluation result and the rule that decided it
+   * @throws FeatureNotFoundException if the specified feature does not exist
+   */
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Feature evaluated successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = EvaluationResponseDto.class)))
+  @Operation(
+      summary = "Evaluate a feature against a context of attributes",
+      description =
+          "Returns whether the feature is enabled for the given context, applying the targeting rules of the client or environment configuration. The first matching rule decides; otherwise the configuration state applies.")
+  @PostMapping(
+      value = "/evaluate",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        WireFormatConfig.APPLICATION_SMILE_VALUE
+      })
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<EvaluationResponseDto> evaluateFeature(
+      @Valid @RequestBody EvaluationRequestDto requestDto) {
+    return ResponseEntity.ok(targetingRuleService.evaluate(requestDto));
+  }
+
+  /**
+   * Evaluates several features against one context of attributes in a single request.
+   *
+   * <p>Features are evaluated along the precomputed plan of the prerequisite graph, so a
+   * prerequisite shared by several of the requested features is evaluated once.
+   *
+   * @param requestDto the features, environment, optional client and context to evaluate
+   * @return ResponseEntity containing the evaluation results, in the requested order
+   * @throws FeatureNotFoundException if one of the specified features does not exist
+   */
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Features evaluated successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = EvaluationResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Evaluate several features against a context of attributes",
+      description =
+          "Returns the evaluation of every requested feature, in the requested order. A feature whose prerequisite is not enabled is disabled and names that prerequisite in blockedBy.")
+  @PostMapping(
+      value = "/evaluate/batch",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        WireFormatConfig.APPLICATION_SMILE_VALUE
+      })
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<List<EvaluationResponseDto>> evaluateFeatures(
+      @Valid @RequestBody BatchEvaluationRequestDto requestDto) {
+    return ResponseEntity.ok(targetingRuleService.evaluateBatch(requestDto));
+  }
+
+  /**
+   * Retrieves the prerequisites of a feature flag.
+   *
+   * @param featureId the UUID string of the feature flag
+   * @return ResponseEntity containing the identifiers of the prerequisites
+   * @throws IllegalArgumentException if the featureId is not a valid UUID format
+   */
+  @GetMapping("/{featureId}/prerequisites")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Prerequisites retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = FeaturePrerequisitesResponseDto.class)))
+  @Operation(
+      summary = "Retrieve the prerequisites of a feature flag",
+      description =
+          "Returns the features that must be enabled for the feature flag to be enabled.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<FeaturePrerequisitesResponseDto> getPrerequisites(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId) {
+    UUID uuid = UUID.fromString(featureId);
+    return ResponseEntity.ok(featurePrerequisiteService.getPrerequisites(uuid));
+  }
+
+  /**
+   * Replaces the prerequisites of a feature flag.
+   *
+   * <p>The change is rejected with 409 Conflict if the feature flag would end up depending on
+   * itself, directly or through other features.
+   *
+   * @param featureId the UUID string of the feature flag
+   * @param requestDto the identifiers of the new prerequisites
+   * @return ResponseEntity containing the identifiers of the stored prerequisites
+   * @throws IllegalArgumentException if the featureId is not a valid UUID format
+   */
+  @PutMapping("/{featureId}/prerequisites")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Prerequisites replaced successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = FeaturePrerequisitesResponseDto.class)))
+  @Operation(
+      summary = "Replace the prerequisites of a feature flag",
+      description =
+          "Stores the features that must be enabled for the feature flag to be enabled. Changes that would create a dependency cycle are rejected.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<FeaturePrerequisitesResponseDto> replacePrerequisites(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId,
+      @Valid @RequestBody FeaturePrerequisitesRequestDto requestDto) {
+    UUID uuid = UUID.fromString(featureId);
+    return ResponseEntity.ok(featurePrerequisiteService.replacePrerequisites(uuid, requestDto));
+  }
+
+  /**
+   * Retrieves the variants of a feature flag.
+   *
+   * @param featureId the UUID string of the feature flag
+   * @return ResponseEntity containing the variants, by name
+   * @throws IllegalArgumentException if the featureId is not a valid UUID format
+   */
+  @GetMapping("/{featureId}/variants")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Variants retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = VariantResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Retrieve the variants of a feature flag",
+      description = "Returns the typed values the feature flag can serve to the clients it is enabled for.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<List<VariantResponseDto>> getVariants(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId) {
+    UUID uuid = UUID.fromString(featureId);
+    return ResponseEntity.ok(variantService.getVariants(uuid));
+  }
+
+  /**
+   * Replaces the variants of a feature flag.
+   *
+   * <p>Variants are matched by name: listed variants are created or updated and the others are
+   * removed. A variant still allocated by a configuration cannot be removed.
+   *
+   * @param featureId the UUID string of the feature flag
+   * @param requestDto the variants of the feature flag
+   * @return ResponseEntity containing the stored variants, by name
+   * @throws IllegalArgumentException if the featureId is not a valid UUID format
+   */
+  @PutMapping("/{featureId}/variants")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Variants replaced successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = VariantResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Replace the variants of a feature flag",
+      description =
+          "Stores the STRING, NUMBER or JSON values the feature flag can serve. Configurations allocate them to their clients by weight.")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  public ResponseEntity<List<VariantResponseDto>> replaceVariants(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId,
+      @Valid @RequestBody FeatureVariantsRequestDto requestDto) {
+    UUID uuid = UUID.fromString(featureId);
+    return ResponseEntity.ok(variantService.replaceVariants(uuid, requestDto.getVariants()));
+  }
+
   /**
    * Permanently deletes a feature flag from the system.
    *
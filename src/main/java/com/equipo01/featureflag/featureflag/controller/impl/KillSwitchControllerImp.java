@@ -0,0 +1,156 @@
+package com.equipo01.featureflag.featureflag.controller.impl;
+
+import com.equipo01.featureflag.featureflag.anotations.SwaggerApiResponses;
+import com.equipo01.featureflag.featureflag.controller.KillSwitchController;
+import com.equipo01.featureflag.featureflag.dto.response.KillSwitchResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.KillSwitchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller implementation for kill switches in the Feature Flag system.
+ *
+ * <p>The controller implements role-based access control with the following permissions:
+ *
+ * <ul>
+ *   <li><strong>ADMIN:</strong> Full access, including engaging and releasing kill switches
+ *   <li><strong>USER:</strong> Access to retrieve engaged kill switches
+ * </ul>
+ *
+ * <p>All endpoints return appropriate HTTP status codes and structured response bodies. Error
+ * responses follow the standard {@code ErrorDto} format for consistency.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${api.kill-switches}")
+public class KillSwitchControllerImp implements KillSwitchController {
+  /** Service layer dependency for handling kill switch business logic. */
+  private final KillSwitchService killSwitchService;
+
+  /**
+   * Retrieves every engaged kill switch.
+   *
+   * @return ResponseEntity containing the engaged kill switches, oldest first
+   */
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Kill switches retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = KillSwitchResponseDto.class, type = "array")))
+  @Operation(
+      summary = "Retrieve the engaged kill switches",
+      description =
+          "Fetches the features of the project turned off in every environment and the environments in emergency mode in the project.")
+  public ResponseEntity<List<KillSwitchResponseDto>> getKillSwitches() {
+    return ResponseEntity.ok(killSwitchService.getKillSwitches());
+  }
+
+  /**
+   * Turns a feature off in every environment.
+   *
+   * @param featureId the UUID string of the feature
+   * @return ResponseEntity containing the engaged kill switch
+   */
+  @PutMapping("/features/{featureId}")
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Feature kill switch engaged",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = KillSwitchResponseDto.class)))
+  @Operation(
+      summary = "Turn a feature off everywhere",
+      description =
+          "Makes every evaluation of the feature return disabled in every environment, whatever its configurations, until the kill switch is released.")
+  public ResponseEntity<KillSwitchResponseDto> killFeature(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId) {
+    return ResponseEntity.ok(killSwitchService.killFeature(UUID.fromString(featureId)));
+  }
+
+  /**
+   * Releases the kill switch of a feature.
+   *
+   * @param featureId the UUID string of the feature
+   * @return ResponseEntity with HTTP 204 status
+   */
+  @DeleteMapping("/features/{featureId}")
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(responseCode = "204", description = "Feature kill switch released")
+  @Operation(
+      summary = "Release the kill switch of a feature",
+      description = "Makes the feature evaluate by its configurations again.")
+  public ResponseEntity<Void> reviveFeature(
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String featureId) {
+    killSwitchService.reviveFeature(UUID.fromString(featureId));
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * Turns every feature of the project off in an environment.
+   *
+   * @param environment the environment name (DEV, STAGING, PROD)
+   * @return ResponseEntity containing the engaged kill switch
+   */
+  @PutMapping("/environments/{environment}")
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Emergency mode engaged",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = KillSwitchResponseDto.class)))
+  @Operation(
+      summary = "Turn every feature of the project off in an environment",
+      description =
+          "Puts the environment in emergency mode in the project: every evaluation of its features in the environment returns disabled until the emergency mode is released. Other projects are not affected.")
+  public ResponseEntity<KillSwitchResponseDto> engageEmergency(@PathVariable String environment) {
+    return ResponseEntity.ok(killSwitchService.engageEmergency(Environment.valueOf(environment)));
+  }
+
+  /**
+   * Ends the emergency mode of an environment in the project.
+   *
+   * @param environment the environment name (DEV, STAGING, PROD)
+   * @return ResponseEntity with HTTP 204 status
+   */
+  @DeleteMapping("/environments/{environment}")
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(responseCode = "204", description = "Emergency mode released")
+  @Operation(
+      summary = "End the emergency mode of an environment in the project",
+      description =
+          "Makes the features of the project evaluate by their configurations in the environment again.")
+  public ResponseEntity<Void> releaseEmergency(@PathVariable String environment) {
+    killSwitchService.releaseEmergency(Environment.valueOf(environment));
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -0,0 +1,138 @@
+package com.equipo01.featureflag.featureflag.controller.impl;
+
+import com.equipo01.featureflag.featureflag.anotations.SwaggerApiResponses;
+import com.equipo01.featureflag.featureflag.controller.ProjectController;
+import com.equipo01.featureflag.featureflag.dto.request.ProjectRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.ProjectResponseDto;
+import com.equipo01.featureflag.featureflag.service.ProjectService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller implementation for managing projects in the Feature Flag system.
+ *
+ * <p>The controller implements role-based access control with the following permissions:
+ *
+ * <ul>
+ *   <li><strong>ADMIN:</strong> Full access, including creation and user bindings
+ *   <li><strong>USER:</strong> Access to retrieve projects
+ * </ul>
+ *
+ * <p>All endpoints return appropriate HTTP status codes and structured response bodies. Error
+ * responses follow the standard {@code ErrorDto} format for consistency.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${api.projects}")
+public class ProjectControllerImp implements ProjectController {
+  /** Service layer dependency for handling project business logic. */
+  private final ProjectService projectService;
+
+  /**
+   * Creates a project.
+   *
+   * @param requestDto the name and description of the project
+   * @return ResponseEntity with HTTP 201 status and the created project
+   */
+  @PostMapping
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "201",
+      description = "Project created successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProjectResponseDto.class)))
+  @Operation(
+      summary = "Create a project",
+      description =
+          "Creates a project with a unique upper case name, a namespace in which features can then be created.")
+  public ResponseEntity<ProjectResponseDto> createProject(
+      @Valid @RequestBody ProjectRequestDto requestDto) {
+    return ResponseEntity.status(HttpStatus.CREATED).body(projectService.createProject(requestDto));
+  }
+
+  /**
+   * Retrieves every project.
+   *
+   * @return ResponseEntity containing the projects, by identifier
+   */
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Projects retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProjectResponseDto.class, type = "array")))
+  @Operation(summary = "Retrieve all projects", description = "Fetches every project, by identifier.")
+  public ResponseEntity<List<ProjectResponseDto>> getProjects() {
+    return ResponseEntity.ok(projectService.getProjects());
+  }
+
+  /**
+   * Binds a user to a project.
+   *
+   * @param projectId the identifier of the project
+   * @param userId the UUID string of the user
+   * @return ResponseEntity with HTTP 204 status
+   */
+  @PutMapping("/{projectId}/users/{userId}")
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(responseCode = "204", description = "User bound to the project")
+  @Operation(
+      summary = "Bind a user to a project",
+      description =
+          "Restricts the user to the features of the project, from the user's next login on.")
+  public ResponseEntity<Void> bindUser(
+      @PathVariable Short projectId,
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String userId) {
+    projectService.bindUser(projectId, UUID.fromString(userId));
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * Unbinds a user from a project.
+   *
+   * @param projectId the identifier of the project
+   * @param userId the UUID string of the user
+   * @return ResponseEntity with HTTP 204 status
+   */
+  @DeleteMapping("/{projectId}/users/{userId}")
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(responseCode = "204", description = "User unbound from the project")
+  @Operation(
+      summary = "Unbind a user from a project",
+      description = "Lets the user pick a project again, from the user's next login on.")
+  public ResponseEntity<Void> unbindUser(
+      @PathVariable Short projectId,
+      @PathVariable @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "Invalid UUID format")
+          String userId) {
+    projectService.unbindUser(projectId, UUID.fromString(userId));
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -0,0 +1,190 @@
+package com.equipo01.featureflag.featureflag.controller.impl;
+
+import com.equipo01.featureflag.featureflag.anotations.SwaggerApiResponses;
+import com.equipo01.featureflag.featureflag.controller.SegmentController;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentMembersRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.SegmentResponseDto;
+import com.equipo01.featureflag.featureflag.service.SegmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller implementation for managing client segments in the Feature Flag system.
+ *
+ * <p>The controller implements role-based access control with the following permissions:
+ *
+ * <ul>
+ *   <li><strong>ADMIN:</strong> Full access, including deletion
+ *   <li><strong>USER:</strong> Access to create segments, change their members and retrieve them
+ * </ul>
+ *
+ * <p>All endpoints return appropriate HTTP status codes and structured response bodies. Error
+ * responses follow the standard {@code ErrorDto} format for consistency.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${api.segments}")
+public class SegmentControllerImp implements SegmentController {
+  /** Service layer dependency for handling client segment business logic. */
+  private final SegmentService segmentService;
+
+  /**
+   * Creates an empty segment.
+   *
+   * @param requestDto the name and description of the segment
+   * @return ResponseEntity with HTTP 201 status and the created segment
+   */
+  @PostMapping
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "201",
+      description = "Segment created successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = SegmentResponseDto.class)))
+  @Operation(
+      summary = "Create a segment",
+      description = "Creates an empty segment with a unique name. Members are added afterwards.")
+  public ResponseEntity<SegmentResponseDto> createSegment(
+      @Valid @RequestBody SegmentRequestDto requestDto) {
+    return ResponseEntity.status(HttpStatus.CREATED).body(segmentService.createSegment(requestDto));
+  }
+
+  /**
+   * Retrieves every segment.
+   *
+   * @return ResponseEntity containing the segments, by name
+   */
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Segments retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = SegmentResponseDto.class, type = "array")))
+  @Operation(summary = "Retrieve all segments", description = "Fetches every segment, by name.")
+  public ResponseEntity<List<SegmentResponseDto>> getSegments() {
+    return ResponseEntity.ok(segmentService.getSegments());
+  }
+
+  /**
+   * Retrieves a segment.
+   *
+   * @param segmentId the UUID string of the segment
+   * @return ResponseEntity containing the segment
+   * @throws IllegalArgumentException if the segmentId is not a valid UUID format
+   */
+  @GetMapping("/{segmentId}")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Segment retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = SegmentResponseDto.class)))
+  @Operation(
+      summary = "Retrieve a segment",
+      description = "Fetches the segment identified by the provided UUID.")
+  public ResponseEntity<SegmentResponseDto> getSegment(@PathVariable String segmentId) {
+    UUID uuid = UUID.fromString(segmentId);
+    return ResponseEntity.ok(segmentService.getSegment(uuid));
+  }
+
+  /**
+   * Adds and removes members of a segment.
+   *
+   * @param segmentId the UUID string of the segment
+   * @param requestDto the users to add and to remove
+   * @return ResponseEntity containing the segment after the change
+   * @throws IllegalArgumentException if the segmentId is not a valid UUID format
+   */
+  @PatchMapping("/{segmentId}/members")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Segment members updated successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = SegmentResponseDto.class)))
+  @Operation(
+      summary = "Update segment members",
+      description =
+          "Adds and removes users from the segment. Rules referencing the segment follow the change without being recompiled.")
+  public ResponseEntity<SegmentResponseDto> updateMembers(
+      @PathVariable String segmentId, @Valid @RequestBody SegmentMembersRequestDto requestDto) {
+    UUID uuid = UUID.fromString(segmentId);
+    return ResponseEntity.ok(segmentService.updateMembers(uuid, requestDto));
+  }
+
+  /**
+   * Checks whether a client belongs to a segment.
+   *
+   * @param segmentId the UUID string of the segment
+   * @param clientId the user id of the client
+   * @return ResponseEntity containing true if the client belongs to the segment
+   * @throws IllegalArgumentException if the segmentId is not a valid UUID format
+   */
+  @GetMapping("/{segmentId}/members/{clientId}")
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Membership checked successfully",
+      content = @Content(mediaType = "application/json", schema = @Schema(type = "boolean")))
+  @Operation(
+      summary = "Check segment membership",
+      description = "Returns whether the client belongs to the segment.")
+  public ResponseEntity<Boolean> isMember(
+      @PathVariable String segmentId, @PathVariable String clientId) {
+    UUID uuid = UUID.fromString(segmentId);
+    return ResponseEntity.ok(segmentService.isMember(uuid, clientId));
+  }
+
+  /**
+   * Deletes a segment.
+   *
+   * @param segmentId the UUID string of the segment
+   * @return ResponseEntity with HTTP 204 No Content status upon successful deletion
+   * @throws IllegalArgumentException if the segmentId is not a valid UUID format
+   */
+  @DeleteMapping("/{segmentId}")
+  @PreAuthorize("hasRole('ADMIN')")
+  @SwaggerApiResponses
+  @ApiResponse(responseCode = "204", description = "Segment deleted successfully")
+  @Operation(
+      summary = "Delete a segment",
+      description =
+          "Deletes the segment identified by the provided UUID. Rules still referencing it no longer match through it.")
+  public ResponseEntity<Void> deleteSegment(@PathVariable String segmentId) {
+    UUID uuid = UUID.fromString(segmentId);
+    segmentService.deleteSegment(uuid);
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -4,17 +4,24 @@ import com.equipo01.featureflag.featureflag.anotations.SwaggerApiResponses;
 import com.equipo01.featureflag.featureflag.dto.UserDTO;
 import com.equipo01.featureflag.featureflag.dto.request.LoginRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.UserRequestDTO;
+import com.equipo01.featureflag.featureflag.dto.response.UserPageResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.Role;
 import com.equipo01.featureflag.featureflag.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
-import java.util.List;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 import javax.security.auth.login.AccountLockedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,7 +30,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST Controller implementation for managing user-related operations.
@@ -70,9 +79,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("${api.auth}")
 public class UserControllerImp {
   private final UserService userService;
+  private final ObjectMapper objectMapper;
 
-  public UserControllerImp(UserService userService) {
+  public UserControllerImp(UserService userService, ObjectMapper objectMapper) {
     this.userService = userService;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -175,14 +186,17 @@ public class UserControllerImp {
   /**
    * Retrieves a comprehensive list of all users in the feature flag management system.
    *
-   * <p>Accessible by users with ADMIN or USER roles.
+   * <p>Accessible by users with ADMIN or USER roles. The JSON array is written to the response as
+   * users are read in keyset-paginated chunks, so the full list is never held in memory.
    *
-   * @return ResponseEntity containing a list of UserDTO objects with user information
+   * @param role optional filter by user role
+   * @param active optional filter by active status
+   * @return ResponseEntity streaming a JSON array of UserDTO objects
    * @throws SecurityException if the user lacks appropriate permissions
    * @throws AuthenticationException if authentication token is invalid or expired
    */
   @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-  @GetMapping("/users")
+  @GetMapping(value = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
   @SwaggerApiResponses
   @ApiResponse(
       responseCode = "200",
@@ -193,9 +207,68 @@ public class UserControllerImp {
               schema = @Schema(implementation = UserDTO.class, type = "array")))
   @Operation(
       summary = "Retrieves all users",
-      description = "Retrieves a comprehensive list of all users in the system.")
-  public ResponseEntity<List<UserDTO>> getAllUsers() {
-    return ResponseEntity.ok(userService.getAllUsers());
+      description =
+          "Streams the list of all users in the system, optionally filtered by role and active status.")
+  public ResponseEntity<StreamingResponseBody> getAllUsers(
+      @RequestParam(value = "role", required = false) Role role,
+      @RequestParam(value = "active", required = false) Boolean active) {
+    StreamingResponseBody body =
+        outputStream -> {
+          try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.writeStartArray();
+            userService.forEachUserChunk(
+                role,
+                active,
+                users -> {
+                  try {
+                    for (UserDTO user : users) {
+                      generator.writeObject(user);
+                    }
+                    generator.flush();
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+            generator.writeEndArray();
+          }
+        };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
+  /**
+   * Retrieves a page of users using keyset pagination.
+   *
+   * <p>Accessible by users with ADMIN or USER roles. Users are ordered by id; the {@code
+   * nextCursor} of the response is passed as {@code after} to obtain the following page.
+   *
+   * @param role optional filter by user role
+   * @param active optional filter by active status
+   * @param after cursor returned by the previous page, omitted for the first page
+   * @param limit maximum number of users to return (default 50, maximum 500)
+   * @return ResponseEntity containing the page of users and the cursor for the next page
+   */
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+  @GetMapping("/users/page")
+  @SwaggerApiResponses
+  @ApiResponse(
+      responseCode = "200",
+      description = "Page of users retrieved successfully",
+      content =
+          @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = UserPageResponseDto.class)))
+  @Operation(
+      summary = "Retrieves a page of users",
+      description =
+          "Retrieves a page of users ordered by id, optionally filtered by role and active status. Use the returned cursor to request the next page.")
+  public ResponseEntity<UserPageResponseDto> getUsersPage(
+      @RequestParam(value = "role", required = false) Role role,
+      @RequestParam(value = "active", required = false) Boolean active,
+      @RequestParam(value = "after", required = false) UUID after,
+      @RequestParam(value = "limit", required = false)
+          @Min(value = 1, message = "Limit must be at least 1")
+          Integer limit) {
+    return ResponseEntity.ok(userService.getUsers(role, active, after, limit));
   }
 
   /**
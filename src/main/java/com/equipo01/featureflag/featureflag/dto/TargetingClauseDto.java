@@ -0,0 +1,50 @@
+package com.equipo01.featureflag.featureflag.dto;
+
+import com.equipo01.featureflag.featureflag.model.enums.ClauseOperator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a clause of a targeting rule, used both in requests and responses.
+ *
+ * <p>The clause holds when the context attribute matches any of the values with the operator,
+ * inverted when {@code negate} is set. A clause never holds when the attribute is missing.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "attribute": "appVersion",
+ *   "operator": "SEMVER_GTE",
+ *   "negate": false,
+ *   "values": ["2.4.0"]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TargetingClauseDto {
+
+  /** Name of the context attribute the clause reads. */
+  @NotBlank(message = "attribute is required")
+  private String attribute;
+
+  /** How the attribute is compared with the values. */
+  @NotNull(message = "operator is required")
+  private ClauseOperator operator;
+
+  /** Whether the result of the comparison is inverted. */
+  private boolean negate;
+
+  /** Values the attribute is compared with. */
+  @NotEmpty(message = "values must not be empty")
+  private List<@NotNull String> values;
+}
@@ -0,0 +1,41 @@
+package com.equipo01.featureflag.featureflag.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the share of a variant in the allocation of a feature configuration,
+ * used both in requests and responses.
+ *
+ * <p>Weights are counted in buckets out of 10000, so a weight of 2500 serves the variant to a
+ * quarter of the clients.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "variant": "three-steps",
+ *   "weight": 2500
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariantAllocationDto {
+
+  /** Name of a variant of the feature of the configuration. */
+  @NotBlank(message = "variant is required")
+  private String variant;
+
+  /** Number of buckets, out of 10000, served the variant. */
+  @NotNull(message = "weight is required")
+  @Positive(message = "weight must be positive")
+  private Integer weight;
+}
@@ -0,0 +1,50 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for evaluating several feature flags against one context of attributes.
+ *
+ * <p>Prerequisites shared by the features are evaluated once for the whole batch.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "featureNames": ["NEW_CHECKOUT", "ONE_CLICK_PAYMENT"],
+ *   "environment": "PROD",
+ *   "clientId": "client-premium",
+ *   "context": { "country": "AR", "plan": "pro" }
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchEvaluationRequestDto {
+
+  /** Names of the features to evaluate. */
+  @NotEmpty(message = "featureNames must not be empty")
+  private List<@NotBlank String> featureNames;
+
+  /** Environment to evaluate the features in. */
+  @NotNull(message = "environment is required")
+  private Environment environment;
+
+  /** Client to evaluate the features for; the environment default applies when omitted. */
+  private String clientId;
+
+  /** Attributes of the evaluated subject, by name. */
+  @NotNull(message = "context is required")
+  private Map<String, String> context;
+}
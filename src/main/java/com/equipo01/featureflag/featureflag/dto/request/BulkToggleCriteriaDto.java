@@ -0,0 +1,42 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object describing one set of feature configurations targeted by a bulk toggle.
+ *
+ * <p>Each non-empty list narrows the set of matched configurations; lists left empty or null do not
+ * filter on that column. At least one list must be provided so that a criteria set can never match
+ * every configuration in the system by accident.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "featureIds": ["660e8400-e29b-41d4-a716-446655440001"],
+ *   "environments": ["PROD"],
+ *   "clientIds": ["client-001", "client-002"]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkToggleCriteriaDto {
+
+  /** Identifiers of the features whose configurations are targeted. */
+  private List<UUID> featureIds; // Nullable
+
+  /** Environments whose configurations are targeted. */
+  private List<Environment> environments; // Nullable
+
+  /** Client identifiers whose configurations are targeted. */
+  private List<String> clientIds; // Nullable
+}
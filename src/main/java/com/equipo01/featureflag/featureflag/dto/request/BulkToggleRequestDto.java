@@ -0,0 +1,43 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for set-based bulk toggle requests.
+ *
+ * <p>Every criteria set is applied as a single {@code UPDATE} statement, and all of them run in the
+ * same transaction, so either every set is applied or none is.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "enabled": false,
+ *   "criteria": [
+ *     { "environments": ["PROD"], "featureIds": ["660e8400-e29b-41d4-a716-446655440001"] },
+ *     { "clientIds": ["client-001", "client-002"] }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkToggleRequestDto {
+
+  /** The enabled state to apply to every matched configuration. */
+  @NotNull(message = "enabled is required")
+  private Boolean enabled;
+
+  /** The criteria sets selecting the configurations to update. */
+  @NotEmpty(message = "criteria is required")
+  private List<@Valid @NotNull BulkToggleCriteriaDto> criteria;
+}
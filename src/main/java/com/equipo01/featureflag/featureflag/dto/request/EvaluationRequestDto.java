@@ -0,0 +1,49 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for evaluating a feature flag against a context of attributes.
+ *
+ * <p>The configuration of the client is used when it has one, and the environment default
+ * otherwise; its targeting rules are then matched against the context.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "featureName": "NEW_CHECKOUT",
+ *   "environment": "PROD",
+ *   "clientId": "client-premium",
+ *   "context": { "country": "AR", "plan": "pro", "appVersion": "2.5.1" }
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationRequestDto {
+
+  /** Name of the feature to evaluate. */
+  @NotBlank(message = "featureName is required")
+  private String featureName;
+
+  /** Environment to evaluate the feature in. */
+  @NotNull(message = "environment is required")
+  private Environment environment;
+
+  /** Client to evaluate the feature for; the environment default applies when omitted. */
+  private String clientId;
+
+  /** Attributes of the evaluated subject, by name. */
+  @NotNull(message = "context is required")
+  private Map<String, String> context;
+}
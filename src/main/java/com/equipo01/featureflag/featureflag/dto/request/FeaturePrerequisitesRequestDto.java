@@ -0,0 +1,32 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for replacing the prerequisites of a feature. The feature is only enabled
+ * when every prerequisite is enabled for the same environment, client and context.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "prerequisiteIds": ["660e8400-e29b-41d4-a716-446655440002"]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeaturePrerequisitesRequestDto {
+
+  /** The features that must be enabled; an empty list removes every prerequisite. */
+  @NotNull(message = "prerequisiteIds is required")
+  private List<@NotNull UUID> prerequisiteIds;
+}
@@ -0,0 +1,37 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object replacing the variants of a feature.
+ *
+ * <p>Variants are matched by name: listed variants are created or updated, and variants left out
+ * are removed, which requires that no configuration allocates them anymore.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "variants": [
+ *     { "name": "one-step", "type": "JSON", "value": { "steps": 1 } },
+ *     { "name": "three-steps", "type": "JSON", "value": { "steps": 3 } }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeatureVariantsRequestDto {
+
+  /** The variants of the feature. */
+  @NotNull(message = "variants is required")
+  private List<@Valid @NotNull VariantRequestDto> variants;
+}
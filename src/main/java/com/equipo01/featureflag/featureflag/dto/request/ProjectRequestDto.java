@@ -0,0 +1,41 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for creating a project. Project names are upper case, like the DEFAULT
+ * project every installation starts with.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "name": "CHECKOUT",
+ *   "description": "Flags of the checkout team"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectRequestDto {
+
+  /** Unique name of the project. */
+  @NotBlank(message = "name is required")
+  @Size(max = 100, message = "name must be at most 100 characters")
+  @Pattern(
+      regexp = "[A-Z][A-Z0-9_]*",
+      message = "name must be upper case letters, digits and underscores")
+  private String name;
+
+  /** Optional description of the project. */
+  @Size(max = 1000, message = "description must be at most 1000 characters")
+  private String description;
+}
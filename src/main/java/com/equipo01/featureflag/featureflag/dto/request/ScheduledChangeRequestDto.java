@@ -0,0 +1,40 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for scheduling a change to a feature configuration.
+ *
+ * <p>The configuration is enabled or disabled at {@code applyAt} through the same write path as a
+ * manual toggle. The instant must be in the future.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "enabled": true,
+ *   "applyAt": "2025-11-03T09:00:00Z"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledChangeRequestDto {
+
+  /** The enabled state to apply to the configuration. */
+  @NotNull(message = "enabled is required")
+  private Boolean enabled;
+
+  /** The instant at which the change is applied. */
+  @NotNull(message = "applyAt is required")
+  @Future(message = "applyAt must be in the future")
+  private Instant applyAt;
+}
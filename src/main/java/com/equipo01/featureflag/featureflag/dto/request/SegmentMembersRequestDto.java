@@ -0,0 +1,36 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for changing the members of a client segment. Clients are identified by
+ * their user id; removals are applied after additions.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "add": ["550e8400-e29b-41d4-a716-446655440002"],
+ *   "remove": ["550e8400-e29b-41d4-a716-446655440003"]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentMembersRequestDto {
+
+  /** Users to add to the segment. */
+  @Builder.Default private List<@NotNull UUID> add = new ArrayList<>();
+
+  /** Users to remove from the segment. */
+  @Builder.Default private List<@NotNull UUID> remove = new ArrayList<>();
+}
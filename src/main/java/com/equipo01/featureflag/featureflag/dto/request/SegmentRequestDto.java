@@ -0,0 +1,37 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for creating a client segment. Segments are created empty; members are added
+ * through the membership endpoint.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "name": "beta-testers",
+ *   "description": "Clients enrolled in the beta programme"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentRequestDto {
+
+  /** Unique name of the segment. */
+  @NotBlank(message = "name is required")
+  @Size(max = 255, message = "name must be at most 255 characters")
+  private String name;
+
+  /** Optional description of the segment. */
+  @Size(max = 1000, message = "description must be at most 1000 characters")
+  private String description;
+}
@@ -0,0 +1,44 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import com.equipo01.featureflag.featureflag.dto.TargetingClauseDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a targeting rule of a feature configuration.
+ *
+ * <p>Rules are replaced as a list, and their position in the list is their priority: the first rule
+ * whose clauses all hold decides the enabled state served. A rule without clauses matches every
+ * context.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "enabled": true,
+ *   "clauses": [
+ *     { "attribute": "country", "operator": "IN", "values": ["AR", "UY"] },
+ *     { "attribute": "appVersion", "operator": "SEMVER_GTE", "values": ["2.4.0"] }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TargetingRuleRequestDto {
+
+  /** The enabled state served when the rule matches. */
+  @NotNull(message = "enabled is required")
+  private Boolean enabled;
+
+  /** The conditions that must all hold for the rule to match. */
+  @NotNull(message = "clauses is required")
+  private List<@Valid @NotNull TargetingClauseDto> clauses;
+}
@@ -0,0 +1,42 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object replacing the targeting rules of a feature configuration.
+ *
+ * <p>The rules are evaluated in the order given; an empty list removes every rule.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "rules": [
+ *     {
+ *       "enabled": true,
+ *       "clauses": [{ "attribute": "country", "operator": "IN", "values": ["AR", "UY"] }]
+ *     },
+ *     {
+ *       "enabled": false,
+ *       "clauses": [{ "attribute": "plan", "operator": "IN", "values": ["free"] }]
+ *     }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TargetingRulesRequestDto {
+
+  /** The new rules, in evaluation order. */
+  @NotNull(message = "rules is required")
+  private List<@Valid @NotNull TargetingRuleRequestDto> rules;
+}
@@ -0,0 +1,38 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import com.equipo01.featureflag.featureflag.dto.VariantAllocationDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object replacing the variant allocation of a feature configuration.
+ *
+ * <p>The weights must add up to 10000; an empty list removes the allocation, and the configuration
+ * then serves no variant.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "allocations": [
+ *     { "variant": "one-step", "weight": 7500 },
+ *     { "variant": "three-steps", "weight": 2500 }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariantAllocationsRequestDto {
+
+  /** The share of each variant. */
+  @NotNull(message = "allocations is required")
+  private List<@Valid @NotNull VariantAllocationDto> allocations;
+}
@@ -0,0 +1,47 @@
+package com.equipo01.featureflag.featureflag.dto.request;
+
+import com.equipo01.featureflag.featureflag.model.enums.VariantType;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a variant of a feature.
+ *
+ * <p>The value must match the type: a string for STRING, a number for NUMBER, and any JSON value
+ * other than null for JSON.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "name": "three-steps",
+ *   "type": "JSON",
+ *   "value": { "steps": 3, "layout": "compact" }
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariantRequestDto {
+
+  /** Name of the variant, unique within its feature. */
+  @NotBlank(message = "name is required")
+  @Size(max = 100, message = "name must be at most 100 characters")
+  private String name;
+
+  /** Type of the value. */
+  @NotNull(message = "type is required")
+  private VariantType type;
+
+  /** The value served by the variant. */
+  @NotNull(message = "value is required")
+  private JsonNode value;
+}
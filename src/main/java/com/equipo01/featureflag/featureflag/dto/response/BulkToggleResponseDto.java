@@ -0,0 +1,30 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the result of a bulk toggle.
+ *
+ * <p>{@code affectedRows} holds the number of updated configurations for each criteria set, in the
+ * same order as the request. Configurations already in the requested state are not updated and not
+ * counted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkToggleResponseDto {
+
+  /** The enabled state that was applied. */
+  private Boolean enabled;
+
+  /** Number of configurations updated by each criteria set. */
+  private List<Integer> affectedRows;
+
+  /** Total number of configurations updated. */
+  private long totalAffectedRows;
+}
@@ -0,0 +1,44 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for an environment.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": 4,
+ *   "name": "EU_PROD",
+ *   "description": "Production cluster serving European clients",
+ *   "served": true,
+ *   "createdAt": "2025-11-03T09:30:00Z"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnvironmentResponseDto {
+
+  /** Small integer identifying the environment. */
+  private Integer id;
+
+  /** Unique name of the environment. */
+  private String name;
+
+  /** Description of the environment. */
+  private String description;
+
+  /** Whether the instance that answered evaluates features in this environment. */
+  private Boolean served;
+
+  /** The instant at which the environment was created. */
+  private Instant createdAt;
+}
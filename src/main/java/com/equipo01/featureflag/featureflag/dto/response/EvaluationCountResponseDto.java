@@ -0,0 +1,50 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the evaluations of a feature flag in an environment counted by the
+ * instance that answered, since it started.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "projectId": 1,
+ *   "featureName": "NEW_USER_DASHBOARD",
+ *   "environment": "PROD",
+ *   "enabled": 1520,
+ *   "disabled": 87,
+ *   "lastEvaluatedAt": "2025-11-03T09:30:12Z"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationCountResponseDto {
+
+  /** Project of the evaluated feature. */
+  private Short projectId;
+
+  /** Name of the evaluated feature. */
+  private String featureName;
+
+  /** Environment the feature was evaluated in. */
+  private Environment environment;
+
+  /** Number of evaluations that returned enabled. */
+  private Long enabled;
+
+  /** Number of evaluations that returned disabled. */
+  private Long disabled;
+
+  /** Last instant the feature was evaluated, at a one second resolution. */
+  private Instant lastEvaluatedAt;
+}
@@ -0,0 +1,53 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the result of a feature flag evaluation.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "featureName": "NEW_CHECKOUT",
+ *   "enabled": true,
+ *   "ruleId": "4f1c2d3e-5a6b-4c7d-8e9f-0a1b2c3d4e5f",
+ *   "blockedBy": null,
+ *   "killed": null,
+ *   "variant": "three-steps",
+ *   "value": { "steps": 3 }
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationResponseDto {
+
+  /** Name of the evaluated feature. */
+  private String featureName;
+
+  /** Whether the feature is enabled for the evaluated context. */
+  private Boolean enabled;
+
+  /** Rule that decided the result, or null when the configuration state applied. */
+  private UUID ruleId;
+
+  /** Prerequisite that was not enabled and disabled the feature, or null when none did. */
+  private String blockedBy;
+
+  /** True when a kill switch disabled the feature, or null when none did. */
+  private Boolean killed;
+
+  /** Variant served to the client, or null when the feature is disabled or allocates none. */
+  private String variant;
+
+  /** Value of the served variant, or null when no variant is served. */
+  private JsonNode value;
+}
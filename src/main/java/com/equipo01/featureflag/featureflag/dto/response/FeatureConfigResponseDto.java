@@ -72,4 +72,7 @@ public class FeatureConfigResponseDto {
   /** Identifier of the feature this configuration belongs to. */
   @NotNull(message = "featureId is required")
   private UUID featureId;
+
+  /** Current version of this configuration, also returned in the {@code ETag} header. */
+  private Long version;
 }
@@ -0,0 +1,31 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data Transfer Object for the enabled state of one configuration at a point in time. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeatureConfigStateDto {
+
+  /** Identifier of the configuration. */
+  private UUID featureConfigId;
+
+  /** Identifier of the feature the configuration belongs to. */
+  private UUID featureId;
+
+  /** Environment of the configuration. */
+  private Environment environment;
+
+  /** Client of the configuration, or null for the environment default. */
+  private String clientId;
+
+  /** Whether the configuration was enabled. */
+  private Boolean enabled;
+}
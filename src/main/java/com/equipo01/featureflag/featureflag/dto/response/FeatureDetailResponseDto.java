@@ -0,0 +1,77 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for a feature flag together with all of its configurations.
+ *
+ * <p>Returned by the detail endpoints so that clients can render a feature and its per-environment
+ * and per-client settings from a single response, instead of requesting each configuration
+ * separately.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": "123e4567-e89b-12d3-a456-426614174000",
+ *   "name": "dark_mode",
+ *   "description": "Enables dark mode theme in the application",
+ *   "enabledByDefault": true,
+ *   "configs": [
+ *     {
+ *       "id": "a1b2c3d4-e5f6-7890-abcd-ef1234567890",
+ *       "environment": "PROD",
+ *       "clientId": "client-premium",
+ *       "enabled": true,
+ *       "featureId": "123e4567-e89b-12d3-a456-426614174000"
+ *     }
+ *   ]
+ * }
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Schema(description = "DTO for feature flag response data including its configurations.")
+public class FeatureDetailResponseDto implements Serializable {
+
+  /** Unique identifier of the feature flag. */
+  @Schema(
+      description = "Unique identifier of the feature flag",
+      example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID id;
+
+  /** Name of the feature flag. */
+  @Schema(description = "Name of the feature flag", example = "dark_mode")
+  private String name;
+
+  /** Description of the feature flag. */
+  @Schema(
+      description = "Description of the feature flag",
+      example = "Enables dark mode theme in the application")
+  private String description;
+
+  /** Indicates whether the feature is enabled by default. */
+  @Schema(description = "Indicates whether the feature is enabled by default", example = "true")
+  private Boolean enabledByDefault;
+
+  /** Current version of the feature flag, also returned in the {@code ETag} header. */
+  @Schema(description = "Current version of the feature flag", example = "3")
+  private Long version;
+
+  /** Configurations of the feature for each environment and client. */
+  @Schema(description = "Configurations of the feature for each environment and client")
+  private List<FeatureConfigResponseDto> configs;
+}
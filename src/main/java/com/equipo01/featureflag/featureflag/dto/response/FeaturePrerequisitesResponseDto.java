@@ -0,0 +1,33 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the prerequisites of a feature.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "featureId": "660e8400-e29b-41d4-a716-446655440001",
+ *   "prerequisiteIds": ["660e8400-e29b-41d4-a716-446655440002"]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeaturePrerequisitesResponseDto {
+
+  /** Identifier of the dependent feature. */
+  private UUID featureId;
+
+  /** Identifiers of the features that must be enabled for it to be enabled. */
+  private List<UUID> prerequisiteIds;
+}
@@ -75,4 +75,14 @@ public class FeatureResponseDto implements Serializable {
   /** Indicates whether the feature is enabled by default. */
   @Schema(description = "Indicates whether the feature is enabled by default", example = "true")
   private Boolean enabledByDefault;
+
+  /**
+   * Current version of the feature flag.
+   *
+   * <p>The same value is returned in the {@code ETag} header and must be sent back in {@code
+   * If-Match} to modify the feature without overwriting a concurrent change. It tracks the feature
+   * row; each configuration has its own version.
+   */
+  @Schema(description = "Current version of the feature flag", example = "3")
+  private Long version;
 }
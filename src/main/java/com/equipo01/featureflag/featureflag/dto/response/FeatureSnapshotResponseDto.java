@@ -0,0 +1,47 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for the state of every feature flag in an environment.
+ *
+ * <p>SDKs and evaluation nodes download this snapshot to evaluate flags locally. Each feature name
+ * is mapped to its environment-wide state, that is, the configuration of the environment without a
+ * client id; client-specific overrides are not part of the snapshot.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "environment": "PROD",
+ *   "flags": {
+ *     "DARK_MODE": true,
+ *     "NEW_USER_DASHBOARD": false
+ *   }
+ * }
+ * </pre>
+ */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO for the state of every feature flag in an environment.")
+public class FeatureSnapshotResponseDto implements Serializable {
+
+  /** Environment the snapshot was taken for. */
+  @Schema(description = "Environment the snapshot was taken for", example = "PROD")
+  private Environment environment;
+
+  /** Feature names mapped to whether the feature is enabled in the environment. */
+  @Schema(description = "Feature names mapped to whether the feature is enabled")
+  private Map<String, Boolean> flags;
+}
@@ -0,0 +1,67 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for an entry of the change history of a feature.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "sequence": 1042,
+ *   "type": "CONFIG_TOGGLED",
+ *   "actor": "admin",
+ *   "featureId": "660e8400-e29b-41d4-a716-446655440001",
+ *   "featureConfigId": "770e8400-e29b-41d4-a716-446655440004",
+ *   "environment": "PROD",
+ *   "clientId": "client-premium",
+ *   "enabledBefore": true,
+ *   "enabledAfter": false,
+ *   "changedAt": "2025-10-28T16:12:40Z"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlagChangeHistoryResponseDto {
+
+  /** Sequence number of the change. */
+  private Long sequence;
+
+  /** Kind of change. */
+  private FlagChangeType type;
+
+  /** Name of who made the change. */
+  private String actor;
+
+  /** Feature the change applies to. */
+  private UUID featureId;
+
+  /** Configuration the change applies to, or null for changes to the feature itself. */
+  private UUID featureConfigId;
+
+  /** Environment of the changed configuration. */
+  private Environment environment;
+
+  /** Client of the changed configuration. */
+  private String clientId;
+
+  /** Enabled state before the change, or null if the configuration did not exist. */
+  private Boolean enabledBefore;
+
+  /** Enabled state after the change, or null if the configuration no longer exists. */
+  private Boolean enabledAfter;
+
+  /** The instant at which the change was made. */
+  private Instant changedAt;
+}
@@ -0,0 +1,55 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the state of every configuration of an environment at a point in time,
+ * rebuilt from the change history.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "environment": "PROD",
+ *   "at": "2025-10-28T16:00:00Z",
+ *   "checkpointAsOf": "2025-10-28T15:02:11Z",
+ *   "replayedChanges": 12,
+ *   "configurations": [
+ *     {
+ *       "featureConfigId": "770e8400-e29b-41d4-a716-446655440004",
+ *       "featureId": "660e8400-e29b-41d4-a716-446655440001",
+ *       "environment": "PROD",
+ *       "clientId": "client-premium",
+ *       "enabled": true
+ *     }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlagHistoryStateResponseDto {
+
+  /** Environment the state was rebuilt for. */
+  private Environment environment;
+
+  /** The instant the state was rebuilt at. */
+  private Instant at;
+
+  /** The instant of the checkpoint the state was rebuilt from. */
+  private Instant checkpointAsOf;
+
+  /** Number of history entries replayed on top of the checkpoint. */
+  private Integer replayedChanges;
+
+  /** State of every configuration of the environment, ordered by feature and client. */
+  private List<FeatureConfigStateDto> configurations;
+}
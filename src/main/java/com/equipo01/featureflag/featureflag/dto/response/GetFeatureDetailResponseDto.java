@@ -0,0 +1,30 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.dto.LinksDto;
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for a paginated list of feature flags including their configurations.
+ *
+ * <p>Same structure as {@link GetFeatureResponseDto}, but every feature carries its configurations
+ * (see {@link FeatureDetailResponseDto}).
+ */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetFeatureDetailResponseDto implements Serializable {
+
+  /** List of feature flags, with their configurations, for the current page. */
+  private List<FeatureDetailResponseDto> features;
+
+  /** Navigation links for pagination control. */
+  private LinksDto links;
+}
@@ -0,0 +1,48 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for an engaged kill switch. Exactly one of {@code featureId} and {@code
+ * environment} is set: the feature turned off in every environment, or the environment in which
+ * every feature is turned off.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": 12,
+ *   "featureId": "660e8400-e29b-41d4-a716-446655440001",
+ *   "environment": null,
+ *   "engagedBy": "admin",
+ *   "engagedAt": "2025-11-03T09:30:00Z"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KillSwitchResponseDto {
+
+  /** Unique identifier of the kill switch. */
+  private Long id;
+
+  /** Feature turned off in every environment, or null for an emergency mode. */
+  private UUID featureId;
+
+  /** Environment in which every feature is turned off, or null for a feature kill switch. */
+  private Environment environment;
+
+  /** Username of the user who engaged the kill switch. */
+  private String engagedBy;
+
+  /** The instant at which the kill switch was engaged. */
+  private Instant engagedAt;
+}
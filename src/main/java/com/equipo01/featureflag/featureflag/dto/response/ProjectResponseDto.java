@@ -0,0 +1,40 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a project.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": 2,
+ *   "name": "CHECKOUT",
+ *   "description": "Flags of the checkout team",
+ *   "createdAt": "2025-11-03T09:30:00Z"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectResponseDto {
+
+  /** Small integer identifying the project. */
+  private Short id;
+
+  /** Unique name of the project. */
+  private String name;
+
+  /** Description of the project. */
+  private String description;
+
+  /** The instant at which the project was created. */
+  private Instant createdAt;
+}
@@ -0,0 +1,54 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.model.enums.ScheduledChangeStatus;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a change scheduled on a feature configuration.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": "b3c4d5e6-f7a8-4b9c-8d0e-1f2a3b4c5d6e",
+ *   "featureConfigId": "770e8400-e29b-41d4-a716-446655440001",
+ *   "enabled": true,
+ *   "applyAt": "2025-11-03T09:00:00Z",
+ *   "status": "PENDING",
+ *   "createdAt": "2025-10-28T16:12:40Z",
+ *   "appliedAt": null
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledChangeResponseDto {
+
+  /** Unique identifier of the scheduled change. */
+  private UUID id;
+
+  /** Identifier of the configuration the change applies to. */
+  private UUID featureConfigId;
+
+  /** The enabled state applied to the configuration. */
+  private Boolean enabled;
+
+  /** The instant at which the change is applied. */
+  private Instant applyAt;
+
+  /** Whether the change is pending, applied or cancelled. */
+  private ScheduledChangeStatus status;
+
+  /** The instant at which the change was scheduled. */
+  private Instant createdAt;
+
+  /** The instant at which the change was applied, or null while it has not been. */
+  private Instant appliedAt;
+}
@@ -0,0 +1,50 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a client segment. Members are not listed; membership of a client is
+ * checked individually.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": "8f1c2d3e-4a5b-4c6d-8e7f-9a0b1c2d3e4f",
+ *   "name": "beta-testers",
+ *   "description": "Clients enrolled in the beta programme",
+ *   "memberCount": 1250,
+ *   "version": 3,
+ *   "createdAt": "2025-10-28T16:12:40Z"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentResponseDto {
+
+  /** Unique identifier of the segment. */
+  private UUID id;
+
+  /** Unique name of the segment. */
+  private String name;
+
+  /** Description of the segment. */
+  private String description;
+
+  /** Number of clients in the segment. */
+  private Integer memberCount;
+
+  /** Version of the segment, incremented whenever its members change. */
+  private Long version;
+
+  /** The instant at which the segment was created. */
+  private Instant createdAt;
+}
@@ -0,0 +1,37 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a feature flag that has not been evaluated recently.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": "660e8400-e29b-41d4-a716-446655440006",
+ *   "name": "BETA_REPORTS",
+ *   "lastEvaluatedAt": "2025-08-14T17:02:11Z"
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StaleFeatureResponseDto {
+
+  /** Unique identifier of the feature. */
+  private UUID id;
+
+  /** Name of the feature. */
+  private String name;
+
+  /** Last instant the feature was evaluated in any environment, null if it never was. */
+  private Instant lastEvaluatedAt;
+}
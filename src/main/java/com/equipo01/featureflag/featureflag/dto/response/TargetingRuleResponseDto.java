@@ -0,0 +1,44 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.dto.TargetingClauseDto;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a targeting rule of a feature configuration.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": "4f1c2d3e-5a6b-4c7d-8e9f-0a1b2c3d4e5f",
+ *   "priority": 0,
+ *   "enabled": true,
+ *   "clauses": [
+ *     { "attribute": "country", "operator": "IN", "negate": false, "values": ["AR", "UY"] }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TargetingRuleResponseDto {
+
+  /** Unique identifier of the rule. */
+  private UUID id;
+
+  /** Position of the rule in evaluation order, starting at zero. */
+  private Integer priority;
+
+  /** The enabled state served when the rule matches. */
+  private Boolean enabled;
+
+  /** The conditions that must all hold for the rule to match. */
+  private List<TargetingClauseDto> clauses;
+}
@@ -0,0 +1,45 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.dto.UserDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for a keyset-paginated list of users.
+ *
+ * <p>Users are ordered by id. To obtain the next page, clients send {@code nextCursor} back as the
+ * {@code after} parameter; a null {@code nextCursor} means there are no more users.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "users": [ { "id": "550e8400-e29b-41d4-a716-446655440001", "username": "admin", ... } ],
+ *   "nextCursor": "550e8400-e29b-41d4-a716-446655440001"
+ * }
+ * </pre>
+ */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO for a keyset-paginated list of users.")
+public class UserPageResponseDto {
+
+  /** Users of the current page, ordered by id. */
+  @Schema(description = "Users of the current page, ordered by id")
+  private List<UserDTO> users;
+
+  /** Id of the last user of the page, or null if this is the last page. */
+  @Schema(
+      description = "Cursor to request the next page, null if this is the last page",
+      example = "550e8400-e29b-41d4-a716-446655440001")
+  private UUID nextCursor;
+}
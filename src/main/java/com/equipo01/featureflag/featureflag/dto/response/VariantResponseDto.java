@@ -0,0 +1,42 @@
+package com.equipo01.featureflag.featureflag.dto.response;
+
+import com.equipo01.featureflag.featureflag.model.enums.VariantType;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a variant of a feature.
+ *
+ * <p>JSON structure example:
+ *
+ * <pre>
+ * {
+ *   "id": "8a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d",
+ *   "name": "max-items",
+ *   "type": "NUMBER",
+ *   "value": 50
+ * }
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariantResponseDto {
+
+  /** Unique identifier of the variant. */
+  private UUID id;
+
+  /** Name of the variant, unique within its feature. */
+  private String name;
+
+  /** Type of the value. */
+  private VariantType type;
+
+  /** The value served by the variant. */
+  private JsonNode value;
+}
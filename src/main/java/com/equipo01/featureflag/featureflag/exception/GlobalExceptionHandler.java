@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -79,6 +80,27 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(MessageError.DATA_ACCESS_ERROR.getStatus()).body(errorResponse);
   }
 
+  /**
+   * Handles optimistic locking failures raised when a concurrent request modified the same resource
+   * between the read and the write.
+   *
+   * @param ex Exception thrown when the version of an entity no longer matches the database.
+   * @return Error informing that the resource changed concurrently. Returns an {@link ErrorDto}
+   *     with code 412 (PRECONDITION FAILED).
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorDto> handleOptimisticLockingFailure(
+      OptimisticLockingFailureException ex) {
+    ErrorDto errorResponse =
+        ErrorDto.builder()
+            .message(MessageError.VERSION_MISMATCH.getMessage())
+            .description(MessageError.VERSION_MISMATCH.getDescription())
+            .code(MessageError.VERSION_MISMATCH.getStatus().value())
+            .timestamp(LocalDateTime.now())
+            .build();
+    return ResponseEntity.status(MessageError.VERSION_MISMATCH.getStatus()).body(errorResponse);
+  }
+
   /**
    * Handles validation exceptions for arguments in REST endpoints.
    *
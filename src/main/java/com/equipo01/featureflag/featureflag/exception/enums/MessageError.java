@@ -41,6 +41,26 @@ public enum MessageError {
       "MAP_QUERY_PARAMS_NOT_VALID",
       "The map of query parameters is not valid."),
 
+  // CONCURRENCY ERRORS
+  VERSION_MISMATCH(
+      HttpStatus.PRECONDITION_FAILED,
+      "VERSION_MISMATCH",
+      "The resource was modified by another request. Fetch it again and retry with the new ETag."),
+
+  // IDEMPOTENCY ERRORS
+  IDEMPOTENCY_KEY_INVALID(
+      HttpStatus.BAD_REQUEST,
+      "IDEMPOTENCY_KEY_INVALID",
+      "The Idempotency-Key header must contain between 1 and 255 characters."),
+  IDEMPOTENCY_KEY_REUSED(
+      HttpStatus.UNPROCESSABLE_ENTITY,
+      "IDEMPOTENCY_KEY_REUSED",
+      "The Idempotency-Key was already used for a different request."),
+  IDEMPOTENCY_REQUEST_IN_PROGRESS(
+      HttpStatus.CONFLICT,
+      "IDEMPOTENCY_REQUEST_IN_PROGRESS",
+      "A request with the same Idempotency-Key is still being processed. Retry later."),
+
   // FEATURE CONFIG ERRORS
   FEATURE_CONFIG_NOT_FOUND(
       HttpStatus.NOT_FOUND,
@@ -49,7 +69,80 @@ public enum MessageError {
   FEATURE_TOGGLE_REQUEST_INVALID(
       HttpStatus.BAD_REQUEST,
       "FEATURE_TOGGLE_REQUEST_INVALID",
-      "Either clientId or environment must be provided.");
+      "Either clientId or environment must be provided."),
+  BULK_TOGGLE_CRITERIA_INVALID(
+      HttpStatus.BAD_REQUEST,
+      "BULK_TOGGLE_CRITERIA_INVALID",
+      "Each criteria set must provide at least one featureId, environment or clientId."),
+
+  // SCHEDULED CHANGE ERRORS
+  SCHEDULED_CHANGE_NOT_FOUND(
+      HttpStatus.NOT_FOUND, "SCHEDULED_CHANGE_NOT_FOUND", "The scheduled change was not found."),
+  SCHEDULED_CHANGE_NOT_PENDING(
+      HttpStatus.CONFLICT,
+      "SCHEDULED_CHANGE_NOT_PENDING",
+      "The scheduled change was already applied or cancelled."),
+
+  // CHANGE HISTORY ERRORS
+  HISTORY_NOT_AVAILABLE(
+      HttpStatus.NOT_FOUND,
+      "HISTORY_NOT_AVAILABLE",
+      "No history checkpoint exists at or before the requested instant."),
+
+  // TARGETING ERRORS
+  TARGETING_RULE_INVALID(
+      HttpStatus.BAD_REQUEST,
+      "TARGETING_RULE_INVALID",
+      "A targeting clause has a value its operator cannot parse, such as an invalid semantic"
+          + " version or regular expression."),
+
+  // SEGMENT ERRORS
+  SEGMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "SEGMENT_NOT_FOUND", "The segment was not found."),
+  SEGMENT_ALREADY_EXISTS(
+      HttpStatus.CONFLICT, "SEGMENT_ALREADY_EXISTS", "The segment name already exists."),
+
+  // PREREQUISITE ERRORS
+  PREREQUISITE_CYCLE(
+      HttpStatus.CONFLICT,
+      "PREREQUISITE_CYCLE",
+      "The prerequisites would make a feature depend on itself, directly or through other"
+          + " features."),
+
+  // VARIANT ERRORS
+  VARIANT_NOT_FOUND(
+      HttpStatus.NOT_FOUND,
+      "VARIANT_NOT_FOUND",
+      "The variant does not belong to the feature of the configuration."),
+  VARIANT_INVALID(
+      HttpStatus.BAD_REQUEST,
+      "VARIANT_INVALID",
+      "A variant value does not match its type, or two variants share a name."),
+  VARIANT_IN_USE(
+      HttpStatus.CONFLICT,
+      "VARIANT_IN_USE",
+      "The variant is still allocated by a configuration. Remove it from the allocation first."),
+  VARIANT_ALLOCATION_INVALID(
+      HttpStatus.BAD_REQUEST,
+      "VARIANT_ALLOCATION_INVALID",
+      "Each variant must be allocated at most once, and the weights must add up to 10000."),
+
+  // ENVIRONMENT ERRORS
+  ENVIRONMENT_ALREADY_EXISTS(
+      HttpStatus.CONFLICT, "ENVIRONMENT_ALREADY_EXISTS", "The environment name already exists."),
+  ENVIRONMENT_NOT_SERVED(
+      HttpStatus.SERVICE_UNAVAILABLE,
+      "ENVIRONMENT_NOT_SERVED",
+      "This instance does not evaluate features in the environment. Send the request to an"
+          + " instance serving it."),
+
+  // PROJECT ERRORS
+  PROJECT_ALREADY_EXISTS(
+      HttpStatus.CONFLICT, "PROJECT_ALREADY_EXISTS", "The project name already exists."),
+  PROJECT_NOT_FOUND(HttpStatus.NOT_FOUND, "PROJECT_NOT_FOUND", "The project was not found."),
+  PROJECT_ACCESS_DENIED(
+      HttpStatus.FORBIDDEN,
+      "PROJECT_ACCESS_DENIED",
+      "The user is bound to another project than the one requested.");
 
   private final HttpStatus status;
   private final String message;
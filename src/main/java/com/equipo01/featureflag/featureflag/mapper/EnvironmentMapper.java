@@ -0,0 +1,23 @@
+package com.equipo01.featureflag.featureflag.mapper;
+
+import com.equipo01.featureflag.featureflag.dto.response.EnvironmentResponseDto;
+import com.equipo01.featureflag.featureflag.model.EnvironmentDefinition;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper interface for converting stored environment definitions to response DTOs.
+ * Whether an environment is served depends on the instance, so it is set by the service.
+ */
+@Mapper(config = MapperConfiguration.class)
+public interface EnvironmentMapper {
+
+  /**
+   * Converts an EnvironmentDefinition entity to an EnvironmentResponseDto for API responses.
+   *
+   * @param entity The environment definition from the persistence layer
+   * @return EnvironmentResponseDto containing the environment data
+   */
+  @Mapping(target = "served", ignore = true)
+  EnvironmentResponseDto toDto(EnvironmentDefinition entity);
+}
@@ -1,6 +1,7 @@
 package com.equipo01.featureflag.featureflag.mapper;
 
 import com.equipo01.featureflag.featureflag.dto.request.FeatureRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureDetailResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
 import com.equipo01.featureflag.featureflag.model.Feature;
 import java.util.List;
@@ -25,7 +26,7 @@ import org.mapstruct.Mapping;
  * <p>Annotations used: - @Mapper: Indicates that this interface is a MapStruct mapper - @Mapping:
  * Defines individual field mappings between source and target types
  */
-@Mapper(config = MapperConfiguration.class)
+@Mapper(config = MapperConfiguration.class, uses = FeatureConfigMapper.class)
 public interface FeatureMapper {
 
   /**
@@ -57,4 +58,21 @@ public interface FeatureMapper {
    * @throws IllegalArgumentException if the entities parameter is null
    */
   List<FeatureResponseDto> toDtoList(List<Feature> entities);
+
+  /**
+   * Converts a Feature entity, including its configurations, to a FeatureDetailResponseDto.
+   *
+   * @param entity The feature entity with its configurations loaded
+   * @return FeatureDetailResponseDto containing the feature data and its configurations
+   */
+  FeatureDetailResponseDto toDetailDto(Feature entity);
+
+  /**
+   * Converts a list of Feature entities, including their configurations, to
+   * FeatureDetailResponseDtos.
+   *
+   * @param entities List of feature entities with their configurations loaded
+   * @return List of FeatureDetailResponseDto objects for API response
+   */
+  List<FeatureDetailResponseDto> toDetailDtoList(List<Feature> entities);
 }
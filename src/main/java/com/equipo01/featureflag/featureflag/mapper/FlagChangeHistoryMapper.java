@@ -0,0 +1,32 @@
+package com.equipo01.featureflag.featureflag.mapper;
+
+import com.equipo01.featureflag.featureflag.dto.response.FlagChangeHistoryResponseDto;
+import com.equipo01.featureflag.featureflag.model.FlagChangeHistory;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper interface for converting change history entries to response DTOs. The sequence
+ * number of an entry is exposed as {@code sequence}.
+ */
+@Mapper(config = MapperConfiguration.class)
+public interface FlagChangeHistoryMapper {
+
+  /**
+   * Converts a FlagChangeHistory entity to a FlagChangeHistoryResponseDto for API responses.
+   *
+   * @param entity The change history entry from the persistence layer
+   * @return FlagChangeHistoryResponseDto containing the change data
+   */
+  @Mapping(target = "sequence", source = "id")
+  FlagChangeHistoryResponseDto toDto(FlagChangeHistory entity);
+
+  /**
+   * Converts a list of FlagChangeHistory entities to a list of FlagChangeHistoryResponseDtos.
+   *
+   * @param entities List of change history entries from the persistence layer
+   * @return List of FlagChangeHistoryResponseDto objects for API response
+   */
+  List<FlagChangeHistoryResponseDto> toDtoList(List<FlagChangeHistory> entities);
+}
@@ -0,0 +1,18 @@
+package com.equipo01.featureflag.featureflag.mapper;
+
+import com.equipo01.featureflag.featureflag.dto.response.KillSwitchResponseDto;
+import com.equipo01.featureflag.featureflag.model.KillSwitch;
+import org.mapstruct.Mapper;
+
+/** MapStruct mapper interface for converting engaged kill switches to response DTOs. */
+@Mapper(config = MapperConfiguration.class)
+public interface KillSwitchMapper {
+
+  /**
+   * Converts a KillSwitch entity to a KillSwitchResponseDto for API responses.
+   *
+   * @param entity The kill switch from the persistence layer
+   * @return KillSwitchResponseDto containing the kill switch data
+   */
+  KillSwitchResponseDto toDto(KillSwitch entity);
+}
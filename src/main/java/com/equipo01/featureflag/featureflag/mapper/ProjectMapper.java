@@ -0,0 +1,18 @@
+package com.equipo01.featureflag.featureflag.mapper;
+
+import com.equipo01.featureflag.featureflag.dto.response.ProjectResponseDto;
+import com.equipo01.featureflag.featureflag.model.Project;
+import org.mapstruct.Mapper;
+
+/** MapStruct mapper interface for converting projects to response DTOs. */
+@Mapper(config = MapperConfiguration.class)
+public interface ProjectMapper {
+
+  /**
+   * Converts a Project entity to a ProjectResponseDto for API responses.
+   *
+   * @param entity The project from the persistence layer
+   * @return ProjectResponseDto containing the project data
+   */
+  ProjectResponseDto toDto(Project entity);
+}
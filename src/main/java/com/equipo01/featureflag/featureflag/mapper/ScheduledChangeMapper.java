@@ -0,0 +1,30 @@
+package com.equipo01.featureflag.featureflag.mapper;
+
+import com.equipo01.featureflag.featureflag.dto.response.ScheduledChangeResponseDto;
+import com.equipo01.featureflag.featureflag.model.ScheduledChange;
+import java.util.List;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper interface for converting ScheduledChange entities to response DTOs. Entities are
+ * built by the service from the scheduling request, as most of their state is assigned there.
+ */
+@Mapper(config = MapperConfiguration.class)
+public interface ScheduledChangeMapper {
+
+  /**
+   * Converts a ScheduledChange entity to a ScheduledChangeResponseDto for API responses.
+   *
+   * @param entity The scheduled change from the persistence layer
+   * @return ScheduledChangeResponseDto containing the scheduled change data
+   */
+  ScheduledChangeResponseDto toDto(ScheduledChange entity);
+
+  /**
+   * Converts a list of ScheduledChange entities to a list of ScheduledChangeResponseDtos.
+   *
+   * @param entities List of scheduled changes from the persistence layer
+   * @return List of ScheduledChangeResponseDto objects for API response
+   */
+  List<ScheduledChangeResponseDto> toDtoList(List<ScheduledChange> entities);
+}
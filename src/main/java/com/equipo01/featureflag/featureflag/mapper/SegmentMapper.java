@@ -0,0 +1,30 @@
+package com.equipo01.featureflag.featureflag.mapper;
+
+import com.equipo01.featureflag.featureflag.dto.response.SegmentResponseDto;
+import com.equipo01.featureflag.featureflag.model.Segment;
+import java.util.List;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper interface for converting Segment entities to response DTOs. The serialized
+ * members are never exposed.
+ */
+@Mapper(config = MapperConfiguration.class)
+public interface SegmentMapper {
+
+  /**
+   * Converts a Segment entity to a SegmentResponseDto for API responses.
+   *
+   * @param entity The segment from the persistence layer
+   * @return SegmentResponseDto containing the segment data
+   */
+  SegmentResponseDto toDto(Segment entity);
+
+  /**
+   * Converts a list of Segment entities to a list of SegmentResponseDtos.
+   *
+   * @param entities List of segments from the persistence layer
+   * @return List of SegmentResponseDto objects for API response
+   */
+  List<SegmentResponseDto> toDtoList(List<Segment> entities);
+}
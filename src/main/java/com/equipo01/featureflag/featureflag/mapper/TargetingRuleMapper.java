@@ -0,0 +1,40 @@
+package com.equipo01.featureflag.featureflag.mapper;
+
+import com.equipo01.featureflag.featureflag.dto.TargetingClauseDto;
+import com.equipo01.featureflag.featureflag.dto.response.TargetingRuleResponseDto;
+import com.equipo01.featureflag.featureflag.model.TargetingClause;
+import com.equipo01.featureflag.featureflag.model.TargetingRule;
+import java.util.List;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper interface for converting targeting rules and their clauses between entities and
+ * DTOs. Rule entities are built by the service, which assigns their configuration and priority.
+ */
+@Mapper(config = MapperConfiguration.class)
+public interface TargetingRuleMapper {
+
+  /**
+   * Converts a TargetingRule entity to a TargetingRuleResponseDto for API responses.
+   *
+   * @param entity The targeting rule from the persistence layer
+   * @return TargetingRuleResponseDto containing the rule and its clauses
+   */
+  TargetingRuleResponseDto toDto(TargetingRule entity);
+
+  /**
+   * Converts a list of TargetingRule entities to a list of TargetingRuleResponseDtos.
+   *
+   * @param entities List of targeting rules from the persistence layer
+   * @return List of TargetingRuleResponseDto objects for API response
+   */
+  List<TargetingRuleResponseDto> toDtoList(List<TargetingRule> entities);
+
+  /**
+   * Converts clause DTOs from a request to embeddable clauses.
+   *
+   * @param dtos the clauses of a rule request
+   * @return the clauses to store with the rule
+   */
+  List<TargetingClause> toClauses(List<TargetingClauseDto> dtos);
+}
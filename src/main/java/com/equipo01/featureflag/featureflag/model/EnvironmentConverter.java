@@ -0,0 +1,31 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.impl.EnvironmentRegistry;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stores an {@link Environment} as its small integer identifier.
+ *
+ * <p>Applied to every environment attribute. An identifier that is not interned yet belongs to an
+ * environment created by another instance since the last refresh, so it is resolved through the
+ * {@link EnvironmentRegistry}, which reloads the environments.
+ */
+@Converter(autoApply = true)
+@RequiredArgsConstructor
+public class EnvironmentConverter implements AttributeConverter<Environment, Short> {
+
+  private final EnvironmentRegistry environmentRegistry;
+
+  @Override
+  public Short convertToDatabaseColumn(Environment environment) {
+    return environment == null ? null : (short) environment.id();
+  }
+
+  @Override
+  public Environment convertToEntityAttribute(Short id) {
+    return id == null ? null : environmentRegistry.resolve(id);
+  }
+}
@@ -0,0 +1,47 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Stored definition of an environment, interned at runtime as a {@link
+ * com.equipo01.featureflag.featureflag.model.enums.Environment}.
+ *
+ * <p>Attributes: - id: Small integer identifying the environment, stored by every table that refers
+ * to it. - name: Unique name of the environment. - description: Optional description. - createdAt:
+ * Time at which the environment was created.
+ */
+@Entity
+@Table(name = "environments")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class EnvironmentDefinition {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "environment_id", updatable = false, nullable = false)
+  private Short id;
+
+  @Column(nullable = false, unique = true, updatable = false)
+  private String name;
+
+  private String description;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+}
@@ -9,6 +9,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -17,6 +19,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * Represents a system feature. This entity is used to manage features that can be enabled or
@@ -32,9 +36,14 @@ import lombok.ToString;
  * {@link Column}: Used to specify details about the database column. - {@link OneToMany}: Defines a
  * one-to-many relationship with another entity.
  *
- * <p>Attributes - id: Unique identifier of the feature. - name: Name of the feature. - description:
+ * <p>Attributes - id: Unique identifier of the feature. - projectId: Project the feature belongs
+ * to. - name: Name of the feature, unique within its project. - description:
  * Description of the feature. - enableByDefault: Indicates whether the feature is enabled by
- * default. - configs: List of configurations associated with the feature.
+ * default. - configs: List of configurations associated with the feature. - deletedAt: Time at
+ * which the feature was deleted, or null while it is live.
+ *
+ * <p>Deleted features are hidden from every query by {@link SQLRestriction} and physically removed,
+ * together with their configurations, by a background purge job.
  */
 @Entity
 @Table(name = "features")
@@ -44,6 +53,7 @@ import lombok.ToString;
 @AllArgsConstructor
 @Builder
 @ToString
+@SQLRestriction("deleted_at IS NULL")
 public class Feature {
   /**
    * {@link Id} Indicates the unique identifier of the entity. {@link GeneratedValue} Specifies the
@@ -54,7 +64,11 @@ public class Feature {
   @Column(columnDefinition = "uuid", updatable = false, nullable = false, name = "feature_id")
   private UUID id;
 
-  @Column(nullable = false, unique = true)
+  // Features are namespaced by project: the name is unique within the project
+  @Column(name = "project_id", nullable = false, updatable = false)
+  private Short projectId;
+
+  @Column(nullable = false)
   private String name;
 
   @Column(nullable = true)
@@ -63,7 +77,19 @@ public class Feature {
   @Column(nullable = false, name = "enabled_by_default")
   private Boolean enabledByDefault;
 
-  // 1:N -> A feature can have multiple configurations
+  // Optimistic lock version, exposed to clients as the ETag of the feature. Configurations carry
+  // their own version and do not always increment this one.
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
+  // Soft delete marker; configurations are purged in chunks before the row itself is removed.
+  @Column(name = "deleted_at")
+  private Instant deletedAt;
+
+  // 1:N -> A feature can have multiple configurations.
+  // Batch fetching initializes the configs of up to 100 loaded features with a single query.
+  @BatchSize(size = 100)
   @OneToMany(
       mappedBy = "feature",
       cascade = CascadeType.ALL,
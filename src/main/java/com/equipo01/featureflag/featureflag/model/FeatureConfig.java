@@ -3,8 +3,6 @@ package com.equipo01.featureflag.featureflag.model;
 import com.equipo01.featureflag.featureflag.model.enums.Environment;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -12,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -58,7 +57,7 @@ public class FeatureConfig {
       name = "feature_config_id")
   private UUID id;
 
-  @Enumerated(EnumType.STRING) // DEV, STAGING, PROD
+  // Stored as the environment identifier by the EnvironmentConverter
   @Column(nullable = false)
   private Environment environment;
 
@@ -68,6 +67,11 @@ public class FeatureConfig {
   @Column(nullable = false)
   private Boolean enabled;
 
+  // Optimistic lock version, exposed to clients as the ETag of the configuration.
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
   //  N:1 -> Many configurations can belong to one feature
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "feature_id", referencedColumnName = "feature_id", nullable = false)
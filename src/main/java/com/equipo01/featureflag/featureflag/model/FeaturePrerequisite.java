@@ -0,0 +1,63 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Prerequisite relationship between two features: the feature is only enabled when its prerequisite
+ * is enabled for the same environment, client and context.
+ *
+ * <p>Relationships are replaced as a whole and never updated, so they report themselves as new and
+ * are persisted without the lookup a merge would issue first. They are removed together with either
+ * feature.
+ */
+@Entity
+@Table(name = "feature_prerequisites")
+@IdClass(FeaturePrerequisite.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class FeaturePrerequisite implements Persistable<FeaturePrerequisite.Key> {
+
+  @Id
+  @Column(name = "feature_id", columnDefinition = "uuid", nullable = false, updatable = false)
+  private UUID featureId;
+
+  @Id
+  @Column(name = "prerequisite_id", columnDefinition = "uuid", nullable = false, updatable = false)
+  private UUID prerequisiteId;
+
+  @Override
+  public Key getId() {
+    return new Key(featureId, prerequisiteId);
+  }
+
+  @Override
+  public boolean isNew() {
+    return true;
+  }
+
+  /** Composite primary key of a prerequisite relationship. */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private UUID featureId;
+    private UUID prerequisiteId;
+  }
+}
@@ -0,0 +1,57 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import com.equipo01.featureflag.featureflag.model.enums.VariantType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Typed value a feature can serve besides its enabled state.
+ *
+ * <p>Attributes: - id: Unique identifier of the variant. - featureId: Feature the variant belongs
+ * to. - name: Name of the variant, unique within its feature. - type: Type of the value. - value:
+ * The value, stored as JSON text.
+ *
+ * <p>Configurations of the feature allocate their clients to its variants by weight. Variants are
+ * removed together with their feature.
+ */
+@Entity
+@Table(name = "feature_variants")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class FeatureVariant {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  @Column(columnDefinition = "uuid", updatable = false, nullable = false, name = "variant_id")
+  private UUID id;
+
+  @Column(name = "feature_id", columnDefinition = "uuid", nullable = false, updatable = false)
+  private UUID featureId;
+
+  @Column(nullable = false, updatable = false, length = 100)
+  private String name;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "value_type", nullable = false)
+  private VariantType type;
+
+  @Column(name = "variant_value", nullable = false, columnDefinition = "TEXT")
+  private String value;
+}
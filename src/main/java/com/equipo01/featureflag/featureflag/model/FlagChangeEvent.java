@@ -0,0 +1,69 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Outbox entry describing a change to a feature or one of its configurations. Entries are written
+ * in the same transaction as the change itself, so a change is recorded if and only if it commits.
+ *
+ * <p>Attributes: - id: Sequence number of the change, defining the order in which changes are
+ * relayed. - type: Kind of change. - featureId: Feature the change applies to. - featureConfigId:
+ * Configuration the change applies to, if any. - environment, clientId, enabled: State of the
+ * configuration after the change, if any. - createdAt: Time at which the change was recorded.
+ *
+ * <p>No foreign keys are declared, so entries outlive the feature or configuration they describe.
+ */
+@Entity
+@Table(name = "flag_change_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class FlagChangeEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "event_id", updatable = false, nullable = false)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "change_type", nullable = false, updatable = false)
+  private FlagChangeType type;
+
+  @Column(name = "feature_id", columnDefinition = "uuid", updatable = false)
+  private UUID featureId;
+
+  @Column(name = "feature_config_id", columnDefinition = "uuid", updatable = false)
+  private UUID featureConfigId;
+
+  @Column(updatable = false)
+  private Environment environment;
+
+  @Column(name = "client_id", updatable = false)
+  private String clientId;
+
+  @Column(updatable = false)
+  private Boolean enabled;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+}
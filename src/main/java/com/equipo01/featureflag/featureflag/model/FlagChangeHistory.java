@@ -0,0 +1,77 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Entry of the append-only change history of features and configurations.
+ *
+ * <p>Attributes: - id: Sequence number of the change. - type: Kind of change. - actor: Name of the
+ * authenticated user who made the change, or {@code system} for background jobs. - featureId:
+ * Feature the change applies to. - featureConfigId, environment, clientId: Configuration the change
+ * applies to, if any. - enabledBefore, enabledAfter: Enabled state before and after the change;
+ * null when the configuration did not exist before or no longer exists after. For feature changes
+ * they hold the feature's default state. - changedAt: Time at which the change was made.
+ *
+ * <p>Entries are never updated or deleted, and carry no foreign keys, so they outlive the rows they
+ * describe.
+ */
+@Entity
+@Immutable
+@Table(name = "flag_change_history")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class FlagChangeHistory {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "history_id", updatable = false, nullable = false)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "change_type", nullable = false, updatable = false)
+  private FlagChangeType type;
+
+  @Column(nullable = false, updatable = false)
+  private String actor;
+
+  @Column(name = "feature_id", columnDefinition = "uuid", nullable = false, updatable = false)
+  private UUID featureId;
+
+  @Column(name = "feature_config_id", columnDefinition = "uuid", updatable = false)
+  private UUID featureConfigId;
+
+  @Column(updatable = false)
+  private Environment environment;
+
+  @Column(name = "client_id", updatable = false)
+  private String clientId;
+
+  @Column(name = "enabled_before", updatable = false)
+  private Boolean enabledBefore;
+
+  @Column(name = "enabled_after", updatable = false)
+  private Boolean enabledAfter;
+
+  @Column(name = "changed_at", nullable = false, updatable = false)
+  private Instant changedAt;
+}
@@ -0,0 +1,49 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Point-in-time copy of the state of every configuration, taken from the change history.
+ *
+ * <p>Attributes: - id: Identifier of the checkpoint. - lastHistoryId: Sequence number of the last
+ * history entry the checkpoint includes. - asOf: Latest change time among the included entries; the
+ * checkpoint is the state of all configurations at that instant. - createdAt: Time at which the
+ * checkpoint was taken.
+ *
+ * <p>The state itself is stored as {@link FlagHistoryCheckpointEntry} rows, deleted together with
+ * their checkpoint.
+ */
+@Entity
+@Table(name = "flag_history_checkpoints")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class FlagHistoryCheckpoint {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "checkpoint_id", updatable = false, nullable = false)
+  private Long id;
+
+  @Column(name = "last_history_id", nullable = false, updatable = false)
+  private Long lastHistoryId;
+
+  @Column(name = "as_of", nullable = false, updatable = false)
+  private Instant asOf;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+}
@@ -0,0 +1,91 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * State of one configuration in a {@link FlagHistoryCheckpoint}.
+ *
+ * <p>Entries are keyed by checkpoint, environment and configuration, so the state of a single
+ * environment is read with a primary key range scan. Entries are only ever inserted, so they report
+ * themselves as new and are persisted without the lookup a merge would issue first.
+ */
+@Entity
+@Table(name = "flag_history_checkpoint_entries")
+@IdClass(FlagHistoryCheckpointEntry.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class FlagHistoryCheckpointEntry implements Persistable<FlagHistoryCheckpointEntry.Key> {
+
+  @Id
+  @Column(name = "checkpoint_id", nullable = false, updatable = false)
+  private Long checkpointId;
+
+  // Converters do not apply to identifier attributes, so the key holds the environment identifier
+  @Id
+  @Column(name = "environment", nullable = false, updatable = false)
+  private Short environmentId;
+
+  @Id
+  @Column(
+      name = "feature_config_id",
+      columnDefinition = "uuid",
+      nullable = false,
+      updatable = false)
+  private UUID featureConfigId;
+
+  @Column(name = "feature_id", columnDefinition = "uuid", nullable = false, updatable = false)
+  private UUID featureId;
+
+  @Column(name = "client_id", updatable = false)
+  private String clientId;
+
+  @Column(nullable = false, updatable = false)
+  private Boolean enabled;
+
+  /**
+   * Returns the environment of the configuration.
+   *
+   * @return the environment identified by the entry key
+   */
+  public Environment getEnvironment() {
+    return Environment.of(environmentId);
+  }
+
+  @Override
+  public Key getId() {
+    return new Key(checkpointId, environmentId, featureConfigId);
+  }
+
+  @Override
+  public boolean isNew() {
+    return true;
+  }
+
+  /** Composite primary key of a checkpoint entry. */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private Long checkpointId;
+    private Short environmentId;
+    private UUID featureConfigId;
+  }
+}
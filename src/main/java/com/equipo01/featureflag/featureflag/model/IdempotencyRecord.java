@@ -0,0 +1,76 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Stored outcome of a request sent with an {@code Idempotency-Key} header, used to replay the
+ * original response when the request is retried.
+ *
+ * <p>Attributes: - id: SHA-256 of the caller, endpoint and idempotency key. - requestHash: SHA-256
+ * of the request body, used to reject a key reused for a different request. - statusCode,
+ * contentType, responseBody: The stored response; statusCode is null while the original request is
+ * still being processed. - createdAt: Time at which the key was first seen. - leaseExpiresAt: Time
+ * until which the original request is given to complete; an incomplete record past it was left by a
+ * crashed instance.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "responseBody")
+public class IdempotencyRecord {
+
+  @Id
+  @Column(name = "record_id", length = 64, updatable = false, nullable = false)
+  private String id;
+
+  @Column(name = "request_hash", length = 64, nullable = false, updatable = false)
+  private String requestHash;
+
+  @Column(name = "status_code")
+  private Integer statusCode;
+
+  @Column(name = "content_type")
+  private String contentType;
+
+  @Column(name = "response_body")
+  private byte[] responseBody;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "lease_expires_at", nullable = false)
+  private Instant leaseExpiresAt;
+
+  /**
+   * Whether the original request has completed and its response can be replayed.
+   *
+   * @return true once a response has been stored
+   */
+  public boolean isCompleted() {
+    return statusCode != null;
+  }
+
+  /**
+   * Whether the original request is presumed dead: it has not completed within its lease.
+   *
+   * @param now the current time
+   * @return true if the record is incomplete and its lease has expired
+   */
+  public boolean isAbandoned(Instant now) {
+    return !isCompleted() && !leaseExpiresAt.isAfter(now);
+  }
+}
@@ -0,0 +1,59 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Engaged kill switch. A kill switch either turns one feature off in every environment, or turns
+ * every feature of a project off in one environment, which is the emergency mode of that
+ * environment in the project. Releasing a kill switch deletes it.
+ *
+ * <p>Attributes: - id: Unique identifier of the kill switch. - projectId: Project of the feature
+ * turned off, or project in emergency mode. - featureId: Feature turned off, null for an emergency
+ * mode. - environment: Environment in emergency mode, null for a feature kill switch. - engagedBy:
+ * Username of the user who engaged the kill switch. - engagedAt: Time at which the kill switch was
+ * engaged.
+ */
+@Entity
+@Table(name = "kill_switches")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class KillSwitch {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "kill_switch_id", updatable = false, nullable = false)
+  private Long id;
+
+  @Column(name = "project_id", nullable = false, updatable = false)
+  private Short projectId;
+
+  @Column(name = "feature_id", updatable = false)
+  private UUID featureId;
+
+  @Column(updatable = false)
+  private Environment environment;
+
+  @Column(name = "engaged_by", nullable = false, updatable = false)
+  private String engagedBy;
+
+  @Column(name = "engaged_at", nullable = false, updatable = false)
+  private Instant engagedAt;
+}
@@ -0,0 +1,50 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Namespace of features, one per team sharing the deployment. Feature names are unique within a
+ * project, and users bound to a project only see and evaluate its features.
+ *
+ * <p>Attributes: - id: Small integer identifying the project, stored by every feature. - name:
+ * Unique name of the project. - description: Optional description. - createdAt: Time at which the
+ * project was created.
+ */
+@Entity
+@Table(name = "projects")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class Project {
+
+  /** Identifier of the project every installation starts with. */
+  public static final short DEFAULT_ID = 1;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "project_id", updatable = false, nullable = false)
+  private Short id;
+
+  @Column(nullable = false, unique = true, updatable = false)
+  private String name;
+
+  private String description;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+}
@@ -0,0 +1,72 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import com.equipo01.featureflag.featureflag.model.enums.ScheduledChangeStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Change to the enabled state of a feature configuration, to be applied at a given instant.
+ *
+ * <p>Attributes: - id: Unique identifier of the scheduled change. - featureConfigId: Configuration
+ * to enable or disable. - enabled: Enabled state to apply. - applyAt: Instant at which the change
+ * becomes due. - status: Whether the change is pending, applied or cancelled. - createdAt: Time at
+ * which the change was scheduled. - appliedAt: Time at which the change was applied, if it was.
+ *
+ * <p>Scheduled changes are removed together with their configuration.
+ */
+@Entity
+@Table(name = "scheduled_changes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ScheduledChange {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  @Column(
+      columnDefinition = "uuid",
+      updatable = false,
+      nullable = false,
+      name = "scheduled_change_id")
+  private UUID id;
+
+  @Column(
+      name = "feature_config_id",
+      columnDefinition = "uuid",
+      nullable = false,
+      updatable = false)
+  private UUID featureConfigId;
+
+  @Column(nullable = false, updatable = false)
+  private Boolean enabled;
+
+  @Column(name = "apply_at", nullable = false, updatable = false)
+  private Instant applyAt;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private ScheduledChangeStatus status;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "applied_at")
+  private Instant appliedAt;
+}
@@ -0,0 +1,64 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Named set of clients, referenced by targeting rules instead of listing its members.
+ *
+ * <p>Attributes: - id: Unique identifier of the segment. - projectId: Project the segment belongs
+ * to. - name: Name of the segment, unique within its project. - description: Optional description.
+ * - members: Client ordinals of the members, as a serialized {@link
+ * com.equipo01.featureflag.featureflag.util.CompressedBitmap}. - memberCount: Number of members. -
+ * version: Optimistic lock version, incremented whenever the members change. - createdAt: Time at
+ * which the segment was created.
+ */
+@Entity
+@Table(name = "segments")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class Segment {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  @Column(columnDefinition = "uuid", updatable = false, nullable = false, name = "segment_id")
+  private UUID id;
+
+  // Segments are namespaced by project like features: the name is unique within the project
+  @Column(name = "project_id", nullable = false, updatable = false)
+  private Short projectId;
+
+  @Column(nullable = false)
+  private String name;
+
+  private String description;
+
+  @Column(nullable = false)
+  @ToString.Exclude
+  private byte[] members;
+
+  @Column(name = "member_count", nullable = false)
+  private Integer memberCount;
+
+  @Version private Long version;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+}
@@ -0,0 +1,44 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import com.equipo01.featureflag.featureflag.model.enums.ClauseOperator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Condition on one attribute of the evaluation context, part of a {@link TargetingRule}.
+ *
+ * <p>Attributes: - attribute: Name of the context attribute the clause reads. - operator: How the
+ * attribute is compared with the values. - negate: Whether the result of the comparison is
+ * inverted. - values: Values the attribute is compared with; the clause holds when any of them
+ * matches. A clause never holds when the attribute is missing from the context, negated or not.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TargetingClause {
+
+  @Column(nullable = false)
+  private String attribute;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private ClauseOperator operator;
+
+  @Column(nullable = false)
+  private boolean negate;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "clause_values", nullable = false)
+  private List<String> values;
+}
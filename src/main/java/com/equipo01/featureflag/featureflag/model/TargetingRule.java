@@ -0,0 +1,66 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Attribute-based targeting rule of a feature configuration.
+ *
+ * <p>Attributes: - id: Unique identifier of the rule. - featureConfigId: Configuration the rule
+ * belongs to. - priority: Position of the rule among the rules of its configuration; rules are
+ * evaluated in ascending priority and the first matching one wins. - enabled: Enabled state served
+ * when the rule matches. - clauses: Conditions that must all hold for the rule to match.
+ *
+ * <p>Rules are removed together with their configuration.
+ */
+@Entity
+@Table(name = "targeting_rules")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TargetingRule {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  @Column(columnDefinition = "uuid", updatable = false, nullable = false, name = "rule_id")
+  private UUID id;
+
+  @Column(
+      name = "feature_config_id",
+      columnDefinition = "uuid",
+      nullable = false,
+      updatable = false)
+  private UUID featureConfigId;
+
+  @Column(nullable = false)
+  private Integer priority;
+
+  @Column(nullable = false)
+  private Boolean enabled;
+
+  @ElementCollection
+  @CollectionTable(name = "targeting_clauses", joinColumns = @JoinColumn(name = "rule_id"))
+  @OrderColumn(name = "clause_order")
+  @Builder.Default
+  private List<TargetingClause> clauses = new ArrayList<>();
+}
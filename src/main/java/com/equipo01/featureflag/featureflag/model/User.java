@@ -17,6 +17,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.Columns;
+import org.hibernate.annotations.Generated;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -36,6 +37,8 @@ import org.springframework.security.core.userdetails.UserDetails;
  *
  * <p>Attributes id: Unique user identifier. username: Username for login. password: Password
  * (hashed). roles: Assigned roles (USER, ADMIN, GUEST). active: Active/inactive user.
+ * clientOrdinal: Dense integer identifying the user as a member of segments. projectId: Project
+ * the user is bound to.
  */
 @NoArgsConstructor
 @AllArgsConstructor
@@ -66,6 +69,15 @@ public class User implements UserDetails {
   @Column(nullable = false)
   private Boolean active;
 
+  /** Dense integer identifying the user in segment bitmaps, assigned by the database. */
+  @Generated
+  @Column(name = "client_ordinal", insertable = false, updatable = false)
+  private Integer clientOrdinal;
+
+  /** Project the user is bound to, or null for a user working across projects. */
+  @Column(name = "project_id")
+  private Short projectId;
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     return List.of(new SimpleGrantedAuthority(role.name()));
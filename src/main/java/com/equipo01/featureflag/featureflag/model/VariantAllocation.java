@@ -0,0 +1,70 @@
+package com.equipo01.featureflag.featureflag.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Share of the clients of a feature configuration served a variant of the feature, out of {@value
+ * com.equipo01.featureflag.featureflag.util.targeting.VariantTable#BUCKETS}.
+ *
+ * <p>Allocations are replaced as a whole and never updated, so they report themselves as new and
+ * are persisted without the lookup a merge would issue first. They are removed together with their
+ * configuration or variant.
+ */
+@Entity
+@Table(name = "variant_allocations")
+@IdClass(VariantAllocation.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class VariantAllocation implements Persistable<VariantAllocation.Key> {
+
+  @Id
+  @Column(
+      name = "feature_config_id",
+      columnDefinition = "uuid",
+      nullable = false,
+      updatable = false)
+  private UUID featureConfigId;
+
+  @Id
+  @Column(name = "variant_id", columnDefinition = "uuid", nullable = false, updatable = false)
+  private UUID variantId;
+
+  @Column(nullable = false, updatable = false)
+  private Integer weight;
+
+  @Override
+  public Key getId() {
+    return new Key(featureConfigId, variantId);
+  }
+
+  @Override
+  public boolean isNew() {
+    return true;
+  }
+
+  /** Composite primary key of an allocation. */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private UUID featureConfigId;
+    private UUID variantId;
+  }
+}
@@ -0,0 +1,18 @@
+package com.equipo01.featureflag.featureflag.model.enums;
+
+/**
+ * Operator of a targeting clause, applied to one attribute of the evaluation context.
+ *
+ * <p>IN: the attribute equals one of the values. STARTS_WITH: the attribute starts with one of the
+ * values. SEMVER_GTE: the attribute is a semantic version greater than or equal to one of the
+ * values. MATCHES: the attribute matches one of the values as a regular expression, in full.
+ * IN_SEGMENT: the attribute is the identifier of a user belonging to one of the segments whose
+ * identifiers are the values.
+ */
+public enum ClauseOperator {
+  IN,
+  STARTS_WITH,
+  SEMVER_GTE,
+  MATCHES,
+  IN_SEGMENT
+}
@@ -1,14 +1,167 @@
 package com.equipo01.featureflag.featureflag.model.enums;
 
-/*
- * Represents the different environments where a feature may be active.
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An environment in which a feature may be active, such as DEV, STAGING or PROD.
  *
- * DEV: Development environment, where testing is performed and new features are implemented.
- * STAGING: Pre-production environment, where final testing is performed before production.
- * PROD: Production environment, where the feature is available to end users.
+ * <p>Environments are rows of the {@code environments} table, identified by a small integer. Each
+ * one is interned once, when the {@link
+ * com.equipo01.featureflag.featureflag.service.impl.EnvironmentRegistry} loads it, so environments
+ * are compared by reference like the enum constants they replace, and per-environment data is
+ * indexed by {@link #id()} rather than looked up by name. The three environments every installation
+ * starts with are available as constants.
  */
-public enum Environment {
-  DEV,
-  STAGING,
-  PROD
+public final class Environment implements Comparable<Environment>, Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  private static final ConcurrentMap<String, Environment> BY_NAME = new ConcurrentHashMap<>();
+  private static volatile Environment[] byId = new Environment[0];
+
+  /** Development environment, where testing is performed and new features are implemented. */
+  public static final Environment DEV = intern(1, "DEV");
+
+  /** Pre-production environment, where final testing is performed before production. */
+  public static final Environment STAGING = intern(2, "STAGING");
+
+  /** Production environment, where the feature is available to end users. */
+  public static final Environment PROD = intern(3, "PROD");
+
+  private final int id;
+  private final String name;
+
+  private Environment(int id, String name) {
+    this.id = id;
+    this.name = name;
+  }
+
+  /**
+   * Returns the interned environment with the given identifier and name, interning it if it is not
+   * known yet.
+   *
+   * @param id the identifier of the environment
+   * @param name the name of the environment
+   * @return the interned environment
+   * @throws IllegalArgumentException if the identifier is not positive
+   * @throws IllegalStateException if the identifier or the name is already interned with another
+   *     name or identifier
+   */
+  public static synchronized Environment intern(int id, String name) {
+    if (id <= 0) {
+      throw new IllegalArgumentException("Environment identifiers must be positive: " + id);
+    }
+    Objects.requireNonNull(name, "name");
+    Environment known = find(id);
+    if (known != null) {
+      if (!known.name.equals(name)) {
+        throw new IllegalStateException(
+            "Environment " + id + " is interned as " + known.name + ", not " + name);
+      }
+      return known;
+    }
+    if (BY_NAME.containsKey(name)) {
+      throw new IllegalStateException(
+          "Environment " + name + " is interned with identifier " + BY_NAME.get(name).id);
+    }
+    Environment environment = new Environment(id, name);
+    Environment[] table = byId.length > id ? byId.clone() : Arrays.copyOf(byId, id + 1);
+    table[id] = environment;
+    // Published by name last, so a name always resolves to an identifier already in the table
+    byId = table;
+    BY_NAME.put(name, environment);
+    return environment;
+  }
+
+  /**
+   * Returns the environment with the given name.
+   *
+   * @param name the name of the environment
+   * @return the environment
+   * @throws IllegalArgumentException if no environment has that name
+   */
+  @JsonCreator
+  public static Environment valueOf(String name) {
+    Environment environment = BY_NAME.get(Objects.requireNonNull(name, "name"));
+    if (environment == null) {
+      throw new IllegalArgumentException("No environment named " + name);
+    }
+    return environment;
+  }
+
+  /**
+   * Returns the environment with the given identifier.
+   *
+   * @param id the identifier of the environment
+   * @return the environment
+   * @throws IllegalArgumentException if no environment has that identifier
+   */
+  public static Environment of(int id) {
+    Environment environment = find(id);
+    if (environment == null) {
+      throw new IllegalArgumentException("No environment with identifier " + id);
+    }
+    return environment;
+  }
+
+  /**
+   * Returns the environment with the given identifier, if it is interned.
+   *
+   * @param id the identifier of the environment
+   * @return the environment, or null if no interned environment has that identifier
+   */
+  public static Environment find(int id) {
+    Environment[] table = byId;
+    return id > 0 && id < table.length ? table[id] : null;
+  }
+
+  /**
+   * Returns every interned environment.
+   *
+   * @return the environments, by ascending identifier
+   */
+  public static Environment[] values() {
+    return Arrays.stream(byId).filter(Objects::nonNull).toArray(Environment[]::new);
+  }
+
+  /**
+   * Returns the identifier of the environment, a small positive integer suitable as an array index.
+   *
+   * @return the identifier of the environment
+   */
+  public int id() {
+    return id;
+  }
+
+  /**
+   * Returns the name of the environment.
+   *
+   * @return the name of the environment
+   */
+  @JsonValue
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public int compareTo(Environment other) {
+    return Integer.compare(id, other.id);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  @Serial
+  private Object readResolve() {
+    return intern(id, name);
+  }
 }
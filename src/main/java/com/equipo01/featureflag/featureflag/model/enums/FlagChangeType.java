@@ -0,0 +1,17 @@
+package com.equipo01.featureflag.featureflag.model.enums;
+
+/**
+ * Kind of change recorded in the flag change outbox.
+ *
+ * <p>FEATURE_CREATED / FEATURE_DELETED: a feature was created or deleted, together with all its
+ * configurations. CONFIG_UPSERTED: a configuration was created or had its enabled state replaced.
+ * CONFIG_TOGGLED: a configuration was enabled or disabled. CONFIG_DELETED: a configuration was
+ * deleted.
+ */
+public enum FlagChangeType {
+  FEATURE_CREATED,
+  FEATURE_DELETED,
+  CONFIG_UPSERTED,
+  CONFIG_TOGGLED,
+  CONFIG_DELETED
+}
@@ -0,0 +1,13 @@
+package com.equipo01.featureflag.featureflag.model.enums;
+
+/**
+ * Lifecycle state of a scheduled configuration change.
+ *
+ * <p>PENDING: waiting for its activation instant. APPLIED: the configuration was enabled or
+ * disabled as scheduled. CANCELLED: withdrawn before its activation instant.
+ */
+public enum ScheduledChangeStatus {
+  PENDING,
+  APPLIED,
+  CANCELLED
+}
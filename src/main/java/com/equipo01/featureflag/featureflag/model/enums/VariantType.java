@@ -0,0 +1,13 @@
+package com.equipo01.featureflag.featureflag.model.enums;
+
+/**
+ * Type of the value served by a variant of a feature.
+ *
+ * <p>STRING: a JSON string. NUMBER: a JSON number, such as a numeric limit. JSON: any JSON value,
+ * typically an object holding a piece of configuration.
+ */
+public enum VariantType {
+  STRING,
+  NUMBER,
+  JSON
+}
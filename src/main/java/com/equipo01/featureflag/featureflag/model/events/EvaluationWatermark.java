@@ -0,0 +1,19 @@
+package com.equipo01.featureflag.featureflag.model.events;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Last instant a feature was evaluated in an environment, as persisted by the {@link
+ * com.equipo01.featureflag.featureflag.service.impl.EvaluationWatermarkJob}.
+ */
+@Value
+@Builder
+public class EvaluationWatermark {
+  short projectId;
+  String featureName;
+  Environment environment;
+  Instant lastEvaluatedAt;
+}
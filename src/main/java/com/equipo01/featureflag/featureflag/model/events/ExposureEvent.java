@@ -0,0 +1,23 @@
+package com.equipo01.featureflag.featureflag.model.events;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Record that a client was served a flag value, kept for experiment analysis. Exposures are
+ * collected off the request path and written in batches by the {@link
+ * com.equipo01.featureflag.featureflag.service.impl.ExposurePipeline}.
+ */
+@Value
+@Builder
+public class ExposureEvent {
+  short projectId;
+  String featureName;
+  Environment environment;
+  String clientId;
+  boolean enabled;
+  String variant;
+  Instant exposedAt;
+}
@@ -0,0 +1,28 @@
+package com.equipo01.featureflag.featureflag.model.events;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Application event published by the outbox relay for every committed flag change, in sequence
+ * order. Listeners are invoked synchronously inside the relay transaction: if one of them fails,
+ * the whole batch is relayed again, so listeners must tolerate receiving the same change twice.
+ *
+ * <p>Listen with {@code @EventListener void on(FlagChangedEvent event)}.
+ */
+@Value
+@Builder
+public class FlagChangedEvent {
+  long sequence;
+  FlagChangeType type;
+  UUID featureId;
+  UUID featureConfigId;
+  Environment environment;
+  String clientId;
+  Boolean enabled;
+  Instant occurredAt;
+}
@@ -0,0 +1,20 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.EnvironmentDefinition;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for stored environment definitions.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface EnvironmentRepository extends JpaRepository<EnvironmentDefinition, Short> {
+
+  boolean existsByName(String name);
+
+  List<EnvironmentDefinition> findAllByOrderByIdAsc();
+}
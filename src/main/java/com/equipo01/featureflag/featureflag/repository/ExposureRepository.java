@@ -0,0 +1,65 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.events.ExposureEvent;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Append-only store of exposures.
+ *
+ * <p>Exposures are never read back by the application and are written far more often than any other
+ * row, so they are inserted with plain JDBC batches rather than through the persistence context,
+ * which would track every inserted row until the transaction ends.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExposureRepository {
+
+  private static final String INSERT_EXPOSURE =
+      "INSERT INTO exposures"
+          + " (project_id, feature_name, environment, client_id, enabled, variant, exposed_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Inserts exposures in a single JDBC batch.
+   *
+   * @param exposures the exposures to insert
+   */
+  public void insertAll(List<ExposureEvent> exposures) {
+    jdbcTemplate.batchUpdate(
+        INSERT_EXPOSURE,
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement statement, int i) throws SQLException {
+            ExposureEvent exposure = exposures.get(i);
+            statement.setShort(1, exposure.getProjectId());
+            statement.setString(2, exposure.getFeatureName());
+            statement.setShort(3, (short) exposure.getEnvironment().id());
+            statement.setString(4, exposure.getClientId());
+            statement.setBoolean(5, exposure.isEnabled());
+            if (exposure.getVariant() == null) {
+              statement.setNull(6, Types.VARCHAR);
+            } else {
+              statement.setString(6, exposure.getVariant());
+            }
+            statement.setObject(
+                7, OffsetDateTime.ofInstant(exposure.getExposedAt(), ZoneOffset.UTC));
+          }
+
+          @Override
+          public int getBatchSize() {
+            return exposures.size();
+          }
+        });
+  }
+}
@@ -0,0 +1,79 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for set-based writes on feature configurations.
+ *
+ * <p>Updates are issued as bulk statements straight to the database: no entity is loaded into the
+ * persistence context, so the cost of a write does not depend on the size of the feature aggregate.
+ */
+public interface FeatureConfigBulkRepository {
+
+  /**
+   * Sets the enabled state of every configuration of a project matching all the given filters and
+   * not already in that state with a single {@code UPDATE} statement, incrementing their version.
+   * Configurations already in that state keep their version, so the ETags clients hold for them
+   * stay valid. A null or empty collection does not filter on its column.
+   *
+   * @param projectId the project of the owning features
+   * @param featureIds the owning feature identifiers to match
+   * @param environments the environments to match
+   * @param clientIds the client identifiers to match
+   * @param enabled the enabled state to apply
+   * @return the number of updated rows, whose state changed
+   */
+  int updateEnabled(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled);
+
+  /**
+   * Records a flag change outbox entry for every configuration of a project matching all the given
+   * filters and not already in the given state, with a single {@code INSERT ... SELECT} statement.
+   * The filters are applied exactly as in {@link #updateEnabled}, so calling this right before an
+   * update with the same filters records one entry per row the update actually changes.
+   *
+   * @param projectId the project of the owning features
+   * @param featureIds the owning feature identifiers to match
+   * @param environments the environments to match
+   * @param clientIds the client identifiers to match
+   * @param enabled the enabled state about to be applied, recorded in each entry
+   * @param type the kind of change to record
+   * @return the number of recorded entries
+   */
+  int insertChangeEvents(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled,
+      FlagChangeType type);
+
+  /**
+   * Records a {@link FlagChangeType#CONFIG_TOGGLED} change history entry for every configuration of
+   * a project matching all the given filters and not already in the given state, with a single
+   * {@code INSERT ... SELECT} statement. The current enabled state is recorded as the state before
+   * the change, so this is called right before {@link #updateEnabled} with the same filters.
+   *
+   * @param projectId the project of the owning features
+   * @param featureIds the owning feature identifiers to match
+   * @param environments the environments to match
+   * @param clientIds the client identifiers to match
+   * @param enabled the enabled state about to be applied
+   * @param actor the name of who makes the change
+   * @return the number of recorded entries
+   */
+  int insertToggleHistory(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled,
+      String actor);
+}
@@ -0,0 +1,181 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.FlagChangeEvent;
+import com.equipo01.featureflag.featureflag.model.FlagChangeHistory;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+
+/**
+ * Criteria API implementation of {@link FeatureConfigBulkRepository}.
+ *
+ * <p>Builds a {@link CriteriaUpdate} whose {@code WHERE} clause only contains the filters that were
+ * actually provided, and filters on the {@code feature_id} foreign key column so that no join with
+ * {@code features} is needed. The project is matched with a subquery on the features of the project
+ * that are not deleted. Outbox and change history entries for the same rows are written with
+ * Hibernate {@link JpaCriteriaInsertSelect} statements sharing the same predicates, restricted to
+ * the rows whose state actually changes.
+ */
+public class FeatureConfigBulkRepositoryImpl implements FeatureConfigBulkRepository {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public int updateEnabled(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaUpdate<FeatureConfig> update = cb.createCriteriaUpdate(FeatureConfig.class);
+    Root<FeatureConfig> root = update.from(FeatureConfig.class);
+    update.set(root.<Boolean>get("enabled"), enabled);
+    // Bulk statements bypass Hibernate versioning, so the version is bumped explicitly to
+    // invalidate the ETags clients hold for the updated configurations.
+    update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+    update.where(
+        cb.and(matching(cb, update, root, projectId, featureIds, environments, clientIds)),
+        cb.notEqual(root.get("enabled"), enabled));
+
+    return entityManager.createQuery(update).executeUpdate();
+  }
+
+  @Override
+  public int insertChangeEvents(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled,
+      FlagChangeType type) {
+    Session session = entityManager.unwrap(Session.class);
+    HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+    JpaCriteriaQuery<Tuple> select = cb.createTupleQuery();
+    JpaRoot<FeatureConfig> root = select.from(FeatureConfig.class);
+    select.multiselect(
+        cb.literal(type),
+        root.get("feature").get("id"),
+        root.get("id"),
+        root.get("environment"),
+        root.get("clientId"),
+        cb.literal(enabled),
+        cb.literal(Instant.now()));
+    select.where(
+        cb.and(matching(cb, select, root, projectId, featureIds, environments, clientIds)),
+        cb.notEqual(root.get("enabled"), enabled));
+
+    JpaCriteriaInsertSelect<FlagChangeEvent> insert =
+        cb.createCriteriaInsertSelect(FlagChangeEvent.class);
+    JpaRoot<FlagChangeEvent> target = insert.getTarget();
+    insert.setInsertionTargetPaths(
+        target.get("type"),
+        target.get("featureId"),
+        target.get("featureConfigId"),
+        target.get("environment"),
+        target.get("clientId"),
+        target.get("enabled"),
+        target.get("createdAt"));
+    insert.select(select);
+
+    return session.createMutationQuery(insert).executeUpdate();
+  }
+
+  @Override
+  public int insertToggleHistory(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled,
+      String actor) {
+    Session session = entityManager.unwrap(Session.class);
+    HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+    JpaCriteriaQuery<Tuple> select = cb.createTupleQuery();
+    JpaRoot<FeatureConfig> root = select.from(FeatureConfig.class);
+    select.multiselect(
+        cb.literal(FlagChangeType.CONFIG_TOGGLED),
+        cb.literal(actor),
+        root.get("feature").get("id"),
+        root.get("id"),
+        root.get("environment"),
+        root.get("clientId"),
+        root.get("enabled"),
+        cb.literal(enabled),
+        cb.literal(Instant.now()));
+    select.where(
+        cb.and(matching(cb, select, root, projectId, featureIds, environments, clientIds)),
+        cb.notEqual(root.get("enabled"), enabled));
+
+    JpaCriteriaInsertSelect<FlagChangeHistory> insert =
+        cb.createCriteriaInsertSelect(FlagChangeHistory.class);
+    JpaRoot<FlagChangeHistory> target = insert.getTarget();
+    insert.setInsertionTargetPaths(
+        target.get("type"),
+        target.get("actor"),
+        target.get("featureId"),
+        target.get("featureConfigId"),
+        target.get("environment"),
+        target.get("clientId"),
+        target.get("enabledBefore"),
+        target.get("enabledAfter"),
+        target.get("changedAt"));
+    insert.select(select);
+
+    return session.createMutationQuery(insert).executeUpdate();
+  }
+
+  /**
+   * Builds the predicates selecting the configurations of a project that match all the provided
+   * filters, leaving out those of deleted features. A null or empty collection does not filter on
+   * its column.
+   */
+  private static Predicate[] matching(
+      CriteriaBuilder cb,
+      CommonAbstractCriteria query,
+      Root<FeatureConfig> root,
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds) {
+    List<Predicate> predicates = new ArrayList<>();
+    Subquery<UUID> projectFeatures = query.subquery(UUID.class);
+    Root<Feature> feature = projectFeatures.from(Feature.class);
+    projectFeatures
+        .select(feature.get("id"))
+        .where(cb.equal(feature.get("projectId"), projectId), cb.isNull(feature.get("deletedAt")));
+    predicates.add(root.get("feature").get("id").in(projectFeatures));
+    if (featureIds != null && !featureIds.isEmpty()) {
+      predicates.add(root.get("feature").get("id").in(featureIds));
+    }
+    if (environments != null && !environments.isEmpty()) {
+      predicates.add(root.get("environment").in(environments));
+    }
+    if (clientIds != null && !clientIds.isEmpty()) {
+      predicates.add(root.get("clientId").in(clientIds));
+    }
+    return predicates.toArray(Predicate[]::new);
+  }
+}
@@ -1,8 +1,16 @@
 package com.equipo01.featureflag.featureflag.repository;
 
+import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
 import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -13,4 +21,114 @@ import org.springframework.stereotype.Repository;
  * repository.
  */
 @Repository
-public interface FeatureConfigRepository extends JpaRepository<FeatureConfig, UUID> {}
+public interface FeatureConfigRepository
+    extends JpaRepository<FeatureConfig, UUID>,
+        FeatureConfigBulkRepository,
+        FeatureConfigUpsertRepository {
+
+  /**
+   * JPQL condition restricting the configurations {@code fc} to those of the features of project
+   * {@code :projectId} that are not deleted.
+   */
+  String IN_PROJECT =
+      "fc.feature.id IN (SELECT f.id FROM Feature f"
+          + " WHERE f.projectId = :projectId AND f.deletedAt IS NULL)";
+
+  /**
+   * Retrieves a feature configuration of a project projected directly into a {@link
+   * FeatureConfigResponseDto}. The owning feature id is read from the foreign key column, so no
+   * feature proxy is created.
+   *
+   * @param id the UUID of the feature configuration
+   * @param projectId the project of the owning feature
+   * @return the projected configuration, or empty if the project has no such configuration
+   */
+  @Query(
+      "SELECT new com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto("
+          + "fc.id, fc.environment, fc.clientId, fc.enabled, fc.feature.id, fc.version) "
+          + "FROM FeatureConfig fc WHERE fc.id = :id AND "
+          + IN_PROJECT)
+  Optional<FeatureConfigResponseDto> findDtoById(
+      @Param("id") UUID id, @Param("projectId") short projectId);
+
+  /**
+   * Retrieves all feature configurations of a project projected directly into {@link
+   * FeatureConfigResponseDto}.
+   *
+   * @param projectId the project of the owning features
+   * @return the list of projected configurations
+   */
+  @Query(
+      "SELECT new com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto("
+          + "fc.id, fc.environment, fc.clientId, fc.enabled, fc.feature.id, fc.version) "
+          + "FROM FeatureConfig fc WHERE "
+          + IN_PROJECT)
+  List<FeatureConfigResponseDto> findAllDtos(@Param("projectId") short projectId);
+
+  /**
+   * Retrieves a feature configuration of a project.
+   *
+   * @param id the UUID of the feature configuration
+   * @param projectId the project of the owning feature
+   * @return the configuration, or empty if the project has no such configuration
+   */
+  @Query("SELECT fc FROM FeatureConfig fc WHERE fc.id = :id AND " + IN_PROJECT)
+  Optional<FeatureConfig> findByIdInProject(
+      @Param("id") UUID id, @Param("projectId") short projectId);
+
+  /**
+   * Retrieves a feature configuration whatever the project of its feature, unless the feature is
+   * deleted.
+   *
+   * @param id the UUID of the feature configuration
+   * @return the configuration, or empty if not found or if its feature is deleted
+   */
+  @Query(
+      "SELECT fc FROM FeatureConfig fc WHERE fc.id = :id"
+          + " AND fc.feature.id IN (SELECT f.id FROM Feature f WHERE f.deletedAt IS NULL)")
+  Optional<FeatureConfig> findByIdOfLiveFeature(@Param("id") UUID id);
+
+  /**
+   * Checks whether a feature configuration exists in a project.
+   *
+   * @param id the UUID of the feature configuration
+   * @param projectId the project of the owning feature
+   * @return true if the project has the configuration
+   */
+  @Query("SELECT COUNT(fc) > 0 FROM FeatureConfig fc WHERE fc.id = :id AND " + IN_PROJECT)
+  boolean existsByIdInProject(@Param("id") UUID id, @Param("projectId") short projectId);
+
+  /**
+   * Retrieves the enabled state of the configuration of a feature for an environment and client,
+   * read from the lookup index without loading the configuration. A null client id matches the
+   * environment default, in the same way as the unique constraint the upsert relies on.
+   *
+   * @param featureId the UUID of the owning feature
+   * @param environment the environment of the configuration
+   * @param clientId the client of the configuration
+   * @return the enabled state, or empty if there is no such configuration
+   */
+  @Query(
+      "SELECT fc.enabled FROM FeatureConfig fc WHERE fc.feature.id = :featureId"
+          + " AND fc.environment = :environment"
+          + " AND (fc.clientId = :clientId OR (fc.clientId IS NULL AND :clientId IS NULL))")
+  Optional<Boolean> findEnabled(
+      @Param("featureId") UUID featureId,
+      @Param("environment") Environment environment,
+      @Param("clientId") String clientId);
+
+  /**
+   * Retrieves a feature configuration, locking it with {@link
+   * LockModeType#PESSIMISTIC_FORCE_INCREMENT}. The configuration version is incremented right away
+   * even when only its targeting rules or variant allocation change, so the version identifies them
+   * as well, and concurrent replacements for the same configuration are serialized.
+   *
+   * @param id the UUID of the configuration
+   * @param projectId the project of the owning feature
+   * @return the configuration, or empty if the project has no such configuration
+   */
+  @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+  @Query("SELECT fc FROM FeatureConfig fc WHERE fc.id = :id AND " + IN_PROJECT)
+  Optional<FeatureConfig> findForUpdateByIdInProject(
+      @Param("id") UUID id, @Param("projectId") short projectId);
+}
@@ -0,0 +1,23 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+
+/**
+ * Custom repository fragment for idempotent writes on feature configurations.
+ *
+ * <p>A configuration is identified by its feature, environment and client id (a null client id
+ * being the environment default), which the {@code uk_feature_configs_feature_env_client}
+ * constraint keeps unique.
+ */
+public interface FeatureConfigUpsertRepository {
+
+  /**
+   * Inserts the configuration, or updates the enabled state of the existing configuration for the
+   * same feature, environment and client id, in a single statement. Updating an existing
+   * configuration increments its version.
+   *
+   * @param config the configuration to write, with its feature set
+   * @return the same instance, with the identifier and version of the stored row
+   */
+  FeatureConfig upsert(FeatureConfig config);
+}
@@ -0,0 +1,75 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.UUID;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Native implementation of {@link FeatureConfigUpsertRepository}.
+ *
+ * <p>PostgreSQL uses {@code INSERT ... ON CONFLICT}, which is safe against concurrent inserts of
+ * the same key. Other databases (H2 in the staging profile) use the standard {@code MERGE}
+ * statement wrapped in a {@code FINAL TABLE} so that the stored row is returned as with {@code
+ * RETURNING}. Both rely on the unique constraint treating null client ids as equal ({@code NULLS
+ * NOT DISTINCT}).
+ */
+public class FeatureConfigUpsertRepositoryImpl implements FeatureConfigUpsertRepository {
+
+  private static final String POSTGRES_UPSERT =
+      "INSERT INTO feature_configs "
+          + "(feature_config_id, environment, client_id, enabled, feature_id) "
+          + "VALUES (:id, :environment, CAST(:clientId AS VARCHAR), :enabled, :featureId) "
+          + "ON CONFLICT ON CONSTRAINT uk_feature_configs_feature_env_client "
+          + "DO UPDATE SET enabled = EXCLUDED.enabled, version = feature_configs.version + 1 "
+          + "RETURNING feature_config_id, version";
+
+  private static final String MERGE_UPSERT =
+      "SELECT feature_config_id, version FROM FINAL TABLE ("
+          + "MERGE INTO feature_configs t USING (VALUES (CAST(:id AS UUID), "
+          + "CAST(:environment AS SMALLINT), CAST(:clientId AS VARCHAR), "
+          + "CAST(:enabled AS BOOLEAN), CAST(:featureId AS UUID))) "
+          + "s (feature_config_id, environment, client_id, enabled, feature_id) "
+          + "ON t.feature_id = s.feature_id AND t.environment = s.environment "
+          + "AND t.client_id IS NOT DISTINCT FROM s.client_id "
+          + "WHEN MATCHED THEN UPDATE SET enabled = s.enabled, version = t.version + 1 "
+          + "WHEN NOT MATCHED THEN INSERT "
+          + "(feature_config_id, environment, client_id, enabled, feature_id) "
+          + "VALUES (s.feature_config_id, s.environment, s.client_id, s.enabled, s.feature_id))";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public FeatureConfig upsert(FeatureConfig config) {
+    Object[] row =
+        (Object[])
+            entityManager
+                .createNativeQuery(isPostgres() ? POSTGRES_UPSERT : MERGE_UPSERT)
+                .unwrap(NativeQuery.class)
+                .addScalar("feature_config_id", StandardBasicTypes.UUID)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .setParameter("id", UUID.randomUUID())
+                .setParameter("environment", (short) config.getEnvironment().id())
+                .setParameter("clientId", config.getClientId())
+                .setParameter("enabled", config.getEnabled())
+                .setParameter("featureId", config.getFeature().getId())
+                .getSingleResult();
+
+    config.setId((UUID) row[0]);
+    config.setVersion((Long) row[1]);
+    return config;
+  }
+
+  private boolean isPostgres() {
+    return entityManager
+            .getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect()
+        instanceof PostgreSQLDialect;
+  }
+}
@@ -0,0 +1,106 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.dto.response.StaleFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.model.events.EvaluationWatermark;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Store of the last instant each feature was evaluated in each environment.
+ *
+ * <p>Watermarks are written in two JDBC batches: the first inserts the rows that do not exist yet,
+ * the second moves the existing ones forward. Neither ever moves a watermark back, so instances
+ * persisting the same feature in any order converge on the latest evaluation.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeatureEvaluationRepository {
+
+  private static final String INSERT_MISSING =
+      "INSERT INTO feature_evaluations (feature_id, environment, last_evaluated_at) "
+          + "SELECT f.feature_id, ?, ? FROM features f "
+          + "WHERE f.project_id = ? AND f.name = ? AND NOT EXISTS ("
+          + "SELECT 1 FROM feature_evaluations e "
+          + "WHERE e.feature_id = f.feature_id AND e.environment = ?)";
+
+  private static final String MOVE_FORWARD =
+      "UPDATE feature_evaluations SET last_evaluated_at = ? "
+          + "WHERE environment = ? AND last_evaluated_at < ? "
+          + "AND feature_id = "
+          + "(SELECT feature_id FROM features WHERE project_id = ? AND name = ?)";
+
+  private static final String FIND_STALE =
+      "SELECT f.feature_id, f.name, MAX(e.last_evaluated_at) AS last_evaluated_at "
+          + "FROM features f LEFT JOIN feature_evaluations e ON e.feature_id = f.feature_id "
+          + "WHERE f.project_id = ? AND f.deleted_at IS NULL GROUP BY f.feature_id, f.name "
+          + "HAVING MAX(e.last_evaluated_at) IS NULL OR MAX(e.last_evaluated_at) < ? "
+          + "ORDER BY last_evaluated_at NULLS FIRST, f.name";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Persists watermarks, keeping the stored ones that are more recent.
+   *
+   * @param watermarks the watermarks to persist
+   */
+  public void saveAll(List<EvaluationWatermark> watermarks) {
+    jdbcTemplate.batchUpdate(
+        INSERT_MISSING,
+        watermarks,
+        watermarks.size(),
+        (statement, watermark) -> {
+          short environment = (short) watermark.getEnvironment().id();
+          statement.setShort(1, environment);
+          statement.setObject(2, utc(watermark.getLastEvaluatedAt()));
+          statement.setShort(3, watermark.getProjectId());
+          statement.setString(4, watermark.getFeatureName());
+          statement.setShort(5, environment);
+        });
+    jdbcTemplate.batchUpdate(
+        MOVE_FORWARD,
+        watermarks,
+        watermarks.size(),
+        (statement, watermark) -> {
+          OffsetDateTime lastEvaluatedAt = utc(watermark.getLastEvaluatedAt());
+          statement.setObject(1, lastEvaluatedAt);
+          statement.setShort(2, (short) watermark.getEnvironment().id());
+          statement.setObject(3, lastEvaluatedAt);
+          statement.setShort(4, watermark.getProjectId());
+          statement.setString(5, watermark.getFeatureName());
+        });
+  }
+
+  /**
+   * Finds the features of a project not evaluated in any environment since an instant, including
+   * the ones never evaluated since watermarks are persisted.
+   *
+   * @param projectId the project of the features
+   * @param cutoff the instant
+   * @return the stale features, never evaluated first, then least recently evaluated first
+   */
+  public List<StaleFeatureResponseDto> findNotEvaluatedSince(short projectId, Instant cutoff) {
+    return jdbcTemplate.query(
+        FIND_STALE,
+        (row, rowNum) -> {
+          Timestamp lastEvaluatedAt = row.getTimestamp("last_evaluated_at");
+          return StaleFeatureResponseDto.builder()
+              .id(row.getObject("feature_id", UUID.class))
+              .name(row.getString("name"))
+              .lastEvaluatedAt(lastEvaluatedAt == null ? null : lastEvaluatedAt.toInstant())
+              .build();
+        },
+        projectId,
+        utc(cutoff));
+  }
+
+  private static OffsetDateTime utc(Instant instant) {
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+}
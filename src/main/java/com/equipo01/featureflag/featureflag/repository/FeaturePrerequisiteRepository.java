@@ -0,0 +1,76 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.FeaturePrerequisite;
+import com.equipo01.featureflag.featureflag.repository.projections.PrerequisiteEdgeView;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the prerequisite relationships between features and the version of the graph they
+ * form.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface FeaturePrerequisiteRepository
+    extends JpaRepository<FeaturePrerequisite, FeaturePrerequisite.Key> {
+
+  /**
+   * Retrieves the prerequisites of a feature.
+   *
+   * @param featureId the dependent feature
+   * @return the prerequisite relationships of the feature
+   */
+  List<FeaturePrerequisite> findByFeatureId(UUID featureId);
+
+  /**
+   * Retrieves every relationship between features of a project that are not deleted, with their
+   * names. Deleted features are left out by the restriction declared on {@code Feature}.
+   * Prerequisites are always features of the same project, so the graphs of projects are disjoint.
+   *
+   * @param projectId the project of the features
+   * @return the edges of the prerequisite graph of the project
+   */
+  @Query(
+      "SELECT fp.featureId AS featureId, f.name AS featureName, "
+          + "fp.prerequisiteId AS prerequisiteId, p.name AS prerequisiteName "
+          + "FROM FeaturePrerequisite fp, Feature f, Feature p "
+          + "WHERE f.id = fp.featureId AND p.id = fp.prerequisiteId AND f.projectId = :projectId")
+  List<PrerequisiteEdgeView> findActiveEdges(@Param("projectId") short projectId);
+
+  /**
+   * Deletes every prerequisite of a feature in a single statement.
+   *
+   * @param featureId the dependent feature
+   * @return the number of deleted relationships
+   */
+  @Modifying
+  @Query("DELETE FROM FeaturePrerequisite fp WHERE fp.featureId = :featureId")
+  int deleteByFeatureId(@Param("featureId") UUID featureId);
+
+  /**
+   * Reads the current version of the prerequisite graph.
+   *
+   * @return the graph version
+   */
+  @Query(value = "SELECT version FROM prerequisite_graph_version WHERE id = 1", nativeQuery = true)
+  long findGraphVersion();
+
+  /**
+   * Increments the version of the prerequisite graph. The row stays locked until the end of the
+   * transaction, so concurrent graph changes are applied one after the other.
+   *
+   * @return the number of updated rows
+   */
+  @Modifying
+  @Query(
+      value = "UPDATE prerequisite_graph_version SET version = version + 1 WHERE id = 1",
+      nativeQuery = true)
+  int incrementGraphVersion();
+}
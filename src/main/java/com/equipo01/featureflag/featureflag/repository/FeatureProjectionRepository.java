@@ -0,0 +1,26 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.model.Feature;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom repository fragment for read-only feature queries that select directly into response DTOs.
+ *
+ * <p>Projections bypass the persistence context entirely: no managed entities, no dirty-checking
+ * snapshots and no lazy proxies are created, which makes them the preferred path for list and
+ * lookup endpoints that never modify the loaded data.
+ */
+public interface FeatureProjectionRepository {
+
+  /**
+   * Retrieves a page of features matching the given specification as {@link FeatureResponseDto}.
+   *
+   * @param spec the filter to apply, the same one used for entity queries
+   * @param pageable the pagination information
+   * @return a page of projected feature DTOs
+   */
+  Page<FeatureResponseDto> findDtoPage(Specification<Feature> spec, Pageable pageable);
+}
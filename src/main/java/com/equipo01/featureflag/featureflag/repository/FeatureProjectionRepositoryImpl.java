@@ -0,0 +1,72 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.model.Feature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Criteria API implementation of {@link FeatureProjectionRepository}.
+ *
+ * <p>Builds a constructor expression over the {@code Feature} root so that the JDBC result set is
+ * turned straight into {@link FeatureResponseDto} instances. The specification is applied to both
+ * the content and the count query, keeping filtering behavior identical to {@code
+ * findAll(Specification, Pageable)}.
+ */
+public class FeatureProjectionRepositoryImpl implements FeatureProjectionRepository {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Page<FeatureResponseDto> findDtoPage(Specification<Feature> spec, Pageable pageable) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+    CriteriaQuery<FeatureResponseDto> query = cb.createQuery(FeatureResponseDto.class);
+    Root<Feature> root = query.from(Feature.class);
+    query.select(
+        cb.construct(
+            FeatureResponseDto.class,
+            root.get("id"),
+            root.get("name"),
+            root.get("description"),
+            root.get("enabledByDefault"),
+            root.get("version")));
+    query.where(spec.toPredicate(root, query, cb));
+    if (pageable.getSort().isSorted()) {
+      query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+    }
+
+    var typedQuery = entityManager.createQuery(query);
+    if (pageable.isPaged()) {
+      typedQuery.setFirstResult((int) pageable.getOffset());
+      typedQuery.setMaxResults(pageable.getPageSize());
+    }
+    List<FeatureResponseDto> content = typedQuery.getResultList();
+
+    return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+  }
+
+  /**
+   * Counts the features matching the given specification.
+   *
+   * @param spec the filter to apply
+   * @return the number of matching features
+   */
+  private long count(Specification<Feature> spec) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+    Root<Feature> root = countQuery.from(Feature.class);
+    countQuery.select(cb.count(root));
+    countQuery.where(spec.toPredicate(root, countQuery, cb));
+    return entityManager.createQuery(countQuery).getSingleResult();
+  }
+}
@@ -0,0 +1,41 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for purging deleted features.
+ *
+ * <p>Deleted features are hidden from entity queries, so these operations are issued as native
+ * statements. Configurations are removed in bounded chunks, each one a single set-based {@code
+ * DELETE}, so that purging a feature with many client overrides never holds locks on all its rows
+ * at once.
+ */
+public interface FeaturePurgeRepository {
+
+  /**
+   * Retrieves the identifiers of deleted features that are waiting to be purged, oldest deletion
+   * first.
+   *
+   * @param limit the maximum number of identifiers to retrieve
+   * @return the identifiers of the deleted features
+   */
+  List<UUID> findIdsPendingPurge(int limit);
+
+  /**
+   * Deletes up to {@code chunkSize} configurations of a feature with a single statement.
+   *
+   * @param featureId the identifier of the deleted feature
+   * @param chunkSize the maximum number of configurations to delete
+   * @return the number of deleted configurations
+   */
+  int deleteConfigsChunk(UUID featureId, int chunkSize);
+
+  /**
+   * Removes a deleted feature row. Live features are never removed by this method.
+   *
+   * @param featureId the identifier of the deleted feature
+   * @return the number of removed rows, 0 or 1
+   */
+  int deletePurgedFeature(UUID featureId);
+}
@@ -0,0 +1,59 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Native implementation of {@link FeaturePurgeRepository}.
+ *
+ * <p>PostgreSQL has no {@code DELETE ... LIMIT}, so a chunk is selected by primary key in a
+ * subquery, which both PostgreSQL and H2 run as an index range scan on {@code
+ * idx_feature_configs_lookup} followed by primary key deletes.
+ */
+public class FeaturePurgeRepositoryImpl implements FeaturePurgeRepository {
+
+  private static final String FIND_PENDING =
+      "SELECT feature_id FROM features WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit";
+
+  private static final String DELETE_CONFIGS_CHUNK =
+      "DELETE FROM feature_configs WHERE feature_config_id IN ("
+          + "SELECT feature_config_id FROM feature_configs WHERE feature_id = :featureId "
+          + "LIMIT :chunkSize)";
+
+  private static final String DELETE_FEATURE =
+      "DELETE FROM features WHERE feature_id = :featureId AND deleted_at IS NOT NULL";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<UUID> findIdsPendingPurge(int limit) {
+    return entityManager
+        .createNativeQuery(FIND_PENDING)
+        .unwrap(NativeQuery.class)
+        .addScalar("feature_id", StandardBasicTypes.UUID)
+        .setParameter("limit", limit)
+        .getResultList();
+  }
+
+  @Override
+  public int deleteConfigsChunk(UUID featureId, int chunkSize) {
+    return entityManager
+        .createNativeQuery(DELETE_CONFIGS_CHUNK)
+        .setParameter("featureId", featureId)
+        .setParameter("chunkSize", chunkSize)
+        .executeUpdate();
+  }
+
+  @Override
+  public int deletePurgedFeature(UUID featureId) {
+    return entityManager
+        .createNativeQuery(DELETE_FEATURE)
+        .setParameter("featureId", featureId)
+        .executeUpdate();
+  }
+}
@@ -1,24 +1,181 @@
 package com.equipo01.featureflag.featureflag.repository;
 
+import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
 import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.projections.EvaluationConfigView;
+import com.equipo01.featureflag.featureflag.repository.projections.FeatureStateView;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repository for managing features in the database. Extends JpaRepository to provide CRUD methods
- * and custom queries. Features are uniquely identified by a UUID.
+ * and custom queries. Features are uniquely identified by a UUID, and by their name within their
+ * project: every lookup by name, and every read serving a project, is scoped by project.
  *
  * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
  * repository.
  */
 @Repository
 public interface FeatureRepository
-    extends JpaRepository<Feature, UUID>, JpaSpecificationExecutor<Feature> {
+    extends JpaRepository<Feature, UUID>,
+        JpaSpecificationExecutor<Feature>,
+        FeatureProjectionRepository,
+        FeaturePurgeRepository {
 
-  boolean existsByName(String name);
+  /**
+   * Checks whether a feature with the given name exists in a project, including deleted features
+   * that have not been purged yet: they still hold their name in the unique constraint.
+   *
+   * @param projectId the project of the feature
+   * @param name the name of the feature
+   * @return true if the name is taken
+   */
+  @Query(
+      value = "SELECT COUNT(*) > 0 FROM features WHERE project_id = :projectId AND name = :name",
+      nativeQuery = true)
+  boolean existsByName(@Param("projectId") short projectId, @Param("name") String name);
 
-  Optional<Feature> findByName(String name);
+  Optional<Feature> findByProjectIdAndName(short projectId, String name);
+
+  /**
+   * Checks whether a feature, not deleted, exists in a project.
+   *
+   * @param id the UUID of the feature
+   * @param projectId the project of the feature
+   * @return true if the project has the feature
+   */
+  boolean existsByIdAndProjectId(UUID id, short projectId);
+
+  /**
+   * Counts the features, not deleted, of a project among the given identifiers.
+   *
+   * @param projectId the project of the features
+   * @param ids the identifiers to look up
+   * @return the number of identifiers belonging to a feature of the project
+   */
+  long countByProjectIdAndIdIn(short projectId, Collection<UUID> ids);
+
+  /**
+   * Retrieves a feature of a project by its UUID projected directly into a {@link
+   * FeatureResponseDto}, without loading the entity into the persistence context.
+   *
+   * @param id the UUID of the feature
+   * @param projectId the project of the feature
+   * @return the projected feature, or empty if the project has no such feature
+   */
+  @Query(
+      "SELECT new com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto("
+          + "f.id, f.name, f.description, f.enabledByDefault, f.version) "
+          + "FROM Feature f WHERE f.id = :id AND f.projectId = :projectId")
+  Optional<FeatureResponseDto> findDtoById(
+      @Param("id") UUID id, @Param("projectId") short projectId);
+
+  /**
+   * Retrieves a feature of a project by its UUID with its configurations fetched in the same query.
+   *
+   * @param id the UUID of the feature
+   * @param projectId the project of the feature
+   * @return the feature with initialized configurations, or empty if the project has no such
+   *     feature
+   */
+  @EntityGraph(attributePaths = "configs")
+  Optional<Feature> findWithConfigsByIdAndProjectId(UUID id, short projectId);
+
+  /**
+   * Retrieves a feature by its UUID, locking it with {@link
+   * LockModeType#OPTIMISTIC_FORCE_INCREMENT}. The feature version is incremented on commit even
+   * when the caller only changes its configurations or variants, so a feature ETag read before such
+   * a change no longer matches. The feature ETag does not cover the whole aggregate: a
+   * configuration changed on its own, for example by its toggle endpoint, a bulk toggle or a
+   * scheduled change, only increments the version of that configuration.
+   *
+   * <p>Configurations are deliberately not fetched here: the lock mode would apply to them as well
+   * and force an extra version update for every configuration of the feature.
+   *
+   * @param id the UUID of the feature
+   * @return the feature, or empty if not found
+   */
+  @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+  Optional<Feature> findForUpdateById(UUID id);
+
+  /**
+   * Retrieves the environment-wide state of every feature of a project, ordered by name. A feature
+   * is enabled when its configuration for the environment without a client id is enabled.
+   *
+   * @param projectId the project of the features
+   * @param environment the environment to read the state for
+   * @return the name and enabled state of every feature of the project
+   */
+  @Query(
+      "SELECT f.name AS name, "
+          + "CASE WHEN EXISTS (SELECT 1 FROM FeatureConfig fc WHERE fc.feature = f "
+          + "AND fc.environment = :environment AND fc.clientId IS NULL AND fc.enabled = true) "
+          + "THEN true ELSE false END AS enabled "
+          + "FROM Feature f WHERE f.projectId = :projectId ORDER BY f.name")
+  List<FeatureStateView> findStatesByEnvironment(
+      @Param("projectId") short projectId, @Param("environment") Environment environment);
+
+  /**
+   * Resolves the enabled state of several features for a client in one statement. The client's own
+   * configuration takes precedence over the environment default (no client id); a feature without
+   * either is disabled. Both lookups are served by the {@code idx_feature_configs_lookup} covering
+   * index. Used to resolve a feature together with all its prerequisites.
+   *
+   * @param projectId the project of the features
+   * @param names the names of the features
+   * @param environment the environment to evaluate the features in
+   * @param clientId the client id to evaluate the features for
+   * @return the name and resolved state of each feature found, in no particular order
+   */
+  @Query(
+      "SELECT f.name AS name, COALESCE("
+          + "(SELECT fc.enabled FROM FeatureConfig fc WHERE fc.feature = f "
+          + "AND fc.environment = :environment AND fc.clientId = :clientId), "
+          + "(SELECT fc.enabled FROM FeatureConfig fc WHERE fc.feature = f "
+          + "AND fc.environment = :environment AND fc.clientId IS NULL), "
+          + "false) AS enabled "
+          + "FROM Feature f WHERE f.projectId = :projectId AND f.name IN :names")
+  List<FeatureStateView> findEnabledStates(
+      @Param("projectId") short projectId,
+      @Param("names") Collection<String> names,
+      @Param("environment") Environment environment,
+      @Param("clientId") String clientId);
+
+  /**
+   * Resolves the configuration a feature is evaluated with for a client, with the same precedence
+   * as {@link #findEnabledStates}: the client's own configuration, then the environment default.
+   * Called with a limit of one, the result tells a missing feature (no row) from a feature without
+   * a matching configuration (a row of nulls).
+   *
+   * @param projectId the project of the feature
+   * @param name the name of the feature
+   * @param environment the environment to evaluate the feature in
+   * @param clientId the client id to evaluate the feature for, or null for the environment default
+   * @param limit the maximum number of configurations to return
+   * @return the candidate configurations, most specific first
+   */
+  @Query(
+      "SELECT fc.id AS id, fc.version AS version, fc.enabled AS enabled, "
+          + "f.version AS featureVersion FROM Feature f "
+          + "LEFT JOIN f.configs fc ON fc.environment = :environment "
+          + "AND (fc.clientId = :clientId OR fc.clientId IS NULL) "
+          + "WHERE f.projectId = :projectId AND f.name = :name ORDER BY fc.clientId NULLS LAST")
+  List<EvaluationConfigView> findEvaluationConfig(
+      @Param("projectId") short projectId,
+      @Param("name") String name,
+      @Param("environment") Environment environment,
+      @Param("clientId") String clientId,
+      Limit limit);
 }
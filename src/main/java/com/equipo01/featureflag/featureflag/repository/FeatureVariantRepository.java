@@ -0,0 +1,25 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.FeatureVariant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the variants of features.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface FeatureVariantRepository extends JpaRepository<FeatureVariant, UUID> {
+
+  /**
+   * Retrieves the variants of a feature.
+   *
+   * @param featureId the feature the variants belong to
+   * @return the variants of the feature, by name
+   */
+  List<FeatureVariant> findByFeatureIdOrderByNameAsc(UUID featureId);
+}
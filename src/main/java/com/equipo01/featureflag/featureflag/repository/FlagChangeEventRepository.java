@@ -0,0 +1,29 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.FlagChangeEvent;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the flag change outbox. Entries are identified by their sequence number.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface FlagChangeEventRepository extends JpaRepository<FlagChangeEvent, Long> {
+
+  /**
+   * Retrieves the oldest pending outbox entries in sequence order, locking them until the end of
+   * the transaction so that concurrent relays never publish the same entries.
+   *
+   * @param limit the maximum number of entries to retrieve
+   * @return the oldest entries, ordered by sequence number
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<FlagChangeEvent> findByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,83 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.FlagChangeHistory;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the append-only change history. Entries are identified by their sequence number.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface FlagChangeHistoryRepository extends JpaRepository<FlagChangeHistory, Long> {
+
+  /**
+   * Retrieves the latest changes of a feature and its configurations, newest first.
+   *
+   * @param featureId the feature the changes apply to
+   * @param limit the maximum number of entries to retrieve
+   * @return the latest entries, ordered by descending sequence number
+   */
+  List<FlagChangeHistory> findByFeatureIdOrderByIdDesc(UUID featureId, Limit limit);
+
+  /**
+   * Retrieves the changes affecting an environment that follow a checkpoint and were made at or
+   * before an instant, in sequence order. Feature deletions apply to every environment and are
+   * always included.
+   *
+   * @param afterId the last sequence number included in the checkpoint
+   * @param until the instant to replay the history up to
+   * @param environment the environment being rebuilt
+   * @return the entries to replay on top of the checkpoint
+   */
+  @Query(
+      "SELECT h FROM FlagChangeHistory h WHERE h.id > :afterId AND h.changedAt <= :until"
+          + " AND (h.environment = :environment OR h.featureConfigId IS NULL) ORDER BY h.id")
+  List<FlagChangeHistory> findTail(
+      @Param("afterId") long afterId,
+      @Param("until") Instant until,
+      @Param("environment") Environment environment);
+
+  /**
+   * Retrieves the changes within a range of sequence numbers, in sequence order.
+   *
+   * @param afterId the exclusive lower bound of the range
+   * @param upToId the inclusive upper bound of the range
+   * @return the entries in the range
+   */
+  @Query(
+      "SELECT h FROM FlagChangeHistory h WHERE h.id > :afterId AND h.id <= :upToId ORDER BY h.id")
+  List<FlagChangeHistory> findRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+  /**
+   * Retrieves the sequence number of the last change made at or before an instant that follows the
+   * given one.
+   *
+   * @param afterId the sequence number to look after
+   * @param settledBefore the instant the change must have been made at or before
+   * @return the sequence number, or empty if there is no such change
+   */
+  @Query(
+      "SELECT MAX(h.id) FROM FlagChangeHistory h WHERE h.id > :afterId"
+          + " AND h.changedAt <= :settledBefore")
+  Optional<Long> findLastIdSettledBefore(
+      @Param("afterId") long afterId, @Param("settledBefore") Instant settledBefore);
+
+  /**
+   * Retrieves the sequence number of the last recorded change.
+   *
+   * @return the last sequence number, or 0 when the history is empty
+   */
+  @Query("SELECT COALESCE(MAX(h.id), 0) FROM FlagChangeHistory h")
+  long findLastId();
+}
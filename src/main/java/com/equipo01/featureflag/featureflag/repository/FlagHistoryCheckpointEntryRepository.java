@@ -0,0 +1,57 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.FlagHistoryCheckpointEntry;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the configuration states stored in change history checkpoints.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface FlagHistoryCheckpointEntryRepository
+    extends JpaRepository<FlagHistoryCheckpointEntry, FlagHistoryCheckpointEntry.Key> {
+
+  /**
+   * Retrieves every configuration state of a checkpoint.
+   *
+   * @param checkpointId the checkpoint
+   * @return the configuration states of the checkpoint
+   */
+  List<FlagHistoryCheckpointEntry> findByCheckpointId(Long checkpointId);
+
+  /**
+   * Retrieves the configuration states of a checkpoint in one environment.
+   *
+   * @param checkpointId the checkpoint
+   * @param environmentId the identifier of the environment
+   * @return the configuration states of the checkpoint in the environment
+   */
+  List<FlagHistoryCheckpointEntry> findByCheckpointIdAndEnvironmentId(
+      Long checkpointId, Short environmentId);
+
+  /**
+   * Copies the current state of every configuration of a live feature into a checkpoint with a
+   * single {@code INSERT ... SELECT} statement.
+   *
+   * @param checkpointId the checkpoint to fill
+   * @return the number of copied configurations
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO flag_history_checkpoint_entries"
+              + " (checkpoint_id, environment, feature_config_id, feature_id, client_id, enabled)"
+              + " SELECT :checkpointId, c.environment, c.feature_config_id, c.feature_id,"
+              + " c.client_id, c.enabled"
+              + " FROM feature_configs c JOIN features f ON f.feature_id = c.feature_id"
+              + " WHERE f.deleted_at IS NULL",
+      nativeQuery = true)
+  int insertCurrentState(@Param("checkpointId") long checkpointId);
+}
@@ -0,0 +1,48 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.FlagHistoryCheckpoint;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for change history checkpoints.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface FlagHistoryCheckpointRepository
+    extends JpaRepository<FlagHistoryCheckpoint, Long> {
+
+  /**
+   * Retrieves the most recent checkpoint.
+   *
+   * @return the latest checkpoint, or empty if none was taken yet
+   */
+  Optional<FlagHistoryCheckpoint> findFirstByOrderByIdDesc();
+
+  /**
+   * Retrieves the most recent checkpoint whose state is not later than an instant.
+   *
+   * @param at the instant to rebuild the state at
+   * @return the nearest checkpoint at or before {@code at}, or empty if there is none
+   */
+  Optional<FlagHistoryCheckpoint> findFirstByAsOfLessThanEqualOrderByAsOfDescIdDesc(Instant at);
+
+  /**
+   * Deletes the checkpoints taken before a cutoff, except the given one, together with their
+   * entries.
+   *
+   * @param cutoff the instant before which checkpoints are deleted
+   * @param keepId the checkpoint to keep regardless of its age
+   * @return the number of deleted checkpoints
+   */
+  @Modifying
+  @Query("DELETE FROM FlagHistoryCheckpoint c WHERE c.createdAt < :cutoff AND c.id <> :keepId")
+  int deleteCreatedBefore(@Param("cutoff") Instant cutoff, @Param("keepId") long keepId);
+}
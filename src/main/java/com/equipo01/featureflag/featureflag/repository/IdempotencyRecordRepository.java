@@ -0,0 +1,90 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.IdempotencyRecord;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for stored idempotent responses, identified by the hash of their scope and key.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+  /**
+   * Reserves a key for a request that is about to be processed. The plain {@code INSERT} fails on
+   * the primary key if the key is already reserved, so concurrent retries cannot both proceed.
+   *
+   * @param id the hash of the scope and key
+   * @param requestHash the hash of the request body
+   * @param createdAt the reservation time
+   * @param leaseExpiresAt the time until which the request is given to complete
+   * @return the number of inserted rows
+   * @throws org.springframework.dao.DataIntegrityViolationException if the key is already reserved
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO idempotency_keys (record_id, request_hash, created_at, lease_expires_at) "
+              + "VALUES (:id, :requestHash, :createdAt, :leaseExpiresAt)",
+      nativeQuery = true)
+  int reserve(
+      @Param("id") String id,
+      @Param("requestHash") String requestHash,
+      @Param("createdAt") Instant createdAt,
+      @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+  /**
+   * Deletes a key whose request has not completed within its lease. The condition is checked by the
+   * {@code DELETE} itself, so a key reserved again in the meantime is left alone.
+   *
+   * @param id the hash of the scope and key
+   * @param now the current time
+   * @return the number of deleted keys
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.statusCode IS NULL"
+          + " AND r.leaseExpiresAt <= :now")
+  int deleteAbandoned(@Param("id") String id, @Param("now") Instant now);
+
+  /**
+   * Stores the response of a reserved key.
+   *
+   * @param id the hash of the scope and key
+   * @param statusCode the response status
+   * @param contentType the response content type, if any
+   * @param responseBody the response body
+   * @return the number of updated rows
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, "
+          + "r.responseBody = :responseBody WHERE r.id = :id")
+  int complete(
+      @Param("id") String id,
+      @Param("statusCode") int statusCode,
+      @Param("contentType") String contentType,
+      @Param("responseBody") byte[] responseBody);
+
+  /**
+   * Deletes the keys first seen before the given time.
+   *
+   * @param createdAt the expiry threshold
+   * @return the number of deleted keys
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :createdAt")
+  int deleteCreatedBefore(@Param("createdAt") Instant createdAt);
+}
@@ -0,0 +1,25 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.KillSwitch;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for engaged kill switches.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface KillSwitchRepository extends JpaRepository<KillSwitch, Long> {
+
+  Optional<KillSwitch> findByFeatureId(UUID featureId);
+
+  Optional<KillSwitch> findByProjectIdAndEnvironment(short projectId, Environment environment);
+
+  List<KillSwitch> findByProjectIdOrderByEngagedAtAsc(short projectId);
+}
@@ -0,0 +1,20 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.Project;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for projects.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface ProjectRepository extends JpaRepository<Project, Short> {
+
+  boolean existsByName(String name);
+
+  List<Project> findAllByOrderByIdAsc();
+}
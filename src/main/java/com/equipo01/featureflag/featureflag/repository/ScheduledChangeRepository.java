@@ -0,0 +1,85 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.ScheduledChange;
+import com.equipo01.featureflag.featureflag.model.enums.ScheduledChangeStatus;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for changes scheduled on feature configurations.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface ScheduledChangeRepository extends JpaRepository<ScheduledChange, UUID> {
+
+  /**
+   * Retrieves every change in the given state.
+   *
+   * @param status the state of the changes to retrieve
+   * @return the matching changes
+   */
+  List<ScheduledChange> findByStatus(ScheduledChangeStatus status);
+
+  /**
+   * Retrieves every change in the given state due before the given instant, served by the {@code
+   * idx_scheduled_changes_status_apply_at} index.
+   *
+   * @param status the state of the changes to retrieve
+   * @param applyAt the instant the changes are due before
+   * @return the matching changes
+   */
+  List<ScheduledChange> findByStatusAndApplyAtBefore(ScheduledChangeStatus status, Instant applyAt);
+
+  /**
+   * Retrieves the changes of a configuration in the given state, soonest first.
+   *
+   * @param featureConfigId the configuration the changes apply to
+   * @param status the state of the changes to retrieve
+   * @return the matching changes, ordered by activation instant
+   */
+  List<ScheduledChange> findByFeatureConfigIdAndStatusOrderByApplyAtAsc(
+      UUID featureConfigId, ScheduledChangeStatus status);
+
+  /**
+   * Retrieves the changes among the given ones that are still in the given state, in activation
+   * order, locking them until the end of the transaction so that a change is applied only once even
+   * when several instances fire it.
+   *
+   * @param ids the identifiers of the changes
+   * @param status the state the changes must still be in
+   * @return the matching changes, ordered by activation instant
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<ScheduledChange> findByIdInAndStatusOrderByApplyAtAsc(
+      Collection<UUID> ids, ScheduledChangeStatus status);
+
+  /**
+   * Moves the changes of every configuration of a feature from one state to another, with a single
+   * statement.
+   *
+   * @param featureId the feature whose configurations the changes apply to
+   * @param from the state the changes must be in
+   * @param to the state to move them to
+   * @return the number of updated changes
+   */
+  @Modifying
+  @Query(
+      "UPDATE ScheduledChange sc SET sc.status = :to WHERE sc.status = :from AND"
+          + " sc.featureConfigId IN (SELECT fc.id FROM FeatureConfig fc"
+          + " WHERE fc.feature.id = :featureId)")
+  int updateStatusByFeatureId(
+      @Param("featureId") UUID featureId,
+      @Param("from") ScheduledChangeStatus from,
+      @Param("to") ScheduledChangeStatus to);
+}
@@ -0,0 +1,62 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.Segment;
+import com.equipo01.featureflag.featureflag.repository.projections.SegmentVersionView;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for client segments.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface SegmentRepository extends JpaRepository<Segment, UUID> {
+
+  boolean existsByProjectIdAndName(short projectId, String name);
+
+  boolean existsByIdAndProjectId(UUID id, short projectId);
+
+  Optional<Segment> findByIdAndProjectId(UUID id, short projectId);
+
+  List<Segment> findByProjectId(short projectId, Sort sort);
+
+  /**
+   * Counts the segments of a project among the given ones.
+   *
+   * @param projectId the project of the segments
+   * @param ids the identifiers of the segments
+   * @return the number of those segments existing in the project
+   */
+  long countByProjectIdAndIdIn(short projectId, Collection<UUID> ids);
+
+  /**
+   * Retrieves the version of every segment, without their members.
+   *
+   * @return the identifier and version of every segment
+   */
+  @Query("SELECT s.id AS id, s.version AS version FROM Segment s")
+  List<SegmentVersionView> findAllVersions();
+
+  /**
+   * Retrieves a segment, locking it until the end of the transaction so that concurrent membership
+   * updates are applied one after the other rather than overwriting each other.
+   *
+   * @param id the identifier of the segment
+   * @param projectId the project of the segment
+   * @return the segment, if it exists in the project
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM Segment s WHERE s.id = :id AND s.projectId = :projectId")
+  Optional<Segment> findForUpdateById(@Param("id") UUID id, @Param("projectId") short projectId);
+}
@@ -0,0 +1,41 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.TargetingRule;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the targeting rules of feature configurations.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface TargetingRuleRepository extends JpaRepository<TargetingRule, UUID> {
+
+  /**
+   * Retrieves the rules of a configuration together with their clauses, in evaluation order.
+   *
+   * @param featureConfigId the configuration the rules belong to
+   * @return the rules of the configuration, by ascending priority
+   */
+  @EntityGraph(attributePaths = "clauses")
+  List<TargetingRule> findByFeatureConfigIdOrderByPriorityAsc(UUID featureConfigId);
+
+  /**
+   * Deletes every rule of a configuration in a single statement; their clauses are removed by the
+   * foreign key cascade.
+   *
+   * @param featureConfigId the configuration the rules belong to
+   * @return the number of deleted rules
+   */
+  @Modifying
+  @Query("DELETE FROM TargetingRule r WHERE r.featureConfigId = :featureConfigId")
+  int deleteByFeatureConfigId(@Param("featureConfigId") UUID featureConfigId);
+}
@@ -1,9 +1,15 @@
 package com.equipo01.featureflag.featureflag.repository;
 
 import com.equipo01.featureflag.featureflag.model.User;
+import com.equipo01.featureflag.featureflag.repository.projections.ClientOrdinalView;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,8 +20,26 @@ import org.springframework.stereotype.Repository;
  * repository.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
   Optional<User> findByUsername(String username);
 
   Optional<User> findByEmail(String email);
+
+  /**
+   * Retrieves the ordinal identifying a user in segment bitmaps.
+   *
+   * @param id the identifier of the user
+   * @return the client ordinal of the user, if the user exists
+   */
+  @Query("SELECT u.clientOrdinal FROM User u WHERE u.id = :id")
+  Optional<Integer> findClientOrdinalById(@Param("id") UUID id);
+
+  /**
+   * Retrieves the ordinals identifying the given users in segment bitmaps.
+   *
+   * @param ids the identifiers of the users
+   * @return the identifier and client ordinal of every existing user among them
+   */
+  @Query("SELECT u.id AS id, u.clientOrdinal AS clientOrdinal FROM User u WHERE u.id IN :ids")
+  List<ClientOrdinalView> findClientOrdinals(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,54 @@
+package com.equipo01.featureflag.featureflag.repository;
+
+import com.equipo01.featureflag.featureflag.model.VariantAllocation;
+import com.equipo01.featureflag.featureflag.repository.projections.AllocatedVariantView;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the allocation of variants by feature configurations.
+ *
+ * <p>Annotations used: - {@link Repository} Spring annotation indicating that this interface is a
+ * repository.
+ */
+@Repository
+public interface VariantAllocationRepository
+    extends JpaRepository<VariantAllocation, VariantAllocation.Key> {
+
+  /**
+   * Retrieves the variants allocated by a configuration with their values and weights. They are
+   * ordered by name, which fixes the bucket range of each variant for a given allocation.
+   *
+   * @param featureConfigId the configuration the allocation belongs to
+   * @return the allocated variants, by name
+   */
+  @Query(
+      "SELECT v.name AS name, v.type AS type, v.value AS value, a.weight AS weight "
+          + "FROM VariantAllocation a, FeatureVariant v "
+          + "WHERE v.id = a.variantId AND a.featureConfigId = :featureConfigId ORDER BY v.name")
+  List<AllocatedVariantView> findAllocatedVariants(@Param("featureConfigId") UUID featureConfigId);
+
+  /**
+   * Checks whether any configuration allocates one of the given variants.
+   *
+   * @param variantIds the variants to look up
+   * @return true if at least one of the variants is allocated
+   */
+  boolean existsByVariantIdIn(Collection<UUID> variantIds);
+
+  /**
+   * Deletes the whole allocation of a configuration in a single statement.
+   *
+   * @param featureConfigId the configuration the allocation belongs to
+   * @return the number of deleted allocations
+   */
+  @Modifying
+  @Query("DELETE FROM VariantAllocation a WHERE a.featureConfigId = :featureConfigId")
+  int deleteByFeatureConfigId(@Param("featureConfigId") UUID featureConfigId);
+}
@@ -0,0 +1,27 @@
+package com.equipo01.featureflag.featureflag.repository.projections;
+
+import com.equipo01.featureflag.featureflag.model.enums.VariantType;
+
+/** Read-only projection of a variant allocated by a feature configuration, with its weight. */
+public interface AllocatedVariantView {
+
+  /**
+   * @return the name of the variant
+   */
+  String getName();
+
+  /**
+   * @return the type of the value of the variant
+   */
+  VariantType getType();
+
+  /**
+   * @return the value of the variant, as JSON text
+   */
+  String getValue();
+
+  /**
+   * @return the share of the clients of the configuration served the variant
+   */
+  Integer getWeight();
+}
@@ -0,0 +1,17 @@
+package com.equipo01.featureflag.featureflag.repository.projections;
+
+import java.util.UUID;
+
+/** Read-only projection of the ordinal identifying a user in segment bitmaps. */
+public interface ClientOrdinalView {
+
+  /**
+   * @return the id of the user
+   */
+  UUID getId();
+
+  /**
+   * @return the client ordinal of the user
+   */
+  Integer getClientOrdinal();
+}
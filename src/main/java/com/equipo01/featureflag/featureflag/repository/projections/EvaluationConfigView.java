@@ -0,0 +1,32 @@
+package com.equipo01.featureflag.featureflag.repository.projections;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of the configuration a feature is evaluated with.
+ *
+ * <p>Every attribute but the feature version is null when the feature has no configuration applying
+ * to the evaluation.
+ */
+public interface EvaluationConfigView {
+
+  /**
+   * @return the id of the configuration
+   */
+  UUID getId();
+
+  /**
+   * @return the version of the configuration, which identifies its targeting rules
+   */
+  Long getVersion();
+
+  /**
+   * @return whether the configuration is enabled
+   */
+  Boolean getEnabled();
+
+  /**
+   * @return the version of the feature, which identifies its variants
+   */
+  Long getFeatureVersion();
+}
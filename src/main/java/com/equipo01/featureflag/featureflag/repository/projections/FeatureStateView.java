@@ -0,0 +1,19 @@
+package com.equipo01.featureflag.featureflag.repository.projections;
+
+/**
+ * Read-only projection of a feature name and its enabled state in a given environment.
+ *
+ * <p>Used to build flag snapshots without loading Feature or FeatureConfig entities.
+ */
+public interface FeatureStateView {
+
+  /**
+   * @return the name of the feature
+   */
+  String getName();
+
+  /**
+   * @return whether the feature is enabled
+   */
+  Boolean getEnabled();
+}
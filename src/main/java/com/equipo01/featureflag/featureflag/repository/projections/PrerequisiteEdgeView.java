@@ -0,0 +1,29 @@
+package com.equipo01.featureflag.featureflag.repository.projections;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of a prerequisite relationship between two features that are not deleted.
+ */
+public interface PrerequisiteEdgeView {
+
+  /**
+   * @return the id of the dependent feature
+   */
+  UUID getFeatureId();
+
+  /**
+   * @return the name of the dependent feature
+   */
+  String getFeatureName();
+
+  /**
+   * @return the id of the prerequisite feature
+   */
+  UUID getPrerequisiteId();
+
+  /**
+   * @return the name of the prerequisite feature
+   */
+  String getPrerequisiteName();
+}
@@ -0,0 +1,17 @@
+package com.equipo01.featureflag.featureflag.repository.projections;
+
+import java.util.UUID;
+
+/** Read-only projection of the version of a segment, compared to the one held in memory. */
+public interface SegmentVersionView {
+
+  /**
+   * @return the id of the segment
+   */
+  UUID getId();
+
+  /**
+   * @return the version of the segment, incremented whenever its members change
+   */
+  Long getVersion();
+}
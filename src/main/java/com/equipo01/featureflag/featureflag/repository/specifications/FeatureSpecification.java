@@ -43,14 +43,28 @@ public class FeatureSpecification {
   }
 
   /**
-   * Combines multiple specifications to filter features based on name and enabledByDefault status.
+   * Creates a specification to keep the features of a project.
    *
+   * @param projectId the project of the features
+   * @return a Specification for filtering features
+   */
+  public Specification<Feature> inProject(short projectId) {
+    return (root, query, criteriaBuilder) ->
+        criteriaBuilder.equal(root.get("projectId"), projectId);
+  }
+
+  /**
+   * Combines multiple specifications to filter the features of a project based on name and
+   * enabledByDefault status.
+   *
+   * @param projectId the project of the features
    * @param name the name filter (can be null)
    * @param enabledByDefault the enabled by default filter (can be null)
    * @return a combined Specification for filtering features
    */
-  public Specification<Feature> getFeatures(String name, Boolean enabledByDefault) {
+  public Specification<Feature> getFeatures(
+      short projectId, String name, Boolean enabledByDefault) {
     Specification<Feature> spec = hasNameOrEnabledByDefault(name, enabledByDefault);
-    return Specification.<Feature>unrestricted().and(spec);
+    return inProject(projectId).and(spec);
   }
 }
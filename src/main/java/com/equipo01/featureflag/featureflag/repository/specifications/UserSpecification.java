@@ -0,0 +1,52 @@
+package com.equipo01.featureflag.featureflag.repository.specifications;
+
+import com.equipo01.featureflag.featureflag.model.User;
+import com.equipo01.featureflag.featureflag.model.enums.Role;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Specification class for building dynamic queries for the User entity.
+ *
+ * <p>This class provides methods to create specifications based on the role and active status of
+ * the users.
+ */
+@Component
+public class UserSpecification {
+
+  /**
+   * Creates a specification to filter users by role and active status.
+   *
+   * @param role the role filter (can be null)
+   * @param active the active status filter (can be null)
+   * @return a Specification for filtering users
+   */
+  public Specification<User> hasRoleAndActive(Role role, Boolean active) {
+    return (root, query, criteriaBuilder) -> {
+      var predicates = criteriaBuilder.conjunction();
+
+      if (active != null) {
+        predicates =
+            criteriaBuilder.and(predicates, criteriaBuilder.equal(root.get("active"), active));
+      }
+
+      if (role != null) {
+        predicates = criteriaBuilder.and(predicates, criteriaBuilder.equal(root.get("role"), role));
+      }
+
+      return predicates;
+    };
+  }
+
+  /**
+   * Combines multiple specifications to filter users based on role and active status.
+   *
+   * @param role the role filter (can be null)
+   * @param active the active status filter (can be null)
+   * @return a combined Specification for filtering users
+   */
+  public Specification<User> getUsers(Role role, Boolean active) {
+    Specification<User> spec = hasRoleAndActive(role, active);
+    return Specification.<User>unrestricted().and(spec);
+  }
+}
@@ -0,0 +1,34 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.request.EnvironmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EnvironmentResponseDto;
+import java.util.List;
+
+/**
+ * Service interface for environments: the deployment targets, such as DEV or PROD, that feature
+ * configurations apply to.
+ *
+ * <p>Environments are stored rows identified by a small integer. They can be created but never
+ * renamed or deleted, so an identifier refers to the same environment for the lifetime of the
+ * installation. An environment created on this instance is usable once its transaction commits;
+ * other instances pick it up on their next refresh, or as soon as they read a configuration of it.
+ */
+public interface EnvironmentService {
+
+  /**
+   * Retrieves every environment, by identifier.
+   *
+   * @return the environments
+   */
+  List<EnvironmentResponseDto> getEnvironments();
+
+  /**
+   * Creates an environment.
+   *
+   * @param requestDto the name and description of the environment
+   * @return the created environment
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     ENVIRONMENT_ALREADY_EXISTS details if an environment already has the name
+   */
+  EnvironmentResponseDto createEnvironment(EnvironmentRequestDto requestDto);
+}
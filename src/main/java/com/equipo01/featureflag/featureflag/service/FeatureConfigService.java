@@ -1,6 +1,8 @@
 package com.equipo01.featureflag.featureflag.service;
 
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.BulkToggleResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
 import java.util.List;
 import java.util.UUID;
@@ -25,7 +27,8 @@ import org.springframework.http.ResponseEntity;
 public interface FeatureConfigService {
 
   /**
-   * Creates a new feature configuration with the specified parameters.
+   * Creates a new feature configuration with the specified parameters, or updates the enabled state
+   * of the existing configuration for the same feature, environment and client.
    *
    * @param requestDto The configuration data including environment, client ID, enabled status, and
    *     any additional parameters for the feature
@@ -61,13 +64,42 @@ public interface FeatureConfigService {
    *
    * @param featureConfigId The unique identifier of the feature configuration to modify
    * @param enable true to enable the feature configuration, false to disable it
+   * @param expectedVersion the configuration version the change is based on, or null to skip the
+   *     check
    * @return ResponseEntity containing a list of FeatureConfigResponseDto with updated configuration
    *     states. The response includes HTTP status indicating success or failure.
    * @throws FeatureConfigNotFoundException if no configuration exists with the provided ID
    * @throws IllegalArgumentException if the featureConfigId is null or invalid
+   * @throws FeatureFlagException with VERSION_MISMATCH details if the configuration version does
+   *     not match {@code expectedVersion}
    */
   ResponseEntity<List<FeatureConfigResponseDto>> enableOrDisableFeature(
-      UUID featureConfigId, boolean enable);
+      UUID featureConfigId, boolean enable, Long expectedVersion);
+
+  /**
+   * Enables or disables a feature configuration on behalf of a scheduled change, whatever the
+   * project of its feature: the configuration was looked up in the project of the request that
+   * scheduled the change, and the change is applied outside of any request.
+   *
+   * @param featureConfigId the unique identifier of the feature configuration to modify
+   * @param enable true to enable the feature configuration, false to disable it
+   * @return true if the configuration was found and updated, false if it or its feature was deleted
+   */
+  boolean applyScheduledToggle(UUID featureConfigId, boolean enable);
+
+  /**
+   * Sets the enabled state of every configuration matched by the given criteria sets.
+   *
+   * <p>Each criteria set is applied as a single set-based update without loading any entity, and
+   * all sets are applied in one transaction. Configurations already in the requested state are left
+   * untouched, keeping their version.
+   *
+   * @param requestDto the enabled state to apply and the criteria sets selecting configurations
+   * @return the number of updated configurations for each criteria set and in total
+   * @throws FeatureFlagException with BULK_TOGGLE_CRITERIA_INVALID details if a criteria set does
+   *     not provide any filter
+   */
+  BulkToggleResponseDto bulkToggle(BulkToggleRequestDto requestDto);
 
   /**
    * Permanently deletes a feature configuration from the system.
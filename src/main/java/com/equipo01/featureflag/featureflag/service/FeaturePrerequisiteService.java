@@ -0,0 +1,39 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.request.FeaturePrerequisitesRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeaturePrerequisitesResponseDto;
+import java.util.UUID;
+
+/**
+ * Service interface for prerequisite relationships between features.
+ *
+ * <p>A feature with prerequisites is only enabled when every one of them is enabled for the same
+ * environment and client. The relationships form a directed acyclic graph: a change that would
+ * close a cycle is rejected, and every change increments the version of the graph, which is how
+ * evaluations notice that their precomputed plan is out of date.
+ */
+public interface FeaturePrerequisiteService {
+
+  /**
+   * Retrieves the direct prerequisites of a feature.
+   *
+   * @param featureId the dependent feature
+   * @return the feature and the identifiers of its prerequisites
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_NOT_FOUND details if the feature does not exist
+   */
+  FeaturePrerequisitesResponseDto getPrerequisites(UUID featureId);
+
+  /**
+   * Replaces the direct prerequisites of a feature.
+   *
+   * @param featureId the dependent feature
+   * @param requestDto the new prerequisites; an empty list removes every prerequisite
+   * @return the feature and the identifiers of its prerequisites
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_NOT_FOUND details if the feature or one of the prerequisites does not exist, or
+   *     PREREQUISITE_CYCLE details if the feature would transitively depend on itself
+   */
+  FeaturePrerequisitesResponseDto replacePrerequisites(
+      UUID featureId, FeaturePrerequisitesRequestDto requestDto);
+}
@@ -0,0 +1,33 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for purging deleted features.
+ *
+ * <p>Deleting a feature only marks it as deleted. This service physically removes its
+ * configurations in bounded chunks, each in its own short transaction, and finally the feature row
+ * itself.
+ */
+public interface FeaturePurgeService {
+
+  /**
+   * Retrieves the identifiers of deleted features waiting to be purged, oldest deletion first.
+   *
+   * @param limit the maximum number of identifiers to retrieve
+   * @return the identifiers of the deleted features
+   */
+  List<UUID> findFeaturesPendingPurge(int limit);
+
+  /**
+   * Deletes the next chunk of configurations of a deleted feature. Once no configuration is left,
+   * the feature row is removed in the same transaction.
+   *
+   * @param featureId the identifier of the deleted feature
+   * @param chunkSize the maximum number of configurations to delete
+   * @return the number of configurations deleted by this chunk; less than {@code chunkSize} once
+   *     the feature is fully purged
+   */
+  int purgeNextChunk(UUID featureId, int chunkSize);
+}
@@ -2,12 +2,17 @@ package com.equipo01.featureflag.featureflag.service;
 
 import com.equipo01.featureflag.featureflag.dto.request.FeatureRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureDetailResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureSnapshotResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.GetFeatureDetailResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.GetFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.StaleFeatureResponseDto;
 import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
 import com.equipo01.featureflag.featureflag.model.Feature;
 import com.equipo01.featureflag.featureflag.model.FeatureConfig;
 import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 
@@ -71,13 +76,50 @@ public interface FeatureService {
   GetFeatureResponseDto getFeatures(
       String name, Boolean enabledByDefault, Integer page, Integer size);
 
+  /**
+   * Retrieves a feature flag together with all of its configurations.
+   *
+   * @param featureId the ID of the feature flag as a string
+   * @return the feature flag and its configurations as a response DTO
+   */
+  FeatureDetailResponseDto getFeatureDetailsById(String featureId);
+
+  /**
+   * Retrieves a paginated list of feature flags together with their configurations, optionally
+   * filtered by name and enabled status.
+   *
+   * @param name optional name filter (partial match)
+   * @param enabledByDefault optional enabled status filter
+   * @param page the page number to retrieve (0-based)
+   * @param size the number of items per page
+   * @return a paginated response DTO containing the feature flags and their configurations
+   */
+  GetFeatureDetailResponseDto getFeatureDetails(
+      String name, Boolean enabledByDefault, Integer page, Integer size);
+
+  /**
+   * Retrieves the environment-wide state of every feature flag.
+   *
+   * @param environment the environment to take the snapshot for
+   * @return the feature names mapped to their enabled state in the environment
+   */
+  FeatureSnapshotResponseDto getFeatureSnapshot(Environment environment);
+
+  /**
+   * Retrieves the feature flags that have not been evaluated in any environment for some days.
+   *
+   * @param days the number of days without evaluation
+   * @return the stale feature flags, never evaluated first, then least recently evaluated first
+   */
+  List<StaleFeatureResponseDto> getStaleFeatures(int days);
+
   /**
    * Validates if the given page of features is empty. If empty, throws a FeatureFlagException.
    *
    * @param featurePage the page of features to check
    * @throws FeatureFlagException if the page is empty
    */
-  void isPageEmpty(Page<Feature> featurePage);
+  void isPageEmpty(Page<?> featurePage);
 
   /**
    * Enables or disable a feature for specifici client or environment. This method will check if the
@@ -89,10 +131,15 @@ public interface FeatureService {
    * @param requestDto a DTO containing the clientID and/or environment where the feature sholud be
    *     enabled.
    * @param enabled a boolean indicating wether to enable (true) or disable (false) the feature
-   * @throws FeatureFlagException if the feature does not exist or if the requestDto is invalid.
+   * @param expectedVersion the feature version the change is based on, or null to skip the check
+   * @throws FeatureFlagException if the feature does not exist, if the requestDto is invalid or if
+   *     the feature version does not match {@code expectedVersion}.
    */
   void updateFeatureForClientOrEnvironment(
-      UUID featureId, FeatureToggleRequestDto toggleRequestDto, boolean enabled);
+      UUID featureId,
+      FeatureToggleRequestDto toggleRequestDto,
+      boolean enabled,
+      Long expectedVersion);
 
   void deleteFeature(UUID featureId);
 }
@@ -0,0 +1,66 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Service interface for the flag change outbox.
+ *
+ * <p>Every mutation of a feature or configuration records an outbox entry in its own transaction;
+ * the record methods refuse to run without one, so a change and its entry always commit or roll
+ * back together. A background relay then publishes the entries in sequence order as {@link
+ * com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent} application events and
+ * removes them.
+ */
+public interface FlagChangeEventService {
+
+  /**
+   * Records a change to a feature as a whole.
+   *
+   * @param type the kind of change
+   * @param feature the changed feature
+   */
+  void recordFeatureChange(FlagChangeType type, Feature feature);
+
+  /**
+   * Records a change to a single configuration, capturing its state after the change.
+   *
+   * @param type the kind of change
+   * @param featureConfig the changed configuration
+   */
+  void recordConfigChange(FlagChangeType type, FeatureConfig featureConfig);
+
+  /**
+   * Records a {@link FlagChangeType#CONFIG_TOGGLED} entry for every configuration of a project
+   * matching all the given filters, with a single statement. A null or empty collection does not
+   * filter on its column. Must be called before the toggle is applied, so that configurations
+   * already in the given state are left out.
+   *
+   * @param projectId the project of the owning features
+   * @param featureIds the owning feature identifiers to match
+   * @param environments the environments to match
+   * @param clientIds the client identifiers to match
+   * @param enabled the enabled state about to be applied
+   * @return the number of recorded entries
+   */
+  int recordConfigToggles(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled);
+
+  /**
+   * Publishes the oldest pending outbox entries in sequence order and deletes them, all in one
+   * transaction. If a listener fails, nothing is deleted and the entries are published again on the
+   * next run.
+   *
+   * @param batchSize the maximum number of entries to publish
+   * @return the number of published entries
+   */
+  int relayPendingEvents(int batchSize);
+}
@@ -0,0 +1,106 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.response.FlagChangeHistoryResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagHistoryStateResponseDto;
+import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for the append-only change history of features and configurations.
+ *
+ * <p>Every mutation records who made it and the enabled state before and after it, in the
+ * transaction that makes it; the record methods refuse to run without one. Periodic checkpoints
+ * store the state of every configuration, so the state at any instant is rebuilt from the nearest
+ * earlier checkpoint plus the bounded tail of changes that follow it.
+ */
+public interface FlagChangeHistoryService {
+
+  /**
+   * Records a change to a feature as a whole.
+   *
+   * @param type the kind of change
+   * @param feature the changed feature
+   */
+  void recordFeatureChange(FlagChangeType type, Feature feature);
+
+  /**
+   * Records a change to a single configuration. The state after the change is read from the
+   * configuration, except for deletions, which have none.
+   *
+   * @param type the kind of change
+   * @param featureConfig the changed configuration
+   * @param enabledBefore the enabled state before the change, or null if it did not exist
+   */
+  void recordConfigChange(FlagChangeType type, FeatureConfig featureConfig, Boolean enabledBefore);
+
+  /**
+   * Records a {@link FlagChangeType#CONFIG_TOGGLED} entry for every configuration of a project
+   * matching all the given filters and not already in the given state, with a single statement.
+   * Must be called before the toggle is applied, so that the current state is recorded as the state
+   * before the change.
+   *
+   * @param projectId the project of the owning features
+   * @param featureIds the owning feature identifiers to match
+   * @param environments the environments to match
+   * @param clientIds the client identifiers to match
+   * @param enabled the enabled state about to be applied
+   */
+  void recordConfigToggles(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled);
+
+  /**
+   * Retrieves the latest changes of a feature and its configurations, newest first.
+   *
+   * @param featureId the feature
+   * @param limit the maximum number of changes to return
+   * @return the latest changes of the feature
+   */
+  List<FlagChangeHistoryResponseDto> getFeatureHistory(UUID featureId, int limit);
+
+  /**
+   * Rebuilds the state of every configuration of an environment at an instant.
+   *
+   * @param environment the environment
+   * @param at the instant
+   * @return the state of every configuration that existed in the environment at {@code at}
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     HISTORY_NOT_AVAILABLE details if no checkpoint was taken at or before {@code at}
+   */
+  FlagHistoryStateResponseDto getStateAt(Environment environment, Instant at);
+
+  /**
+   * Takes the first checkpoint from the current configuration state if none exists yet.
+   *
+   * @return true if a checkpoint was taken
+   */
+  boolean createInitialCheckpoint();
+
+  /**
+   * Takes a checkpoint by replaying, on top of the latest one, the changes recorded since that were
+   * made at or before {@code settledBefore}. Changes made later are left to the next checkpoint, so
+   * that transactions still in flight cannot commit a change behind it.
+   *
+   * @param settledBefore the instant after which changes are not included yet
+   * @return true if a checkpoint was taken, false if there was nothing new to include
+   */
+  boolean createCheckpoint(Instant settledBefore);
+
+  /**
+   * Deletes the checkpoints taken before a cutoff, always keeping the latest one. History entries
+   * are never deleted.
+   *
+   * @param cutoff the instant before which checkpoints are deleted
+   * @return the number of deleted checkpoints
+   */
+  int purgeCheckpoints(Instant cutoff);
+}
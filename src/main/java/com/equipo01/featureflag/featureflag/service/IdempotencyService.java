@@ -0,0 +1,59 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.model.IdempotencyRecord;
+import java.util.Optional;
+
+/**
+ * Service interface for idempotency keys.
+ *
+ * <p>Recently completed responses are kept in a bounded in-memory store in front of the {@code
+ * idempotency_keys} table, so a retry is usually answered without touching the database while
+ * stored responses still survive a restart. Keys expire after {@code application.idempotency.ttl}.
+ */
+public interface IdempotencyService {
+
+  /**
+   * Retrieves the record of a key that has not expired. A reservation whose request has not
+   * completed within {@code application.idempotency.lease} is released, the instance processing it
+   * being presumed dead.
+   *
+   * @param id the hash of the scope and key
+   * @return the record, reserved or completed, or empty if the key is unknown, expired or abandoned
+   */
+  Optional<IdempotencyRecord> find(String id);
+
+  /**
+   * Reserves a key for a request that is about to be processed.
+   *
+   * @param id the hash of the scope and key
+   * @param requestHash the hash of the request body
+   * @return true if the key was reserved, false if another request reserved it first
+   */
+  boolean reserve(String id, String requestHash);
+
+  /**
+   * Stores the response of a reserved key so that retries replay it.
+   *
+   * @param id the hash of the scope and key
+   * @param requestHash the hash of the request body
+   * @param statusCode the response status
+   * @param contentType the response content type, if any
+   * @param responseBody the response body
+   */
+  void complete(
+      String id, String requestHash, int statusCode, String contentType, byte[] responseBody);
+
+  /**
+   * Releases a reserved key whose request failed, so that a retry processes the request again.
+   *
+   * @param id the hash of the scope and key
+   */
+  void release(String id);
+
+  /**
+   * Deletes the expired keys.
+   *
+   * @return the number of deleted keys
+   */
+  int purgeExpired();
+}
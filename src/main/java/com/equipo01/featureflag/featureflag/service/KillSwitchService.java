@@ -0,0 +1,60 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.response.KillSwitchResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for kill switches, which turn features off during incidents without touching
+ * their configurations.
+ *
+ * <p>A feature kill switch turns one feature off in every environment; the emergency mode of an
+ * environment turns every feature of the project off in it, leaving other projects alone. Either is
+ * a single stored row, checked before anything else by every evaluation, so engaging or releasing
+ * one is a single write that applies to every evaluation at once. Engaging a kill switch that is
+ * already engaged, or releasing one that is not, changes nothing.
+ */
+public interface KillSwitchService {
+
+  /**
+   * Retrieves every engaged kill switch of the project, oldest first.
+   *
+   * @return the engaged kill switches of the project
+   */
+  List<KillSwitchResponseDto> getKillSwitches();
+
+  /**
+   * Turns a feature off in every environment.
+   *
+   * @param featureId the UUID of the feature
+   * @return the engaged kill switch
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_NOT_FOUND details if the feature does not exist
+   */
+  KillSwitchResponseDto killFeature(UUID featureId);
+
+  /**
+   * Releases the kill switch of a feature, which evaluates by its configurations again.
+   *
+   * @param featureId the UUID of the feature
+   */
+  void reviveFeature(UUID featureId);
+
+  /**
+   * Turns every feature of the project off in an environment.
+   *
+   * @param environment the environment
+   * @return the engaged kill switch
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     PROJECT_NOT_FOUND details if the project does not exist
+   */
+  KillSwitchResponseDto engageEmergency(Environment environment);
+
+  /**
+   * Ends the emergency mode of an environment in the project.
+   *
+   * @param environment the environment
+   */
+  void releaseEmergency(Environment environment);
+}
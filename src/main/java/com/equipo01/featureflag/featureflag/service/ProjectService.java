@@ -0,0 +1,55 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.request.ProjectRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.ProjectResponseDto;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for projects: the namespaces features are created in, one per team sharing the
+ * deployment.
+ *
+ * <p>Feature names are unique within a project, and every listing, lookup and evaluation only sees
+ * the features of the project the request works in. A user bound to a project always works in it;
+ * the binding is carried by the tokens issued to the user, so binding or unbinding a user applies
+ * from the user's next login.
+ */
+public interface ProjectService {
+
+  /**
+   * Retrieves every project, by identifier.
+   *
+   * @return the projects
+   */
+  List<ProjectResponseDto> getProjects();
+
+  /**
+   * Creates a project.
+   *
+   * @param requestDto the name and description of the project
+   * @return the created project
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     PROJECT_ALREADY_EXISTS details if a project already has the name
+   */
+  ProjectResponseDto createProject(ProjectRequestDto requestDto);
+
+  /**
+   * Binds a user to a project, replacing any previous binding.
+   *
+   * @param projectId the identifier of the project
+   * @param userId the UUID of the user
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     PROJECT_NOT_FOUND or USER_NOT_FOUND details if either does not exist
+   */
+  void bindUser(Short projectId, UUID userId);
+
+  /**
+   * Unbinds a user from a project. Nothing changes if the user is not bound to it.
+   *
+   * @param projectId the identifier of the project
+   * @param userId the UUID of the user
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with USER_NOT_FOUND
+   *     details if the user does not exist
+   */
+  void unbindUser(Short projectId, UUID userId);
+}
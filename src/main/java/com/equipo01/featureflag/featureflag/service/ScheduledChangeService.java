@@ -0,0 +1,76 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.request.ScheduledChangeRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.ScheduledChangeResponseDto;
+import com.equipo01.featureflag.featureflag.model.ScheduledChange;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for changes scheduled on feature configurations.
+ *
+ * <p>Pending changes are persisted, so they survive restarts, and are fired by an in-process timer.
+ * Due changes are applied in batches through {@link FeatureConfigService#enableOrDisableFeature},
+ * the write path of manual toggles, so they bump the configuration version and record an outbox
+ * entry exactly like one.
+ */
+public interface ScheduledChangeService {
+
+  /**
+   * Schedules a change to the enabled state of a configuration.
+   *
+   * @param featureConfigId the configuration to enable or disable
+   * @param requestDto the enabled state to apply and when to apply it
+   * @return the scheduled change
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_CONFIG_NOT_FOUND details if the configuration does not exist in the current project
+   */
+  ScheduledChangeResponseDto scheduleChange(
+      UUID featureConfigId, ScheduledChangeRequestDto requestDto);
+
+  /**
+   * Retrieves the pending changes of a configuration, soonest first.
+   *
+   * @param featureConfigId the configuration the changes apply to
+   * @return the pending changes of the configuration, empty if it is not a configuration of the
+   *     current project
+   */
+  List<ScheduledChangeResponseDto> getPendingChanges(UUID featureConfigId);
+
+  /**
+   * Cancels a pending change.
+   *
+   * @param id the identifier of the scheduled change
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     SCHEDULED_CHANGE_NOT_FOUND details if the change does not exist in the current project, or
+   *     SCHEDULED_CHANGE_NOT_PENDING details if it was already applied or cancelled
+   */
+  void cancelChange(UUID id);
+
+  /**
+   * Retrieves every pending change, to arm the timer at startup.
+   *
+   * @return all pending changes
+   */
+  List<ScheduledChange> findPendingChanges();
+
+  /**
+   * Retrieves the pending changes due before the given instant, overdue ones included, to arm the
+   * timer with the changes scheduled on other instances.
+   *
+   * @param instant the instant the changes are due before
+   * @return the pending changes due before that instant
+   */
+  List<ScheduledChange> findPendingChangesDueBefore(Instant instant);
+
+  /**
+   * Applies the given changes in a single transaction, skipping those that were applied or
+   * cancelled in the meantime. A change whose configuration or feature was deleted is cancelled.
+   *
+   * @param ids the identifiers of the due changes
+   * @return the number of changes applied
+   */
+  int applyDueChanges(Collection<UUID> ids);
+}
@@ -0,0 +1,91 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.request.SegmentMembersRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.SegmentResponseDto;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for client segments: named sets of clients stored once and referenced by
+ * targeting rules through the IN_SEGMENT operator.
+ *
+ * <p>Members are users, identified in segments by the dense client ordinal assigned to each user.
+ * Every segment is held in memory as a compressed bitmap of those ordinals, so a membership test
+ * during an evaluation never reaches the database. Changes made on this instance are published when
+ * their transaction commits; changes made by other instances are picked up by {@link
+ * #refreshSegments()}.
+ *
+ * <p>Segments belong to a project, like features: their names are unique within the project, and a
+ * request only sees, changes and references the segments of the project it works in.
+ */
+public interface SegmentService {
+
+  /**
+   * Creates an empty segment.
+   *
+   * @param requestDto the name and description of the segment
+   * @return the created segment
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     SEGMENT_ALREADY_EXISTS details if a segment of the project already has the name
+   */
+  SegmentResponseDto createSegment(SegmentRequestDto requestDto);
+
+  /**
+   * Retrieves every segment of the project, by name.
+   *
+   * @return the segments, without their members
+   */
+  List<SegmentResponseDto> getSegments();
+
+  /**
+   * Retrieves a segment.
+   *
+   * @param segmentId the identifier of the segment
+   * @return the segment, without its members
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     SEGMENT_NOT_FOUND details if the segment does not exist in the project
+   */
+  SegmentResponseDto getSegment(UUID segmentId);
+
+  /**
+   * Adds and removes members of a segment. Adding a member already in the segment, or removing one
+   * not in it, has no effect.
+   *
+   * @param segmentId the identifier of the segment
+   * @param requestDto the users to add and to remove
+   * @return the segment after the change
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     SEGMENT_NOT_FOUND details if the segment does not exist in the project, or USER_NOT_FOUND
+   *     details if one of the users does not exist
+   */
+  SegmentResponseDto updateMembers(UUID segmentId, SegmentMembersRequestDto requestDto);
+
+  /**
+   * Deletes a segment. Rules still referencing it no longer match any client through it.
+   *
+   * @param segmentId the identifier of the segment
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     SEGMENT_NOT_FOUND details if the segment does not exist in the project
+   */
+  void deleteSegment(UUID segmentId);
+
+  /**
+   * Checks whether a client belongs to a segment, from the members held in memory.
+   *
+   * @param segmentId the identifier of the segment
+   * @param clientId the user id of the client
+   * @return true if the client belongs to the segment
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     SEGMENT_NOT_FOUND details if the segment does not exist in the project
+   */
+  boolean isMember(UUID segmentId, String clientId);
+
+  /**
+   * Reloads the segments whose version differs from the one held in memory, and forgets deleted
+   * segments.
+   *
+   * @return the number of segments reloaded
+   */
+  int refreshSegments();
+}
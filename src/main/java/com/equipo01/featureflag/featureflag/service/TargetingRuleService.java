@@ -0,0 +1,74 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.request.BatchEvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.TargetingRuleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.TargetingRuleResponseDto;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for attribute-based targeting rules and the evaluations that use them.
+ *
+ * <p>Rules belong to a feature configuration and are compiled into predicate trees once per
+ * configuration version, so evaluating a flag never parses rules again. Replacing the rules of a
+ * configuration increments its version, which is how evaluations notice the change.
+ */
+public interface TargetingRuleService {
+
+  /**
+   * Retrieves the rules of a configuration in evaluation order.
+   *
+   * @param featureConfigId the configuration the rules belong to
+   * @return the rules of the configuration, by ascending priority
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_CONFIG_NOT_FOUND details if the configuration does not exist in the current project
+   */
+  List<TargetingRuleResponseDto> getRules(UUID featureConfigId);
+
+  /**
+   * Replaces the rules of a configuration. The position of each rule in the list is its priority.
+   *
+   * @param featureConfigId the configuration the rules belong to
+   * @param rules the new rules, in evaluation order; an empty list removes every rule
+   * @return the stored rules
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_CONFIG_NOT_FOUND details if the configuration does not exist in the current
+   *     project, TARGETING_RULE_INVALID details if a clause has values its operator cannot parse,
+   *     or SEGMENT_NOT_FOUND details if a segment clause references a segment that does not exist
+   *     in the current project
+   */
+  List<TargetingRuleResponseDto> replaceRules(
+      UUID featureConfigId, List<TargetingRuleRequestDto> rules);
+
+  /**
+   * Evaluates a feature for a context of attributes. The first rule of the applicable configuration
+   * matching the context decides the result; without a match, the enabled state of the
+   * configuration applies, and a feature without an applicable configuration is disabled. A feature
+   * with a prerequisite that does not evaluate as enabled is disabled, whatever its own
+   * configuration. An enabled feature evaluated for a client also serves the variant its
+   * configuration allocates to the client, if any.
+   *
+   * @param requestDto the feature, environment, optional client and context to evaluate
+   * @return the evaluation result and the rule that decided it
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_NOT_FOUND details if no feature has the given name, or ENVIRONMENT_NOT_SERVED
+   *     details if this instance does not evaluate features in the environment
+   */
+  EvaluationResponseDto evaluate(EvaluationRequestDto requestDto);
+
+  /**
+   * Evaluates several features for one context of attributes, each as {@link
+   * #evaluate(EvaluationRequestDto)} would. Features are evaluated along the plan of the
+   * prerequisite graph, so a prerequisite shared by several features is evaluated once.
+   *
+   * @param requestDto the features, environment, optional client and context to evaluate
+   * @return the evaluation results, in the order of the requested feature names
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_NOT_FOUND details if no feature has one of the given names, or
+   *     ENVIRONMENT_NOT_SERVED details if this instance does not evaluate features in the
+   *     environment
+   */
+  List<EvaluationResponseDto> evaluateBatch(BatchEvaluationRequestDto requestDto);
+}
@@ -3,9 +3,12 @@ package com.equipo01.featureflag.featureflag.service;
 import com.equipo01.featureflag.featureflag.dto.UserDTO;
 import com.equipo01.featureflag.featureflag.dto.request.LoginRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.UserRequestDTO;
+import com.equipo01.featureflag.featureflag.dto.response.UserPageResponseDto;
 import com.equipo01.featureflag.featureflag.model.User;
+import com.equipo01.featureflag.featureflag.model.enums.Role;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.security.core.Authentication;
 
 /** Interface for user services. Defines the operations available for user management. */
@@ -43,11 +46,25 @@ public interface UserService {
   Boolean existsByClientID(UUID clientID);
 
   /**
-   * Retrieve all users in the system.
+   * Retrieve a page of users ordered by id, using keyset pagination.
    *
-   * @return List<UserDTO> list of all user DTOs
+   * @param role optional role filter
+   * @param active optional active status filter
+   * @param after id of the last user of the previous page, null for the first page
+   * @param limit maximum number of users to return
+   * @return the page of users and the cursor for the next page
    */
-  List<UserDTO> getAllUsers();
+  UserPageResponseDto getUsers(Role role, Boolean active, UUID after, Integer limit);
+
+  /**
+   * Retrieve all users matching the filters, handing them to the consumer in keyset-paginated
+   * chunks so that the full result is never held in memory.
+   *
+   * @param role optional role filter
+   * @param active optional active status filter
+   * @param chunkConsumer consumer receiving each chunk of users, in id order
+   */
+  void forEachUserChunk(Role role, Boolean active, Consumer<List<UserDTO>> chunkConsumer);
 
   /**
    * Obtain a user by email.
@@ -0,0 +1,67 @@
+package com.equipo01.featureflag.featureflag.service;
+
+import com.equipo01.featureflag.featureflag.dto.VariantAllocationDto;
+import com.equipo01.featureflag.featureflag.dto.request.VariantRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.VariantResponseDto;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for the variants of features and their allocation by configuration.
+ *
+ * <p>A feature declares typed variants, and each of its configurations allocates its clients to
+ * them by weight. An enabled evaluation for a client then serves the variant of the client's hash
+ * bucket together with the enabled state. Replacing the variants increments the feature version,
+ * and replacing an allocation increments the configuration version, which is how evaluations notice
+ * the change.
+ */
+public interface VariantService {
+
+  /**
+   * Retrieves the variants of a feature.
+   *
+   * @param featureId the feature the variants belong to
+   * @return the variants of the feature, by name
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_NOT_FOUND details if the feature does not exist
+   */
+  List<VariantResponseDto> getVariants(UUID featureId);
+
+  /**
+   * Replaces the variants of a feature, matching them by name.
+   *
+   * @param featureId the feature the variants belong to
+   * @param variants the variants of the feature; variants left out are removed
+   * @return the stored variants, by name
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_NOT_FOUND details if the feature does not exist, VARIANT_INVALID details if a value
+   *     does not match its type or two variants share a name, or VARIANT_IN_USE details if a
+   *     removed variant is still allocated
+   */
+  List<VariantResponseDto> replaceVariants(UUID featureId, List<VariantRequestDto> variants);
+
+  /**
+   * Retrieves the variant allocation of a configuration.
+   *
+   * @param featureConfigId the configuration the allocation belongs to
+   * @return the share of each allocated variant, by variant name
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_CONFIG_NOT_FOUND details if the configuration does not exist
+   */
+  List<VariantAllocationDto> getAllocation(UUID featureConfigId);
+
+  /**
+   * Replaces the variant allocation of a configuration.
+   *
+   * @param featureConfigId the configuration the allocation belongs to
+   * @param allocations the share of each variant; an empty list removes the allocation
+   * @return the stored allocation, by variant name
+   * @throws com.equipo01.featureflag.featureflag.exception.FeatureFlagException with
+   *     FEATURE_CONFIG_NOT_FOUND details if the configuration does not exist, VARIANT_NOT_FOUND
+   *     details if a variant does not belong to the feature of the configuration, or
+   *     VARIANT_ALLOCATION_INVALID details if a variant is listed twice or the weights do not add
+   *     up to 10000
+   */
+  List<VariantAllocationDto> replaceAllocation(
+      UUID featureConfigId, List<VariantAllocationDto> allocations);
+}
@@ -0,0 +1,120 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import jakarta.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Interns the environments stored in the database and tells which ones this instance serves.
+ *
+ * <p>Every environment is interned before the application takes requests, and the table is read
+ * again every {@code application.environments.refresh-interval} to pick up environments created by
+ * other instances. Environments are never renamed or deleted, so a refresh only adds new ones. The
+ * table is read with plain JDBC rather than through the persistence context, as an identifier
+ * unknown to the {@link com.equipo01.featureflag.featureflag.model.EnvironmentConverter} is
+ * resolved while Hibernate is reading a row.
+ *
+ * <p>{@code application.environments.served} lists the environments evaluated by this instance;
+ * evaluation data of other environments is neither loaded nor cached. An empty list serves every
+ * environment.
+ */
+@Component
+@Slf4j
+public class EnvironmentRegistry {
+
+  private static final String SELECT_ENVIRONMENTS =
+      "SELECT environment_id, name FROM environments ORDER BY environment_id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Set<String> served;
+
+  public EnvironmentRegistry(
+      JdbcTemplate jdbcTemplate,
+      @Value("${application.environments.served:}") List<String> served) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.served = served.stream().filter(name -> !name.isBlank()).collect(Collectors.toSet());
+  }
+
+  @PostConstruct
+  void loadEnvironments() {
+    refresh();
+    log.info("Loaded {} environments", Environment.values().length);
+    served.stream()
+        .filter(name -> Arrays.stream(Environment.values()).noneMatch(e -> e.name().equals(name)))
+        .forEach(name -> log.warn("Served environment {} does not exist", name));
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.environments.refresh-interval:PT30S}",
+      fixedDelayString = "${application.environments.refresh-interval:PT30S}")
+  public void refreshEnvironments() {
+    try {
+      int added = refresh();
+      if (added > 0) {
+        log.info("Loaded {} environments created by other instances", added);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Environment refresh failed, retrying on next run", e);
+    }
+  }
+
+  /**
+   * Interns every stored environment that is not interned yet.
+   *
+   * @return the number of newly interned environments
+   */
+  public synchronized int refresh() {
+    int before = Environment.values().length;
+    jdbcTemplate.query(
+        SELECT_ENVIRONMENTS,
+        row -> {
+          Environment.intern(row.getInt("environment_id"), row.getString("name"));
+        });
+    return Environment.values().length - before;
+  }
+
+  /**
+   * Returns the environment with the given identifier, reloading the environments if it is not
+   * interned yet.
+   *
+   * @param id the identifier of the environment
+   * @return the environment
+   * @throws IllegalArgumentException if no stored environment has that identifier
+   */
+  public Environment resolve(int id) {
+    Environment environment = Environment.find(id);
+    if (environment == null) {
+      refresh();
+      environment = Environment.of(id);
+    }
+    return environment;
+  }
+
+  /**
+   * Checks whether this instance evaluates features in an environment.
+   *
+   * @param environment the environment
+   * @return true if the environment is served by this instance
+   */
+  public boolean isServed(Environment environment) {
+    return isServed(environment.name());
+  }
+
+  /**
+   * Checks whether this instance evaluates features in an environment.
+   *
+   * @param name the name of the environment
+   * @return true if the environment is served by this instance
+   */
+  public boolean isServed(String name) {
+    return served.isEmpty() || served.contains(name);
+  }
+}
@@ -0,0 +1,79 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.request.EnvironmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EnvironmentResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.mapper.EnvironmentMapper;
+import com.equipo01.featureflag.featureflag.model.EnvironmentDefinition;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.EnvironmentRepository;
+import com.equipo01.featureflag.featureflag.service.EnvironmentService;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Implementation of the {@link EnvironmentService} interface.
+ *
+ * <p>A created environment is interned once its transaction commits, so an environment that was
+ * rolled back never becomes resolvable by name.
+ */
+@Service
+@RequiredArgsConstructor
+public class EnvironmentServiceImpl implements EnvironmentService {
+
+  private final EnvironmentRepository environmentRepository;
+  private final EnvironmentMapper environmentMapper;
+  private final EnvironmentRegistry environmentRegistry;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<EnvironmentResponseDto> getEnvironments() {
+    return environmentRepository.findAllByOrderByIdAsc().stream().map(this::toDto).toList();
+  }
+
+  @Override
+  @Transactional
+  public EnvironmentResponseDto createEnvironment(EnvironmentRequestDto requestDto) {
+    if (environmentRepository.existsByName(requestDto.getName())) {
+      throw new FeatureFlagException(
+          MessageError.ENVIRONMENT_ALREADY_EXISTS.getStatus(),
+          MessageError.ENVIRONMENT_ALREADY_EXISTS.getMessage(),
+          MessageError.ENVIRONMENT_ALREADY_EXISTS.getDescription());
+    }
+    EnvironmentDefinition environment =
+        environmentRepository.saveAndFlush(
+            EnvironmentDefinition.builder()
+                .name(requestDto.getName())
+                .description(requestDto.getDescription())
+                .createdAt(Instant.now())
+                .build());
+    afterCommit(() -> Environment.intern(environment.getId(), environment.getName()));
+    return toDto(environment);
+  }
+
+  private EnvironmentResponseDto toDto(EnvironmentDefinition environment) {
+    EnvironmentResponseDto dto = environmentMapper.toDto(environment);
+    dto.setServed(environmentRegistry.isServed(environment.getName()));
+    return dto;
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,179 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.events.EvaluationWatermark;
+import com.equipo01.featureflag.featureflag.util.PartitionedMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the evaluations of every feature, per environment and result, since the application
+ * started.
+ *
+ * <p>Counters are partitioned by the interned identifier of the environment and keyed by project
+ * and feature name within it, so recording an evaluation is an array read, a hash lookup and a
+ * {@link LongAdder} increment, which spreads concurrent increments over several cells instead of
+ * contending on one. Each counter is published once to Micrometer as {@code
+ * featureflag.evaluations}, tagged with the project, the feature, the environment and the result.
+ *
+ * <p>Counters also remember when their feature was last evaluated, at a one second resolution so
+ * that most evaluations do not write it. The {@link EvaluationWatermarkJob} periodically persists
+ * the instants that moved, one row per feature and environment whatever the number of evaluations.
+ */
+@Component
+@RequiredArgsConstructor
+public class EvaluationCounters {
+
+  static final String METER_NAME = "featureflag.evaluations";
+  private static final long WATERMARK_RESOLUTION_MILLIS = 1000;
+
+  private final MeterRegistry meterRegistry;
+  private final PartitionedMap<FeatureKey, Counter> counters = new PartitionedMap<>();
+
+  /**
+   * Counts one evaluation.
+   *
+   * @param projectId the project of the evaluated feature
+   * @param featureName the evaluated feature
+   * @param environment the environment the feature was evaluated in
+   * @param enabled the result of the evaluation
+   */
+  public void record(
+      short projectId, String featureName, Environment environment, boolean enabled) {
+    FeatureKey key = new FeatureKey(projectId, featureName);
+    Counter counter = counters.get(environment.id(), key);
+    if (counter == null) {
+      counter =
+          counters
+              .partition(environment.id())
+              .computeIfAbsent(
+                  key, k -> register(new Counter(projectId, featureName, environment)));
+    }
+    (enabled ? counter.enabled : counter.disabled).increment();
+    long now = System.currentTimeMillis();
+    if (now - counter.lastEvaluatedAt >= WATERMARK_RESOLUTION_MILLIS) {
+      counter.lastEvaluatedAt = now;
+    }
+  }
+
+  /**
+   * Returns every counter.
+   *
+   * @return the counters, by environment identifier
+   */
+  public List<Counter> counters() {
+    List<Counter> all = new ArrayList<>();
+    for (Environment environment : Environment.values()) {
+      all.addAll(counters.partition(environment.id()).values());
+    }
+    return all;
+  }
+
+  /**
+   * Returns the last evaluation instants not persisted yet.
+   *
+   * @return the watermarks that moved since they were last persisted
+   */
+  public List<EvaluationWatermark> pendingWatermarks() {
+    List<EvaluationWatermark> pending = new ArrayList<>();
+    for (Counter counter : counters()) {
+      long lastEvaluatedAt = counter.lastEvaluatedAt;
+      if (lastEvaluatedAt > counter.persistedAt) {
+        pending.add(
+            EvaluationWatermark.builder()
+                .projectId(counter.projectId)
+                .featureName(counter.featureName)
+                .environment(counter.environment)
+                .lastEvaluatedAt(Instant.ofEpochMilli(lastEvaluatedAt))
+                .build());
+      }
+    }
+    return pending;
+  }
+
+  /**
+   * Marks watermarks as persisted, so that they are only written again once they move.
+   *
+   * @param watermarks the persisted watermarks
+   */
+  public void markPersisted(List<EvaluationWatermark> watermarks) {
+    for (EvaluationWatermark watermark : watermarks) {
+      Counter counter =
+          counters.get(
+              watermark.getEnvironment().id(),
+              new FeatureKey(watermark.getProjectId(), watermark.getFeatureName()));
+      if (counter != null) {
+        counter.persistedAt =
+            Math.max(counter.persistedAt, watermark.getLastEvaluatedAt().toEpochMilli());
+      }
+    }
+  }
+
+  private Counter register(Counter counter) {
+    registerResult(counter, "enabled", counter.enabled);
+    registerResult(counter, "disabled", counter.disabled);
+    return counter;
+  }
+
+  private void registerResult(Counter counter, String result, LongAdder adder) {
+    FunctionCounter.builder(METER_NAME, adder, LongAdder::sum)
+        .description("Evaluations of a feature flag since the application started")
+        .tag("project", Short.toString(counter.projectId))
+        .tag("feature", counter.featureName)
+        .tag("environment", counter.environment.name())
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  // Feature names are only unique within a project
+  private record FeatureKey(short projectId, String featureName) {}
+
+  /** Evaluation counts of one feature in one environment. */
+  public static final class Counter {
+
+    private final short projectId;
+    private final String featureName;
+    private final Environment environment;
+    private final LongAdder enabled = new LongAdder();
+    private final LongAdder disabled = new LongAdder();
+    private volatile long lastEvaluatedAt;
+    // Only read and written by the watermark job
+    private long persistedAt;
+
+    private Counter(short projectId, String featureName, Environment environment) {
+      this.projectId = projectId;
+      this.featureName = featureName;
+      this.environment = environment;
+    }
+
+    public short getProjectId() {
+      return projectId;
+    }
+
+    public String getFeatureName() {
+      return featureName;
+    }
+
+    public Environment getEnvironment() {
+      return environment;
+    }
+
+    public long getEnabled() {
+      return enabled.sum();
+    }
+
+    public long getDisabled() {
+      return disabled.sum();
+    }
+
+    public Instant getLastEvaluatedAt() {
+      return Instant.ofEpochMilli(lastEvaluatedAt);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.repository.FeaturePrerequisiteRepository;
+import com.equipo01.featureflag.featureflag.repository.projections.PrerequisiteEdgeView;
+import com.equipo01.featureflag.featureflag.util.targeting.EvaluationPlan;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluation plans of the prerequisite graphs of projects, keyed by graph version.
+ *
+ * <p>Prerequisites never cross projects, so each project is planned on its own from the edges of
+ * its features only, and evaluations of one project never load the graph of another. The graph
+ * version is shared by every project: a change to any graph plans every project again lazily.
+ *
+ * <p>The caller reads the graph version before the edges are loaded, so a plan is never older than
+ * the version it is stored under: a concurrent change at worst labels a newer graph with the
+ * previous version, and the next evaluation plans it again. Deleting a feature removes it from the
+ * graph without changing the version, so the plans are dropped when the outbox relays the deletion.
+ */
+@Component
+@RequiredArgsConstructor
+public class EvaluationPlanCache {
+
+  private final FeaturePrerequisiteRepository featurePrerequisiteRepository;
+
+  private final Map<Short, EvaluationPlan> plans = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the evaluation plan of the current prerequisite graph of a project, planning it again
+   * if the cached one belongs to another version.
+   *
+   * @param projectId the project to evaluate features of
+   * @return the evaluation plan
+   */
+  public EvaluationPlan get(short projectId) {
+    long version = featurePrerequisiteRepository.findGraphVersion();
+    EvaluationPlan cached = plans.get(projectId);
+    if (cached != null && cached.version() == version) {
+      return cached;
+    }
+    Map<String, List<String>> prerequisites = new HashMap<>();
+    for (PrerequisiteEdgeView edge : featurePrerequisiteRepository.findActiveEdges(projectId)) {
+      prerequisites
+          .computeIfAbsent(edge.getFeatureName(), name -> new ArrayList<>())
+          .add(edge.getPrerequisiteName());
+    }
+    EvaluationPlan fresh = EvaluationPlan.build(version, prerequisites);
+    // Never replace the plan of a newer version by a slower concurrent evaluation
+    plans.merge(
+        projectId,
+        fresh,
+        (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+    return fresh;
+  }
+
+  @EventListener
+  void on(FlagChangedEvent event) {
+    if (event.getType() == FlagChangeType.FEATURE_DELETED) {
+      plans.clear();
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.events.EvaluationWatermark;
+import com.equipo01.featureflag.featureflag.repository.FeatureEvaluationRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job persisting when each feature was last evaluated.
+ *
+ * <p>Each run writes the watermarks of the {@link EvaluationCounters} that moved since the previous
+ * run, so a feature evaluated thousands of times costs one row write per run. Watermarks that fail
+ * to persist are retried on the next run, and a last run happens when the application stops.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationWatermarkJob {
+
+  private final EvaluationCounters evaluationCounters;
+  private final FeatureEvaluationRepository featureEvaluationRepository;
+
+  @Scheduled(
+      initialDelayString = "${application.evaluations.watermark-interval:PT1M}",
+      fixedDelayString = "${application.evaluations.watermark-interval:PT1M}")
+  public synchronized void persistWatermarks() {
+    List<EvaluationWatermark> watermarks = evaluationCounters.pendingWatermarks();
+    if (watermarks.isEmpty()) {
+      return;
+    }
+    try {
+      featureEvaluationRepository.saveAll(watermarks);
+      evaluationCounters.markPersisted(watermarks);
+      log.debug("Persisted {} evaluation watermarks", watermarks.size());
+    } catch (RuntimeException e) {
+      log.warn("Evaluation watermarks could not be persisted, retrying on next run", e);
+    }
+  }
+
+  @EventListener(ContextClosedEvent.class)
+  public void persistOnShutdown() {
+    persistWatermarks();
+  }
+}
@@ -0,0 +1,253 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.events.ExposureEvent;
+import com.equipo01.featureflag.featureflag.repository.ExposureRepository;
+import com.equipo01.featureflag.featureflag.util.ExposureRingBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects exposures, the flag values served to clients, and writes them to the {@code exposures}
+ * table off the request path.
+ *
+ * <p>Evaluations publish into an {@link ExposureRingBuffer} of {@code
+ * application.exposures.buffer-capacity} events, which never blocks: when the buffer is full the
+ * exposure is dropped and counted. A single consumer thread drains the buffer, skips an exposure
+ * when the same client was served the same value of the same flag less than {@code dedup-window}
+ * ago, and inserts the rest in JDBC batches of up to {@code batch-size}, at least every {@code
+ * flush-interval}. A failed batch is logged and counted, not retried. The consumer drains the
+ * buffer one last time when the application stops.
+ */
+@Component
+@Slf4j
+public class ExposurePipeline implements SmartLifecycle {
+
+  private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long STOP_TIMEOUT_MILLIS = 10_000;
+
+  private final ExposureRepository exposureRepository;
+  private final ExposureRingBuffer buffer;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final long dedupWindowMillis;
+
+  private final LongAdder deduplicated = new LongAdder();
+  private final LongAdder written = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  // Consumer state, only touched by the consumer thread
+  private final Map<ExposureKey, Long> recent;
+  private final List<ExposureEvent> pending;
+  private final ExposureRingBuffer.Handler handler = this::accept;
+  private long firstPendingAt;
+
+  private volatile boolean running;
+  private Thread consumer;
+
+  public ExposurePipeline(
+      ExposureRepository exposureRepository,
+      @Value("${application.exposures.buffer-capacity:65536}") int bufferCapacity,
+      @Value("${application.exposures.batch-size:500}") int batchSize,
+      @Value("${application.exposures.flush-interval:PT1S}") Duration flushInterval,
+      @Value("${application.exposures.dedup-window:PT10M}") Duration dedupWindow,
+      @Value("${application.exposures.dedup-capacity:100000}") int dedupCapacity) {
+    this.exposureRepository = exposureRepository;
+    this.buffer = new ExposureRingBuffer(bufferCapacity);
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushInterval.toMillis();
+    this.dedupWindowMillis = dedupWindow.toMillis();
+    this.pending = new ArrayList<>(batchSize);
+    // Insertion ordered by last exposure, so the oldest entries are evicted first
+    this.recent =
+        new LinkedHashMap<>() {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<ExposureKey, Long> eldest) {
+            return size() > dedupCapacity;
+          }
+        };
+  }
+
+  /**
+   * Records that a client was served a flag value. Never blocks: the exposure is dropped if the
+   * buffer is full.
+   *
+   * @param projectId the project of the evaluated feature
+   * @param featureName the evaluated feature
+   * @param environment the environment the feature was evaluated in
+   * @param clientId the client the value was served to
+   * @param enabled the served enabled state
+   * @param variant the served variant, or null
+   */
+  public void record(
+      short projectId,
+      String featureName,
+      Environment environment,
+      String clientId,
+      boolean enabled,
+      String variant) {
+    buffer.offer(
+        projectId,
+        featureName,
+        environment.id(),
+        clientId,
+        enabled,
+        variant,
+        System.currentTimeMillis());
+  }
+
+  /**
+   * Returns the number of exposures dropped because the buffer was full.
+   *
+   * @return the number of dropped exposures
+   */
+  public long dropped() {
+    return buffer.dropped();
+  }
+
+  /**
+   * Returns the number of exposures skipped as repeats within the deduplication window.
+   *
+   * @return the number of skipped exposures
+   */
+  public long deduplicated() {
+    return deduplicated.sum();
+  }
+
+  /**
+   * Returns the number of exposures inserted into the database.
+   *
+   * @return the number of written exposures
+   */
+  public long written() {
+    return written.sum();
+  }
+
+  /**
+   * Returns the number of exposures lost because their batch failed to insert.
+   *
+   * @return the number of failed exposures
+   */
+  public long failed() {
+    return failed.sum();
+  }
+
+  @Override
+  public synchronized void start() {
+    running = true;
+    consumer = Thread.ofPlatform().name("exposure-consumer").daemon().start(this::consume);
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    LockSupport.unpark(consumer);
+    try {
+      consumer.join(STOP_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void consume() {
+    while (running) {
+      int drained = buffer.drain(handler, batchSize - pending.size());
+      if (pending.size() >= batchSize
+          || (!pending.isEmpty()
+              && System.currentTimeMillis() - firstPendingAt >= flushIntervalMillis)) {
+        flush();
+      }
+      if (drained == 0) {
+        LockSupport.parkNanos(IDLE_WAIT_NANOS);
+      }
+    }
+    // Write what was published before the application stopped
+    while (buffer.drain(handler, batchSize - pending.size()) > 0) {
+      if (pending.size() >= batchSize) {
+        flush();
+      }
+    }
+    flush();
+  }
+
+  private void accept(
+      short projectId,
+      String featureName,
+      int environmentId,
+      String clientId,
+      boolean enabled,
+      String variant,
+      long timestamp) {
+    ExposureKey key =
+        new ExposureKey(projectId, featureName, environmentId, clientId, enabled, variant);
+    Long last = recent.get(key);
+    if (last != null && timestamp - last < dedupWindowMillis) {
+      deduplicated.increment();
+      return;
+    }
+    // Moved to the end, so entries stay ordered by the time they were last written
+    recent.remove(key);
+    recent.put(key, timestamp);
+    evictExpired(timestamp);
+    if (pending.isEmpty()) {
+      firstPendingAt = System.currentTimeMillis();
+    }
+    pending.add(
+        ExposureEvent.builder()
+            .projectId(projectId)
+            .featureName(featureName)
+            .environment(Environment.of(environmentId))
+            .clientId(clientId)
+            .enabled(enabled)
+            .variant(variant)
+            .exposedAt(Instant.ofEpochMilli(timestamp))
+            .build());
+  }
+
+  private void evictExpired(long now) {
+    Iterator<Long> oldest = recent.values().iterator();
+    while (oldest.hasNext() && now - oldest.next() >= dedupWindowMillis) {
+      oldest.remove();
+    }
+  }
+
+  private void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    try {
+      exposureRepository.insertAll(pending);
+      written.add(pending.size());
+    } catch (RuntimeException e) {
+      failed.add(pending.size());
+      log.warn("Failed to write {} exposures, dropping them", pending.size(), e);
+    } finally {
+      pending.clear();
+    }
+  }
+
+  private record ExposureKey(
+      short projectId,
+      String featureName,
+      int environmentId,
+      String clientId,
+      boolean enabled,
+      String variant) {}
+}
@@ -1,18 +1,28 @@
 package com.equipo01.featureflag.featureflag.service.impl;
 
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleCriteriaDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.BulkToggleResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
 import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
 import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
 import com.equipo01.featureflag.featureflag.mapper.FeatureConfigMapper;
 import com.equipo01.featureflag.featureflag.model.Feature;
 import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
 import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
 import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
 import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeEventService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
 import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -48,36 +58,94 @@ public class FeatureConfigServiceImpl implements FeatureConfigService {
   /** Service for feature operations and validation */
   private final FeatureService featureService;
 
+  /** Repository checking that the features named by bulk toggles belong to the current project */
+  private final FeatureRepository featureRepository;
+
+  /** Outbox recording every configuration change in the transaction that makes it */
+  private final FlagChangeEventService flagChangeEventService;
+
+  /** Append-only history recording who made each configuration change */
+  private final FlagChangeHistoryService flagChangeHistoryService;
+
+  /** Project the current request works in, which configurations are looked up in */
+  private final ProjectContext projectContext;
+
   /**
    * Enables or disables a specific feature configuration dynamically.
    *
    * @param featureConfigUUID The unique identifier of the feature configuration to modify
    * @param enable true to enable the configuration, false to disable it
-   * @return ResponseEntity with HTTP 200 and updated configuration if found, or HTTP 404 if the
-   *     configuration doesn't exist
+   * @param expectedVersion the configuration version the change is based on, or null to skip the
+   *     check
+   * @return ResponseEntity with HTTP 200, the new version as ETag and updated configuration if
+   *     found, or HTTP 404 if the configuration doesn't exist in the current project
+   * @throws FeatureFlagException with VERSION_MISMATCH details if the configuration version does
+   *     not match {@code expectedVersion}
    */
+  @Transactional
   public ResponseEntity<List<FeatureConfigResponseDto>> enableOrDisableFeature(
-      UUID featureConfigUUID, boolean enable) {
-    Optional<FeatureConfig> featureConfig = featureConfigRepository.findById(featureConfigUUID);
+      UUID featureConfigUUID, boolean enable, Long expectedVersion) {
+    Optional<FeatureConfig> featureConfig =
+        featureConfigRepository.findByIdInProject(
+            featureConfigUUID, projectContext.currentProjectId());
 
     if (featureConfig.isPresent()) {
-      featureConfig.get().setEnabled(enable);
-      featureConfigRepository.save(featureConfig.get());
-      return ResponseEntity.ok(List.of(featureConfigMapper.toDto(featureConfig.get())));
+      if (expectedVersion != null && !expectedVersion.equals(featureConfig.get().getVersion())) {
+        throw new FeatureFlagException(
+            MessageError.VERSION_MISMATCH.getStatus(),
+            MessageError.VERSION_MISMATCH.getMessage(),
+            MessageError.VERSION_MISMATCH.getDescription());
+      }
+      FeatureConfig saved = toggle(featureConfig.get(), enable);
+      return ResponseEntity.ok()
+          .eTag(String.valueOf(saved.getVersion()))
+          .body(List.of(featureConfigMapper.toDto(saved)));
     } else {
       return ResponseEntity.notFound().build();
     }
   }
 
+  @Transactional
+  public boolean applyScheduledToggle(UUID featureConfigId, boolean enable) {
+    Optional<FeatureConfig> featureConfig =
+        featureConfigRepository.findByIdOfLiveFeature(featureConfigId);
+    featureConfig.ifPresent(config -> toggle(config, enable));
+    return featureConfig.isPresent();
+  }
+
+  /**
+   * Sets the enabled state of a configuration and records the change in the outbox and history.
+   *
+   * @param featureConfig the configuration to modify
+   * @param enable the enabled state to set
+   * @return the saved configuration, carrying its incremented version
+   */
+  private FeatureConfig toggle(FeatureConfig featureConfig, boolean enable) {
+    Boolean enabledBefore = featureConfig.getEnabled();
+    featureConfig.setEnabled(enable);
+    FeatureConfig saved = featureConfigRepository.save(featureConfig);
+    // Flush now so that the response carries the incremented version
+    featureConfigRepository.flush();
+    flagChangeEventService.recordConfigChange(FlagChangeType.CONFIG_TOGGLED, saved);
+    flagChangeHistoryService.recordConfigChange(
+        FlagChangeType.CONFIG_TOGGLED, saved, enabledBefore);
+    return saved;
+  }
+
   /**
    * Creates a new feature configuration with comprehensive validation and relationship management.
    *
+   * <p>The configuration is upserted: if one already exists for the same feature, environment and
+   * client, its enabled state is updated instead of inserting a duplicate, so retries are
+   * idempotent.
+   *
    * @param requestDto The configuration request containing feature ID, environment, client
    *     settings, and enabled status
-   * @return FeatureConfigResponseDto with the created configuration including generated ID
+   * @return FeatureConfigResponseDto with the stored configuration including its ID and version
    * @throws FeatureNotFoundException if the referenced feature does not exist
    * @throws IllegalArgumentException if the feature ID format is invalid
    */
+  @Transactional
   public FeatureConfigResponseDto createFeatureConfig(FeatureConfigRequestDto requestDto) {
     FeatureConfig featureConfig = featureConfigMapper.toEntity(requestDto);
 
@@ -85,35 +153,129 @@ public class FeatureConfigServiceImpl implements FeatureConfigService {
     Feature feature = featureService.findById(featureUUID);
     featureConfig.setFeature(feature);
 
-    featureConfig = featureConfigRepository.save(featureConfig);
+    Boolean enabledBefore =
+        featureConfigRepository
+            .findEnabled(featureUUID, featureConfig.getEnvironment(), featureConfig.getClientId())
+            .orElse(null);
+    featureConfig = featureConfigRepository.upsert(featureConfig);
+    flagChangeEventService.recordConfigChange(FlagChangeType.CONFIG_UPSERTED, featureConfig);
+    flagChangeHistoryService.recordConfigChange(
+        FlagChangeType.CONFIG_UPSERTED, featureConfig, enabledBefore);
 
     return featureConfigMapper.toDto(featureConfig);
   }
 
   /**
-   * Retrieves a specific feature configuration by its unique identifier.
+   * Retrieves a specific feature configuration of the current project by its unique identifier.
+   *
+   * <p>The configuration is projected directly into its DTO, so the owning feature is never loaded.
    *
    * @param id The unique identifier of the feature configuration to retrieve
-   * @return List containing the found configuration DTO, or empty list if not found
+   * @return List containing the found configuration DTO, or empty list if not found in the current
+   *     project
    */
   public List<FeatureConfigResponseDto> getFeatureByID(UUID id) {
     return featureConfigRepository
-        .findById(id)
-        .map(featureConfigMapper::toDto)
+        .findDtoById(id, projectContext.currentProjectId())
         .map(List::of)
         .orElseGet(List::of);
   }
 
   /**
-   * Retrieves all feature configurations from the system.
+   * Retrieves all feature configurations of the current project.
    *
-   * @return List of FeatureConfigResponseDto containing all configurations in the system. Returns
+   * @return List of FeatureConfigResponseDto containing all configurations of the project. Returns
    *     an empty list if no configurations exist.
    */
   public List<FeatureConfigResponseDto> getAllFeatures() {
-    List<FeatureConfig> featureConfigs = featureConfigRepository.findAll();
-    List<FeatureConfigResponseDto> responseDtos = featureConfigMapper.toDtoList(featureConfigs);
-    return responseDtos;
+    return featureConfigRepository.findAllDtos(projectContext.currentProjectId());
+  }
+
+  /**
+   * Sets the enabled state of every configuration matched by the given criteria sets.
+   *
+   * <p>Only configurations of the current project are matched. All criteria sets are validated
+   * before any update is issued, so an invalid set never leaves the others half applied. Each set
+   * then runs as one {@code UPDATE feature_configs SET enabled = ? WHERE ...} statement, followed
+   * by one {@code INSERT ... SELECT} recording an outbox entry for every updated configuration.
+   *
+   * @param requestDto the enabled state to apply and the criteria sets selecting configurations
+   * @return the number of updated configurations for each criteria set and in total
+   * @throws FeatureFlagException with BULK_TOGGLE_CRITERIA_INVALID details if a criteria set does
+   *     not provide any filter, or FEATURE_NOT_FOUND details if it names a feature that is not in
+   *     the current project
+   */
+  @Transactional
+  public BulkToggleResponseDto bulkToggle(BulkToggleRequestDto requestDto) {
+    short projectId = projectContext.currentProjectId();
+    requestDto.getCriteria().forEach(criteria -> validateBulkToggleCriteria(projectId, criteria));
+
+    boolean enabled = requestDto.getEnabled();
+    List<Integer> affectedRows =
+        requestDto.getCriteria().stream()
+            .map(
+                criteria -> {
+                  // Recorded first, so that only the configurations the update actually changes
+                  // are recorded, with their state before the update
+                  flagChangeHistoryService.recordConfigToggles(
+                      projectId,
+                      criteria.getFeatureIds(),
+                      criteria.getEnvironments(),
+                      criteria.getClientIds(),
+                      enabled);
+                  flagChangeEventService.recordConfigToggles(
+                      projectId,
+                      criteria.getFeatureIds(),
+                      criteria.getEnvironments(),
+                      criteria.getClientIds(),
+                      enabled);
+                  return featureConfigRepository.updateEnabled(
+                      projectId,
+                      criteria.getFeatureIds(),
+                      criteria.getEnvironments(),
+                      criteria.getClientIds(),
+                      enabled);
+                })
+            .toList();
+
+    return BulkToggleResponseDto.builder()
+        .enabled(enabled)
+        .affectedRows(affectedRows)
+        .totalAffectedRows(affectedRows.stream().mapToLong(Integer::longValue).sum())
+        .build();
+  }
+
+  /**
+   * Ensures that a bulk toggle criteria set narrows the update by at least one column, and that the
+   * features it names all belong to the project.
+   *
+   * @param projectId the project the toggle applies to
+   * @param criteria the criteria set to validate
+   * @throws FeatureFlagException with BULK_TOGGLE_CRITERIA_INVALID details if no filter is
+   *     provided, or FEATURE_NOT_FOUND details if a feature is not in the project
+   */
+  private void validateBulkToggleCriteria(short projectId, BulkToggleCriteriaDto criteria) {
+    if (isNullOrEmpty(criteria.getFeatureIds())
+        && isNullOrEmpty(criteria.getEnvironments())
+        && isNullOrEmpty(criteria.getClientIds())) {
+      throw new FeatureFlagException(
+          MessageError.BULK_TOGGLE_CRITERIA_INVALID.getStatus(),
+          MessageError.BULK_TOGGLE_CRITERIA_INVALID.getMessage(),
+          MessageError.BULK_TOGGLE_CRITERIA_INVALID.getDescription());
+    }
+    if (!isNullOrEmpty(criteria.getFeatureIds())) {
+      Set<UUID> featureIds = new HashSet<>(criteria.getFeatureIds());
+      if (featureRepository.countByProjectIdAndIdIn(projectId, featureIds) != featureIds.size()) {
+        throw new FeatureFlagException(
+            MessageError.FEATURE_NOT_FOUND.getStatus(),
+            MessageError.FEATURE_NOT_FOUND.getMessage(),
+            MessageError.FEATURE_NOT_FOUND.getDescription());
+      }
+    }
+  }
+
+  private static boolean isNullOrEmpty(Collection<?> values) {
+    return values == null || values.isEmpty();
   }
 
   /**
@@ -124,12 +286,17 @@ public class FeatureConfigServiceImpl implements FeatureConfigService {
    *
    * @param id The unique identifier of the feature configuration to delete
    * @throws FeatureFlagException with FEATURE_CONFIG_NOT_FOUND details if the configuration doesn't
-   *     exist
+   *     exist in the current project
    */
   @Transactional
   public void deleteFeatureConfig(UUID id) {
-    if (featureConfigRepository.existsById(id)) {
-      featureConfigRepository.deleteById(id);
+    Optional<FeatureConfig> featureConfig =
+        featureConfigRepository.findByIdInProject(id, projectContext.currentProjectId());
+    if (featureConfig.isPresent()) {
+      featureConfigRepository.delete(featureConfig.get());
+      flagChangeEventService.recordConfigChange(FlagChangeType.CONFIG_DELETED, featureConfig.get());
+      flagChangeHistoryService.recordConfigChange(
+          FlagChangeType.CONFIG_DELETED, featureConfig.get(), featureConfig.get().getEnabled());
     } else {
       throw new FeatureFlagException(
           MessageError.FEATURE_CONFIG_NOT_FOUND.getStatus(),
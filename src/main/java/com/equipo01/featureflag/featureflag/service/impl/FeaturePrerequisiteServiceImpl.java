@@ -0,0 +1,114 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.request.FeaturePrerequisitesRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeaturePrerequisitesResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.model.FeaturePrerequisite;
+import com.equipo01.featureflag.featureflag.repository.FeaturePrerequisiteRepository;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.repository.projections.PrerequisiteEdgeView;
+import com.equipo01.featureflag.featureflag.service.FeaturePrerequisiteService;
+import com.equipo01.featureflag.featureflag.util.TopologicalSort;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the {@link FeaturePrerequisiteService} interface.
+ *
+ * <p>A change first increments the graph version, which locks its row until the transaction ends.
+ * Changes are therefore checked for cycles one after the other, each against the graph left by the
+ * previous one, and two concurrent changes can never close a cycle between them.
+ */
+@Service
+@RequiredArgsConstructor
+public class FeaturePrerequisiteServiceImpl implements FeaturePrerequisiteService {
+
+  private final FeaturePrerequisiteRepository featurePrerequisiteRepository;
+  private final FeatureRepository featureRepository;
+  private final ProjectContext projectContext;
+
+  @Override
+  @Transactional(readOnly = true)
+  public FeaturePrerequisitesResponseDto getPrerequisites(UUID featureId) {
+    if (!featureRepository.existsByIdAndProjectId(featureId, projectContext.currentProjectId())) {
+      throw featureNotFound();
+    }
+    return toDto(
+        featureId,
+        featurePrerequisiteRepository.findByFeatureId(featureId).stream()
+            .map(FeaturePrerequisite::getPrerequisiteId)
+            .toList());
+  }
+
+  @Override
+  @Transactional
+  public FeaturePrerequisitesResponseDto replacePrerequisites(
+      UUID featureId, FeaturePrerequisitesRequestDto requestDto) {
+    featurePrerequisiteRepository.incrementGraphVersion();
+    short projectId = projectContext.currentProjectId();
+    if (!featureRepository.existsByIdAndProjectId(featureId, projectId)) {
+      throw featureNotFound();
+    }
+    // Prerequisites are features of the same project
+    Set<UUID> prerequisiteIds = new LinkedHashSet<>(requestDto.getPrerequisiteIds());
+    if (!prerequisiteIds.isEmpty()
+        && featureRepository.countByProjectIdAndIdIn(projectId, prerequisiteIds)
+            != prerequisiteIds.size()) {
+      throw featureNotFound();
+    }
+
+    // The graph as it would be after the change, to look for a cycle through the feature
+    Map<UUID, List<UUID>> graph = new HashMap<>();
+    for (PrerequisiteEdgeView edge : featurePrerequisiteRepository.findActiveEdges(projectId)) {
+      if (!edge.getFeatureId().equals(featureId)) {
+        graph
+            .computeIfAbsent(edge.getFeatureId(), id -> new ArrayList<>())
+            .add(edge.getPrerequisiteId());
+      }
+    }
+    graph.put(featureId, new ArrayList<>(prerequisiteIds));
+    try {
+      TopologicalSort.sort(graph);
+    } catch (IllegalArgumentException e) {
+      throw new FeatureFlagException(
+          MessageError.PREREQUISITE_CYCLE.getStatus(),
+          MessageError.PREREQUISITE_CYCLE.getMessage(),
+          MessageError.PREREQUISITE_CYCLE.getDescription());
+    }
+
+    featurePrerequisiteRepository.deleteByFeatureId(featureId);
+    featurePrerequisiteRepository.saveAll(
+        prerequisiteIds.stream()
+            .map(
+                prerequisiteId ->
+                    FeaturePrerequisite.builder()
+                        .featureId(featureId)
+                        .prerequisiteId(prerequisiteId)
+                        .build())
+            .toList());
+    return toDto(featureId, List.copyOf(prerequisiteIds));
+  }
+
+  private static FeaturePrerequisitesResponseDto toDto(UUID featureId, List<UUID> prerequisiteIds) {
+    return FeaturePrerequisitesResponseDto.builder()
+        .featureId(featureId)
+        .prerequisiteIds(prerequisiteIds)
+        .build();
+  }
+
+  private static FeatureFlagException featureNotFound() {
+    return new FeatureFlagException(
+        MessageError.FEATURE_NOT_FOUND.getStatus(),
+        MessageError.FEATURE_NOT_FOUND.getMessage(),
+        MessageError.FEATURE_NOT_FOUND.getDescription());
+  }
+}
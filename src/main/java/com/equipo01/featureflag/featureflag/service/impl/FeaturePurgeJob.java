@@ -0,0 +1,90 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.service.FeaturePurgeService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job purging deleted features.
+ *
+ * <p>Each run purges the features deleted so far, oldest first, deleting {@code
+ * application.purge.chunk-size} configurations per transaction and logging the progress of every
+ * feature. A run starts no new chunk once it has lasted {@code application.purge.max-run-time}, so
+ * that it never holds a scheduler thread for long. A failure stops the run. The remaining
+ * configurations are picked up again on the next run, since every chunk already committed is final.
+ */
+@Component
+@Slf4j
+public class FeaturePurgeJob {
+
+  private static final int FEATURES_PER_RUN = 100;
+
+  private final FeaturePurgeService featurePurgeService;
+  private final int chunkSize;
+  private final Duration maxRunTime;
+
+  public FeaturePurgeJob(
+      FeaturePurgeService featurePurgeService,
+      @Value("${application.purge.chunk-size:1000}") int chunkSize,
+      @Value("${application.purge.max-run-time:PT10S}") Duration maxRunTime) {
+    this.featurePurgeService = featurePurgeService;
+    this.chunkSize = chunkSize;
+    this.maxRunTime = maxRunTime;
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.purge.interval:PT30S}",
+      fixedDelayString = "${application.purge.interval:PT30S}")
+  public void purge() {
+    Instant deadline = Instant.now().plus(maxRunTime);
+    try {
+      for (UUID featureId : featurePurgeService.findFeaturesPendingPurge(FEATURES_PER_RUN)) {
+        if (!Instant.now().isBefore(deadline)) {
+          break;
+        }
+        purgeFeature(featureId, deadline);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Feature purge failed, resuming on next run", e);
+    }
+  }
+
+  /**
+   * Purges one deleted feature chunk by chunk.
+   *
+   * @param featureId the identifier of the deleted feature
+   * @return the total number of configurations deleted
+   */
+  long purgeFeature(UUID featureId) {
+    return purgeFeature(featureId, Instant.MAX);
+  }
+
+  /**
+   * Purges one deleted feature chunk by chunk, starting no chunk after the deadline.
+   *
+   * @param featureId the identifier of the deleted feature
+   * @param deadline the instant after which the rest is left to the next run
+   * @return the number of configurations deleted
+   */
+  long purgeFeature(UUID featureId, Instant deadline) {
+    long purged = 0;
+    int deleted;
+    do {
+      deleted = featurePurgeService.purgeNextChunk(featureId, chunkSize);
+      purged += deleted;
+      log.info("Purging feature {}: {} configurations deleted so far", featureId, purged);
+    } while (deleted == chunkSize && Instant.now().isBefore(deadline));
+
+    if (deleted == chunkSize) {
+      log.info("Paused purge of feature {} after {} configurations", featureId, purged);
+    } else {
+      log.info("Purged feature {} and its {} configurations", featureId, purged);
+    }
+    return purged;
+  }
+}
@@ -0,0 +1,33 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.service.FeaturePurgeService;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Implementation of the {@link FeaturePurgeService} interface. */
+@Service
+@RequiredArgsConstructor
+public class FeaturePurgeServiceImpl implements FeaturePurgeService {
+
+  private final FeatureRepository featureRepository;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<UUID> findFeaturesPendingPurge(int limit) {
+    return featureRepository.findIdsPendingPurge(limit);
+  }
+
+  @Override
+  @Transactional
+  public int purgeNextChunk(UUID featureId, int chunkSize) {
+    int deleted = featureRepository.deleteConfigsChunk(featureId, chunkSize);
+    if (deleted < chunkSize) {
+      featureRepository.deletePurgedFeature(featureId);
+    }
+    return deleted;
+  }
+}
@@ -2,23 +2,43 @@ package com.equipo01.featureflag.featureflag.service.impl;
 
 import com.equipo01.featureflag.featureflag.dto.request.FeatureRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureDetailResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureSnapshotResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.GetFeatureDetailResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.GetFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.StaleFeatureResponseDto;
 import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
 import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
 import com.equipo01.featureflag.featureflag.mapper.FeatureMapper;
 import com.equipo01.featureflag.featureflag.model.Feature;
 import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.Project;
 import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.enums.ScheduledChangeStatus;
+import com.equipo01.featureflag.featureflag.repository.FeatureEvaluationRepository;
 import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.repository.ProjectRepository;
+import com.equipo01.featureflag.featureflag.repository.ScheduledChangeRepository;
+import com.equipo01.featureflag.featureflag.repository.projections.FeatureStateView;
 import com.equipo01.featureflag.featureflag.repository.specifications.FeatureSpecification;
 import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeEventService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
 import com.equipo01.featureflag.featureflag.service.UserService;
 import com.equipo01.featureflag.featureflag.util.BaseLinkBuilder;
 import com.equipo01.featureflag.featureflag.util.LinksDtoBuilder;
 import com.equipo01.featureflag.featureflag.util.PageRequestFactory;
 import com.equipo01.featureflag.featureflag.util.QueryParamBuilder;
+import com.equipo01.featureflag.featureflag.util.targeting.EvaluationPlan;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -52,26 +72,48 @@ public class FeatureServiceImpl implements FeatureService {
   private final PageRequestFactory pageRequestFactory;
   private final QueryParamBuilder queryParamBuilder;
   private final FeatureSpecification featureSpecification;
+  private final FlagChangeEventService flagChangeEventService;
+  private final FlagChangeHistoryService flagChangeHistoryService;
+  private final EvaluationPlanCache evaluationPlanCache;
+  private final ExposurePipeline exposurePipeline;
+  private final EvaluationCounters evaluationCounters;
+  private final FeatureEvaluationRepository featureEvaluationRepository;
+  private final KillSwitchRegistry killSwitchRegistry;
+  private final ProjectContext projectContext;
+  private final ProjectRepository projectRepository;
+  private final ScheduledChangeRepository scheduledChangeRepository;
 
   /**
    * Creates a new feature flag.
    *
-   * <p>Validates that the feature name does not already exist. If it does, throws a {@link
-   * FeatureFlagException}. Otherwise, saves the new feature and returns its DTO representation.
+   * <p>The feature is created in the project the request works in. Validates that the feature name
+   * does not already exist in the project. If it does, throws a {@link FeatureFlagException}.
+   * Otherwise, saves the new feature and returns its DTO representation.
    *
    * @param requestDto the data for the new feature flag
    * @return the created feature flag as a response DTO
-   * @throws FeatureFlagException if a feature with the same name already exists
+   * @throws FeatureFlagException if a feature with the same name already exists in the project, or
+   *     if the project does not exist
    */
   @Override
   @Transactional
   public FeatureResponseDto createFeature(FeatureRequestDto requestDto) {
-
+    short projectId = projectContext.currentProjectId();
+    // The default project is created with the schema and never deleted
+    if (projectId != Project.DEFAULT_ID && !projectRepository.existsById(projectId)) {
+      throw new FeatureFlagException(
+          MessageError.PROJECT_NOT_FOUND.getStatus(),
+          MessageError.PROJECT_NOT_FOUND.getMessage(),
+          MessageError.PROJECT_NOT_FOUND.getDescription());
+    }
     existsByName(requestDto.getName());
 
     log.info("Creating new feature entity: {}", requestDto);
     Feature feature = featureMapper.toEntity(requestDto);
+    feature.setProjectId(projectId);
     Feature savedFeature = featureRepository.save(feature);
+    flagChangeEventService.recordFeatureChange(FlagChangeType.FEATURE_CREATED, savedFeature);
+    flagChangeHistoryService.recordFeatureChange(FlagChangeType.FEATURE_CREATED, savedFeature);
 
     log.info("Feature entity created successfully: {}", feature);
     return featureMapper.toDto(savedFeature);
@@ -80,7 +122,8 @@ public class FeatureServiceImpl implements FeatureService {
   /**
    * Retrieves a feature flag by its ID as a string.
    *
-   * <p>Converts the string ID to a UUID and fetches the corresponding feature.
+   * <p>Converts the string ID to a UUID and selects the feature straight into its response DTO, so
+   * no managed entity is created for this read-only lookup.
    *
    * @param featureId the ID of the feature flag as a string
    * @return the feature flag as a response DTO
@@ -89,15 +132,21 @@ public class FeatureServiceImpl implements FeatureService {
   @Transactional(readOnly = true)
   public FeatureResponseDto getFeatureById(String featureId) {
     UUID uuid = UUID.fromString(featureId);
-    Feature feature = findById(uuid);
-    return featureMapper.toDto(feature);
+    return featureRepository
+        .findDtoById(uuid, projectContext.currentProjectId())
+        .orElseThrow(
+            () ->
+                new FeatureFlagException(
+                    MessageError.FEATURE_NOT_FOUND.getStatus(),
+                    MessageError.FEATURE_NOT_FOUND.getMessage(),
+                    MessageError.FEATURE_NOT_FOUND.getDescription()));
   }
 
   /**
    * Retrieves a paginated list of feature flags based on optional filters.
    *
    * <p>Supports filtering by name (partial match) and enabledByDefault status. Returns a paginated
-   * response with links for navigation.
+   * response with links for navigation. Features are projected directly into response DTOs.
    *
    * @param name optional name filter (partial match)
    * @param enabledByDefault optional enabledByDefault filter
@@ -109,7 +158,65 @@ public class FeatureServiceImpl implements FeatureService {
   @Transactional(readOnly = true)
   public GetFeatureResponseDto getFeatures(
       String name, Boolean enabledByDefault, Integer page, Integer size) {
-    Specification<Feature> spec = featureSpecification.getFeatures(name, enabledByDefault);
+    Specification<Feature> spec =
+        featureSpecification.getFeatures(projectContext.currentProjectId(), name, enabledByDefault);
+    var pageRequest = pageRequestFactory.createPageRequest(page, size);
+
+    Page<FeatureResponseDto> featurePage = featureRepository.findDtoPage(spec, pageRequest);
+
+    isPageEmpty(featurePage);
+    var pathSegments = queryParamBuilder.buildQueryFeature(name, enabledByDefault);
+    var basePath = baseLinkBuilder.createBaseLink(pathSegments);
+    var links = linksDtoBuilder.createLinksDto(featurePage, basePath);
+
+    return GetFeatureResponseDto.builder().features(featurePage.getContent()).links(links).build();
+  }
+
+  /**
+   * Retrieves a feature flag together with all of its configurations.
+   *
+   * <p>The feature and its configurations are loaded with a single query through an entity graph.
+   *
+   * @param featureId the ID of the feature flag as a string
+   * @return the feature flag and its configurations as a response DTO
+   * @throws FeatureFlagException if the feature is not found
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public FeatureDetailResponseDto getFeatureDetailsById(String featureId) {
+    UUID uuid = UUID.fromString(featureId);
+    Feature feature =
+        featureRepository
+            .findWithConfigsByIdAndProjectId(uuid, projectContext.currentProjectId())
+            .orElseThrow(
+                () ->
+                    new FeatureFlagException(
+                        MessageError.FEATURE_NOT_FOUND.getStatus(),
+                        MessageError.FEATURE_NOT_FOUND.getMessage(),
+                        MessageError.FEATURE_NOT_FOUND.getDescription()));
+    return featureMapper.toDetailDto(feature);
+  }
+
+  /**
+   * Retrieves a paginated list of feature flags together with their configurations.
+   *
+   * <p>A fetch join cannot be combined with database-side pagination, so the page of features is
+   * loaded first and the configurations of the whole page are then initialized by Hibernate batch
+   * fetching with one additional query, independently of the page size.
+   *
+   * @param name optional name filter (partial match)
+   * @param enabledByDefault optional enabledByDefault filter
+   * @param page the page number to retrieve (0-based)
+   * @param size the number of items per page
+   * @return a paginated response DTO containing the features, their configurations and links
+   * @throws FeatureFlagException if no features are found with the provided filters
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public GetFeatureDetailResponseDto getFeatureDetails(
+      String name, Boolean enabledByDefault, Integer page, Integer size) {
+    Specification<Feature> spec =
+        featureSpecification.getFeatures(projectContext.currentProjectId(), name, enabledByDefault);
     var pageRequest = pageRequestFactory.createPageRequest(page, size);
 
     Page<Feature> featurePage = featureRepository.findAll(spec, pageRequest);
@@ -119,12 +226,51 @@ public class FeatureServiceImpl implements FeatureService {
     var basePath = baseLinkBuilder.createBaseLink(pathSegments);
     var links = linksDtoBuilder.createLinksDto(featurePage, basePath);
 
-    return GetFeatureResponseDto.builder()
-        .features(featureMapper.toDtoList(featurePage.getContent()))
+    return GetFeatureDetailResponseDto.builder()
+        .features(featureMapper.toDetailDtoList(featurePage.getContent()))
         .links(links)
         .build();
   }
 
+  /**
+   * Retrieves the environment-wide state of every feature flag of the project the request works in.
+   *
+   * <p>The state is read with a single projection query, and the resulting map keeps the features
+   * ordered by name.
+   *
+   * @param environment the environment to take the snapshot for
+   * @return the feature names mapped to their enabled state in the environment
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public FeatureSnapshotResponseDto getFeatureSnapshot(Environment environment) {
+    List<FeatureStateView> states =
+        featureRepository.findStatesByEnvironment(projectContext.currentProjectId(), environment);
+
+    Map<String, Boolean> flags = LinkedHashMap.newLinkedHashMap(states.size());
+    for (FeatureStateView state : states) {
+      flags.put(state.getName(), state.getEnabled());
+    }
+
+    return FeatureSnapshotResponseDto.builder().environment(environment).flags(flags).build();
+  }
+
+  /**
+   * Retrieves the feature flags that have not been evaluated in any environment for some days.
+   *
+   * <p>Evaluations are persisted periodically by the {@link EvaluationWatermarkJob}, so the most
+   * recent ones may not be accounted for yet, which does not matter at a granularity of days.
+   *
+   * @param days the number of days without evaluation
+   * @return the stale feature flags, never evaluated first, then least recently evaluated first
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public List<StaleFeatureResponseDto> getStaleFeatures(int days) {
+    return featureEvaluationRepository.findNotEvaluatedSince(
+        projectContext.currentProjectId(), Instant.now().minus(Duration.ofDays(days)));
+  }
+
   /**
    * Checks if the provided page of features is empty.
    *
@@ -135,7 +281,7 @@ public class FeatureServiceImpl implements FeatureService {
    * @throws FeatureFlagException if the page is empty
    */
   @Override
-  public void isPageEmpty(Page<Feature> featurePage) {
+  public void isPageEmpty(Page<?> featurePage) {
     if (featurePage.isEmpty()) {
       log.warn("No features found with the provided filters");
       throw new FeatureFlagException(
@@ -146,7 +292,7 @@ public class FeatureServiceImpl implements FeatureService {
   }
 
   /**
-   * Checks if a feature flag exists by its name.
+   * Checks if a feature flag exists by its name in the project the request works in.
    *
    * <p>If a feature with the given name exists, throws a {@link FeatureFlagException}.
    *
@@ -156,7 +302,7 @@ public class FeatureServiceImpl implements FeatureService {
    */
   @Override
   public boolean existsByName(String name) {
-    if (featureRepository.existsByName(name)) {
+    if (featureRepository.existsByName(projectContext.currentProjectId(), name)) {
       log.warn("Feature name already exists: {}", name);
       throw new FeatureFlagException(
           MessageError.FEATURE_ALREADY_EXISTS.getStatus(),
@@ -179,15 +325,15 @@ public class FeatureServiceImpl implements FeatureService {
   }
 
   /**
-   * Retrieves a feature flag by its UUID.
+   * Retrieves a feature flag of the project the request works in by its UUID.
    *
    * @param featureId the UUID of the feature flag
    * @return the Feature entity if found
-   * @throws FeatureFlagException if the feature is not found
+   * @throws FeatureFlagException if the feature is not found in the project
    */
   @Override
   public Feature findById(UUID featureId) {
-    Optional<Feature> feature = featureRepository.findById(featureId);
+    Optional<Feature> feature = featureRepository.findById(featureId).filter(this::inProject);
 
     if (feature.isEmpty()) {
       throw new FeatureFlagException(
@@ -200,7 +346,8 @@ public class FeatureServiceImpl implements FeatureService {
   }
 
   public Feature findByName(String featureName) {
-    Optional<Feature> feature = featureRepository.findByName(featureName);
+    Optional<Feature> feature =
+        featureRepository.findByProjectIdAndName(projectContext.currentProjectId(), featureName);
 
     if (feature.isEmpty()) {
       throw new FeatureFlagException(
@@ -214,36 +361,77 @@ public class FeatureServiceImpl implements FeatureService {
 
   @Transactional(readOnly = true)
   public Boolean checkFeatureIsActive(String nameFeature, UUID clientID, Environment environment) {
-    // Check if the feature exists; throws an error if not found
-    Feature feature = this.findByName(nameFeature);
+    short projectId = projectContext.currentProjectId();
+    boolean active = isActive(projectId, nameFeature, clientID, environment);
+    evaluationCounters.record(projectId, nameFeature, environment, active);
+    // Recorded off the request path, the check does not wait for the exposure to be written
+    exposurePipeline.record(projectId, nameFeature, environment, clientID.toString(), active, null);
+    return active;
+  }
+
+  private boolean isActive(
+      short projectId, String nameFeature, UUID clientID, Environment environment) {
+    // Kill switches come first, so a feature turned off during an incident costs no read
+    if (killSwitchRegistry.isKilled(projectId, nameFeature, environment)) {
+      return false;
+    }
+    // The flag and every feature it transitively depends on
+    EvaluationPlan plan = evaluationPlanCache.get(projectId);
+    int index = plan.indexOf(nameFeature);
+    List<String> names =
+        index < 0
+            ? List.of(nameFeature)
+            : Arrays.stream(plan.closure(index)).mapToObj(plan::name).toList();
+    // Resolve the client override or environment default of all of them in a single statement; a
+    // missing flag means the feature does not exist
+    Map<String, Boolean> states = new HashMap<>();
+    featureRepository
+        .findEnabledStates(projectId, names, environment, clientID.toString())
+        .forEach(state -> states.put(state.getName(), state.getEnabled()));
+    if (!states.containsKey(nameFeature)) {
+      throw new FeatureFlagException(
+          MessageError.FEATURE_NOT_FOUND.getStatus(),
+          MessageError.FEATURE_NOT_FOUND.getMessage(),
+          MessageError.FEATURE_NOT_FOUND.getDescription());
+    }
 
     // Check if the client with the given ID exists; throws an error if not found
     userService.existsByClientID(clientID);
 
-    // Get all feature configurations
-    List<FeatureConfig> featureConfigList = feature.getConfigs();
-
-    // Iterate through feature configs and look for the configuration for the given
-    // environment
-    for (FeatureConfig config : featureConfigList) {
-      if (config.getEnvironment() == environment && config.getEnabled()) return true;
+    // Every feature the flag transitively depends on must be enabled for the same client
+    for (String name : names) {
+      if (!states.getOrDefault(name, false)
+          || (!name.equals(nameFeature)
+              && killSwitchRegistry.isKilled(projectId, name, environment))) {
+        return false;
+      }
     }
-    // If the environment was not found or was found but not enabled, return false
-    return false;
+    return true;
   }
 
   /**
    * Deletes a feature flag by its UUID. If the feature with the given ID does not exist, throws a
    * {@link FeatureFlagException}.
    *
+   * <p>The feature is only marked as deleted, which hides it from every read and evaluation as soon
+   * as the transaction commits. Its configurations are not loaded here: they are removed in chunks
+   * by the background purge job, so deleting a feature with many client overrides stays a single
+   * row update. The changes still pending on its configurations are cancelled with a single
+   * statement.
+   *
    * @param featureId the UUID of the feature to be deleted.
    * @throws FeatureFlagException if the feature does not exist. {@link Transactional} annotation
    *     ensures that the delete operation is executed within a transaction.
    */
   @Transactional
   public void deleteFeature(UUID featureId) {
-    if (featureRepository.existsById(featureId)) {
-      featureRepository.deleteById(featureId);
+    Optional<Feature> feature = featureRepository.findById(featureId).filter(this::inProject);
+    if (feature.isPresent()) {
+      scheduledChangeRepository.updateStatusByFeatureId(
+          featureId, ScheduledChangeStatus.PENDING, ScheduledChangeStatus.CANCELLED);
+      feature.get().setDeletedAt(Instant.now());
+      flagChangeEventService.recordFeatureChange(FlagChangeType.FEATURE_DELETED, feature.get());
+      flagChangeHistoryService.recordFeatureChange(FlagChangeType.FEATURE_DELETED, feature.get());
     } else {
       throw new FeatureFlagException(
           MessageError.FEATURE_NOT_FOUND.getStatus(),
@@ -262,13 +450,30 @@ public class FeatureServiceImpl implements FeatureService {
    * @param requestDto a DTO containing the clientID and/or environment where the feature sholud be
    *     enabled.
    * @param enabled a boolean indicating wether to enable (true) or disable (false) the feature
-   * @throws FeatureFlagException if the feature does not exist or if the requestDto is invalid.
+   * @param expectedVersion the feature version the change is based on, or null to skip the check
+   * @throws FeatureFlagException if the feature does not exist, if the requestDto is invalid or if
+   *     the feature version does not match {@code expectedVersion}.
    */
   @Override
+  @Transactional
   public void updateFeatureForClientOrEnvironment(
-      UUID featureId, FeatureToggleRequestDto toggleRequestDto, boolean enable) {
-    // 1. Retrives the feature by its ID, if not found, throws an exception
-    Feature feature = this.findById(featureId);
+      UUID featureId,
+      FeatureToggleRequestDto toggleRequestDto,
+      boolean enable,
+      Long expectedVersion) {
+    // 1. Retrives the feature with its configurations, if not found, throws an exception.
+    // The feature is locked so that its version is incremented on commit.
+    Feature feature =
+        featureRepository
+            .findForUpdateById(featureId)
+            .filter(this::inProject)
+            .orElseThrow(
+                () ->
+                    new FeatureFlagException(
+                        MessageError.FEATURE_NOT_FOUND.getStatus(),
+                        MessageError.FEATURE_NOT_FOUND.getMessage(),
+                        MessageError.FEATURE_NOT_FOUND.getDescription()));
+    checkExpectedVersion(feature, expectedVersion);
     // 2. Validates the request DTO (must contain at least clientId or environment)
     validateFeatureToggleRequest(toggleRequestDto);
     // 3. Get the list of configurations associates with this feature
@@ -293,8 +498,16 @@ public class FeatureServiceImpl implements FeatureService {
             .toList();
 
     if (!targetConfig.isEmpty()) {
-      targetConfig.forEach(fc -> fc.setEnabled(enable));
+      targetConfig.forEach(
+          fc -> {
+            Boolean enabledBefore = fc.getEnabled();
+            fc.setEnabled(enable);
+            flagChangeHistoryService.recordConfigChange(
+                FlagChangeType.CONFIG_TOGGLED, fc, enabledBefore);
+          });
       featureRepository.save(feature);
+      targetConfig.forEach(
+          fc -> flagChangeEventService.recordConfigChange(FlagChangeType.CONFIG_TOGGLED, fc));
     } else {
       throw new FeatureFlagException(
           HttpStatus.NOT_FOUND,
@@ -303,6 +516,34 @@ public class FeatureServiceImpl implements FeatureService {
     }
   }
 
+  /**
+   * Tells whether a feature belongs to the project the request works in. Features of other projects
+   * are reported as not found rather than forbidden, so their identifiers reveal nothing.
+   *
+   * @param feature the feature
+   * @return true if the feature belongs to the project
+   */
+  private boolean inProject(Feature feature) {
+    return Short.valueOf(projectContext.currentProjectId()).equals(feature.getProjectId());
+  }
+
+  /**
+   * Rejects a change based on an outdated version of the feature. A concurrent change committed
+   * after this check is still detected on commit through the version column.
+   *
+   * @param feature the current feature
+   * @param expectedVersion the version the client based its change on, or null to skip the check
+   * @throws FeatureFlagException with VERSION_MISMATCH details if the versions differ
+   */
+  private void checkExpectedVersion(Feature feature, Long expectedVersion) {
+    if (expectedVersion != null && !expectedVersion.equals(feature.getVersion())) {
+      throw new FeatureFlagException(
+          MessageError.VERSION_MISMATCH.getStatus(),
+          MessageError.VERSION_MISMATCH.getMessage(),
+          MessageError.VERSION_MISMATCH.getDescription());
+    }
+  }
+
   /**
    * Validates the given DTO. The DTO must contain at least one of the following fields: {@code
    * clientId} or {@code environment} -if both are null, an exception will be thrown. -If {@code
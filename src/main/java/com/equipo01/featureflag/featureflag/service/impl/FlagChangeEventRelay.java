@@ -0,0 +1,44 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.service.FlagChangeEventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job draining the flag change outbox.
+ *
+ * <p>Each run relays batches of {@code application.outbox.relay.batch-size} entries, one
+ * transaction per batch, until the outbox holds less than a full batch. Changes committed by many
+ * writes in between two runs are therefore propagated together, in sequence order.
+ */
+@Component
+@Slf4j
+public class FlagChangeEventRelay {
+
+  private final FlagChangeEventService flagChangeEventService;
+  private final int batchSize;
+
+  public FlagChangeEventRelay(
+      FlagChangeEventService flagChangeEventService,
+      @Value("${application.outbox.relay.batch-size:100}") int batchSize) {
+    this.flagChangeEventService = flagChangeEventService;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.outbox.relay.interval:PT1S}",
+      fixedDelayString = "${application.outbox.relay.interval:PT1S}")
+  public void relay() {
+    try {
+      int relayed;
+      do {
+        relayed = flagChangeEventService.relayPendingEvents(batchSize);
+      } while (relayed == batchSize);
+    } catch (RuntimeException e) {
+      // Leave the failed batch in the outbox; it is retried on the next run
+      log.warn("Flag change relay failed, retrying on next run", e);
+    }
+  }
+}
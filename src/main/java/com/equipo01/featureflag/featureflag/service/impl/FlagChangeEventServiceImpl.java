@@ -0,0 +1,109 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.FlagChangeEvent;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.repository.FlagChangeEventRepository;
+import com.equipo01.featureflag.featureflag.service.FlagChangeEventService;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the {@link FlagChangeEventService} interface.
+ *
+ * <p>Record methods use {@link Propagation#MANDATORY}: they join the transaction of the mutation
+ * that triggered them and fail fast if called outside one, instead of silently committing the entry
+ * on its own.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlagChangeEventServiceImpl implements FlagChangeEventService {
+
+  private final FlagChangeEventRepository flagChangeEventRepository;
+  private final FeatureConfigRepository featureConfigRepository;
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordFeatureChange(FlagChangeType type, Feature feature) {
+    flagChangeEventRepository.save(
+        FlagChangeEvent.builder()
+            .type(type)
+            .featureId(feature.getId())
+            .enabled(feature.getEnabledByDefault())
+            .createdAt(Instant.now())
+            .build());
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordConfigChange(FlagChangeType type, FeatureConfig featureConfig) {
+    flagChangeEventRepository.save(
+        FlagChangeEvent.builder()
+            .type(type)
+            .featureId(featureConfig.getFeature().getId())
+            .featureConfigId(featureConfig.getId())
+            .environment(featureConfig.getEnvironment())
+            .clientId(featureConfig.getClientId())
+            .enabled(featureConfig.getEnabled())
+            .createdAt(Instant.now())
+            .build());
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public int recordConfigToggles(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled) {
+    return featureConfigRepository.insertChangeEvents(
+        projectId, featureIds, environments, clientIds, enabled, FlagChangeType.CONFIG_TOGGLED);
+  }
+
+  @Override
+  @Transactional
+  public int relayPendingEvents(int batchSize) {
+    List<FlagChangeEvent> batch = flagChangeEventRepository.findByOrderByIdAsc(Limit.of(batchSize));
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    batch.forEach(event -> applicationEventPublisher.publishEvent(toApplicationEvent(event)));
+    flagChangeEventRepository.deleteAllInBatch(batch);
+
+    log.debug(
+        "Relayed {} flag change events up to sequence {}",
+        batch.size(),
+        batch.get(batch.size() - 1).getId());
+    return batch.size();
+  }
+
+  private static FlagChangedEvent toApplicationEvent(FlagChangeEvent event) {
+    return FlagChangedEvent.builder()
+        .sequence(event.getId())
+        .type(event.getType())
+        .featureId(event.getFeatureId())
+        .featureConfigId(event.getFeatureConfigId())
+        .environment(event.getEnvironment())
+        .clientId(event.getClientId())
+        .enabled(event.getEnabled())
+        .occurredAt(event.getCreatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,278 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigStateDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagChangeHistoryResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagHistoryStateResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.mapper.FlagChangeHistoryMapper;
+import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.FlagChangeHistory;
+import com.equipo01.featureflag.featureflag.model.FlagHistoryCheckpoint;
+import com.equipo01.featureflag.featureflag.model.FlagHistoryCheckpointEntry;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.repository.FlagChangeHistoryRepository;
+import com.equipo01.featureflag.featureflag.repository.FlagHistoryCheckpointEntryRepository;
+import com.equipo01.featureflag.featureflag.repository.FlagHistoryCheckpointRepository;
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the {@link FlagChangeHistoryService} interface.
+ *
+ * <p>Record methods use {@link Propagation#MANDATORY}, like the outbox, so a history entry always
+ * commits or rolls back with the change it describes. The actor is the authenticated user of the
+ * current request, or {@value #SYSTEM_ACTOR} when the change is made by a background job.
+ *
+ * <p>Checkpoints after the first one are derived from the previous checkpoint and the history
+ * itself rather than from the live tables, so rebuilding a state from a checkpoint and replaying
+ * the history from an older one always agree.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlagChangeHistoryServiceImpl implements FlagChangeHistoryService {
+
+  /** Actor recorded for changes made outside of an authenticated request. */
+  static final String SYSTEM_ACTOR = "system";
+
+  private static final Comparator<FeatureConfigStateDto> STATE_ORDER =
+      Comparator.comparing(FeatureConfigStateDto::getFeatureId)
+          .thenComparing(
+              FeatureConfigStateDto::getClientId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+  private final FlagChangeHistoryRepository flagChangeHistoryRepository;
+  private final FlagHistoryCheckpointRepository flagHistoryCheckpointRepository;
+  private final FlagHistoryCheckpointEntryRepository flagHistoryCheckpointEntryRepository;
+  private final FeatureConfigRepository featureConfigRepository;
+  private final FlagChangeHistoryMapper flagChangeHistoryMapper;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordFeatureChange(FlagChangeType type, Feature feature) {
+    boolean created = type == FlagChangeType.FEATURE_CREATED;
+    flagChangeHistoryRepository.save(
+        FlagChangeHistory.builder()
+            .type(type)
+            .actor(currentActor())
+            .featureId(feature.getId())
+            .enabledBefore(created ? null : feature.getEnabledByDefault())
+            .enabledAfter(created ? feature.getEnabledByDefault() : null)
+            .changedAt(Instant.now())
+            .build());
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordConfigChange(
+      FlagChangeType type, FeatureConfig featureConfig, Boolean enabledBefore) {
+    flagChangeHistoryRepository.save(
+        FlagChangeHistory.builder()
+            .type(type)
+            .actor(currentActor())
+            .featureId(featureConfig.getFeature().getId())
+            .featureConfigId(featureConfig.getId())
+            .environment(featureConfig.getEnvironment())
+            .clientId(featureConfig.getClientId())
+            .enabledBefore(enabledBefore)
+            .enabledAfter(type == FlagChangeType.CONFIG_DELETED ? null : featureConfig.getEnabled())
+            .changedAt(Instant.now())
+            .build());
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordConfigToggles(
+      short projectId,
+      Collection<UUID> featureIds,
+      Collection<Environment> environments,
+      Collection<String> clientIds,
+      boolean enabled) {
+    featureConfigRepository.insertToggleHistory(
+        projectId, featureIds, environments, clientIds, enabled, currentActor());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<FlagChangeHistoryResponseDto> getFeatureHistory(UUID featureId, int limit) {
+    return flagChangeHistoryMapper.toDtoList(
+        flagChangeHistoryRepository.findByFeatureIdOrderByIdDesc(featureId, Limit.of(limit)));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public FlagHistoryStateResponseDto getStateAt(Environment environment, Instant at) {
+    FlagHistoryCheckpoint checkpoint =
+        flagHistoryCheckpointRepository
+            .findFirstByAsOfLessThanEqualOrderByAsOfDescIdDesc(at)
+            .orElseThrow(
+                () ->
+                    new FeatureFlagException(
+                        MessageError.HISTORY_NOT_AVAILABLE.getStatus(),
+                        MessageError.HISTORY_NOT_AVAILABLE.getMessage(),
+                        MessageError.HISTORY_NOT_AVAILABLE.getDescription()));
+
+    Map<UUID, FeatureConfigStateDto> state =
+        toStateMap(
+            flagHistoryCheckpointEntryRepository.findByCheckpointIdAndEnvironmentId(
+                checkpoint.getId(), (short) environment.id()));
+    List<FlagChangeHistory> tail =
+        flagChangeHistoryRepository.findTail(checkpoint.getLastHistoryId(), at, environment);
+    tail.forEach(change -> replay(state, change));
+
+    return FlagHistoryStateResponseDto.builder()
+        .environment(environment)
+        .at(at)
+        .checkpointAsOf(checkpoint.getAsOf())
+        .replayedChanges(tail.size())
+        .configurations(state.values().stream().sorted(STATE_ORDER).toList())
+        .build();
+  }
+
+  @Override
+  @Transactional
+  public boolean createInitialCheckpoint() {
+    if (flagHistoryCheckpointRepository.findFirstByOrderByIdDesc().isPresent()) {
+      return false;
+    }
+    Instant now = Instant.now();
+    FlagHistoryCheckpoint checkpoint =
+        flagHistoryCheckpointRepository.save(
+            FlagHistoryCheckpoint.builder()
+                .lastHistoryId(flagChangeHistoryRepository.findLastId())
+                .asOf(now)
+                .createdAt(now)
+                .build());
+    int entries = flagHistoryCheckpointEntryRepository.insertCurrentState(checkpoint.getId());
+    log.info(
+        "Took initial history checkpoint {} with {} configurations", checkpoint.getId(), entries);
+    return true;
+  }
+
+  @Override
+  @Transactional
+  public boolean createCheckpoint(Instant settledBefore) {
+    Optional<FlagHistoryCheckpoint> latest =
+        flagHistoryCheckpointRepository.findFirstByOrderByIdDesc();
+    if (latest.isEmpty()) {
+      return createInitialCheckpoint();
+    }
+    FlagHistoryCheckpoint previous = latest.get();
+    Optional<Long> lastSettledId =
+        flagChangeHistoryRepository.findLastIdSettledBefore(
+            previous.getLastHistoryId(), settledBefore);
+    if (lastSettledId.isEmpty()) {
+      return false;
+    }
+
+    Map<UUID, FeatureConfigStateDto> state =
+        toStateMap(flagHistoryCheckpointEntryRepository.findByCheckpointId(previous.getId()));
+    Instant asOf = previous.getAsOf();
+    for (FlagChangeHistory change :
+        flagChangeHistoryRepository.findRange(previous.getLastHistoryId(), lastSettledId.get())) {
+      replay(state, change);
+      if (change.getChangedAt().isAfter(asOf)) {
+        asOf = change.getChangedAt();
+      }
+    }
+
+    FlagHistoryCheckpoint checkpoint =
+        flagHistoryCheckpointRepository.save(
+            FlagHistoryCheckpoint.builder()
+                .lastHistoryId(lastSettledId.get())
+                .asOf(asOf)
+                .createdAt(Instant.now())
+                .build());
+    flagHistoryCheckpointEntryRepository.saveAll(
+        state.values().stream()
+            .map(
+                configState ->
+                    FlagHistoryCheckpointEntry.builder()
+                        .checkpointId(checkpoint.getId())
+                        .environmentId((short) configState.getEnvironment().id())
+                        .featureConfigId(configState.getFeatureConfigId())
+                        .featureId(configState.getFeatureId())
+                        .clientId(configState.getClientId())
+                        .enabled(configState.getEnabled())
+                        .build())
+            .toList());
+    return true;
+  }
+
+  @Override
+  @Transactional
+  public int purgeCheckpoints(Instant cutoff) {
+    return flagHistoryCheckpointRepository
+        .findFirstByOrderByIdDesc()
+        .map(latest -> flagHistoryCheckpointRepository.deleteCreatedBefore(cutoff, latest.getId()))
+        .orElse(0);
+  }
+
+  private static Map<UUID, FeatureConfigStateDto> toStateMap(
+      List<FlagHistoryCheckpointEntry> entries) {
+    Map<UUID, FeatureConfigStateDto> state = HashMap.newHashMap(entries.size());
+    for (FlagHistoryCheckpointEntry entry : entries) {
+      state.put(
+          entry.getFeatureConfigId(),
+          FeatureConfigStateDto.builder()
+              .featureConfigId(entry.getFeatureConfigId())
+              .featureId(entry.getFeatureId())
+              .environment(entry.getEnvironment())
+              .clientId(entry.getClientId())
+              .enabled(entry.getEnabled())
+              .build());
+    }
+    return state;
+  }
+
+  /** Applies one history entry to a configuration state keyed by configuration id. */
+  private static void replay(Map<UUID, FeatureConfigStateDto> state, FlagChangeHistory change) {
+    switch (change.getType()) {
+      case CONFIG_UPSERTED, CONFIG_TOGGLED -> state.put(
+          change.getFeatureConfigId(),
+          FeatureConfigStateDto.builder()
+              .featureConfigId(change.getFeatureConfigId())
+              .featureId(change.getFeatureId())
+              .environment(change.getEnvironment())
+              .clientId(change.getClientId())
+              .enabled(change.getEnabledAfter())
+              .build());
+      case CONFIG_DELETED -> state.remove(change.getFeatureConfigId());
+      case FEATURE_DELETED -> state
+          .values()
+          .removeIf(configState -> configState.getFeatureId().equals(change.getFeatureId()));
+      case FEATURE_CREATED -> {
+        // A new feature has no configurations yet
+      }
+    }
+  }
+
+  private static String currentActor() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return SYSTEM_ACTOR;
+    }
+    return authentication.getName();
+  }
+}
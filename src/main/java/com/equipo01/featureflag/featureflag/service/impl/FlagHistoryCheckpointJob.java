@@ -0,0 +1,59 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job taking change history checkpoints.
+ *
+ * <p>The first checkpoint is taken from the live tables when the application starts with none. Each
+ * run then takes a new checkpoint including the changes made more than {@code
+ * application.history.checkpoint.settle-delay} ago, which bounds the tail replayed to rebuild a
+ * past state to roughly one {@code interval} of changes, and deletes checkpoints older than {@code
+ * retention}.
+ */
+@Component
+@Slf4j
+public class FlagHistoryCheckpointJob {
+
+  private final FlagChangeHistoryService flagChangeHistoryService;
+  private final Duration settleDelay;
+  private final Duration retention;
+
+  public FlagHistoryCheckpointJob(
+      FlagChangeHistoryService flagChangeHistoryService,
+      @Value("${application.history.checkpoint.settle-delay:PT1M}") Duration settleDelay,
+      @Value("${application.history.checkpoint.retention:P90D}") Duration retention) {
+    this.flagChangeHistoryService = flagChangeHistoryService;
+    this.settleDelay = settleDelay;
+    this.retention = retention;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void createInitialCheckpoint() {
+    flagChangeHistoryService.createInitialCheckpoint();
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.history.checkpoint.interval:PT1H}",
+      fixedDelayString = "${application.history.checkpoint.interval:PT1H}")
+  public void createCheckpoint() {
+    try {
+      Instant now = Instant.now();
+      flagChangeHistoryService.createCheckpoint(now.minus(settleDelay));
+      int purged = flagChangeHistoryService.purgeCheckpoints(now.minus(retention));
+      if (purged > 0) {
+        log.info("Deleted {} expired history checkpoints", purged);
+      }
+    } catch (RuntimeException e) {
+      log.warn("History checkpoint failed, retrying on next run", e);
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.util.targeting.EvaluationPlan;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the enabled state of every feature in memory, so that the evaluation server answers checks
+ * without reading the database.
+ *
+ * <p>The states are held per project and feature name, each feature keeping its environment
+ * defaults in an array indexed by environment identifier and its client configurations in one map
+ * per environment. The prerequisites of each project are held as an {@link EvaluationPlan}, and the
+ * known clients as a set of identifiers. All of it is replaced together through a single volatile
+ * field, so a check is one volatile read and a few hash lookups, takes no lock and allocates
+ * nothing unless the feature has prerequisites. Only the environments served by this instance are
+ * held.
+ *
+ * <p>A check gives the same answer as {@link FeatureServiceImpl#checkFeatureIsActive} against the
+ * states last loaded. They are loaded before the application takes requests and read again every
+ * {@code application.evaluation-server.refresh-interval}, which bounds how long a change, made on
+ * any instance, takes to reach the evaluation server. The registry only exists where the evaluation
+ * server is enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "application.evaluation-server.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class FlagStateRegistry {
+
+  private static final String SELECT_STATES =
+      "SELECT f.project_id, f.name, c.environment, c.client_id, c.enabled FROM features f "
+          + "LEFT JOIN feature_configs c ON c.feature_id = f.feature_id "
+          + "WHERE f.deleted_at IS NULL";
+
+  private static final String SELECT_PREREQUISITES =
+      "SELECT f.project_id, f.name, p.name AS prerequisite_name FROM feature_prerequisites fp "
+          + "JOIN features f ON f.feature_id = fp.feature_id "
+          + "JOIN features p ON p.feature_id = fp.prerequisite_id "
+          + "WHERE f.deleted_at IS NULL AND p.deleted_at IS NULL";
+
+  private static final String SELECT_CLIENTS = "SELECT id FROM users";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EnvironmentRegistry environmentRegistry;
+  private final KillSwitchRegistry killSwitchRegistry;
+
+  private volatile FlagStates flagStates = new FlagStates(Map.of(), Set.of());
+
+  /** Outcome of a check. */
+  public enum Check {
+    ENABLED,
+    DISABLED,
+    FEATURE_NOT_FOUND,
+    CLIENT_NOT_FOUND
+  }
+
+  @PostConstruct
+  void loadFlagStates() {
+    refresh();
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.evaluation-server.refresh-interval:PT2S}",
+      fixedDelayString = "${application.evaluation-server.refresh-interval:PT2S}")
+  public void refreshFlagStates() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      log.warn("Flag state refresh failed, retrying on next run", e);
+    }
+  }
+
+  /** Replaces the states held with the stored ones. */
+  public synchronized void refresh() {
+    Map<Short, Map<String, FlagState.Builder>> builders = new HashMap<>();
+    jdbcTemplate.query(
+        SELECT_STATES,
+        row -> {
+          FlagState.Builder builder =
+              builders
+                  .computeIfAbsent(row.getShort("project_id"), project -> new HashMap<>())
+                  .computeIfAbsent(row.getString("name"), name -> new FlagState.Builder());
+          int environmentId = row.getInt("environment");
+          // A feature without configurations comes with a single row of nulls
+          if (!row.wasNull() && isServed(environmentId)) {
+            builder.add(environmentId, row.getString("client_id"), row.getBoolean("enabled"));
+          }
+        });
+    Map<Short, Map<String, List<String>>> prerequisites = new HashMap<>();
+    jdbcTemplate.query(
+        SELECT_PREREQUISITES,
+        row -> {
+          prerequisites
+              .computeIfAbsent(row.getShort("project_id"), project -> new HashMap<>())
+              .computeIfAbsent(row.getString("name"), name -> new ArrayList<>())
+              .add(row.getString("prerequisite_name"));
+        });
+    Set<UUID> clients = new HashSet<>();
+    jdbcTemplate.query(
+        SELECT_CLIENTS,
+        row -> {
+          clients.add(row.getObject("id", UUID.class));
+        });
+
+    Map<Short, ProjectStates> projects = new HashMap<>();
+    builders.forEach(
+        (projectId, features) -> {
+          Map<String, FlagState> states = new HashMap<>();
+          features.forEach((name, builder) -> states.put(name, builder.build()));
+          projects.put(
+              projectId,
+              new ProjectStates(
+                  Map.copyOf(states),
+                  EvaluationPlan.build(0, prerequisites.getOrDefault(projectId, Map.of()))));
+        });
+    flagStates = new FlagStates(Map.copyOf(projects), Set.copyOf(clients));
+  }
+
+  /**
+   * Checks whether a feature is active for a client, like {@link
+   * FeatureServiceImpl#checkFeatureIsActive}: kill switches first, then the client's own
+   * configuration or the environment default, then every prerequisite for the same client.
+   *
+   * @param projectId the project of the feature
+   * @param featureName the name of the feature
+   * @param environment the environment to check the feature in, served by this instance
+   * @param clientId the client to check the feature for
+   * @return the outcome of the check
+   */
+  public Check check(short projectId, String featureName, Environment environment, UUID clientId) {
+    if (killSwitchRegistry.isKilled(projectId, featureName, environment)) {
+      return Check.DISABLED;
+    }
+    FlagStates current = flagStates;
+    ProjectStates project = current.projects().get(projectId);
+    FlagState state = project != null ? project.flags().get(featureName) : null;
+    if (state == null) {
+      return Check.FEATURE_NOT_FOUND;
+    }
+    if (!current.clients().contains(clientId)) {
+      return Check.CLIENT_NOT_FOUND;
+    }
+    String client = clientId.toString();
+    if (!state.isEnabled(environment.id(), client)) {
+      return Check.DISABLED;
+    }
+    EvaluationPlan plan = project.plan();
+    int index = plan.indexOf(featureName);
+    if (index < 0) {
+      return Check.ENABLED;
+    }
+    // Every feature the flag transitively depends on must be enabled for the same client
+    for (int prerequisite : plan.closure(index)) {
+      if (prerequisite == index) {
+        continue;
+      }
+      String name = plan.name(prerequisite);
+      FlagState prerequisiteState = project.flags().get(name);
+      if (killSwitchRegistry.isKilled(projectId, name, environment)
+          || prerequisiteState == null
+          || !prerequisiteState.isEnabled(environment.id(), client)) {
+        return Check.DISABLED;
+      }
+    }
+    return Check.ENABLED;
+  }
+
+  private boolean isServed(int environmentId) {
+    Environment environment = Environment.find(environmentId);
+    return environment != null && environmentRegistry.isServed(environment);
+  }
+
+  // Never modified once published
+  private record FlagStates(Map<Short, ProjectStates> projects, Set<UUID> clients) {}
+
+  private record ProjectStates(Map<String, FlagState> flags, EvaluationPlan plan) {}
+
+  /** Enabled state of one feature in every served environment. Never modified once built. */
+  private static final class FlagState {
+
+    private final boolean[] defaults;
+    private final Map<String, Boolean>[] clients;
+
+    private FlagState(boolean[] defaults, Map<String, Boolean>[] clients) {
+      this.defaults = defaults;
+      this.clients = clients;
+    }
+
+    /** Resolves the client's own configuration, then the environment default, then disabled. */
+    boolean isEnabled(int environmentId, String clientId) {
+      if (environmentId < clients.length && clients[environmentId] != null) {
+        Boolean own = clients[environmentId].get(clientId);
+        if (own != null) {
+          return own;
+        }
+      }
+      return environmentId < defaults.length && defaults[environmentId];
+    }
+
+    private static final class Builder {
+
+      private final Map<Integer, Boolean> defaults = new HashMap<>();
+      private final Map<Integer, Map<String, Boolean>> clients = new HashMap<>();
+
+      void add(int environmentId, String clientId, boolean enabled) {
+        if (clientId == null) {
+          defaults.put(environmentId, enabled);
+        } else {
+          clients.computeIfAbsent(environmentId, id -> new HashMap<>()).put(clientId, enabled);
+        }
+      }
+
+      @SuppressWarnings("unchecked")
+      FlagState build() {
+        int length = 0;
+        for (int environmentId : defaults.keySet()) {
+          length = Math.max(length, environmentId + 1);
+        }
+        boolean[] enabledDefaults = new boolean[length];
+        defaults.forEach((environmentId, enabled) -> enabledDefaults[environmentId] = enabled);
+        length = 0;
+        for (int environmentId : clients.keySet()) {
+          length = Math.max(length, environmentId + 1);
+        }
+        Map<String, Boolean>[] enabledClients = new Map[length];
+        clients.forEach(
+            (environmentId, byClient) -> enabledClients[environmentId] = Map.copyOf(byClient));
+        return new FlagState(enabledDefaults, enabledClients);
+      }
+    }
+  }
+}
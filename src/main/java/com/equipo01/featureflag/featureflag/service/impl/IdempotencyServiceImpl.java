@@ -0,0 +1,139 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.IdempotencyRecord;
+import com.equipo01.featureflag.featureflag.repository.IdempotencyRecordRepository;
+import com.equipo01.featureflag.featureflag.service.IdempotencyService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the {@link IdempotencyService} interface.
+ *
+ * <p>The in-memory store is an access-ordered {@link LinkedHashMap} evicting its least recently
+ * used entry beyond {@code application.idempotency.cache-size} entries. Only completed records are
+ * cached: a reservation must always be read from the table, where concurrent requests contend for
+ * it.
+ *
+ * <p>A reservation is leased for {@code application.idempotency.lease}: if the instance processing
+ * the request crashes, the key is freed once the lease expires instead of rejecting every retry
+ * until the key itself expires. The lease must outlast the slowest request, or a retry would
+ * process the request a second time.
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+  private final IdempotencyRecordRepository idempotencyRecordRepository;
+  private final Duration ttl;
+  private final Duration lease;
+  private final Map<String, IdempotencyRecord> recentRecords;
+
+  public IdempotencyServiceImpl(
+      IdempotencyRecordRepository idempotencyRecordRepository,
+      @Value("${application.idempotency.ttl:PT24H}") Duration ttl,
+      @Value("${application.idempotency.lease:PT1M}") Duration lease,
+      @Value("${application.idempotency.cache-size:10000}") int cacheSize) {
+    this.idempotencyRecordRepository = idempotencyRecordRepository;
+    this.ttl = ttl;
+    this.lease = lease;
+    this.recentRecords =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+              }
+            });
+  }
+
+  @Override
+  public Optional<IdempotencyRecord> find(String id) {
+    IdempotencyRecord cached = recentRecords.get(id);
+    if (cached != null && !isExpired(cached)) {
+      return Optional.of(cached);
+    }
+
+    Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findById(id);
+    if (stored.isEmpty()) {
+      return Optional.empty();
+    }
+    if (isExpired(stored.get())) {
+      // Expired but not purged yet: free the key so that it can be reserved again
+      recentRecords.remove(id);
+      idempotencyRecordRepository.deleteById(id);
+      return Optional.empty();
+    }
+    if (stored.get().isAbandoned(Instant.now())) {
+      // Left by a crashed instance: free the key unless a retry reserved it again meanwhile
+      if (idempotencyRecordRepository.deleteAbandoned(id, Instant.now()) > 0) {
+        log.warn("Released idempotency key {} abandoned before completion", id);
+        return Optional.empty();
+      }
+      return idempotencyRecordRepository.findById(id);
+    }
+    if (stored.get().isCompleted()) {
+      recentRecords.put(id, stored.get());
+    }
+    return stored;
+  }
+
+  @Override
+  public boolean reserve(String id, String requestHash) {
+    try {
+      Instant now = Instant.now();
+      idempotencyRecordRepository.reserve(id, requestHash, now, now.plus(lease));
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void complete(
+      String id, String requestHash, int statusCode, String contentType, byte[] responseBody) {
+    idempotencyRecordRepository.complete(id, statusCode, contentType, responseBody);
+    recentRecords.put(
+        id,
+        IdempotencyRecord.builder()
+            .id(id)
+            .requestHash(requestHash)
+            .statusCode(statusCode)
+            .contentType(contentType)
+            .responseBody(responseBody)
+            .createdAt(Instant.now())
+            .build());
+  }
+
+  @Override
+  public void release(String id) {
+    recentRecords.remove(id);
+    idempotencyRecordRepository.deleteById(id);
+  }
+
+  @Override
+  @Scheduled(
+      initialDelayString = "${application.idempotency.cleanup-interval:PT1H}",
+      fixedDelayString = "${application.idempotency.cleanup-interval:PT1H}")
+  public int purgeExpired() {
+    Instant threshold = Instant.now().minus(ttl);
+    synchronized (recentRecords) {
+      recentRecords.values().removeIf(record -> record.getCreatedAt().isBefore(threshold));
+    }
+    int deleted = idempotencyRecordRepository.deleteCreatedBefore(threshold);
+    log.debug("Purged {} expired idempotency keys", deleted);
+    return deleted;
+  }
+
+  private boolean isExpired(IdempotencyRecord record) {
+    return record.getCreatedAt().isBefore(Instant.now().minus(ttl));
+  }
+}
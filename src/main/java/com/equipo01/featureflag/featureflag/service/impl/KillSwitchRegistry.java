@@ -0,0 +1,136 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import jakarta.annotation.PostConstruct;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the engaged kill switches, which evaluations check before anything else.
+ *
+ * <p>Emergency mode is engaged per project and environment: the environments in emergency mode are
+ * a bitset indexed by environment identifier for each project, and the features turned off a set of
+ * names per project, both replaced together through a single volatile field. A check is therefore
+ * one volatile read, a bit test and up to three hash lookups, and takes no lock. Features have no
+ * dense identifier, so unlike environments they are held by name, which is only unique within a
+ * project.
+ *
+ * <p>The kill switches are loaded before the application takes requests and read again after each
+ * change made on this instance commits, so a change takes effect in the next evaluation here.
+ * Changes made by other instances are picked up every {@code
+ * application.kill-switches.refresh-interval}; the table only ever holds a few rows, so it is read
+ * whole with plain JDBC.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KillSwitchRegistry {
+
+  private static final String SELECT_KILL_SWITCHES =
+      "SELECT k.project_id, k.environment, f.name FROM kill_switches k "
+          + "LEFT JOIN features f ON f.feature_id = k.feature_id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private volatile KillSwitches killSwitches = new KillSwitches(Map.of(), Map.of(), 0, 0);
+
+  @PostConstruct
+  void loadKillSwitches() {
+    refresh();
+    KillSwitches loaded = killSwitches;
+    if (loaded.featureCount() > 0 || loaded.emergencyCount() > 0) {
+      log.warn(
+          "Kill switches engaged for {} features and {} project environments",
+          loaded.featureCount(),
+          loaded.emergencyCount());
+    }
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.kill-switches.refresh-interval:PT2S}",
+      fixedDelayString = "${application.kill-switches.refresh-interval:PT2S}")
+  public void refreshKillSwitches() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      log.warn("Kill switch refresh failed, retrying on next run", e);
+    }
+  }
+
+  /** Replaces the kill switches held with the stored ones. */
+  public synchronized void refresh() {
+    Map<Short, BitSet> emergencies = new HashMap<>();
+    Map<Short, Set<String>> features = new HashMap<>();
+    int[] counts = new int[2];
+    jdbcTemplate.query(
+        SELECT_KILL_SWITCHES,
+        row -> {
+          short projectId = row.getShort("project_id");
+          int environment = row.getInt("environment");
+          if (!row.wasNull()) {
+            emergencies.computeIfAbsent(projectId, project -> new BitSet()).set(environment);
+            counts[1]++;
+          }
+          String feature = row.getString("name");
+          if (feature != null) {
+            features.computeIfAbsent(projectId, project -> new HashSet<>()).add(feature);
+            counts[0]++;
+          }
+        });
+    Map<Short, Set<String>> published = new HashMap<>();
+    features.forEach((project, names) -> published.put(project, Set.copyOf(names)));
+    killSwitches =
+        new KillSwitches(Map.copyOf(emergencies), Map.copyOf(published), counts[0], counts[1]);
+  }
+
+  /**
+   * Checks whether a feature is turned off by a kill switch, either its own or the emergency mode
+   * of the environment in its project.
+   *
+   * @param projectId the project of the feature
+   * @param featureName the name of the feature
+   * @param environment the environment the feature is evaluated in
+   * @return true if the feature must evaluate to disabled
+   */
+  public boolean isKilled(short projectId, String featureName, Environment environment) {
+    KillSwitches current = killSwitches;
+    if (isEmergency(current, projectId, environment)) {
+      return true;
+    }
+    Set<String> features = current.features().get(projectId);
+    return features != null && features.contains(featureName);
+  }
+
+  /**
+   * Checks whether an environment is in emergency mode in a project, which turns every feature of
+   * the project off in it.
+   *
+   * @param projectId the project
+   * @param environment the environment
+   * @return true if the environment is in emergency mode in the project
+   */
+  public boolean isEmergency(short projectId, Environment environment) {
+    return isEmergency(killSwitches, projectId, environment);
+  }
+
+  private static boolean isEmergency(
+      KillSwitches current, short projectId, Environment environment) {
+    BitSet emergencies = current.emergencies().get(projectId);
+    return emergencies != null && emergencies.get(environment.id());
+  }
+
+  // Never modified once published
+  private record KillSwitches(
+      Map<Short, BitSet> emergencies,
+      Map<Short, Set<String>> features,
+      int featureCount,
+      int emergencyCount) {}
+}
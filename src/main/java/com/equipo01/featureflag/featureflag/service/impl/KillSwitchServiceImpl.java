@@ -0,0 +1,145 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.response.KillSwitchResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.mapper.KillSwitchMapper;
+import com.equipo01.featureflag.featureflag.model.KillSwitch;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.repository.KillSwitchRepository;
+import com.equipo01.featureflag.featureflag.repository.ProjectRepository;
+import com.equipo01.featureflag.featureflag.service.KillSwitchService;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Implementation of the {@link KillSwitchService} interface.
+ *
+ * <p>The {@link KillSwitchRegistry} is reloaded once a change commits, so evaluations on this
+ * instance see it immediately, and a change that was rolled back never takes effect.
+ */
+@Service
+@RequiredArgsConstructor
+public class KillSwitchServiceImpl implements KillSwitchService {
+
+  static final String SYSTEM_ACTOR = "system";
+
+  private final KillSwitchRepository killSwitchRepository;
+  private final KillSwitchMapper killSwitchMapper;
+  private final FeatureRepository featureRepository;
+  private final ProjectContext projectContext;
+  private final ProjectRepository projectRepository;
+  private final KillSwitchRegistry killSwitchRegistry;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<KillSwitchResponseDto> getKillSwitches() {
+    return killSwitchRepository
+        .findByProjectIdOrderByEngagedAtAsc(projectContext.currentProjectId())
+        .stream()
+        .map(killSwitchMapper::toDto)
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public KillSwitchResponseDto killFeature(UUID featureId) {
+    short projectId = projectContext.currentProjectId();
+    if (!featureRepository.existsByIdAndProjectId(featureId, projectId)) {
+      throw new FeatureFlagException(
+          MessageError.FEATURE_NOT_FOUND.getStatus(),
+          MessageError.FEATURE_NOT_FOUND.getMessage(),
+          MessageError.FEATURE_NOT_FOUND.getDescription());
+    }
+    KillSwitch killSwitch =
+        killSwitchRepository
+            .findByFeatureId(featureId)
+            .orElseGet(
+                () -> engage(KillSwitch.builder().projectId(projectId).featureId(featureId)));
+    return killSwitchMapper.toDto(killSwitch);
+  }
+
+  @Override
+  @Transactional
+  public void reviveFeature(UUID featureId) {
+    if (!featureRepository.existsByIdAndProjectId(featureId, projectContext.currentProjectId())) {
+      return;
+    }
+    killSwitchRepository.findByFeatureId(featureId).ifPresent(this::release);
+  }
+
+  @Override
+  @Transactional
+  public KillSwitchResponseDto engageEmergency(Environment environment) {
+    short projectId = projectContext.currentProjectId();
+    // The default project is created with the schema and never deleted
+    if (projectId != Project.DEFAULT_ID && !projectRepository.existsById(projectId)) {
+      throw new FeatureFlagException(
+          MessageError.PROJECT_NOT_FOUND.getStatus(),
+          MessageError.PROJECT_NOT_FOUND.getMessage(),
+          MessageError.PROJECT_NOT_FOUND.getDescription());
+    }
+    KillSwitch killSwitch =
+        killSwitchRepository
+            .findByProjectIdAndEnvironment(projectId, environment)
+            .orElseGet(
+                () -> engage(KillSwitch.builder().projectId(projectId).environment(environment)));
+    return killSwitchMapper.toDto(killSwitch);
+  }
+
+  @Override
+  @Transactional
+  public void releaseEmergency(Environment environment) {
+    killSwitchRepository
+        .findByProjectIdAndEnvironment(projectContext.currentProjectId(), environment)
+        .ifPresent(this::release);
+  }
+
+  private KillSwitch engage(KillSwitch.KillSwitchBuilder killSwitch) {
+    KillSwitch engaged =
+        killSwitchRepository.saveAndFlush(
+            killSwitch.engagedBy(currentActor()).engagedAt(Instant.now()).build());
+    afterCommit(killSwitchRegistry::refresh);
+    return engaged;
+  }
+
+  private void release(KillSwitch killSwitch) {
+    killSwitchRepository.delete(killSwitch);
+    afterCommit(killSwitchRegistry::refresh);
+  }
+
+  private static String currentActor() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return SYSTEM_ACTOR;
+    }
+    return authentication.getName();
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,125 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.model.Project;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Resolves the project the current request works in.
+ *
+ * <p>A user bound to a project, whose token carries the binding as a request attribute set by the
+ * authorization filter, always works in that project, and asking for another one in the {@value
+ * #PROJECT_HEADER} header is rejected. Only an administrator bound to no project picks one with the
+ * header; any other user bound to no project works in the default project, and asking for another
+ * one is rejected as well. Outside of requests, such as in background jobs, the default project is
+ * used.
+ */
+@Component
+public class ProjectContext {
+
+  /** Header naming the project a request works in. */
+  public static final String PROJECT_HEADER = "X-Project-Id";
+
+  /** Request attribute holding the project the authenticated user is bound to. */
+  public static final String PROJECT_ATTRIBUTE = ProjectContext.class.getName() + ".PROJECT";
+
+  private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+  /**
+   * Returns the project the current request works in.
+   *
+   * @return the project identifier
+   * @throws FeatureFlagException with PROJECT_ACCESS_DENIED details if the user is bound to another
+   *     project than the requested one, or PROJECT_NOT_FOUND details if the requested project is
+   *     not a project identifier
+   */
+  public short currentProjectId() {
+    if (!(RequestContextHolder.getRequestAttributes()
+        instanceof ServletRequestAttributes attributes)) {
+      return Project.DEFAULT_ID;
+    }
+    return projectId(attributes.getRequest());
+  }
+
+  /**
+   * Returns the project a request works in, for callers holding the request, such as filters.
+   *
+   * @param request the request
+   * @return the project identifier
+   * @throws FeatureFlagException with PROJECT_ACCESS_DENIED details if the user is bound to another
+   *     project than the requested one, or PROJECT_NOT_FOUND details if the requested project is
+   *     not a project identifier
+   */
+  public short projectId(HttpServletRequest request) {
+    return resolve(
+        (Short) request.getAttribute(PROJECT_ATTRIBUTE),
+        isAdmin(SecurityContextHolder.getContext().getAuthentication()),
+        request.getHeader(PROJECT_HEADER));
+  }
+
+  /**
+   * Resolves the project a request works in from the project its user is bound to, the role of the
+   * user and the value of its {@value #PROJECT_HEADER} header.
+   *
+   * @param bound the project the user is bound to, or null
+   * @param admin whether the user is an administrator
+   * @param header the value of the header, or null
+   * @return the project identifier
+   * @throws FeatureFlagException with PROJECT_ACCESS_DENIED details if the user may not work in the
+   *     requested project, or PROJECT_NOT_FOUND details if the requested project is not a project
+   *     identifier
+   */
+  public static short resolve(Short bound, boolean admin, String header) {
+    Short requested = parse(header);
+    if (bound == null && admin) {
+      return requested != null ? requested : Project.DEFAULT_ID;
+    }
+    short allowed = bound != null ? bound : Project.DEFAULT_ID;
+    if (requested != null && requested != allowed) {
+      throw new FeatureFlagException(
+          MessageError.PROJECT_ACCESS_DENIED.getStatus(),
+          MessageError.PROJECT_ACCESS_DENIED.getMessage(),
+          MessageError.PROJECT_ACCESS_DENIED.getDescription());
+    }
+    return allowed;
+  }
+
+  /**
+   * Tells whether an authentication holds the administrator role.
+   *
+   * @param authentication the authentication, or null
+   * @return true if it is an administrator's
+   */
+  public static boolean isAdmin(Authentication authentication) {
+    if (authentication == null) {
+      return false;
+    }
+    for (GrantedAuthority authority : authentication.getAuthorities()) {
+      if (ADMIN_AUTHORITY.equals(authority.getAuthority())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Short parse(String header) {
+    if (header == null || header.isBlank()) {
+      return null;
+    }
+    try {
+      return Short.valueOf(header.trim());
+    } catch (NumberFormatException e) {
+      throw new FeatureFlagException(
+          MessageError.PROJECT_NOT_FOUND.getStatus(),
+          MessageError.PROJECT_NOT_FOUND.getMessage(),
+          MessageError.PROJECT_NOT_FOUND.getDescription());
+    }
+  }
+}
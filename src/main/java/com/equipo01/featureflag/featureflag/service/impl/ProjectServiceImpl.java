@@ -0,0 +1,85 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.request.ProjectRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.ProjectResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.mapper.ProjectMapper;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.User;
+import com.equipo01.featureflag.featureflag.repository.ProjectRepository;
+import com.equipo01.featureflag.featureflag.repository.UserRepository;
+import com.equipo01.featureflag.featureflag.service.ProjectService;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Implementation of the {@link ProjectService} interface. */
+@Service
+@RequiredArgsConstructor
+public class ProjectServiceImpl implements ProjectService {
+
+  private final ProjectRepository projectRepository;
+  private final UserRepository userRepository;
+  private final ProjectMapper projectMapper;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ProjectResponseDto> getProjects() {
+    return projectRepository.findAllByOrderByIdAsc().stream().map(projectMapper::toDto).toList();
+  }
+
+  @Override
+  @Transactional
+  public ProjectResponseDto createProject(ProjectRequestDto requestDto) {
+    if (projectRepository.existsByName(requestDto.getName())) {
+      throw new FeatureFlagException(
+          MessageError.PROJECT_ALREADY_EXISTS.getStatus(),
+          MessageError.PROJECT_ALREADY_EXISTS.getMessage(),
+          MessageError.PROJECT_ALREADY_EXISTS.getDescription());
+    }
+    Project project =
+        projectRepository.saveAndFlush(
+            Project.builder()
+                .name(requestDto.getName())
+                .description(requestDto.getDescription())
+                .createdAt(Instant.now())
+                .build());
+    return projectMapper.toDto(project);
+  }
+
+  @Override
+  @Transactional
+  public void bindUser(Short projectId, UUID userId) {
+    if (!projectRepository.existsById(projectId)) {
+      throw new FeatureFlagException(
+          MessageError.PROJECT_NOT_FOUND.getStatus(),
+          MessageError.PROJECT_NOT_FOUND.getMessage(),
+          MessageError.PROJECT_NOT_FOUND.getDescription());
+    }
+    findUser(userId).setProjectId(projectId);
+  }
+
+  @Override
+  @Transactional
+  public void unbindUser(Short projectId, UUID userId) {
+    User user = findUser(userId);
+    if (projectId.equals(user.getProjectId())) {
+      user.setProjectId(null);
+    }
+  }
+
+  private User findUser(UUID userId) {
+    return userRepository
+        .findById(userId)
+        .orElseThrow(
+            () ->
+                new FeatureFlagException(
+                    MessageError.USER_NOT_FOUND.getStatus(),
+                    MessageError.USER_NOT_FOUND.getMessage(),
+                    MessageError.USER_NOT_FOUND.getDescription()));
+  }
+}
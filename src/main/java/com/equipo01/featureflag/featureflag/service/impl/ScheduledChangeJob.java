@@ -0,0 +1,84 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.ScheduledChange;
+import com.equipo01.featureflag.featureflag.service.ScheduledChangeService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job applying scheduled configuration changes when they become due.
+ *
+ * <p>Pending changes are loaded into the {@link ScheduledChangeTimer} once the application is
+ * ready; changes scheduled afterwards are armed by {@link ScheduledChangeService} as they commit,
+ * on the instance that created them only. Every {@code
+ * application.scheduled-changes.rearm-interval} the pending changes due before the next run,
+ * overdue ones included, are armed again, so every instance fires the changes created on the
+ * others, or left behind by one that stopped, at most one interval late. Changes this instance
+ * already armed fire twice, the second time as a no-op.
+ *
+ * <p>On every tick the due changes are applied in batches of {@code
+ * application.scheduled-changes.batch-size}, one transaction per batch. A batch that fails is armed
+ * again for the next tick.
+ */
+@Component
+@Slf4j
+public class ScheduledChangeJob {
+
+  private final ScheduledChangeService scheduledChangeService;
+  private final ScheduledChangeTimer scheduledChangeTimer;
+  private final int batchSize;
+  private final Duration rearmInterval;
+
+  public ScheduledChangeJob(
+      ScheduledChangeService scheduledChangeService,
+      ScheduledChangeTimer scheduledChangeTimer,
+      @Value("${application.scheduled-changes.batch-size:100}") int batchSize,
+      @Value("${application.scheduled-changes.rearm-interval:PT1M}") Duration rearmInterval) {
+    this.scheduledChangeService = scheduledChangeService;
+    this.scheduledChangeTimer = scheduledChangeTimer;
+    this.batchSize = batchSize;
+    this.rearmInterval = rearmInterval;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadPendingChanges() {
+    List<ScheduledChange> pending = scheduledChangeService.findPendingChanges();
+    pending.forEach(change -> scheduledChangeTimer.schedule(change.getId(), change.getApplyAt()));
+    log.info("Armed {} pending scheduled changes", pending.size());
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.scheduled-changes.rearm-interval:PT1M}",
+      fixedDelayString = "${application.scheduled-changes.rearm-interval:PT1M}")
+  public void rearmPendingChanges() {
+    List<ScheduledChange> due =
+        scheduledChangeService.findPendingChangesDueBefore(Instant.now().plus(rearmInterval));
+    due.forEach(change -> scheduledChangeTimer.schedule(change.getId(), change.getApplyAt()));
+    log.debug("Re-armed {} pending scheduled changes", due.size());
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.scheduled-changes.tick:PT1S}",
+      fixedRateString = "${application.scheduled-changes.tick:PT1S}")
+  public void applyDueChanges() {
+    List<UUID> due = scheduledChangeTimer.pollDue();
+    for (int from = 0; from < due.size(); from += batchSize) {
+      List<UUID> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+      try {
+        scheduledChangeService.applyDueChanges(batch);
+      } catch (RuntimeException e) {
+        log.warn("Applying {} scheduled changes failed, retrying on next tick", batch.size(), e);
+        Instant retryAt = Instant.now();
+        batch.forEach(id -> scheduledChangeTimer.schedule(id, retryAt));
+      }
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.request.ScheduledChangeRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.ScheduledChangeResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.mapper.ScheduledChangeMapper;
+import com.equipo01.featureflag.featureflag.model.ScheduledChange;
+import com.equipo01.featureflag.featureflag.model.enums.ScheduledChangeStatus;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.repository.ScheduledChangeRepository;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.ScheduledChangeService;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Implementation of the {@link ScheduledChangeService} interface.
+ *
+ * <p>A new change is handed to the {@link ScheduledChangeTimer} of the instance that created it
+ * only once its transaction has committed, so the timer never fires a change that is not visible
+ * yet or was rolled back. The other instances only arm it when {@link ScheduledChangeJob} re-arms
+ * the pending changes about to become due. A change may therefore fire on several instances, or
+ * twice on the same one. Applying locks the due rows that are still pending, so the first firing
+ * applies it and the others find it no longer pending.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduledChangeServiceImpl implements ScheduledChangeService {
+
+  private final ScheduledChangeRepository scheduledChangeRepository;
+  private final ScheduledChangeMapper scheduledChangeMapper;
+  private final FeatureConfigRepository featureConfigRepository;
+
+  /** Manual toggle write path, reused so scheduled changes are versioned and recorded alike */
+  private final FeatureConfigService featureConfigService;
+
+  private final ScheduledChangeTimer scheduledChangeTimer;
+  private final ProjectContext projectContext;
+
+  @Override
+  @Transactional
+  public ScheduledChangeResponseDto scheduleChange(
+      UUID featureConfigId, ScheduledChangeRequestDto requestDto) {
+    if (!featureConfigRepository.existsByIdInProject(
+        featureConfigId, projectContext.currentProjectId())) {
+      throw new FeatureFlagException(
+          MessageError.FEATURE_CONFIG_NOT_FOUND.getStatus(),
+          MessageError.FEATURE_CONFIG_NOT_FOUND.getMessage(),
+          MessageError.FEATURE_CONFIG_NOT_FOUND.getDescription());
+    }
+    ScheduledChange change =
+        scheduledChangeRepository.save(
+            ScheduledChange.builder()
+                .featureConfigId(featureConfigId)
+                .enabled(requestDto.getEnabled())
+                .applyAt(requestDto.getApplyAt())
+                .status(ScheduledChangeStatus.PENDING)
+                .createdAt(Instant.now())
+                .build());
+    armAfterCommit(change);
+    return scheduledChangeMapper.toDto(change);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ScheduledChangeResponseDto> getPendingChanges(UUID featureConfigId) {
+    if (!featureConfigRepository.existsByIdInProject(
+        featureConfigId, projectContext.currentProjectId())) {
+      return List.of();
+    }
+    return scheduledChangeMapper.toDtoList(
+        scheduledChangeRepository.findByFeatureConfigIdAndStatusOrderByApplyAtAsc(
+            featureConfigId, ScheduledChangeStatus.PENDING));
+  }
+
+  @Override
+  @Transactional
+  public void cancelChange(UUID id) {
+    ScheduledChange change =
+        scheduledChangeRepository
+            .findById(id)
+            .filter(
+                found ->
+                    featureConfigRepository.existsByIdInProject(
+                        found.getFeatureConfigId(), projectContext.currentProjectId()))
+            .orElseThrow(
+                () ->
+                    new FeatureFlagException(
+                        MessageError.SCHEDULED_CHANGE_NOT_FOUND.getStatus(),
+                        MessageError.SCHEDULED_CHANGE_NOT_FOUND.getMessage(),
+                        MessageError.SCHEDULED_CHANGE_NOT_FOUND.getDescription()));
+    if (change.getStatus() != ScheduledChangeStatus.PENDING) {
+      throw new FeatureFlagException(
+          MessageError.SCHEDULED_CHANGE_NOT_PENDING.getStatus(),
+          MessageError.SCHEDULED_CHANGE_NOT_PENDING.getMessage(),
+          MessageError.SCHEDULED_CHANGE_NOT_PENDING.getDescription());
+    }
+    // The timer keeps the identifier and skips it when it fires
+    change.setStatus(ScheduledChangeStatus.CANCELLED);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ScheduledChange> findPendingChanges() {
+    return scheduledChangeRepository.findByStatus(ScheduledChangeStatus.PENDING);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ScheduledChange> findPendingChangesDueBefore(Instant instant) {
+    return scheduledChangeRepository.findByStatusAndApplyAtBefore(
+        ScheduledChangeStatus.PENDING, instant);
+  }
+
+  @Override
+  @Transactional
+  public int applyDueChanges(Collection<UUID> ids) {
+    List<ScheduledChange> changes =
+        scheduledChangeRepository.findByIdInAndStatusOrderByApplyAtAsc(
+            ids, ScheduledChangeStatus.PENDING);
+    Instant now = Instant.now();
+    int applied = 0;
+    for (ScheduledChange change : changes) {
+      if (featureConfigService.applyScheduledToggle(
+          change.getFeatureConfigId(), change.getEnabled())) {
+        change.setStatus(ScheduledChangeStatus.APPLIED);
+        change.setAppliedAt(now);
+        applied++;
+      } else {
+        // The configuration or its feature was deleted after the change was scheduled
+        change.setStatus(ScheduledChangeStatus.CANCELLED);
+      }
+    }
+    return applied;
+  }
+
+  private void armAfterCommit(ScheduledChange change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      scheduledChangeTimer.schedule(change.getId(), change.getApplyAt());
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            scheduledChangeTimer.schedule(change.getId(), change.getApplyAt());
+          }
+        });
+  }
+}
@@ -0,0 +1,62 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.util.HierarchicalTimerWheel;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process timer firing scheduled configuration changes.
+ *
+ * <p>Change identifiers are kept in a {@link HierarchicalTimerWheel} ticking every {@code
+ * application.scheduled-changes.tick}. Four levels of 64 slots cover 64^4 ticks, about six months
+ * with one-second ticks; later changes wait in the wheel's overflow list. The timer only holds
+ * identifiers: whether a fired change is still pending is decided by the database when it is
+ * applied, so cancelling a change does not need to touch the wheel.
+ */
+@Component
+public class ScheduledChangeTimer {
+
+  private static final int SLOT_BITS = 6;
+  private static final int LEVELS = 4;
+
+  private final Clock clock;
+  private final HierarchicalTimerWheel<UUID> wheel;
+
+  public ScheduledChangeTimer(@Value("${application.scheduled-changes.tick:PT1S}") Duration tick) {
+    this.clock = Clock.systemUTC();
+    this.wheel = new HierarchicalTimerWheel<>(tick.toMillis(), SLOT_BITS, LEVELS, clock.millis());
+  }
+
+  /**
+   * Arms the timer for a change.
+   *
+   * @param id the identifier of the change
+   * @param applyAt the instant at which the change is due
+   */
+  public synchronized void schedule(UUID id, Instant applyAt) {
+    wheel.add(id, applyAt.toEpochMilli());
+  }
+
+  /**
+   * Advances the timer to the current instant.
+   *
+   * @return the identifiers of the changes that became due
+   */
+  public synchronized List<UUID> pollDue() {
+    return wheel.advance(clock.millis());
+  }
+
+  /**
+   * Returns the number of changes the timer has not fired yet.
+   *
+   * @return the number of armed changes
+   */
+  public synchronized int size() {
+    return wheel.size();
+  }
+}
@@ -0,0 +1,43 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.service.SegmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job keeping the segments held in memory in line with the database.
+ *
+ * <p>Every segment is loaded when the application starts. Each run then compares the stored segment
+ * versions with the ones held, which reads no members, and reloads only the segments changed by
+ * other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SegmentRefreshJob {
+
+  private final SegmentService segmentService;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadSegments() {
+    log.info("Loaded {} segments", segmentService.refreshSegments());
+  }
+
+  @Scheduled(
+      initialDelayString = "${application.segments.refresh-interval:PT30S}",
+      fixedDelayString = "${application.segments.refresh-interval:PT30S}")
+  public void refreshSegments() {
+    try {
+      int reloaded = segmentService.refreshSegments();
+      if (reloaded > 0) {
+        log.info("Reloaded {} changed segments", reloaded);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Segment refresh failed, retrying on next run", e);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.repository.UserRepository;
+import com.equipo01.featureflag.featureflag.util.CompressedBitmap;
+import com.equipo01.featureflag.featureflag.util.targeting.SegmentMembership;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory members of every segment, as compressed bitmaps over client ordinals.
+ *
+ * <p>Bitmaps are never modified once published: a membership change builds a new bitmap and
+ * replaces the entry, so evaluations read them without synchronization. Each entry carries the
+ * segment version it was read at, and an entry is only replaced by a newer version. Client ordinals
+ * never change once assigned, so resolved ordinals are kept for the lifetime of the application;
+ * unknown clients are looked up again, as they may be created later.
+ */
+@Component
+@RequiredArgsConstructor
+public class SegmentRegistry implements SegmentMembership {
+
+  private final UserRepository userRepository;
+
+  private final ConcurrentMap<UUID, Members> segments = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Integer> ordinals = new ConcurrentHashMap<>();
+
+  @Override
+  public int ordinalOf(String clientId) {
+    Integer ordinal = ordinals.get(clientId);
+    if (ordinal != null) {
+      return ordinal;
+    }
+    UUID userId;
+    try {
+      userId = UUID.fromString(clientId);
+    } catch (IllegalArgumentException e) {
+      return -1;
+    }
+    return userRepository
+        .findClientOrdinalById(userId)
+        .map(
+            found -> {
+              ordinals.put(clientId, found);
+              return found;
+            })
+        .orElse(-1);
+  }
+
+  @Override
+  public boolean contains(UUID segmentId, int ordinal) {
+    Members members = segments.get(segmentId);
+    return members != null && members.bitmap().contains(ordinal);
+  }
+
+  /**
+   * Records the ordinals of users resolved elsewhere.
+   *
+   * @param resolved the client ordinals, by user identifier
+   */
+  void rememberOrdinals(Map<UUID, Integer> resolved) {
+    resolved.forEach((userId, ordinal) -> ordinals.put(userId.toString(), ordinal));
+  }
+
+  /**
+   * Returns the version of a segment held in memory.
+   *
+   * @param segmentId the identifier of the segment
+   * @return the version of the held members, or null if the segment is not held
+   */
+  Long version(UUID segmentId) {
+    Members members = segments.get(segmentId);
+    return members == null ? null : members.version();
+  }
+
+  /**
+   * Returns the identifiers of the segments held in memory.
+   *
+   * @return a view of the identifiers of the held segments
+   */
+  Set<UUID> segmentIds() {
+    return segments.keySet();
+  }
+
+  /**
+   * Publishes the members of a segment, unless newer ones are already held.
+   *
+   * @param segmentId the identifier of the segment
+   * @param version the version of the segment the members were read at
+   * @param bitmap the members; must not be modified afterwards
+   */
+  void publish(UUID segmentId, long version, CompressedBitmap bitmap) {
+    segments.merge(
+        segmentId,
+        new Members(version, bitmap),
+        (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+  }
+
+  /**
+   * Forgets a deleted segment.
+   *
+   * @param segmentId the identifier of the segment
+   */
+  void remove(UUID segmentId) {
+    segments.remove(segmentId);
+  }
+
+  private record Members(long version, CompressedBitmap bitmap) {}
+}
@@ -0,0 +1,207 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.request.SegmentMembersRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.SegmentResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.mapper.SegmentMapper;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.Segment;
+import com.equipo01.featureflag.featureflag.repository.ProjectRepository;
+import com.equipo01.featureflag.featureflag.repository.SegmentRepository;
+import com.equipo01.featureflag.featureflag.repository.UserRepository;
+import com.equipo01.featureflag.featureflag.repository.projections.ClientOrdinalView;
+import com.equipo01.featureflag.featureflag.repository.projections.SegmentVersionView;
+import com.equipo01.featureflag.featureflag.service.SegmentService;
+import com.equipo01.featureflag.featureflag.util.CompressedBitmap;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Implementation of the {@link SegmentService} interface.
+ *
+ * <p>Membership changes lock the segment row, apply the change to a private copy of its bitmap and
+ * store it serialized, which increments the segment version. The new bitmap is published to the
+ * {@link SegmentRegistry} once the transaction commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class SegmentServiceImpl implements SegmentService {
+
+  private final SegmentRepository segmentRepository;
+  private final SegmentMapper segmentMapper;
+  private final UserRepository userRepository;
+  private final SegmentRegistry segmentRegistry;
+  private final ProjectContext projectContext;
+  private final ProjectRepository projectRepository;
+
+  @Override
+  @Transactional
+  public SegmentResponseDto createSegment(SegmentRequestDto requestDto) {
+    short projectId = projectContext.currentProjectId();
+    // The default project is created with the schema and never deleted
+    if (projectId != Project.DEFAULT_ID && !projectRepository.existsById(projectId)) {
+      throw new FeatureFlagException(
+          MessageError.PROJECT_NOT_FOUND.getStatus(),
+          MessageError.PROJECT_NOT_FOUND.getMessage(),
+          MessageError.PROJECT_NOT_FOUND.getDescription());
+    }
+    if (segmentRepository.existsByProjectIdAndName(projectId, requestDto.getName())) {
+      throw new FeatureFlagException(
+          MessageError.SEGMENT_ALREADY_EXISTS.getStatus(),
+          MessageError.SEGMENT_ALREADY_EXISTS.getMessage(),
+          MessageError.SEGMENT_ALREADY_EXISTS.getDescription());
+    }
+    CompressedBitmap members = new CompressedBitmap();
+    Segment segment =
+        segmentRepository.saveAndFlush(
+            Segment.builder()
+                .projectId(projectId)
+                .name(requestDto.getName())
+                .description(requestDto.getDescription())
+                .members(members.serialize())
+                .memberCount(0)
+                .createdAt(Instant.now())
+                .build());
+    publishAfterCommit(segment.getId(), segment.getVersion(), members);
+    return segmentMapper.toDto(segment);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<SegmentResponseDto> getSegments() {
+    return segmentMapper.toDtoList(
+        segmentRepository.findByProjectId(projectContext.currentProjectId(), Sort.by("name")));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public SegmentResponseDto getSegment(UUID segmentId) {
+    return segmentMapper.toDto(
+        segmentRepository
+            .findByIdAndProjectId(segmentId, projectContext.currentProjectId())
+            .orElseThrow(SegmentServiceImpl::segmentNotFound));
+  }
+
+  @Override
+  @Transactional
+  public SegmentResponseDto updateMembers(UUID segmentId, SegmentMembersRequestDto requestDto) {
+    Segment segment =
+        segmentRepository
+            .findForUpdateById(segmentId, projectContext.currentProjectId())
+            .orElseThrow(SegmentServiceImpl::segmentNotFound);
+
+    Set<UUID> userIds = new HashSet<>(requestDto.getAdd());
+    userIds.addAll(requestDto.getRemove());
+    Map<UUID, Integer> resolved = new HashMap<>();
+    for (ClientOrdinalView view : userRepository.findClientOrdinals(userIds)) {
+      resolved.put(view.getId(), view.getClientOrdinal());
+    }
+    if (resolved.size() != userIds.size()) {
+      throw new FeatureFlagException(
+          MessageError.USER_NOT_FOUND.getStatus(),
+          MessageError.USER_NOT_FOUND.getMessage(),
+          MessageError.USER_NOT_FOUND.getDescription());
+    }
+    segmentRegistry.rememberOrdinals(resolved);
+
+    CompressedBitmap members = CompressedBitmap.deserialize(segment.getMembers());
+    boolean changed = false;
+    for (UUID userId : requestDto.getAdd()) {
+      changed |= members.add(resolved.get(userId));
+    }
+    for (UUID userId : requestDto.getRemove()) {
+      changed |= members.remove(resolved.get(userId));
+    }
+    if (changed) {
+      segment.setMembers(members.serialize());
+      segment.setMemberCount(members.cardinality());
+      segment = segmentRepository.saveAndFlush(segment);
+      publishAfterCommit(segmentId, segment.getVersion(), members);
+    }
+    return segmentMapper.toDto(segment);
+  }
+
+  @Override
+  @Transactional
+  public void deleteSegment(UUID segmentId) {
+    if (!segmentRepository.existsByIdAndProjectId(segmentId, projectContext.currentProjectId())) {
+      throw segmentNotFound();
+    }
+    segmentRepository.deleteById(segmentId);
+    afterCommit(() -> segmentRegistry.remove(segmentId));
+  }
+
+  @Override
+  public boolean isMember(UUID segmentId, String clientId) {
+    // Only the project of the segment is read from the database, its members are held in memory
+    if (!segmentRepository.existsByIdAndProjectId(segmentId, projectContext.currentProjectId())) {
+      throw segmentNotFound();
+    }
+    int ordinal = segmentRegistry.ordinalOf(clientId);
+    return ordinal >= 0 && segmentRegistry.contains(segmentId, ordinal);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public int refreshSegments() {
+    Set<UUID> existing = new HashSet<>();
+    int reloaded = 0;
+    for (SegmentVersionView view : segmentRepository.findAllVersions()) {
+      existing.add(view.getId());
+      if (view.getVersion().equals(segmentRegistry.version(view.getId()))) {
+        continue;
+      }
+      Segment segment = segmentRepository.findById(view.getId()).orElse(null);
+      if (segment != null) {
+        segmentRegistry.publish(
+            segment.getId(),
+            segment.getVersion(),
+            CompressedBitmap.deserialize(segment.getMembers()));
+        reloaded++;
+      }
+    }
+    // A segment created here after the versions were read is not listed yet, but still exists
+    segmentRegistry
+        .segmentIds()
+        .removeIf(id -> !existing.contains(id) && !segmentRepository.existsById(id));
+    return reloaded;
+  }
+
+  private void publishAfterCommit(UUID segmentId, long version, CompressedBitmap members) {
+    afterCommit(() -> segmentRegistry.publish(segmentId, version, members));
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private static FeatureFlagException segmentNotFound() {
+    return new FeatureFlagException(
+        MessageError.SEGMENT_NOT_FOUND.getStatus(),
+        MessageError.SEGMENT_NOT_FOUND.getMessage(),
+        MessageError.SEGMENT_NOT_FOUND.getDescription());
+  }
+}
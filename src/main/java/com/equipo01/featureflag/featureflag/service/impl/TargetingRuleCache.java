@@ -0,0 +1,74 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.repository.TargetingRuleRepository;
+import com.equipo01.featureflag.featureflag.util.PartitionedMap;
+import com.equipo01.featureflag.featureflag.util.targeting.CompiledTargeting;
+import com.equipo01.featureflag.featureflag.util.targeting.TargetingRuleCompiler;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiled targeting rules by configuration, keyed by configuration version and partitioned by
+ * environment.
+ *
+ * <p>The caller reads the configuration version before the rules are loaded, so a compiled entry is
+ * never older than the version it is stored under: a concurrent replacement at worst labels newer
+ * rules with the previous version, and the next evaluation compiles them again. Entries of deleted
+ * configurations are dropped when the outbox relays their deletion. Segment clauses read the {@link
+ * SegmentRegistry} on every evaluation, so segment changes need no recompilation. Partitions are
+ * only created for the environments evaluated on this instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class TargetingRuleCache {
+
+  private final TargetingRuleRepository targetingRuleRepository;
+  private final SegmentRegistry segmentRegistry;
+
+  private final PartitionedMap<UUID, CompiledTargeting> compiled = new PartitionedMap<>();
+
+  /**
+   * Returns the compiled rules of a configuration, compiling them if the cached ones belong to
+   * another version.
+   *
+   * @param environment the environment of the configuration
+   * @param featureConfigId the configuration the rules belong to
+   * @param version the current version of the configuration
+   * @return the compiled rules of the configuration
+   */
+  public CompiledTargeting get(Environment environment, UUID featureConfigId, long version) {
+    CompiledTargeting cached = compiled.get(environment.id(), featureConfigId);
+    if (cached != null && cached.version() == version) {
+      return cached;
+    }
+    CompiledTargeting fresh =
+        TargetingRuleCompiler.compile(
+            version,
+            targetingRuleRepository.findByFeatureConfigIdOrderByPriorityAsc(featureConfigId),
+            segmentRegistry);
+    // Never replace rules compiled for a newer version by a slower concurrent evaluation
+    compiled
+        .partition(environment.id())
+        .merge(
+            featureConfigId,
+            fresh,
+            (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+    return fresh;
+  }
+
+  @EventListener
+  void on(FlagChangedEvent event) {
+    switch (event.getType()) {
+      case CONFIG_DELETED -> compiled.remove(event.getFeatureConfigId());
+        // Deleting a feature removes all its configurations, which are not tracked by feature
+      case FEATURE_DELETED -> compiled.clear();
+      default -> {
+        // Other changes increment the configuration version
+      }
+    }
+  }
+}
@@ -0,0 +1,296 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.request.BatchEvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.TargetingRuleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.TargetingRuleResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.mapper.TargetingRuleMapper;
+import com.equipo01.featureflag.featureflag.model.TargetingClause;
+import com.equipo01.featureflag.featureflag.model.TargetingRule;
+import com.equipo01.featureflag.featureflag.model.enums.ClauseOperator;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.repository.SegmentRepository;
+import com.equipo01.featureflag.featureflag.repository.TargetingRuleRepository;
+import com.equipo01.featureflag.featureflag.repository.projections.EvaluationConfigView;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import com.equipo01.featureflag.featureflag.util.targeting.CompiledTargeting;
+import com.equipo01.featureflag.featureflag.util.targeting.EvaluationPlan;
+import com.equipo01.featureflag.featureflag.util.targeting.TargetingRuleCompiler;
+import com.equipo01.featureflag.featureflag.util.targeting.VariantTable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the {@link TargetingRuleService} interface.
+ *
+ * <p>An evaluation reads the applicable configuration and its version in one statement, then takes
+ * the compiled rules for that version from the {@link TargetingRuleCache}. Rules are only loaded
+ * and compiled again after the configuration changed.
+ *
+ * <p>Features with prerequisites are evaluated along the {@link EvaluationPlan} of the current
+ * prerequisite graph. The plan lists features dependencies first, so a batch evaluates every
+ * feature it needs once, in plan order, and each prerequisite result is looked up instead of being
+ * evaluated again for every dependent.
+ *
+ * <p>An enabled evaluation for a client also serves the variant allocated to the client's hash
+ * bucket, picked from the {@link VariantTable} of the configuration.
+ *
+ * <p>Only the environments served by this instance, as told by the {@link EnvironmentRegistry}, are
+ * evaluated, so the caches only ever hold evaluation data of those environments.
+ *
+ * <p>Kill switches are checked before anything else: a feature turned off by its own kill switch or
+ * by the emergency mode of the environment evaluates to disabled without any read, and disables the
+ * features depending on it.
+ *
+ * <p>Every requested feature is counted by the {@link EvaluationCounters}, and each value served to
+ * a client is handed to the {@link ExposurePipeline}, which records it without delaying the
+ * evaluation.
+ */
+@Service
+@RequiredArgsConstructor
+public class TargetingRuleServiceImpl implements TargetingRuleService {
+
+  private final TargetingRuleRepository targetingRuleRepository;
+  private final TargetingRuleMapper targetingRuleMapper;
+  private final FeatureConfigRepository featureConfigRepository;
+  private final FeatureRepository featureRepository;
+  private final TargetingRuleCache targetingRuleCache;
+  private final SegmentRepository segmentRepository;
+  private final SegmentRegistry segmentRegistry;
+  private final EvaluationPlanCache evaluationPlanCache;
+  private final VariantTableCache variantTableCache;
+  private final EnvironmentRegistry environmentRegistry;
+  private final ExposurePipeline exposurePipeline;
+  private final EvaluationCounters evaluationCounters;
+  private final KillSwitchRegistry killSwitchRegistry;
+  private final ProjectContext projectContext;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<TargetingRuleResponseDto> getRules(UUID featureConfigId) {
+    if (!featureConfigRepository.existsByIdInProject(
+        featureConfigId, projectContext.currentProjectId())) {
+      throw featureConfigNotFound();
+    }
+    return targetingRuleMapper.toDtoList(
+        targetingRuleRepository.findByFeatureConfigIdOrderByPriorityAsc(featureConfigId));
+  }
+
+  @Override
+  @Transactional
+  public List<TargetingRuleResponseDto> replaceRules(
+      UUID featureConfigId, List<TargetingRuleRequestDto> rules) {
+    // The forced increment gives the configuration a new version for the new rules
+    featureConfigRepository
+        .findForUpdateByIdInProject(featureConfigId, projectContext.currentProjectId())
+        .orElseThrow(TargetingRuleServiceImpl::featureConfigNotFound);
+
+    List<TargetingRule> entities = new ArrayList<>(rules.size());
+    for (int priority = 0; priority < rules.size(); priority++) {
+      TargetingRuleRequestDto rule = rules.get(priority);
+      entities.add(
+          TargetingRule.builder()
+              .featureConfigId(featureConfigId)
+              .priority(priority)
+              .enabled(rule.getEnabled())
+              .clauses(targetingRuleMapper.toClauses(rule.getClauses()))
+              .build());
+    }
+    try {
+      // Compiled once here only to reject values that evaluations could not compile
+      TargetingRuleCompiler.compile(0, entities, segmentRegistry);
+    } catch (IllegalArgumentException e) {
+      throw new FeatureFlagException(
+          MessageError.TARGETING_RULE_INVALID.getStatus(),
+          MessageError.TARGETING_RULE_INVALID.getMessage(),
+          MessageError.TARGETING_RULE_INVALID.getDescription());
+    }
+    Set<UUID> segmentIds = referencedSegments(entities);
+    if (!segmentIds.isEmpty()
+        && segmentRepository.countByProjectIdAndIdIn(projectContext.currentProjectId(), segmentIds)
+            != segmentIds.size()) {
+      throw new FeatureFlagException(
+          MessageError.SEGMENT_NOT_FOUND.getStatus(),
+          MessageError.SEGMENT_NOT_FOUND.getMessage(),
+          MessageError.SEGMENT_NOT_FOUND.getDescription());
+    }
+
+    targetingRuleRepository.deleteByFeatureConfigId(featureConfigId);
+    return targetingRuleMapper.toDtoList(targetingRuleRepository.saveAll(entities));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public EvaluationResponseDto evaluate(EvaluationRequestDto requestDto) {
+    return evaluateBatch(
+            BatchEvaluationRequestDto.builder()
+                .featureNames(List.of(requestDto.getFeatureName()))
+                .environment(requestDto.getEnvironment())
+                .clientId(requestDto.getClientId())
+                .context(requestDto.getContext())
+                .build())
+        .get(0);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<EvaluationResponseDto> evaluateBatch(BatchEvaluationRequestDto requestDto) {
+    if (!environmentRegistry.isServed(requestDto.getEnvironment())) {
+      throw new FeatureFlagException(
+          MessageError.ENVIRONMENT_NOT_SERVED.getStatus(),
+          MessageError.ENVIRONMENT_NOT_SERVED.getMessage(),
+          MessageError.ENVIRONMENT_NOT_SERVED.getDescription());
+    }
+    short projectId = projectContext.currentProjectId();
+    EvaluationPlan plan = evaluationPlanCache.get(projectId);
+    List<String> featureNames = requestDto.getFeatureNames();
+    int[] roots =
+        featureNames.stream().mapToInt(plan::indexOf).filter(index -> index >= 0).toArray();
+
+    // Prerequisites come first in the plan, so each one is decided before its dependents need it
+    EvaluationResponseDto[] planned = new EvaluationResponseDto[plan.size()];
+    for (int index : plan.closure(roots)) {
+      String blockedBy = null;
+      for (int prerequisite : plan.prerequisites(index)) {
+        if (planned[prerequisite] == null || !planned[prerequisite].getEnabled()) {
+          blockedBy = plan.name(prerequisite);
+          break;
+        }
+      }
+      planned[index] =
+          blockedBy != null
+              ? EvaluationResponseDto.builder()
+                  .featureName(plan.name(index))
+                  .enabled(false)
+                  .blockedBy(blockedBy)
+                  .build()
+              : evaluateUnlessKilled(projectId, plan.name(index), requestDto);
+    }
+
+    List<EvaluationResponseDto> results = new ArrayList<>(featureNames.size());
+    for (String featureName : featureNames) {
+      int index = plan.indexOf(featureName);
+      EvaluationResponseDto result =
+          index >= 0 ? planned[index] : evaluateUnlessKilled(projectId, featureName, requestDto);
+      if (result == null) {
+        throw new FeatureFlagException(
+            MessageError.FEATURE_NOT_FOUND.getStatus(),
+            MessageError.FEATURE_NOT_FOUND.getMessage(),
+            MessageError.FEATURE_NOT_FOUND.getDescription());
+      }
+      results.add(result);
+      evaluationCounters.record(
+          projectId, featureName, requestDto.getEnvironment(), result.getEnabled());
+      if (requestDto.getClientId() != null) {
+        exposurePipeline.record(
+            projectId,
+            featureName,
+            requestDto.getEnvironment(),
+            requestDto.getClientId(),
+            result.getEnabled(),
+            result.getVariant());
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Evaluates a feature by its own configuration and rules, unless a kill switch turns it off,
+   * which is checked first and reads nothing from the database.
+   *
+   * @return the evaluation result, or null if no feature has the given name
+   */
+  private EvaluationResponseDto evaluateUnlessKilled(
+      short projectId, String featureName, BatchEvaluationRequestDto request) {
+    if (killSwitchRegistry.isKilled(projectId, featureName, request.getEnvironment())) {
+      return EvaluationResponseDto.builder()
+          .featureName(featureName)
+          .enabled(false)
+          .killed(true)
+          .build();
+    }
+    return evaluateOwn(projectId, featureName, request);
+  }
+
+  /**
+   * Evaluates a feature by its own configuration and rules, leaving its prerequisites aside.
+   *
+   * @return the evaluation result, or null if no feature has the given name
+   */
+  private EvaluationResponseDto evaluateOwn(
+      short projectId, String featureName, BatchEvaluationRequestDto request) {
+    EvaluationConfigView config =
+        featureRepository
+            .findEvaluationConfig(
+                projectId,
+                featureName,
+                request.getEnvironment(),
+                request.getClientId(),
+                Limit.of(1))
+            .stream()
+            .findFirst()
+            .orElse(null);
+    if (config == null) {
+      return null;
+    }
+    if (config.getId() == null) {
+      // The feature exists but has no configuration for this environment
+      return EvaluationResponseDto.builder().featureName(featureName).enabled(false).build();
+    }
+
+    CompiledTargeting targeting =
+        targetingRuleCache.get(request.getEnvironment(), config.getId(), config.getVersion());
+    CompiledTargeting.CompiledRule rule = targeting.match(request.getContext());
+    boolean enabled = rule != null ? rule.enabled() : config.getEnabled();
+    VariantTable.Variant variant = null;
+    if (enabled && request.getClientId() != null) {
+      // Only a client has a bucket to allocate a variant to
+      variant =
+          variantTableCache
+              .get(
+                  request.getEnvironment(),
+                  config.getId(),
+                  config.getVersion(),
+                  config.getFeatureVersion())
+              .pick(VariantTable.bucket(featureName, request.getClientId()));
+    }
+    return EvaluationResponseDto.builder()
+        .featureName(featureName)
+        .enabled(enabled)
+        .ruleId(rule != null ? rule.ruleId() : null)
+        .variant(variant != null ? variant.name() : null)
+        .value(variant != null ? variant.value() : null)
+        .build();
+  }
+
+  private static Set<UUID> referencedSegments(List<TargetingRule> rules) {
+    Set<UUID> segmentIds = new HashSet<>();
+    for (TargetingRule rule : rules) {
+      for (TargetingClause clause : rule.getClauses()) {
+        if (clause.getOperator() == ClauseOperator.IN_SEGMENT) {
+          // Already validated as identifiers by the compiler
+          clause.getValues().forEach(value -> segmentIds.add(UUID.fromString(value)));
+        }
+      }
+    }
+    return segmentIds;
+  }
+
+  private static FeatureFlagException featureConfigNotFound() {
+    return new FeatureFlagException(
+        MessageError.FEATURE_CONFIG_NOT_FOUND.getStatus(),
+        MessageError.FEATURE_CONFIG_NOT_FOUND.getMessage(),
+        MessageError.FEATURE_CONFIG_NOT_FOUND.getDescription());
+  }
+}
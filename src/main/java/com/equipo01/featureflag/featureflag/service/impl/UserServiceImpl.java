@@ -4,19 +4,26 @@ import com.equipo01.featureflag.featureflag.config.JwtUtil;
 import com.equipo01.featureflag.featureflag.dto.UserDTO;
 import com.equipo01.featureflag.featureflag.dto.request.LoginRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.UserRequestDTO;
+import com.equipo01.featureflag.featureflag.dto.response.UserPageResponseDto;
 import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
 import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
 import com.equipo01.featureflag.featureflag.mapper.UserMapper;
 import com.equipo01.featureflag.featureflag.model.User;
 import com.equipo01.featureflag.featureflag.model.enums.Role;
 import com.equipo01.featureflag.featureflag.repository.UserRepository;
+import com.equipo01.featureflag.featureflag.repository.specifications.UserSpecification;
 import com.equipo01.featureflag.featureflag.service.UserService;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -34,7 +41,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
+  private static final int DEFAULT_PAGE_LIMIT = 50;
+  private static final int MAX_PAGE_LIMIT = 500;
+  private static final int STREAM_CHUNK_SIZE = 500;
+
   private final UserRepository userRepository;
+  private final UserSpecification userSpecification;
   private final UserMapper userMapper;
   private final JwtUtil jwtUtil;
   private final PasswordEncoder passwordEncoder;
@@ -95,7 +107,7 @@ public class UserServiceImpl implements UserService {
   /**
    * Logs in a user with the provided credentials. This method authenticates the user using their
    * credentials (username and password) and, if authentication is successful, generates and returns
-   * a JWT token.
+   * a JWT token. The token is bound to the project the user is bound to, if any.
    *
    * @param loginRequestDto the user's DTO containing the information required for registration and
    *     login
@@ -103,10 +115,10 @@ public class UserServiceImpl implements UserService {
    */
   @Transactional(readOnly = true)
   public String loginUser(LoginRequestDto loginDto) {
-    checkLogin(loginDto);
+    User user = checkCredentials(loginDto);
     Authentication authentication =
         buildAuthentication(loginDto.getUsername(), loginDto.getPassword());
-    return jwtUtil.generateToken(authentication);
+    return jwtUtil.generateToken(authentication, user.getProjectId());
   }
 
   /**
@@ -141,6 +153,10 @@ public class UserServiceImpl implements UserService {
    */
   @Override
   public void checkLogin(LoginRequestDto loginRequestDto) {
+    checkCredentials(loginRequestDto);
+  }
+
+  private User checkCredentials(LoginRequestDto loginRequestDto) {
     // If user with username does not exist, throw exception
     User user = findByUsername(loginRequestDto.getUsername());
     // If password does not match, throw exception
@@ -150,6 +166,7 @@ public class UserServiceImpl implements UserService {
           MessageError.INVALID_PASSWORD.getMessage(),
           MessageError.INVALID_PASSWORD.getDescription());
     }
+    return user;
   }
 
   /**
@@ -225,13 +242,70 @@ public class UserServiceImpl implements UserService {
   }
 
   /**
-   * Retrieve all users in the system.
+   * Retrieve a page of users ordered by id, using keyset pagination.
+   *
+   * <p>Instead of an offset, the page starts right after the {@code after} id, so every page costs
+   * the same regardless of how deep the client has scrolled. The limit defaults to 50 and is capped
+   * at 500.
+   *
+   * @param role optional role filter
+   * @param active optional active status filter
+   * @param after id of the last user of the previous page, null for the first page
+   * @param limit maximum number of users to return
+   * @return the page of users and the cursor for the next page
+   */
+  public UserPageResponseDto getUsers(Role role, Boolean active, UUID after, Integer limit) {
+    int pageLimit =
+        (limit != null && limit > 0) ? Math.min(limit, MAX_PAGE_LIMIT) : DEFAULT_PAGE_LIMIT;
+    Window<User> window = findUserWindow(role, active, after, pageLimit);
+    List<User> users = window.getContent();
+
+    UUID nextCursor = window.hasNext() ? users.get(users.size() - 1).getId() : null;
+    return UserPageResponseDto.builder()
+        .users(userMapper.userListToUserDTOList(users))
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * Retrieve all users matching the filters in keyset-paginated chunks of 500.
+   *
+   * <p>Each chunk is loaded, mapped and handed to the consumer before the next one is requested, so
+   * memory usage is bounded by the chunk size instead of the number of users.
+   *
+   * @param role optional role filter
+   * @param active optional active status filter
+   * @param chunkConsumer consumer receiving each chunk of users, in id order
+   */
+  public void forEachUserChunk(Role role, Boolean active, Consumer<List<UserDTO>> chunkConsumer) {
+    UUID after = null;
+    Window<User> window;
+    do {
+      window = findUserWindow(role, active, after, STREAM_CHUNK_SIZE);
+      List<User> users = window.getContent();
+      if (users.isEmpty()) {
+        return;
+      }
+      chunkConsumer.accept(userMapper.userListToUserDTOList(users));
+      after = users.get(users.size() - 1).getId();
+    } while (window.hasNext());
+  }
+
+  /**
+   * Loads the window of users that follows the given id, ordered by id.
    *
-   * @return List<UserDTO> list of all user DTOs
+   * @param role optional role filter
+   * @param active optional active status filter
+   * @param after id to start after, null to start from the beginning
+   * @param limit maximum number of users in the window
+   * @return the window of users
    */
-  public List<UserDTO> getAllUsers() {
-    // Find all user entities and map them to a list of UserDTOs
-    return userMapper.userListToUserDTOList(userRepository.findAll());
+  private Window<User> findUserWindow(Role role, Boolean active, UUID after, int limit) {
+    ScrollPosition position =
+        after == null ? ScrollPosition.keyset() : ScrollPosition.forward(Map.of("id", after));
+    return userRepository.findBy(
+        userSpecification.getUsers(role, active),
+        query -> query.sortBy(Sort.by("id")).limit(limit).scroll(position));
   }
 
   /**
@@ -0,0 +1,206 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.dto.VariantAllocationDto;
+import com.equipo01.featureflag.featureflag.dto.request.VariantRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.VariantResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.FeatureVariant;
+import com.equipo01.featureflag.featureflag.model.VariantAllocation;
+import com.equipo01.featureflag.featureflag.model.enums.VariantType;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.repository.FeatureVariantRepository;
+import com.equipo01.featureflag.featureflag.repository.VariantAllocationRepository;
+import com.equipo01.featureflag.featureflag.service.VariantService;
+import com.equipo01.featureflag.featureflag.util.targeting.VariantTable;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the {@link VariantService} interface.
+ *
+ * <p>Values are stored as JSON text whatever their type, and parsed once per version into the
+ * {@link VariantTable} that evaluations pick variants from.
+ */
+@Service
+@RequiredArgsConstructor
+public class VariantServiceImpl implements VariantService {
+
+  private final FeatureVariantRepository featureVariantRepository;
+  private final VariantAllocationRepository variantAllocationRepository;
+  private final FeatureRepository featureRepository;
+  private final FeatureConfigRepository featureConfigRepository;
+  private final ProjectContext projectContext;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<VariantResponseDto> getVariants(UUID featureId) {
+    if (!featureRepository.existsByIdAndProjectId(featureId, projectContext.currentProjectId())) {
+      throw error(MessageError.FEATURE_NOT_FOUND);
+    }
+    return featureVariantRepository.findByFeatureIdOrderByNameAsc(featureId).stream()
+        .map(this::toDto)
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public List<VariantResponseDto> replaceVariants(
+      UUID featureId, List<VariantRequestDto> variants) {
+    // The forced increment gives the feature a new version for the new values
+    featureRepository
+        .findForUpdateById(featureId)
+        .filter(feature -> feature.getProjectId() == projectContext.currentProjectId())
+        .orElseThrow(() -> error(MessageError.FEATURE_NOT_FOUND));
+    Set<String> names = new HashSet<>();
+    for (VariantRequestDto variant : variants) {
+      if (!names.add(variant.getName()) || !matches(variant.getType(), variant.getValue())) {
+        throw error(MessageError.VARIANT_INVALID);
+      }
+    }
+
+    Map<String, FeatureVariant> existing =
+        featureVariantRepository.findByFeatureIdOrderByNameAsc(featureId).stream()
+            .collect(Collectors.toMap(FeatureVariant::getName, Function.identity()));
+    List<FeatureVariant> removed =
+        existing.values().stream().filter(variant -> !names.contains(variant.getName())).toList();
+    if (!removed.isEmpty()
+        && variantAllocationRepository.existsByVariantIdIn(
+            removed.stream().map(FeatureVariant::getId).toList())) {
+      throw error(MessageError.VARIANT_IN_USE);
+    }
+    featureVariantRepository.deleteAll(removed);
+
+    List<FeatureVariant> stored = new ArrayList<>(variants.size());
+    for (VariantRequestDto request : variants) {
+      FeatureVariant variant =
+          existing.getOrDefault(
+              request.getName(),
+              FeatureVariant.builder().featureId(featureId).name(request.getName()).build());
+      variant.setType(request.getType());
+      variant.setValue(write(request.getValue()));
+      stored.add(variant);
+    }
+    return featureVariantRepository.saveAll(stored).stream()
+        .sorted(Comparator.comparing(FeatureVariant::getName))
+        .map(this::toDto)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<VariantAllocationDto> getAllocation(UUID featureConfigId) {
+    if (!featureConfigRepository.existsByIdInProject(
+        featureConfigId, projectContext.currentProjectId())) {
+      throw error(MessageError.FEATURE_CONFIG_NOT_FOUND);
+    }
+    return variantAllocationRepository.findAllocatedVariants(featureConfigId).stream()
+        .map(
+            allocated ->
+                VariantAllocationDto.builder()
+                    .variant(allocated.getName())
+                    .weight(allocated.getWeight())
+                    .build())
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public List<VariantAllocationDto> replaceAllocation(
+      UUID featureConfigId, List<VariantAllocationDto> allocations) {
+    // The forced increment gives the configuration a new version for the new allocation
+    FeatureConfig config =
+        featureConfigRepository
+            .findForUpdateByIdInProject(featureConfigId, projectContext.currentProjectId())
+            .orElseThrow(() -> error(MessageError.FEATURE_CONFIG_NOT_FOUND));
+    Map<String, UUID> variantIds = new HashMap<>();
+    for (FeatureVariant variant :
+        featureVariantRepository.findByFeatureIdOrderByNameAsc(config.getFeature().getId())) {
+      variantIds.put(variant.getName(), variant.getId());
+    }
+
+    Set<String> names = new HashSet<>();
+    int total = 0;
+    List<VariantAllocation> entities = new ArrayList<>(allocations.size());
+    for (VariantAllocationDto allocation : allocations) {
+      UUID variantId = variantIds.get(allocation.getVariant());
+      if (variantId == null) {
+        throw error(MessageError.VARIANT_NOT_FOUND);
+      }
+      if (!names.add(allocation.getVariant())) {
+        throw error(MessageError.VARIANT_ALLOCATION_INVALID);
+      }
+      total += allocation.getWeight();
+      entities.add(
+          VariantAllocation.builder()
+              .featureConfigId(featureConfigId)
+              .variantId(variantId)
+              .weight(allocation.getWeight())
+              .build());
+    }
+    if (!entities.isEmpty() && total != VariantTable.BUCKETS) {
+      throw error(MessageError.VARIANT_ALLOCATION_INVALID);
+    }
+
+    variantAllocationRepository.deleteByFeatureConfigId(featureConfigId);
+    variantAllocationRepository.saveAll(entities);
+    return allocations.stream()
+        .sorted(Comparator.comparing(VariantAllocationDto::getVariant))
+        .toList();
+  }
+
+  private static boolean matches(VariantType type, JsonNode value) {
+    return switch (type) {
+      case STRING -> value.isTextual();
+      case NUMBER -> value.isNumber();
+      case JSON -> !value.isNull() && !value.isMissingNode();
+    };
+  }
+
+  private VariantResponseDto toDto(FeatureVariant variant) {
+    return VariantResponseDto.builder()
+        .id(variant.getId())
+        .name(variant.getName())
+        .type(variant.getType())
+        .value(read(variant.getValue()))
+        .build();
+  }
+
+  private String write(JsonNode value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Variant value cannot be serialized", e);
+    }
+  }
+
+  private JsonNode read(String value) {
+    try {
+      return objectMapper.readTree(value);
+    } catch (JsonProcessingException e) {
+      // Values are validated before they are stored
+      throw new IllegalStateException("Stored variant value is not valid JSON", e);
+    }
+  }
+
+  private static FeatureFlagException error(MessageError error) {
+    return new FeatureFlagException(error.getStatus(), error.getMessage(), error.getDescription());
+  }
+}
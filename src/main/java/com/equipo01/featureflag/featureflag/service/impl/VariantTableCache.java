@@ -0,0 +1,99 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.repository.VariantAllocationRepository;
+import com.equipo01.featureflag.featureflag.repository.projections.AllocatedVariantView;
+import com.equipo01.featureflag.featureflag.util.PartitionedMap;
+import com.equipo01.featureflag.featureflag.util.targeting.VariantTable;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Variant tables by configuration, keyed by configuration and feature version and partitioned by
+ * environment.
+ *
+ * <p>The allocation belongs to the configuration and the variant values to the feature, so a table
+ * is only reused while both versions are unchanged. As in the {@link TargetingRuleCache}, the
+ * caller reads the versions before the allocation is loaded, so a table is never older than the
+ * versions it is stored under.
+ */
+@Component
+@RequiredArgsConstructor
+public class VariantTableCache {
+
+  private final VariantAllocationRepository variantAllocationRepository;
+  private final ObjectMapper objectMapper;
+
+  private final PartitionedMap<UUID, VariantTable> tables = new PartitionedMap<>();
+
+  /**
+   * Returns the variant table of a configuration, building it if the cached one belongs to other
+   * versions.
+   *
+   * @param environment the environment of the configuration
+   * @param featureConfigId the configuration the allocation belongs to
+   * @param configVersion the current version of the configuration
+   * @param featureVersion the current version of its feature
+   * @return the variant table of the configuration
+   */
+  public VariantTable get(
+      Environment environment, UUID featureConfigId, long configVersion, long featureVersion) {
+    VariantTable cached = tables.get(environment.id(), featureConfigId);
+    if (cached != null
+        && cached.configVersion() == configVersion
+        && cached.featureVersion() == featureVersion) {
+      return cached;
+    }
+    List<AllocatedVariantView> allocated =
+        variantAllocationRepository.findAllocatedVariants(featureConfigId);
+    List<VariantTable.Variant> variants = new ArrayList<>(allocated.size());
+    int[] weights = new int[allocated.size()];
+    for (int i = 0; i < weights.length; i++) {
+      AllocatedVariantView view = allocated.get(i);
+      variants.add(new VariantTable.Variant(view.getName(), parse(view.getValue())));
+      weights[i] = view.getWeight();
+    }
+    VariantTable fresh = VariantTable.build(configVersion, featureVersion, variants, weights);
+    // Never replace a table built for newer versions by a slower concurrent evaluation
+    tables
+        .partition(environment.id())
+        .merge(
+            featureConfigId,
+            fresh,
+            (current, candidate) ->
+                candidate.configVersion() >= current.configVersion()
+                        && candidate.featureVersion() >= current.featureVersion()
+                    ? candidate
+                    : current);
+    return fresh;
+  }
+
+  @EventListener
+  void on(FlagChangedEvent event) {
+    switch (event.getType()) {
+      case CONFIG_DELETED -> tables.remove(event.getFeatureConfigId());
+        // Deleting a feature removes all its configurations, which are not tracked by feature
+      case FEATURE_DELETED -> tables.clear();
+      default -> {
+        // Other changes increment the configuration or feature version
+      }
+    }
+  }
+
+  private JsonNode parse(String value) {
+    try {
+      return objectMapper.readTree(value);
+    } catch (JsonProcessingException e) {
+      // Values are validated before they are stored
+      throw new IllegalStateException("Stored variant value is not valid JSON", e);
+    }
+  }
+}
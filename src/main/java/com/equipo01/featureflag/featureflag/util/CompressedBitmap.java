@@ -0,0 +1,432 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compressed set of non-negative integers, laid out like a Roaring bitmap.
+ *
+ * <p>Values are split into chunks of 2^16 by their high 16 bits. Chunks are stored in a table
+ * indexed directly by those bits, which suits dense ordinals starting near zero. A chunk holding at
+ * most {@value #ARRAY_MAX} values is a sorted array of their low 16 bits, two bytes per value; a
+ * fuller chunk is a plain bitmap of 8 KiB. A membership test is therefore a table lookup followed
+ * by a single bit test, or by a binary search over at most {@value #ARRAY_MAX} entries for a sparse
+ * chunk, and a set never takes more than 8 KiB per chunk of 65536 possible values.
+ *
+ * <p>Instances are not thread-safe. Sets shared between threads must not be modified once
+ * published; {@link #copy()} gives a private copy to modify.
+ */
+public final class CompressedBitmap {
+
+  /** Largest number of values kept as a sorted array in a chunk. */
+  static final int ARRAY_MAX = 4096;
+
+  private static final int CHUNK_BITS = 16;
+  private static final int BITMAP_WORDS = (1 << CHUNK_BITS) / Long.SIZE;
+
+  private Chunk[] chunks = new Chunk[0];
+  private int cardinality;
+
+  /**
+   * Checks whether the set contains a value.
+   *
+   * @param value the value to look up
+   * @return true if the value is in the set
+   */
+  public boolean contains(int value) {
+    if (value < 0) {
+      return false;
+    }
+    int high = value >>> CHUNK_BITS;
+    if (high >= chunks.length) {
+      return false;
+    }
+    Chunk chunk = chunks[high];
+    return chunk != null && chunk.contains((char) value);
+  }
+
+  /**
+   * Adds a value to the set.
+   *
+   * @param value the value to add
+   * @return true if the value was not in the set yet
+   * @throws IllegalArgumentException if the value is negative
+   */
+  public boolean add(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative value: " + value);
+    }
+    int high = value >>> CHUNK_BITS;
+    if (high >= chunks.length) {
+      chunks = Arrays.copyOf(chunks, high + 1);
+    }
+    Chunk chunk = chunks[high];
+    if (chunk == null) {
+      chunk = new ArrayChunk();
+      chunks[high] = chunk;
+    }
+    int before = chunk.cardinality();
+    chunks[high] = chunk.add((char) value);
+    if (chunks[high].cardinality() == before) {
+      return false;
+    }
+    cardinality++;
+    return true;
+  }
+
+  /**
+   * Removes a value from the set.
+   *
+   * @param value the value to remove
+   * @return true if the value was in the set
+   */
+  public boolean remove(int value) {
+    if (!contains(value)) {
+      return false;
+    }
+    int high = value >>> CHUNK_BITS;
+    Chunk chunk = chunks[high].remove((char) value);
+    chunks[high] = chunk.cardinality() == 0 ? null : chunk;
+    cardinality--;
+    return true;
+  }
+
+  /**
+   * Returns the number of values in the set.
+   *
+   * @return the cardinality of the set
+   */
+  public int cardinality() {
+    return cardinality;
+  }
+
+  /**
+   * Returns the values of the set in ascending order.
+   *
+   * @return the values of the set
+   */
+  public int[] toArray() {
+    int[] values = new int[cardinality];
+    int index = 0;
+    for (int high = 0; high < chunks.length; high++) {
+      if (chunks[high] != null) {
+        index = chunks[high].copyTo(values, index, high << CHUNK_BITS);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Returns an independent copy of the set.
+   *
+   * @return a copy that can be modified without affecting this set
+   */
+  public CompressedBitmap copy() {
+    CompressedBitmap copy = new CompressedBitmap();
+    copy.chunks = new Chunk[chunks.length];
+    for (int high = 0; high < chunks.length; high++) {
+      copy.chunks[high] = chunks[high] == null ? null : chunks[high].copy();
+    }
+    copy.cardinality = cardinality;
+    return copy;
+  }
+
+  /**
+   * Serializes the set. The format stores, for every non-empty chunk, its index and cardinality
+   * followed by its sorted values or its bitmap, whichever the chunk holds.
+   *
+   * @return the serialized set
+   */
+  public byte[] serialize() {
+    int size = Integer.BYTES;
+    int count = 0;
+    for (Chunk chunk : chunks) {
+      if (chunk != null) {
+        size += Character.BYTES + Integer.BYTES + chunk.serializedSize();
+        count++;
+      }
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.putInt(count);
+    for (int high = 0; high < chunks.length; high++) {
+      if (chunks[high] != null) {
+        buffer.putChar((char) high);
+        buffer.putInt(chunks[high].cardinality());
+        chunks[high].writeTo(buffer);
+      }
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Deserializes a set written by {@link #serialize()}.
+   *
+   * @param bytes the serialized set
+   * @return the set
+   * @throws IllegalArgumentException if the bytes are not a serialized set
+   */
+  public static CompressedBitmap deserialize(byte[] bytes) {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      int count = buffer.getInt();
+      for (int i = 0; i < count; i++) {
+        int high = buffer.getChar();
+        int chunkCardinality = buffer.getInt();
+        if (chunkCardinality <= 0 || chunkCardinality > 1 << CHUNK_BITS) {
+          throw new IllegalArgumentException("Invalid chunk cardinality: " + chunkCardinality);
+        }
+        if (high >= bitmap.chunks.length) {
+          bitmap.chunks = Arrays.copyOf(bitmap.chunks, high + 1);
+        }
+        bitmap.chunks[high] =
+            chunkCardinality <= ARRAY_MAX
+                ? ArrayChunk.readFrom(buffer, chunkCardinality)
+                : BitmapChunk.readFrom(buffer, chunkCardinality);
+        bitmap.cardinality += chunkCardinality;
+      }
+      if (buffer.hasRemaining()) {
+        throw new IllegalArgumentException("Trailing bytes after serialized bitmap");
+      }
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated serialized bitmap", e);
+    }
+    return bitmap;
+  }
+
+  /**
+   * Returns the approximate memory taken by the set.
+   *
+   * @return the size of the chunk table and chunk contents, in bytes
+   */
+  public long sizeInBytes() {
+    long size = (long) chunks.length * Integer.BYTES;
+    for (Chunk chunk : chunks) {
+      if (chunk != null) {
+        size += chunk.serializedSize();
+      }
+    }
+    return size;
+  }
+
+  /** Values of one chunk, by their low 16 bits. */
+  private interface Chunk {
+
+    boolean contains(char low);
+
+    /** Returns the chunk holding the value, which may be a converted copy of this one. */
+    Chunk add(char low);
+
+    /** Returns the chunk without the value, which may be a converted copy of this one. */
+    Chunk remove(char low);
+
+    int cardinality();
+
+    int copyTo(int[] values, int index, int base);
+
+    Chunk copy();
+
+    int serializedSize();
+
+    void writeTo(ByteBuffer buffer);
+  }
+
+  /** Sparse chunk: sorted array of low bits. */
+  private static final class ArrayChunk implements Chunk {
+
+    private char[] values;
+    private int cardinality;
+
+    ArrayChunk() {
+      this(new char[4], 0);
+    }
+
+    private ArrayChunk(char[] values, int cardinality) {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    public boolean contains(char low) {
+      return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+    }
+
+    @Override
+    public Chunk add(char low) {
+      int index = Arrays.binarySearch(values, 0, cardinality, low);
+      if (index >= 0) {
+        return this;
+      }
+      if (cardinality == ARRAY_MAX) {
+        return toBitmap().add(low);
+      }
+      int insertion = -index - 1;
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+      }
+      System.arraycopy(values, insertion, values, insertion + 1, cardinality - insertion);
+      values[insertion] = low;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    public Chunk remove(char low) {
+      int index = Arrays.binarySearch(values, 0, cardinality, low);
+      if (index >= 0) {
+        System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+        cardinality--;
+      }
+      return this;
+    }
+
+    @Override
+    public int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    public int copyTo(int[] target, int index, int base) {
+      for (int i = 0; i < cardinality; i++) {
+        target[index++] = base | values[i];
+      }
+      return index;
+    }
+
+    @Override
+    public Chunk copy() {
+      return new ArrayChunk(Arrays.copyOf(values, cardinality), cardinality);
+    }
+
+    @Override
+    public int serializedSize() {
+      return cardinality * Character.BYTES;
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+      for (int i = 0; i < cardinality; i++) {
+        buffer.putChar(values[i]);
+      }
+    }
+
+    static ArrayChunk readFrom(ByteBuffer buffer, int cardinality) {
+      char[] values = new char[cardinality];
+      for (int i = 0; i < cardinality; i++) {
+        values[i] = buffer.getChar();
+        if (i > 0 && values[i] <= values[i - 1]) {
+          throw new IllegalArgumentException("Chunk values are not sorted");
+        }
+      }
+      return new ArrayChunk(values, cardinality);
+    }
+
+    private BitmapChunk toBitmap() {
+      BitmapChunk bitmap = new BitmapChunk(new long[BITMAP_WORDS], 0);
+      for (int i = 0; i < cardinality; i++) {
+        bitmap.add(values[i]);
+      }
+      return bitmap;
+    }
+  }
+
+  /** Dense chunk: one bit per possible low value. */
+  private static final class BitmapChunk implements Chunk {
+
+    private final long[] words;
+    private int cardinality;
+
+    private BitmapChunk(long[] words, int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    public boolean contains(char low) {
+      return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    public Chunk add(char low) {
+      long word = words[low >>> 6];
+      long bit = 1L << low;
+      if ((word & bit) == 0) {
+        words[low >>> 6] = word | bit;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    public Chunk remove(char low) {
+      long word = words[low >>> 6];
+      long bit = 1L << low;
+      if ((word & bit) != 0) {
+        words[low >>> 6] = word & ~bit;
+        cardinality--;
+      }
+      return cardinality > ARRAY_MAX ? this : toArray();
+    }
+
+    @Override
+    public int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    public int copyTo(int[] target, int index, int base) {
+      for (int word = 0; word < words.length; word++) {
+        long bits = words[word];
+        while (bits != 0) {
+          target[index++] = base | (word << 6) | Long.numberOfTrailingZeros(bits);
+          bits &= bits - 1;
+        }
+      }
+      return index;
+    }
+
+    @Override
+    public Chunk copy() {
+      return new BitmapChunk(words.clone(), cardinality);
+    }
+
+    @Override
+    public int serializedSize() {
+      return BITMAP_WORDS * Long.BYTES;
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+      for (long word : words) {
+        buffer.putLong(word);
+      }
+    }
+
+    static BitmapChunk readFrom(ByteBuffer buffer, int cardinality) {
+      long[] words = new long[BITMAP_WORDS];
+      int count = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        words[i] = buffer.getLong();
+        count += Long.bitCount(words[i]);
+      }
+      if (count != cardinality) {
+        throw new IllegalArgumentException("Chunk cardinality does not match its bitmap");
+      }
+      return new BitmapChunk(words, cardinality);
+    }
+
+    private ArrayChunk toArray() {
+      char[] values = new char[cardinality];
+      int index = 0;
+      for (int word = 0; word < words.length; word++) {
+        long bits = words[word];
+        while (bits != 0) {
+          values[index++] = (char) ((word << 6) | Long.numberOfTrailingZeros(bits));
+          bits &= bits - 1;
+        }
+      }
+      return new ArrayChunk(values, cardinality);
+    }
+  }
+}
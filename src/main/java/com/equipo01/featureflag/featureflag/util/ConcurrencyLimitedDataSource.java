@@ -0,0 +1,141 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source handing out at most a fixed number of connections at a time.
+ *
+ * <p>Each connection takes a permit of a fair semaphore, given back when the connection is closed,
+ * so threads asking for a connection beyond the limit wait in arrival order. Waiting on the
+ * semaphore parks a virtual thread without holding its carrier, so any number of them can queue. A
+ * thread that gets no permit within the acquire timeout fails with a {@link
+ * SQLTransientConnectionException}, as a connection pool does when it runs out of connections.
+ */
+public final class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final int limit;
+  private final long acquireTimeoutNanos;
+
+  /**
+   * Creates a data source limiting another one.
+   *
+   * @param target the data source handing out the connections
+   * @param limit the number of connections handed out at a time
+   * @param acquireTimeout how long to wait for a connection before failing
+   * @throws IllegalArgumentException if the limit is not positive
+   */
+  public ConcurrencyLimitedDataSource(DataSource target, int limit, Duration acquireTimeout) {
+    super(target);
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Invalid limit: " + limit);
+    }
+    this.permits = new Semaphore(limit, true);
+    this.limit = limit;
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return guard(super.getConnection());
+    } catch (SQLException | RuntimeException | Error e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return guard(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException | Error e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the number of connections handed out at a time.
+   *
+   * @return the limit
+   */
+  public int limit() {
+    return limit;
+  }
+
+  /**
+   * Returns the number of connections that can be handed out without waiting.
+   *
+   * @return the available permits
+   */
+  public int available() {
+    return permits.availablePermits();
+  }
+
+  /**
+   * Returns an estimate of the number of threads waiting for a connection.
+   *
+   * @return the waiting threads
+   */
+  public int waiting() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException(
+            "No connection available within " + Duration.ofNanos(acquireTimeoutNanos));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+    }
+  }
+
+  /** Wraps a connection so that closing it gives its permit back, once. */
+  private Connection guard(Connection connection) {
+    AtomicBoolean closed = new AtomicBoolean();
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          // Connections are compared by identity, as the ones of the pool are
+          if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+          }
+          if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          } finally {
+            if (isClose(method) && closed.compareAndSet(false, true)) {
+              permits.release();
+            }
+          }
+        };
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, handler);
+  }
+
+  private static boolean isClose(Method method) {
+    return method.getName().equals("close") && method.getParameterCount() == 0;
+  }
+}
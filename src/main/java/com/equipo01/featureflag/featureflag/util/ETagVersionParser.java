@@ -0,0 +1,50 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import java.util.List;
+import org.springframework.http.ETag;
+import org.springframework.stereotype.Component;
+
+/**
+ * Utility component for reading entity versions from {@code If-Match} headers.
+ *
+ * <p>Entity versions are exposed as strong ETags holding the numeric {@code @Version} value of the
+ * entity, e.g. {@code "3"}.
+ */
+@Component
+public class ETagVersionParser {
+
+  /**
+   * Extracts the expected entity version from an {@code If-Match} header.
+   *
+   * @param ifMatch the raw header value (can be null)
+   * @return the expected version, or null when the header is absent or a wildcard
+   * @throws FeatureFlagException with VERSION_MISMATCH details if the header holds anything but a
+   *     single strong version ETag, since such a header can never match the current version
+   */
+  public Long parseIfMatch(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank()) {
+      return null;
+    }
+    List<ETag> tags = ETag.parse(ifMatch);
+    if (tags.size() == 1 && tags.get(0).isWildcard()) {
+      return null;
+    }
+    if (tags.size() != 1 || tags.get(0).weak()) {
+      throw versionMismatch();
+    }
+    try {
+      return Long.valueOf(tags.get(0).tag());
+    } catch (NumberFormatException e) {
+      throw versionMismatch();
+    }
+  }
+
+  private FeatureFlagException versionMismatch() {
+    return new FeatureFlagException(
+        MessageError.VERSION_MISMATCH.getStatus(),
+        MessageError.VERSION_MISMATCH.getMessage(),
+        MessageError.VERSION_MISMATCH.getDescription());
+  }
+}
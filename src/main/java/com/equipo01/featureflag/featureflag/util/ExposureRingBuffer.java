@@ -0,0 +1,182 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free queue of exposure events with any number of producers and a single consumer.
+ *
+ * <p>Every slot is allocated up front as one entry of parallel arrays, so publishing an event
+ * allocates nothing. Each slot carries a sequence number telling whether it is free for the
+ * producer at a given position or holds an event for the consumer at that position. A producer
+ * claims a position with a single compare-and-set on the tail, writes the slot and publishes it by
+ * advancing its sequence; the consumer reads published slots in order and frees them by advancing
+ * their sequence by one lap. A producer that finds the buffer full does not wait: the event is
+ * dropped and counted.
+ *
+ * <p>{@link #offer} may be called from any thread. {@link #drain} must only ever be called from one
+ * thread at a time.
+ */
+public final class ExposureRingBuffer {
+
+  private final int capacity;
+  private final int mask;
+  private final AtomicLongArray sequences;
+  private final short[] projectIds;
+  private final String[] featureNames;
+  private final short[] environmentIds;
+  private final String[] clientIds;
+  private final boolean[] enabled;
+  private final String[] variants;
+  private final long[] timestamps;
+
+  private final AtomicLong tail = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+  // Only read and written by the consumer
+  private long head;
+
+  /**
+   * Creates an empty buffer.
+   *
+   * @param capacity the number of events the buffer holds, rounded up to a power of two
+   * @throws IllegalArgumentException if the capacity is not positive or above 2^30
+   */
+  public ExposureRingBuffer(int capacity) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+    this.capacity = roundUp(capacity);
+    this.mask = this.capacity - 1;
+    this.sequences = new AtomicLongArray(this.capacity);
+    for (int i = 0; i < this.capacity; i++) {
+      sequences.set(i, i);
+    }
+    this.projectIds = new short[this.capacity];
+    this.featureNames = new String[this.capacity];
+    this.environmentIds = new short[this.capacity];
+    this.clientIds = new String[this.capacity];
+    this.enabled = new boolean[this.capacity];
+    this.variants = new String[this.capacity];
+    this.timestamps = new long[this.capacity];
+  }
+
+  /**
+   * Publishes an event, or drops it if the buffer is full.
+   *
+   * @param projectId the project of the evaluated feature
+   * @param featureName the evaluated feature
+   * @param environmentId the identifier of the environment the feature was evaluated in
+   * @param clientId the client the value was served to
+   * @param enabledValue the served enabled state
+   * @param variant the served variant, or null
+   * @param timestamp the epoch millisecond of the evaluation
+   * @return true if the event was published, false if it was dropped
+   */
+  public boolean offer(
+      short projectId,
+      String featureName,
+      int environmentId,
+      String clientId,
+      boolean enabledValue,
+      String variant,
+      long timestamp) {
+    long position;
+    int index;
+    while (true) {
+      position = tail.get();
+      index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          break;
+        }
+      } else if (difference < 0) {
+        // The consumer has not freed this slot since the previous lap
+        dropped.increment();
+        return false;
+      }
+      // Otherwise another producer claimed the position first
+    }
+    projectIds[index] = projectId;
+    featureNames[index] = featureName;
+    environmentIds[index] = (short) environmentId;
+    clientIds[index] = clientId;
+    enabled[index] = enabledValue;
+    variants[index] = variant;
+    timestamps[index] = timestamp;
+    // The volatile write publishes the slot contents to the consumer
+    sequences.set(index, position + 1);
+    return true;
+  }
+
+  /**
+   * Hands published events to a handler, oldest first, and frees their slots.
+   *
+   * @param handler the handler receiving the events
+   * @param limit the maximum number of events to drain
+   * @return the number of drained events
+   */
+  public int drain(Handler handler, int limit) {
+    int drained = 0;
+    while (drained < limit) {
+      int index = (int) head & mask;
+      if (sequences.get(index) != head + 1) {
+        break;
+      }
+      handler.accept(
+          projectIds[index],
+          featureNames[index],
+          environmentIds[index],
+          clientIds[index],
+          enabled[index],
+          variants[index],
+          timestamps[index]);
+      // Release the strings before handing the slot back
+      featureNames[index] = null;
+      clientIds[index] = null;
+      variants[index] = null;
+      sequences.set(index, head + capacity);
+      head++;
+      drained++;
+    }
+    return drained;
+  }
+
+  /**
+   * Returns the number of events dropped because the buffer was full.
+   *
+   * @return the number of dropped events since the buffer was created
+   */
+  public long dropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * Returns the number of events the buffer holds.
+   *
+   * @return the capacity, a power of two
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  private static int roundUp(int capacity) {
+    int highest = Integer.highestOneBit(capacity);
+    return highest == capacity ? capacity : highest << 1;
+  }
+
+  /** Receiver of drained events. */
+  @FunctionalInterface
+  public interface Handler {
+
+    void accept(
+        short projectId,
+        String featureName,
+        int environmentId,
+        String clientId,
+        boolean enabled,
+        String variant,
+        long timestamp);
+  }
+}
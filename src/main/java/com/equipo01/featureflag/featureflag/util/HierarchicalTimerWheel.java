@@ -0,0 +1,149 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timer wheel holding items due at a given instant.
+ *
+ * <p>Time is divided into ticks of a fixed duration. The wheel has {@code levels} rings of {@code
+ * 2^slotBits} slots each; a slot on level {@code n} covers {@code 2^(slotBits * n)} ticks. An item
+ * is placed on the lowest level whose span reaches its deadline, in the slot its deadline maps to,
+ * so inserting is a constant-time list append regardless of how many items are scheduled. When the
+ * current tick enters a slot of a higher level, the items in that slot are cascaded down to the
+ * level matching their remaining delay, and the slot of the lowest level reached by the tick holds
+ * exactly the items due at that tick. Each item is therefore moved at most once per level, which
+ * keeps the amortized cost of advancing one tick constant. Items beyond the span of the highest
+ * level wait in an overflow list that is re-examined every time the highest level wraps around.
+ *
+ * <p>Deadlines are rounded up to the next tick, so an item is never released before its deadline
+ * and at most one tick after it. Items whose deadline has already passed when they are added are
+ * released on the next call to {@link #advance(long)}.
+ *
+ * <p>Instances are not thread-safe; callers serialize access.
+ *
+ * @param <T> the type of the scheduled items
+ */
+public final class HierarchicalTimerWheel<T> {
+
+  private final long tickMillis;
+  private final int slotBits;
+  private final int levels;
+  private final long slotMask;
+  private final List<Entry<T>>[][] slots;
+  private final List<Entry<T>> overflow = new ArrayList<>();
+  private final List<T> expired = new ArrayList<>();
+
+  /** Last tick the wheel has advanced to; every item due at or before it has been released. */
+  private long currentTick;
+
+  private int size;
+
+  /**
+   * Creates a wheel positioned at the given instant.
+   *
+   * @param tickMillis duration of a tick in milliseconds
+   * @param slotBits base-2 logarithm of the number of slots per level
+   * @param levels number of levels
+   * @param startMillis instant the wheel starts at, in epoch milliseconds
+   * @throws IllegalArgumentException if the tick duration, slots or levels are not positive, or the
+   *     wheel would span more ticks than a {@code long} can count
+   */
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimerWheel(long tickMillis, int slotBits, int levels, long startMillis) {
+    if (tickMillis <= 0 || slotBits <= 0 || levels <= 0 || (long) slotBits * levels >= 63) {
+      throw new IllegalArgumentException("Invalid timer wheel dimensions");
+    }
+    this.tickMillis = tickMillis;
+    this.slotBits = slotBits;
+    this.levels = levels;
+    this.slotMask = (1L << slotBits) - 1;
+    this.slots = new List[levels][1 << slotBits];
+    for (List<Entry<T>>[] level : slots) {
+      for (int slot = 0; slot < level.length; slot++) {
+        level[slot] = new ArrayList<>();
+      }
+    }
+    this.currentTick = Math.floorDiv(startMillis, tickMillis);
+  }
+
+  /**
+   * Schedules an item.
+   *
+   * @param item the item to release
+   * @param deadlineMillis instant at which the item is due, in epoch milliseconds
+   */
+  public void add(T item, long deadlineMillis) {
+    // Round up, so that an item is never released before its deadline
+    long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+    place(new Entry<>(item, deadlineTick));
+    size++;
+  }
+
+  /**
+   * Advances the wheel to the given instant and returns the items that became due, in no particular
+   * order.
+   *
+   * @param nowMillis the current instant, in epoch milliseconds
+   * @return the items whose deadline is at or before {@code nowMillis}
+   */
+  public List<T> advance(long nowMillis) {
+    long targetTick = Math.floorDiv(nowMillis, tickMillis);
+    while (currentTick < targetTick) {
+      currentTick++;
+      cascade();
+      List<Entry<T>> due = slots[0][(int) (currentTick & slotMask)];
+      for (Entry<T> entry : due) {
+        expired.add(entry.item());
+      }
+      due.clear();
+    }
+    List<T> released = new ArrayList<>(expired);
+    size -= released.size();
+    expired.clear();
+    return released;
+  }
+
+  /**
+   * Returns the number of items scheduled and not yet released.
+   *
+   * @return the number of pending items
+   */
+  public int size() {
+    return size;
+  }
+
+  /** Moves down the items of every higher-level slot the current tick has just entered. */
+  private void cascade() {
+    for (int level = 1; level <= levels; level++) {
+      int shift = slotBits * level;
+      if ((currentTick & ((1L << shift) - 1)) != 0) {
+        // The tick is not at the start of a slot of this level, nor of any higher one
+        return;
+      }
+      List<Entry<T>> bucket =
+          level < levels ? slots[level][(int) ((currentTick >>> shift) & slotMask)] : overflow;
+      List<Entry<T>> entries = new ArrayList<>(bucket);
+      bucket.clear();
+      entries.forEach(this::place);
+    }
+  }
+
+  private void place(Entry<T> entry) {
+    long delay = entry.deadlineTick() - currentTick;
+    if (delay <= 0) {
+      expired.add(entry.item());
+      return;
+    }
+    for (int level = 0; level < levels; level++) {
+      int shift = slotBits * level;
+      if (delay < 1L << (shift + slotBits)) {
+        slots[level][(int) ((entry.deadlineTick() >>> shift) & slotMask)].add(entry);
+        return;
+      }
+    }
+    overflow.add(entry);
+  }
+
+  private record Entry<T>(T item, long deadlineTick) {}
+}
@@ -0,0 +1,68 @@
+package com.equipo01.featureflag.featureflag.util;
+
+/**
+ * The 32-bit x86 variant of MurmurHash3, a fast non-cryptographic hash with good distribution.
+ *
+ * <p>Results match the reference implementation, so clients hashing the same bytes with the same
+ * seed compute the same buckets as the server.
+ */
+public final class MurmurHash3 {
+
+  private static final int C1 = 0xcc9e2d51;
+  private static final int C2 = 0x1b873593;
+
+  private MurmurHash3() {}
+
+  /**
+   * Hashes a byte array.
+   *
+   * @param data the bytes to hash
+   * @param seed the seed of the hash
+   * @return the 32-bit hash
+   */
+  public static int hash32(byte[] data, int seed) {
+    int hash = seed;
+    int blocks = data.length / 4;
+    for (int i = 0; i < blocks; i++) {
+      int offset = i * 4;
+      int k =
+          (data[offset] & 0xff)
+              | (data[offset + 1] & 0xff) << 8
+              | (data[offset + 2] & 0xff) << 16
+              | (data[offset + 3] & 0xff) << 24;
+      hash ^= mixK(k);
+      hash = Integer.rotateLeft(hash, 13) * 5 + 0xe6546b64;
+    }
+
+    int tail = blocks * 4;
+    int k = 0;
+    switch (data.length & 3) {
+      case 3:
+        k ^= (data[tail + 2] & 0xff) << 16;
+        // fall through
+      case 2:
+        k ^= (data[tail + 1] & 0xff) << 8;
+        // fall through
+      case 1:
+        k ^= data[tail] & 0xff;
+        hash ^= mixK(k);
+        // fall through
+      default:
+        break;
+    }
+
+    hash ^= data.length;
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  private static int mixK(int k) {
+    k *= C1;
+    k = Integer.rotateLeft(k, 15);
+    return k * C2;
+  }
+}
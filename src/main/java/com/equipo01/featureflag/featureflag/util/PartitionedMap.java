@@ -0,0 +1,88 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent map split into partitions indexed by a small non-negative integer, such as an
+ * environment identifier.
+ *
+ * <p>Partitions are held in an array, so reaching the partition of an entry is an array read. They
+ * are created on first use, which lets a node that only serves some partitions hold nothing for the
+ * others. The array is copied whenever a partition is added and published through a volatile field,
+ * so reads take no lock.
+ *
+ * @param <K> the type of the keys within a partition
+ * @param <V> the type of the values
+ */
+public final class PartitionedMap<K, V> {
+
+  @SuppressWarnings("unchecked")
+  private volatile ConcurrentMap<K, V>[] partitions = new ConcurrentMap[0];
+
+  /**
+   * Returns a partition, creating it if it does not exist yet.
+   *
+   * @param index the index of the partition
+   * @return the partition
+   * @throws IllegalArgumentException if the index is negative
+   */
+  public ConcurrentMap<K, V> partition(int index) {
+    ConcurrentMap<K, V> partition = existing(index);
+    return partition != null ? partition : create(index);
+  }
+
+  /**
+   * Returns a value of a partition, without creating the partition.
+   *
+   * @param index the index of the partition
+   * @param key the key of the value within the partition
+   * @return the value, or null if the partition or the key is absent
+   */
+  public V get(int index, K key) {
+    ConcurrentMap<K, V> partition = existing(index);
+    return partition == null ? null : partition.get(key);
+  }
+
+  /**
+   * Removes a key from every partition.
+   *
+   * @param key the key to remove
+   */
+  public void remove(K key) {
+    for (ConcurrentMap<K, V> partition : partitions) {
+      if (partition != null) {
+        partition.remove(key);
+      }
+    }
+  }
+
+  /** Removes every entry, keeping the partitions. */
+  public void clear() {
+    for (ConcurrentMap<K, V> partition : partitions) {
+      if (partition != null) {
+        partition.clear();
+      }
+    }
+  }
+
+  private ConcurrentMap<K, V> existing(int index) {
+    if (index < 0) {
+      throw new IllegalArgumentException("Negative partition index: " + index);
+    }
+    ConcurrentMap<K, V>[] table = partitions;
+    return index < table.length ? table[index] : null;
+  }
+
+  private synchronized ConcurrentMap<K, V> create(int index) {
+    ConcurrentMap<K, V>[] table = partitions;
+    if (index < table.length && table[index] != null) {
+      return table[index];
+    }
+    ConcurrentMap<K, V>[] grown = Arrays.copyOf(table, Math.max(table.length, index + 1));
+    grown[index] = new ConcurrentHashMap<>();
+    partitions = grown;
+    return grown[index];
+  }
+}
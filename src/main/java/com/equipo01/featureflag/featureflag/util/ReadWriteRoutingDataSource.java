@@ -0,0 +1,163 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source sending read-only transactions to a replica and everything else to the primary.
+ *
+ * <p>A connection is taken from the replica when it is asked for within a transaction marked
+ * read-only, and from the primary otherwise: in read-write transactions and outside of any
+ * transaction. Transactions take their connection when they begin, before they are known to be
+ * read-only, so this data source must sit behind a {@link LazyConnectionDataSourceProxy}, which
+ * only asks for the connection on the first statement.
+ *
+ * <p>Replicas lag behind the primary, so a client reading right after writing may not see its own
+ * writes. To prevent it, a client taking a connection in a read-write transaction is pinned to the
+ * primary for the pin window: its read-only transactions read from the primary until the window has
+ * passed. Clients are identified by the supplier given, and work done for no client is never
+ * pinned.
+ */
+public final class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  /** Pool a connection is taken from. */
+  public enum Pool {
+    PRIMARY,
+    REPLICA
+  }
+
+  /** Number of pinned clients beyond which the expired pins are dropped. */
+  private static final int PIN_CLEANUP_THRESHOLD = 10_000;
+
+  private final long pinWindowNanos;
+  private final Supplier<String> currentClient;
+  private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+  private final LongAdder primaryConnections = new LongAdder();
+  private final LongAdder replicaConnections = new LongAdder();
+  private final LongAdder pinnedReads = new LongAdder();
+
+  /**
+   * Creates a data source routing between a primary and a replica.
+   *
+   * @param primary the data source of the primary database
+   * @param replica the data source of the replica
+   * @param pinWindow how long a client reads from the primary after writing, zero to never pin
+   * @param currentClient supplies the client the current thread works for, or null
+   */
+  public ReadWriteRoutingDataSource(
+      DataSource primary, DataSource replica, Duration pinWindow, Supplier<String> currentClient) {
+    this.pinWindowNanos = pinWindow.toNanos();
+    this.currentClient = currentClient;
+    setTargetDataSources(Map.of(Pool.PRIMARY, primary, Pool.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getResolvedDataSources().get(route()).getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return getResolvedDataSources().get(route()).getConnection(username, password);
+  }
+
+  /** Returns the pool the current thread reads from, without pinning or counting anything. */
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return isReadOnlyTransaction() && !isPinned(currentClient.get()) ? Pool.REPLICA : Pool.PRIMARY;
+  }
+
+  /**
+   * Returns the number of connections taken from the primary.
+   *
+   * @return the connections taken from the primary since creation
+   */
+  public long primaryConnections() {
+    return primaryConnections.sum();
+  }
+
+  /**
+   * Returns the number of connections taken from the replica.
+   *
+   * @return the connections taken from the replica since creation
+   */
+  public long replicaConnections() {
+    return replicaConnections.sum();
+  }
+
+  /**
+   * Returns the number of read-only transactions sent to the primary because their client had just
+   * written.
+   *
+   * @return the pinned reads since creation
+   */
+  public long pinnedReads() {
+    return pinnedReads.sum();
+  }
+
+  /**
+   * Returns the number of clients currently pinned to the primary.
+   *
+   * @return the pinned clients, including some whose window has just passed
+   */
+  public int pinnedClients() {
+    return pinnedUntil.size();
+  }
+
+  private Pool route() {
+    String client = currentClient.get();
+    if (isReadOnlyTransaction()) {
+      if (!isPinned(client)) {
+        replicaConnections.increment();
+        return Pool.REPLICA;
+      }
+      pinnedReads.increment();
+    } else if (client != null
+        && pinWindowNanos > 0
+        && TransactionSynchronizationManager.isActualTransactionActive()) {
+      pin(client);
+    }
+    primaryConnections.increment();
+    return Pool.PRIMARY;
+  }
+
+  private static boolean isReadOnlyTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  private boolean isPinned(String client) {
+    if (client == null) {
+      return false;
+    }
+    Long until = pinnedUntil.get(client);
+    if (until == null) {
+      return false;
+    }
+    if (until - System.nanoTime() > 0) {
+      return true;
+    }
+    pinnedUntil.remove(client, until);
+    return false;
+  }
+
+  private void pin(String client) {
+    long now = System.nanoTime();
+    if (pinnedUntil.size() >= PIN_CLEANUP_THRESHOLD) {
+      pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+    pinnedUntil.put(client, now + pinWindowNanos);
+  }
+}
@@ -0,0 +1,71 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Orders the nodes of a dependency graph so that every node comes after the nodes it depends on.
+ *
+ * <p>The order is computed with Kahn's algorithm in time linear in the number of nodes and edges,
+ * without recursion, so deep dependency chains cannot overflow the stack. A graph with a cycle has
+ * no such order and is rejected.
+ */
+public final class TopologicalSort {
+
+  private TopologicalSort() {}
+
+  /**
+   * Orders the nodes of a graph, dependencies first.
+   *
+   * @param dependencies the nodes each node depends on; nodes only appearing as dependencies are
+   *     included in the order as well
+   * @param <K> the type of the nodes
+   * @return every node of the graph, each one after all its dependencies
+   * @throws IllegalArgumentException if the graph has a cycle, naming one of its nodes
+   */
+  public static <K> List<K> sort(Map<K, ? extends Collection<K>> dependencies) {
+    Set<K> nodes = new LinkedHashSet<>();
+    Map<K, List<K>> dependents = new HashMap<>();
+    Map<K, Integer> pending = new HashMap<>();
+    for (Map.Entry<K, ? extends Collection<K>> entry : dependencies.entrySet()) {
+      nodes.add(entry.getKey());
+      Set<K> distinct = new LinkedHashSet<>(entry.getValue());
+      pending.merge(entry.getKey(), distinct.size(), Integer::sum);
+      for (K dependency : distinct) {
+        nodes.add(dependency);
+        dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(entry.getKey());
+      }
+    }
+
+    Deque<K> ready = new ArrayDeque<>();
+    for (K node : nodes) {
+      if (pending.getOrDefault(node, 0) == 0) {
+        ready.add(node);
+      }
+    }
+    List<K> order = new ArrayList<>(nodes.size());
+    while (!ready.isEmpty()) {
+      K node = ready.poll();
+      order.add(node);
+      for (K dependent : dependents.getOrDefault(node, List.of())) {
+        if (pending.merge(dependent, -1, Integer::sum) == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+
+    if (order.size() < nodes.size()) {
+      // Nodes never released are on a cycle or depend on one
+      K blocked = nodes.stream().filter(node -> pending.get(node) > 0).findFirst().orElseThrow();
+      throw new IllegalArgumentException("Dependency cycle involving " + blocked);
+    }
+    return order;
+  }
+}
@@ -0,0 +1,54 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Targeting rules of one feature configuration, compiled for a given version of the configuration.
+ *
+ * <p>Instances are immutable and are replaced as a whole when the configuration changes, so they
+ * are shared between concurrent evaluations without synchronization.
+ */
+public final class CompiledTargeting {
+
+  private final long version;
+  private final CompiledRule[] rules;
+
+  CompiledTargeting(long version, CompiledRule[] rules) {
+    this.version = version;
+    this.rules = rules;
+  }
+
+  /**
+   * Returns the configuration version the rules were compiled for.
+   *
+   * @return the configuration version
+   */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * Returns the first rule matching an evaluation context.
+   *
+   * @param context the attributes of the evaluated subject, by name
+   * @return the first matching rule in priority order, or null if none matches
+   */
+  public CompiledRule match(Map<String, String> context) {
+    for (CompiledRule rule : rules) {
+      if (rule.predicate().test(context)) {
+        return rule;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A compiled rule.
+   *
+   * @param ruleId the identifier of the rule
+   * @param enabled the enabled state served when the rule matches
+   * @param predicate the conjunction of the clauses of the rule
+   */
+  public record CompiledRule(UUID ruleId, boolean enabled, TargetingPredicate predicate) {}
+}
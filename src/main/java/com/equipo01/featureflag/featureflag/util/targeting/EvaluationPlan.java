@@ -0,0 +1,134 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import com.equipo01.featureflag.featureflag.util.TopologicalSort;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prerequisite graph of the features, in topological order, for a given version of the graph.
+ *
+ * <p>Features are numbered by their position in the order, so the prerequisites of a feature always
+ * have smaller indices than the feature itself. Evaluating the features of a {@link #closure} in
+ * ascending index order therefore resolves every prerequisite before the features depending on it,
+ * each exactly once, without recursion. Only features taking part in a prerequisite relationship
+ * are planned.
+ *
+ * <p>Instances are immutable and are replaced as a whole when the graph changes, so they are shared
+ * between concurrent evaluations without synchronization.
+ */
+public final class EvaluationPlan {
+
+  private static final int[] NONE = new int[0];
+
+  private final long version;
+  private final String[] names;
+  private final int[][] prerequisites;
+  private final Map<String, Integer> indices;
+
+  private EvaluationPlan(
+      long version, String[] names, int[][] prerequisites, Map<String, Integer> indices) {
+    this.version = version;
+    this.names = names;
+    this.prerequisites = prerequisites;
+    this.indices = indices;
+  }
+
+  /**
+   * Plans the evaluation of a prerequisite graph.
+   *
+   * @param version the graph version the plan is built for
+   * @param prerequisites the names of the prerequisites of each feature, by feature name
+   * @return the evaluation plan
+   * @throws IllegalArgumentException if the graph has a cycle
+   */
+  public static EvaluationPlan build(
+      long version, Map<String, ? extends Collection<String>> prerequisites) {
+    List<String> order = TopologicalSort.sort(prerequisites);
+    Map<String, Integer> indices = new HashMap<>(order.size() * 2);
+    for (int index = 0; index < order.size(); index++) {
+      indices.put(order.get(index), index);
+    }
+    int[][] planned = new int[order.size()][];
+    for (int index = 0; index < planned.length; index++) {
+      Collection<String> direct = prerequisites.get(order.get(index));
+      planned[index] =
+          direct == null || direct.isEmpty()
+              ? NONE
+              : direct.stream().distinct().mapToInt(indices::get).sorted().toArray();
+    }
+    return new EvaluationPlan(version, order.toArray(String[]::new), planned, indices);
+  }
+
+  /**
+   * Returns the graph version the plan was built for.
+   *
+   * @return the graph version
+   */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * Returns the number of planned features.
+   *
+   * @return the number of features taking part in a prerequisite relationship
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Returns the index of a feature in the plan.
+   *
+   * @param name the name of the feature
+   * @return the index of the feature, or -1 if it has no prerequisite and is no prerequisite
+   */
+  public int indexOf(String name) {
+    Integer index = indices.get(name);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the name of a planned feature.
+   *
+   * @param index the index of the feature
+   * @return the name of the feature
+   */
+  public String name(int index) {
+    return names[index];
+  }
+
+  /**
+   * Returns the direct prerequisites of a planned feature.
+   *
+   * @param index the index of the feature
+   * @return the indices of its direct prerequisites, in ascending order; must not be modified
+   */
+  public int[] prerequisites(int index) {
+    return prerequisites[index];
+  }
+
+  /**
+   * Returns the features to evaluate to resolve the given ones: the features themselves and all
+   * their direct and transitive prerequisites.
+   *
+   * @param roots the indices of the features to resolve
+   * @return the indices of the features to evaluate, in ascending order, which is evaluation order
+   */
+  public int[] closure(int... roots) {
+    BitSet needed = new BitSet(names.length);
+    for (int root : roots) {
+      needed.set(root);
+    }
+    // Prerequisites have smaller indices, so one descending pass reaches every transitive one
+    for (int index = needed.length() - 1; index >= 0; index = needed.previousSetBit(index - 1)) {
+      for (int prerequisite : prerequisites[index]) {
+        needed.set(prerequisite);
+      }
+    }
+    return needed.stream().toArray();
+  }
+}
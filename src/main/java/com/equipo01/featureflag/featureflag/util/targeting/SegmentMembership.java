@@ -0,0 +1,44 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import java.util.UUID;
+
+/**
+ * Source of segment membership for compiled targeting rules.
+ *
+ * <p>Compiled rules keep only the identifiers of the segments they reference and ask for membership
+ * on every evaluation, so changing the members of a segment takes effect without compiling any rule
+ * again. Implementations are safe for concurrent use.
+ */
+public interface SegmentMembership {
+
+  /** Membership without any known client, used when no segment can be resolved. */
+  SegmentMembership NONE =
+      new SegmentMembership() {
+        @Override
+        public int ordinalOf(String clientId) {
+          return -1;
+        }
+
+        @Override
+        public boolean contains(UUID segmentId, int ordinal) {
+          return false;
+        }
+      };
+
+  /**
+   * Resolves the ordinal identifying a client in segments.
+   *
+   * @param clientId the identifier of the client, as found in the evaluation context
+   * @return the ordinal of the client, or a negative value if the client is unknown
+   */
+  int ordinalOf(String clientId);
+
+  /**
+   * Checks whether a client belongs to a segment.
+   *
+   * @param segmentId the identifier of the segment
+   * @param ordinal the ordinal of the client
+   * @return true if the segment exists and contains the client
+   */
+  boolean contains(UUID segmentId, int ordinal);
+}
@@ -0,0 +1,96 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+/**
+ * Parsing and comparison of semantic versions of the form {@code MAJOR[.MINOR[.PATCH]]}, optionally
+ * prefixed with {@code v}. Missing components count as zero, and pre-release or build suffixes
+ * (starting at {@code -} or {@code +}) are ignored.
+ *
+ * <p>The bound of a comparison is parsed once into its components; the compared version is scanned
+ * in place, so comparing does not allocate.
+ */
+public final class SemanticVersions {
+
+  /** Number of components of a version. */
+  static final int COMPONENTS = 3;
+
+  private static final int[] ZERO = new int[COMPONENTS];
+
+  private SemanticVersions() {}
+
+  /**
+   * Parses a version into its components.
+   *
+   * @param version the version to parse
+   * @return the major, minor and patch components
+   * @throws IllegalArgumentException if the value is not a semantic version
+   */
+  public static int[] parse(String version) {
+    int[] components = new int[COMPONENTS];
+    if (version == null || scan(version, ZERO, components) == Integer.MIN_VALUE) {
+      throw new IllegalArgumentException("Invalid semantic version: " + version);
+    }
+    return components;
+  }
+
+  /**
+   * Checks whether a version is greater than or equal to a parsed bound.
+   *
+   * @param version the version to compare
+   * @param minimum the bound, as returned by {@link #parse(String)}
+   * @return true if {@code version} is a semantic version not lower than {@code minimum}; false
+   *     otherwise, including when it cannot be parsed
+   */
+  public static boolean atLeast(String version, int[] minimum) {
+    int order = scan(version, minimum, null);
+    return order != Integer.MIN_VALUE && order >= 0;
+  }
+
+  /**
+   * Scans a version, comparing it with a bound and optionally storing its components.
+   *
+   * @return the sign of the comparison of {@code version} with {@code bound}, or {@link
+   *     Integer#MIN_VALUE} if {@code version} cannot be parsed
+   */
+  private static int scan(String version, int[] bound, int[] parsed) {
+    int length = version.length();
+    int index = length > 0 && (version.charAt(0) == 'v' || version.charAt(0) == 'V') ? 1 : 0;
+    int component = 0;
+    long value = 0;
+    boolean digits = false;
+    int order = 0;
+    for (; index < length; index++) {
+      char c = version.charAt(index);
+      if (c >= '0' && c <= '9') {
+        value = value * 10 + (c - '0');
+        if (value > Integer.MAX_VALUE) {
+          return Integer.MIN_VALUE;
+        }
+        digits = true;
+      } else if (c == '.' && digits && component < COMPONENTS - 1) {
+        order = compare(order, value, bound, component, parsed);
+        component++;
+        value = 0;
+        digits = false;
+      } else if ((c == '-' || c == '+') && digits) {
+        break;
+      } else {
+        return Integer.MIN_VALUE;
+      }
+    }
+    if (!digits) {
+      return Integer.MIN_VALUE;
+    }
+    order = compare(order, value, bound, component, parsed);
+    for (component++; component < COMPONENTS; component++) {
+      order = compare(order, 0, bound, component, parsed);
+    }
+    return order;
+  }
+
+  private static int compare(int order, long value, int[] bound, int component, int[] parsed) {
+    if (parsed != null) {
+      parsed[component] = (int) value;
+    }
+    return order != 0 ? order : Long.signum(value - bound[component]);
+  }
+}
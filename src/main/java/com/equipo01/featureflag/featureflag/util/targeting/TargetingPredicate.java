@@ -0,0 +1,24 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import java.util.Map;
+
+/**
+ * Compiled condition on an evaluation context.
+ *
+ * <p>Implementations are immutable and hold everything they need in a pre-processed form, so they
+ * can be shared between threads and tested any number of times without allocating.
+ */
+@FunctionalInterface
+public interface TargetingPredicate {
+
+  /** Predicate that holds for every context, used for rules without clauses. */
+  TargetingPredicate ALWAYS = context -> true;
+
+  /**
+   * Tests the predicate against an evaluation context.
+   *
+   * @param context the attributes of the evaluated subject, by name
+   * @return whether the predicate holds for the context
+   */
+  boolean test(Map<String, String> context);
+}
@@ -0,0 +1,266 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Factory of the specialized predicates a targeting rule is compiled into.
+ *
+ * <p>Each clause operator has its own predicate class, holding its values in the form that operator
+ * compares fastest: a sorted array searched with {@link Arrays#binarySearch} for {@code IN}, parsed
+ * components for semantic versions, compiled patterns for regular expressions and parsed
+ * identifiers for segments. Apart from the {@link java.util.regex.Matcher} a regular expression
+ * needs, testing a predicate does not allocate.
+ */
+public final class TargetingPredicates {
+
+  private TargetingPredicates() {}
+
+  /**
+   * Predicate holding when the attribute equals one of the values.
+   *
+   * @param attribute the name of the context attribute
+   * @param values the accepted values
+   * @param negate whether the result is inverted for present attributes
+   * @return the compiled predicate
+   */
+  public static TargetingPredicate in(String attribute, Collection<String> values, boolean negate) {
+    String[] sorted = values.stream().distinct().sorted().toArray(String[]::new);
+    return new In(attribute, negate, sorted);
+  }
+
+  /**
+   * Predicate holding when the attribute starts with one of the values.
+   *
+   * @param attribute the name of the context attribute
+   * @param prefixes the accepted prefixes
+   * @param negate whether the result is inverted for present attributes
+   * @return the compiled predicate
+   */
+  public static TargetingPredicate startsWith(
+      String attribute, Collection<String> prefixes, boolean negate) {
+    return new StartsWith(attribute, negate, prefixes.stream().distinct().toArray(String[]::new));
+  }
+
+  /**
+   * Predicate holding when the attribute is a semantic version greater than or equal to one of the
+   * values. Only the lowest bound can decide the result, so it is the only one kept.
+   *
+   * @param attribute the name of the context attribute
+   * @param minimums the accepted lower bounds
+   * @param negate whether the result is inverted for present attributes
+   * @return the compiled predicate
+   * @throws IllegalArgumentException if a value is not a semantic version
+   */
+  public static TargetingPredicate semverAtLeast(
+      String attribute, Collection<String> minimums, boolean negate) {
+    int[] lowest = null;
+    for (String minimum : minimums) {
+      int[] parsed = SemanticVersions.parse(minimum);
+      if (lowest == null || Arrays.compare(parsed, lowest) < 0) {
+        lowest = parsed;
+      }
+    }
+    if (lowest == null) {
+      throw new IllegalArgumentException("No semantic version to compare with");
+    }
+    return new SemverAtLeast(attribute, negate, lowest);
+  }
+
+  /**
+   * Predicate holding when the attribute matches one of the values as a regular expression, in
+   * full.
+   *
+   * @param attribute the name of the context attribute
+   * @param regexes the accepted regular expressions
+   * @param negate whether the result is inverted for present attributes
+   * @return the compiled predicate
+   * @throws java.util.regex.PatternSyntaxException if a value is not a valid regular expression
+   */
+  public static TargetingPredicate matches(
+      String attribute, Collection<String> regexes, boolean negate) {
+    return new Matches(
+        attribute,
+        negate,
+        regexes.stream().distinct().map(Pattern::compile).toArray(Pattern[]::new));
+  }
+
+  /**
+   * Predicate holding when the attribute identifies a client belonging to one of the segments.
+   * Membership is read on every test, so the predicate follows changes to the segments.
+   *
+   * @param attribute the name of the context attribute
+   * @param segmentIds the identifiers of the accepted segments
+   * @param negate whether the result is inverted for present attributes
+   * @param membership the source of segment membership
+   * @return the compiled predicate
+   * @throws IllegalArgumentException if a value is not a segment identifier
+   */
+  public static TargetingPredicate inSegment(
+      String attribute,
+      Collection<String> segmentIds,
+      boolean negate,
+      SegmentMembership membership) {
+    return new InSegment(
+        attribute,
+        negate,
+        segmentIds.stream().distinct().map(UUID::fromString).toArray(UUID[]::new),
+        membership);
+  }
+
+  /**
+   * Predicate holding when all the given predicates hold.
+   *
+   * @param predicates the predicates to combine, tested in order
+   * @return the combined predicate, or the only predicate given, or {@link
+   *     TargetingPredicate#ALWAYS} when none is
+   */
+  public static TargetingPredicate allOf(TargetingPredicate... predicates) {
+    return switch (predicates.length) {
+      case 0 -> TargetingPredicate.ALWAYS;
+      case 1 -> predicates[0];
+      default -> new AllOf(predicates.clone());
+    };
+  }
+
+  /**
+   * Base class of the predicates reading one context attribute. A missing attribute never matches,
+   * whether the clause is negated or not.
+   */
+  private abstract static class AttributePredicate implements TargetingPredicate {
+
+    private final String attribute;
+    private final boolean negate;
+
+    AttributePredicate(String attribute, boolean negate) {
+      this.attribute = attribute;
+      this.negate = negate;
+    }
+
+    @Override
+    public final boolean test(Map<String, String> context) {
+      String value = context.get(attribute);
+      return value != null && matches(value) != negate;
+    }
+
+    abstract boolean matches(String value);
+  }
+
+  private static final class In extends AttributePredicate {
+
+    private final String[] sorted;
+
+    In(String attribute, boolean negate, String[] sorted) {
+      super(attribute, negate);
+      this.sorted = sorted;
+    }
+
+    @Override
+    boolean matches(String value) {
+      return Arrays.binarySearch(sorted, value) >= 0;
+    }
+  }
+
+  private static final class StartsWith extends AttributePredicate {
+
+    private final String[] prefixes;
+
+    StartsWith(String attribute, boolean negate, String[] prefixes) {
+      super(attribute, negate);
+      this.prefixes = prefixes;
+    }
+
+    @Override
+    boolean matches(String value) {
+      for (String prefix : prefixes) {
+        if (value.startsWith(prefix)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static final class SemverAtLeast extends AttributePredicate {
+
+    private final int[] minimum;
+
+    SemverAtLeast(String attribute, boolean negate, int[] minimum) {
+      super(attribute, negate);
+      this.minimum = minimum;
+    }
+
+    @Override
+    boolean matches(String value) {
+      return SemanticVersions.atLeast(value, minimum);
+    }
+  }
+
+  private static final class Matches extends AttributePredicate {
+
+    private final Pattern[] patterns;
+
+    Matches(String attribute, boolean negate, Pattern[] patterns) {
+      super(attribute, negate);
+      this.patterns = patterns;
+    }
+
+    @Override
+    boolean matches(String value) {
+      for (Pattern pattern : patterns) {
+        if (pattern.matcher(value).matches()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static final class InSegment extends AttributePredicate {
+
+    private final UUID[] segmentIds;
+    private final SegmentMembership membership;
+
+    InSegment(String attribute, boolean negate, UUID[] segmentIds, SegmentMembership membership) {
+      super(attribute, negate);
+      this.segmentIds = segmentIds;
+      this.membership = membership;
+    }
+
+    @Override
+    boolean matches(String value) {
+      int ordinal = membership.ordinalOf(value);
+      if (ordinal < 0) {
+        return false;
+      }
+      for (UUID segmentId : segmentIds) {
+        if (membership.contains(segmentId, ordinal)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static final class AllOf implements TargetingPredicate {
+
+    private final TargetingPredicate[] predicates;
+
+    AllOf(TargetingPredicate[] predicates) {
+      this.predicates = predicates;
+    }
+
+    @Override
+    public boolean test(Map<String, String> context) {
+      for (TargetingPredicate predicate : predicates) {
+        if (!predicate.test(context)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import com.equipo01.featureflag.featureflag.model.TargetingClause;
+import com.equipo01.featureflag.featureflag.model.TargetingRule;
+import java.util.List;
+
+/** Compiles targeting rules into trees of {@link TargetingPredicate}s. */
+public final class TargetingRuleCompiler {
+
+  private TargetingRuleCompiler() {}
+
+  /**
+   * Compiles the rules of a configuration, without any segment membership.
+   *
+   * @param version the configuration version the rules belong to
+   * @param rules the rules, in ascending priority
+   * @return the compiled rules
+   * @throws IllegalArgumentException if a clause has no values, or values its operator cannot parse
+   */
+  public static CompiledTargeting compile(long version, List<TargetingRule> rules) {
+    return compile(version, rules, SegmentMembership.NONE);
+  }
+
+  /**
+   * Compiles the rules of a configuration.
+   *
+   * @param version the configuration version the rules belong to
+   * @param rules the rules, in ascending priority
+   * @param membership the source of membership for segment clauses
+   * @return the compiled rules
+   * @throws IllegalArgumentException if a clause has no values, or values its operator cannot parse
+   */
+  public static CompiledTargeting compile(
+      long version, List<TargetingRule> rules, SegmentMembership membership) {
+    CompiledTargeting.CompiledRule[] compiled = new CompiledTargeting.CompiledRule[rules.size()];
+    for (int index = 0; index < compiled.length; index++) {
+      TargetingRule rule = rules.get(index);
+      compiled[index] =
+          new CompiledTargeting.CompiledRule(
+              rule.getId(), rule.getEnabled(), compile(rule.getClauses(), membership));
+    }
+    return new CompiledTargeting(version, compiled);
+  }
+
+  /**
+   * Compiles the clauses of a rule into their conjunction.
+   *
+   * @param clauses the clauses of the rule
+   * @param membership the source of membership for segment clauses
+   * @return a predicate holding when every clause holds
+   * @throws IllegalArgumentException if a clause has no values, or values its operator cannot parse
+   */
+  public static TargetingPredicate compile(
+      List<TargetingClause> clauses, SegmentMembership membership) {
+    TargetingPredicate[] predicates = new TargetingPredicate[clauses.size()];
+    for (int index = 0; index < predicates.length; index++) {
+      predicates[index] = compile(clauses.get(index), membership);
+    }
+    return TargetingPredicates.allOf(predicates);
+  }
+
+  private static TargetingPredicate compile(TargetingClause clause, SegmentMembership membership) {
+    if (clause.getValues() == null || clause.getValues().isEmpty()) {
+      throw new IllegalArgumentException("Clause on " + clause.getAttribute() + " has no values");
+    }
+    return switch (clause.getOperator()) {
+      case IN -> TargetingPredicates.in(
+          clause.getAttribute(), clause.getValues(), clause.isNegate());
+      case STARTS_WITH -> TargetingPredicates.startsWith(
+          clause.getAttribute(), clause.getValues(), clause.isNegate());
+      case SEMVER_GTE -> TargetingPredicates.semverAtLeast(
+          clause.getAttribute(), clause.getValues(), clause.isNegate());
+      case MATCHES -> TargetingPredicates.matches(
+          clause.getAttribute(), clause.getValues(), clause.isNegate());
+      case IN_SEGMENT -> TargetingPredicates.inSegment(
+          clause.getAttribute(), clause.getValues(), clause.isNegate(), membership);
+    };
+  }
+}
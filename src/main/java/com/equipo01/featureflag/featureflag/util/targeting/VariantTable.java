@@ -0,0 +1,134 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import com.equipo01.featureflag.featureflag.util.MurmurHash3;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Weighted allocation of the variants of a feature configuration, precomputed for given versions of
+ * the configuration and of its feature.
+ *
+ * <p>Clients are spread over {@value #BUCKETS} buckets by hashing the feature name with the client
+ * id, and the weights of an allocation always add up to {@value #BUCKETS}. The table stores the
+ * cumulative weights, so picking the variant of a bucket is a binary search over them, without any
+ * weight arithmetic per evaluation. Since the bucket of a client does not depend on the weights,
+ * changing them only moves the clients whose bucket crosses a new boundary.
+ *
+ * <p>Instances are immutable and are replaced as a whole when the allocation changes, so they are
+ * shared between concurrent evaluations without synchronization.
+ */
+public final class VariantTable {
+
+  /** Number of buckets clients are spread over; also the sum of the weights of an allocation. */
+  public static final int BUCKETS = 10_000;
+
+  private final long configVersion;
+  private final long featureVersion;
+  private final int[] upperBounds;
+  private final Variant[] variants;
+
+  private VariantTable(
+      long configVersion, long featureVersion, int[] upperBounds, Variant[] variants) {
+    this.configVersion = configVersion;
+    this.featureVersion = featureVersion;
+    this.upperBounds = upperBounds;
+    this.variants = variants;
+  }
+
+  /**
+   * Builds the table of an allocation.
+   *
+   * @param configVersion the configuration version the table is built for
+   * @param featureVersion the feature version the table is built for
+   * @param variants the allocated variants, in a stable order
+   * @param weights the weight of each variant, in the same order
+   * @return the variant table; without variants, a table serving none
+   * @throws IllegalArgumentException if a weight is not positive or the weights do not add up to
+   *     {@value #BUCKETS}
+   */
+  public static VariantTable build(
+      long configVersion, long featureVersion, List<Variant> variants, int[] weights) {
+    if (variants.size() != weights.length) {
+      throw new IllegalArgumentException("One weight is required per variant");
+    }
+    int[] upperBounds = new int[weights.length];
+    int total = 0;
+    for (int i = 0; i < weights.length; i++) {
+      if (weights[i] <= 0) {
+        throw new IllegalArgumentException("Weights must be positive");
+      }
+      total += weights[i];
+      upperBounds[i] = total;
+    }
+    if (weights.length > 0 && total != BUCKETS) {
+      throw new IllegalArgumentException("Weights must add up to " + BUCKETS);
+    }
+    return new VariantTable(
+        configVersion, featureVersion, upperBounds, variants.toArray(Variant[]::new));
+  }
+
+  /**
+   * Computes the bucket of a client for a feature.
+   *
+   * @param featureName the name of the evaluated feature, which salts the hash so that features
+   *     bucket clients independently
+   * @param clientId the evaluated client
+   * @return the bucket, between zero and {@value #BUCKETS} exclusive
+   */
+  public static int bucket(String featureName, String clientId) {
+    byte[] key = (featureName + '/' + clientId).getBytes(StandardCharsets.UTF_8);
+    return Integer.remainderUnsigned(MurmurHash3.hash32(key, 0), BUCKETS);
+  }
+
+  /**
+   * Returns the configuration version the table was built for.
+   *
+   * @return the configuration version
+   */
+  public long configVersion() {
+    return configVersion;
+  }
+
+  /**
+   * Returns the feature version the table was built for.
+   *
+   * @return the feature version
+   */
+  public long featureVersion() {
+    return featureVersion;
+  }
+
+  /**
+   * Checks whether the table serves any variant.
+   *
+   * @return true if the configuration allocates no variant
+   */
+  public boolean isEmpty() {
+    return variants.length == 0;
+  }
+
+  /**
+   * Returns the variant allocated to a bucket.
+   *
+   * @param bucket the bucket of the evaluated client
+   * @return the variant whose range holds the bucket, or null if the table is empty
+   */
+  public Variant pick(int bucket) {
+    if (variants.length == 0) {
+      return null;
+    }
+    // Upper bounds are exclusive: the first one above the bucket closes its range
+    int index = Arrays.binarySearch(upperBounds, bucket + 1);
+    return variants[index >= 0 ? index : -index - 1];
+  }
+
+  /**
+   * A variant served by an allocation.
+   *
+   * @param name the name of the variant
+   * @param value the value of the variant, already parsed
+   */
+  public record Variant(String name, JsonNode value) {}
+}
@@ -20,51 +20,51 @@ INSERT INTO features (feature_id, name, description, enabled_by_default) VALUES
     ('660e8400-e29b-41d4-a716-446655440006', 'REAL_TIME_NOTIFICATIONS', 'Enable real-time push notifications', false),
     ('660e8400-e29b-41d4-a716-446655440007', 'EXPORT_DATA', 'Enable data export functionality', true);
 
--- Insert sample feature configurations
+-- Insert sample feature configurations; environments are 1 (DEV), 2 (STAGING) and 3 (PROD)
 -- NEW_USER_DASHBOARD configurations
 INSERT INTO feature_configs (feature_config_id, environment, client_id, enabled, feature_id) VALUES
-    ('770e8400-e29b-41d4-a716-446655440001', 'DEV', NULL, true, '660e8400-e29b-41d4-a716-446655440001'),
-    ('770e8400-e29b-41d4-a716-446655440002', 'STAGING', NULL, true, '660e8400-e29b-41d4-a716-446655440001'),
-    ('770e8400-e29b-41d4-a716-446655440003', 'PROD', NULL, false, '660e8400-e29b-41d4-a716-446655440001'),
-    ('770e8400-e29b-41d4-a716-446655440004', 'PROD', 'client-premium', true, '660e8400-e29b-41d4-a716-446655440001');
+    ('770e8400-e29b-41d4-a716-446655440001', 1, NULL, true, '660e8400-e29b-41d4-a716-446655440001'),
+    ('770e8400-e29b-41d4-a716-446655440002', 2, NULL, true, '660e8400-e29b-41d4-a716-446655440001'),
+    ('770e8400-e29b-41d4-a716-446655440003', 3, NULL, false, '660e8400-e29b-41d4-a716-446655440001'),
+    ('770e8400-e29b-41d4-a716-446655440004', 3, 'client-premium', true, '660e8400-e29b-41d4-a716-446655440001');
 
 -- ADVANCED_ANALYTICS configurations
 INSERT INTO feature_configs (feature_config_id, environment, client_id, enabled, feature_id) VALUES
-    ('770e8400-e29b-41d4-a716-446655440005', 'DEV', NULL, true, '660e8400-e29b-41d4-a716-446655440002'),
-    ('770e8400-e29b-41d4-a716-446655440006', 'STAGING', NULL, false, '660e8400-e29b-41d4-a716-446655440002'),
-    ('770e8400-e29b-41d4-a716-446655440007', 'PROD', NULL, false, '660e8400-e29b-41d4-a716-446655440002');
+    ('770e8400-e29b-41d4-a716-446655440005', 1, NULL, true, '660e8400-e29b-41d4-a716-446655440002'),
+    ('770e8400-e29b-41d4-a716-446655440006', 2, NULL, false, '660e8400-e29b-41d4-a716-446655440002'),
+    ('770e8400-e29b-41d4-a716-446655440007', 3, NULL, false, '660e8400-e29b-41d4-a716-446655440002');
 
 -- MOBILE_APP_INTEGRATION configurations
 INSERT INTO feature_configs (feature_config_id, environment, client_id, enabled, feature_id) VALUES
-    ('770e8400-e29b-41d4-a716-446655440008', 'DEV', NULL, true, '660e8400-e29b-41d4-a716-446655440003'),
-    ('770e8400-e29b-41d4-a716-446655440009', 'STAGING', NULL, true, '660e8400-e29b-41d4-a716-446655440003'),
-    ('770e8400-e29b-41d4-a716-446655440010', 'PROD', NULL, true, '660e8400-e29b-41d4-a716-446655440003');
+    ('770e8400-e29b-41d4-a716-446655440008', 1, NULL, true, '660e8400-e29b-41d4-a716-446655440003'),
+    ('770e8400-e29b-41d4-a716-446655440009', 2, NULL, true, '660e8400-e29b-41d4-a716-446655440003'),
+    ('770e8400-e29b-41d4-a716-446655440010', 3, NULL, true, '660e8400-e29b-41d4-a716-446655440003');
 
 -- BETA_FEATURES configurations
 INSERT INTO feature_configs (feature_config_id, environment, client_id, enabled, feature_id) VALUES
-    ('770e8400-e29b-41d4-a716-446655440011', 'DEV', NULL, true, '660e8400-e29b-41d4-a716-446655440004'),
-    ('770e8400-e29b-41d4-a716-446655440012', 'STAGING', NULL, true, '660e8400-e29b-41d4-a716-446655440004'),
-    ('770e8400-e29b-41d4-a716-446655440013', 'PROD', NULL, false, '660e8400-e29b-41d4-a716-446655440004'),
-    ('770e8400-e29b-41d4-a716-446655440014', 'PROD', 'client-beta-testers', true, '660e8400-e29b-41d4-a716-446655440004');
+    ('770e8400-e29b-41d4-a716-446655440011', 1, NULL, true, '660e8400-e29b-41d4-a716-446655440004'),
+    ('770e8400-e29b-41d4-a716-446655440012', 2, NULL, true, '660e8400-e29b-41d4-a716-446655440004'),
+    ('770e8400-e29b-41d4-a716-446655440013', 3, NULL, false, '660e8400-e29b-41d4-a716-446655440004'),
+    ('770e8400-e29b-41d4-a716-446655440014', 3, 'client-beta-testers', true, '660e8400-e29b-41d4-a716-446655440004');
 
 -- DARK_MODE configurations
 INSERT INTO feature_configs (feature_config_id, environment, client_id, enabled, feature_id) VALUES
-    ('770e8400-e29b-41d4-a716-446655440015', 'DEV', NULL, true, '660e8400-e29b-41d4-a716-446655440005'),
-    ('770e8400-e29b-41d4-a716-446655440016', 'STAGING', NULL, true, '660e8400-e29b-41d4-a716-446655440005'),
-    ('770e8400-e29b-41d4-a716-446655440017', 'PROD', NULL, true, '660e8400-e29b-41d4-a716-446655440005');
+    ('770e8400-e29b-41d4-a716-446655440015', 1, NULL, true, '660e8400-e29b-41d4-a716-446655440005'),
+    ('770e8400-e29b-41d4-a716-446655440016', 2, NULL, true, '660e8400-e29b-41d4-a716-446655440005'),
+    ('770e8400-e29b-41d4-a716-446655440017', 3, NULL, true, '660e8400-e29b-41d4-a716-446655440005');
 
 -- REAL_TIME_NOTIFICATIONS configurations
 INSERT INTO feature_configs (feature_config_id, environment, client_id, enabled, feature_id) VALUES
-    ('770e8400-e29b-41d4-a716-446655440018', 'DEV', NULL, true, '660e8400-e29b-41d4-a716-446655440006'),
-    ('770e8400-e29b-41d4-a716-446655440019', 'STAGING', NULL, false, '660e8400-e29b-41d4-a716-446655440006'),
-    ('770e8400-e29b-41d4-a716-446655440020', 'PROD', NULL, false, '660e8400-e29b-41d4-a716-446655440006');
+    ('770e8400-e29b-41d4-a716-446655440018', 1, NULL, true, '660e8400-e29b-41d4-a716-446655440006'),
+    ('770e8400-e29b-41d4-a716-446655440019', 2, NULL, false, '660e8400-e29b-41d4-a716-446655440006'),
+    ('770e8400-e29b-41d4-a716-446655440020', 3, NULL, false, '660e8400-e29b-41d4-a716-446655440006');
 
 -- EXPORT_DATA configurations
 INSERT INTO feature_configs (feature_config_id, environment, client_id, enabled, feature_id) VALUES
-    ('770e8400-e29b-41d4-a716-446655440021', 'DEV', NULL, true, '660e8400-e29b-41d4-a716-446655440007'),
-    ('770e8400-e29b-41d4-a716-446655440022', 'STAGING', NULL, true, '660e8400-e29b-41d4-a716-446655440007'),
-    ('770e8400-e29b-41d4-a716-446655440023', 'PROD', NULL, true, '660e8400-e29b-41d4-a716-446655440007'),
-    ('770e8400-e29b-41d4-a716-446655440024', 'PROD', 'client-enterprise', true, '660e8400-e29b-41d4-a716-446655440007');
+    ('770e8400-e29b-41d4-a716-446655440021', 1, NULL, true, '660e8400-e29b-41d4-a716-446655440007'),
+    ('770e8400-e29b-41d4-a716-446655440022', 2, NULL, true, '660e8400-e29b-41d4-a716-446655440007'),
+    ('770e8400-e29b-41d4-a716-446655440023', 3, NULL, true, '660e8400-e29b-41d4-a716-446655440007'),
+    ('770e8400-e29b-41d4-a716-446655440024', 3, 'client-enterprise', true, '660e8400-e29b-41d4-a716-446655440007');
 
 -- Insert verification queries (for testing)
 -- Uncomment these lines to verify the data was inserted correctly
@@ -2,17 +2,63 @@
 -- This script creates the necessary tables based on the JPA entities
 
 -- Drop indexes if they exist (before dropping tables)
+DROP INDEX IF EXISTS idx_exposures_project_feature_exposed_at;
+DROP INDEX IF EXISTS idx_exposures_feature_exposed_at;
+DROP INDEX IF EXISTS idx_variant_allocations_variant_id;
+DROP INDEX IF EXISTS idx_flag_history_checkpoints_as_of;
+DROP INDEX IF EXISTS idx_flag_change_history_feature_id;
+DROP INDEX IF EXISTS idx_scheduled_changes_config_status;
+DROP INDEX IF EXISTS idx_scheduled_changes_status_apply_at;
+DROP INDEX IF EXISTS idx_idempotency_keys_created_at;
+DROP INDEX IF EXISTS idx_feature_configs_lookup;
 DROP INDEX IF EXISTS idx_feature_configs_feature_id;
 DROP INDEX IF EXISTS idx_feature_configs_client_id;
 DROP INDEX IF EXISTS idx_feature_configs_environment;
 DROP INDEX IF EXISTS idx_features_name;
+DROP INDEX IF EXISTS idx_users_active_role_id;
 DROP INDEX IF EXISTS idx_users_active;
 DROP INDEX IF EXISTS idx_users_username;
 
 -- Drop tables if they exist (in reverse order due to foreign keys)
+DROP TABLE IF EXISTS kill_switches CASCADE;
+DROP TABLE IF EXISTS feature_evaluations CASCADE;
+DROP TABLE IF EXISTS exposures CASCADE;
+DROP TABLE IF EXISTS variant_allocations CASCADE;
+DROP TABLE IF EXISTS feature_variants CASCADE;
+DROP TABLE IF EXISTS prerequisite_graph_version CASCADE;
+DROP TABLE IF EXISTS feature_prerequisites CASCADE;
+DROP TABLE IF EXISTS segments CASCADE;
+DROP TABLE IF EXISTS targeting_clauses CASCADE;
+DROP TABLE IF EXISTS targeting_rules CASCADE;
+DROP TABLE IF EXISTS flag_history_checkpoint_entries CASCADE;
+DROP TABLE IF EXISTS flag_history_checkpoints CASCADE;
+DROP TABLE IF EXISTS flag_change_history CASCADE;
+DROP TABLE IF EXISTS scheduled_changes CASCADE;
+DROP TABLE IF EXISTS idempotency_keys CASCADE;
+DROP TABLE IF EXISTS flag_change_events CASCADE;
 DROP TABLE IF EXISTS feature_configs CASCADE;
+DROP TABLE IF EXISTS environments CASCADE;
 DROP TABLE IF EXISTS features CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
+DROP TABLE IF EXISTS projects CASCADE;
+DROP SEQUENCE IF EXISTS client_ordinal_seq;
+
+-- Create client_ordinal_seq sequence: dense integer ordinals of users, the members of segments
+CREATE SEQUENCE client_ordinal_seq START WITH 0 MINVALUE 0;
+
+-- Create projects table: namespaces of features, one per team sharing the deployment. Feature
+-- names are unique within a project; users bound to a project only see and evaluate its features
+CREATE TABLE projects (
+    project_id SMALLINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    description VARCHAR(1000),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (project_id)
+);
+
+-- Project every installation starts with, holding the features of users bound to no project
+INSERT INTO projects (project_id, name, created_at) VALUES (1, 'DEFAULT', CURRENT_TIMESTAMP);
+ALTER TABLE projects ALTER COLUMN project_id RESTART WITH 2;
 
 -- Create users table
 CREATE TABLE users (
@@ -22,45 +68,307 @@ CREATE TABLE users (
     password VARCHAR(255) NOT NULL,
     role VARCHAR(20) NOT NULL CHECK (role IN ('ADMIN', 'USER', 'GUEST')),
     active BOOLEAN NOT NULL DEFAULT TRUE,
-    PRIMARY KEY (id)
+    -- Project the user is bound to, or NULL for users working across projects
+    project_id SMALLINT,
+    client_ordinal INTEGER DEFAULT nextval('client_ordinal_seq') NOT NULL UNIQUE,
+    PRIMARY KEY (id),
+    FOREIGN KEY (project_id) REFERENCES projects(project_id)
 );
 
 -- Create features table
 CREATE TABLE features (
     feature_id UUID NOT NULL DEFAULT gen_random_uuid(),
-    name VARCHAR(255) NOT NULL UNIQUE,
+    project_id SMALLINT DEFAULT 1 NOT NULL,
+    name VARCHAR(255) NOT NULL,
     description TEXT,
     enabled_by_default BOOLEAN NOT NULL DEFAULT FALSE,
-    PRIMARY KEY (feature_id)
+    version BIGINT NOT NULL DEFAULT 0,
+    -- Soft delete marker, set until the purge job removes the feature and its configurations
+    deleted_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (feature_id),
+    -- Also serves every lookup and listing of features, which are all scoped by project
+    CONSTRAINT uk_features_project_name UNIQUE (project_id, name),
+    FOREIGN KEY (project_id) REFERENCES projects(project_id)
+);
+
+-- Create environments table: deployment targets of feature configurations, identified by a small
+-- integer that every other table stores and that in-memory evaluation data is indexed by.
+-- Environments are never renamed or deleted.
+CREATE TABLE environments (
+    environment_id SMALLINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(50) NOT NULL UNIQUE,
+    description VARCHAR(1000),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (environment_id)
 );
 
+-- Environments every installation starts with; the application interns them as identifiers 1 to 3
+INSERT INTO environments (environment_id, name, created_at) VALUES
+    (1, 'DEV', CURRENT_TIMESTAMP),
+    (2, 'STAGING', CURRENT_TIMESTAMP),
+    (3, 'PROD', CURRENT_TIMESTAMP);
+ALTER TABLE environments ALTER COLUMN environment_id RESTART WITH 4;
+
 -- Create feature_configs table
 CREATE TABLE feature_configs (
     feature_config_id UUID NOT NULL DEFAULT gen_random_uuid(),
-    environment VARCHAR(20) NOT NULL CHECK (environment IN ('DEV', 'STAGING', 'PROD')),
+    environment SMALLINT NOT NULL,
     client_id VARCHAR(255),
     enabled BOOLEAN NOT NULL DEFAULT FALSE,
     feature_id UUID NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
     PRIMARY KEY (feature_config_id),
+    FOREIGN KEY (feature_id) REFERENCES features(feature_id) ON DELETE CASCADE,
+    FOREIGN KEY (environment) REFERENCES environments(environment_id),
+    -- One configuration per feature, environment and client; a NULL client is the environment default
+    CONSTRAINT uk_feature_configs_feature_env_client
+        UNIQUE NULLS NOT DISTINCT (feature_id, environment, client_id)
+);
+
+-- Create flag_change_events table: transactional outbox of feature and configuration changes,
+-- relayed in event_id order. No foreign keys, so entries outlive the rows they describe.
+CREATE TABLE flag_change_events (
+    event_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    change_type VARCHAR(30) NOT NULL
+        CHECK (change_type IN ('FEATURE_CREATED', 'FEATURE_DELETED', 'CONFIG_UPSERTED', 'CONFIG_TOGGLED', 'CONFIG_DELETED')),
+    feature_id UUID,
+    feature_config_id UUID,
+    environment SMALLINT,
+    client_id VARCHAR(255),
+    enabled BOOLEAN,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (event_id)
+);
+
+-- Create idempotency_keys table: responses of create requests sent with an Idempotency-Key,
+-- replayed on retries. status_code is NULL while the original request is being processed, which
+-- is given until lease_expires_at: past it, the processing instance is presumed dead and the key
+-- can be reserved again.
+CREATE TABLE idempotency_keys (
+    record_id VARCHAR(64) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status_code INTEGER,
+    content_type VARCHAR(255),
+    response_body BYTEA,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    lease_expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (record_id)
+);
+
+-- Create scheduled_changes table: enabled state to apply to a configuration at a given instant.
+-- Pending changes are loaded into the in-process timer at startup.
+CREATE TABLE scheduled_changes (
+    scheduled_change_id UUID NOT NULL DEFAULT gen_random_uuid(),
+    feature_config_id UUID NOT NULL,
+    enabled BOOLEAN NOT NULL,
+    apply_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'APPLIED', 'CANCELLED')),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    applied_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (scheduled_change_id),
+    FOREIGN KEY (feature_config_id) REFERENCES feature_configs(feature_config_id) ON DELETE CASCADE
+);
+
+-- Create flag_change_history table: append-only record of every feature and configuration change,
+-- with who made it and the enabled state before and after. No foreign keys, never updated.
+CREATE TABLE flag_change_history (
+    history_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    change_type VARCHAR(30) NOT NULL
+        CHECK (change_type IN ('FEATURE_CREATED', 'FEATURE_DELETED', 'CONFIG_UPSERTED', 'CONFIG_TOGGLED', 'CONFIG_DELETED')),
+    actor VARCHAR(255) NOT NULL,
+    feature_id UUID NOT NULL,
+    feature_config_id UUID,
+    environment SMALLINT,
+    client_id VARCHAR(255),
+    enabled_before BOOLEAN,
+    enabled_after BOOLEAN,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (history_id)
+);
+
+-- Create flag_history_checkpoints table: state of every configuration after history entry
+-- last_history_id, from which past states are rebuilt by replaying the following entries
+CREATE TABLE flag_history_checkpoints (
+    checkpoint_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    last_history_id BIGINT NOT NULL,
+    as_of TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (checkpoint_id)
+);
+
+CREATE TABLE flag_history_checkpoint_entries (
+    checkpoint_id BIGINT NOT NULL,
+    environment SMALLINT NOT NULL,
+    feature_config_id UUID NOT NULL,
+    feature_id UUID NOT NULL,
+    client_id VARCHAR(255),
+    enabled BOOLEAN NOT NULL,
+    PRIMARY KEY (checkpoint_id, environment, feature_config_id),
+    FOREIGN KEY (checkpoint_id) REFERENCES flag_history_checkpoints(checkpoint_id) ON DELETE CASCADE
+);
+
+-- Create targeting_rules table: attribute-based rules of a configuration, evaluated by ascending
+-- priority. The unique constraint also serves loading the rules of a configuration in order.
+CREATE TABLE targeting_rules (
+    rule_id UUID NOT NULL DEFAULT gen_random_uuid(),
+    feature_config_id UUID NOT NULL,
+    priority INTEGER NOT NULL,
+    enabled BOOLEAN NOT NULL,
+    PRIMARY KEY (rule_id),
+    CONSTRAINT uk_targeting_rules_config_priority UNIQUE (feature_config_id, priority),
+    FOREIGN KEY (feature_config_id) REFERENCES feature_configs(feature_config_id) ON DELETE CASCADE
+);
+
+-- Create targeting_clauses table: conditions of a rule, all of which must hold for it to match
+CREATE TABLE targeting_clauses (
+    rule_id UUID NOT NULL,
+    clause_order INTEGER NOT NULL,
+    attribute VARCHAR(255) NOT NULL,
+    operator VARCHAR(20) NOT NULL CHECK (operator IN ('IN', 'STARTS_WITH', 'SEMVER_GTE', 'MATCHES', 'IN_SEGMENT')),
+    negate BOOLEAN NOT NULL,
+    clause_values JSONB NOT NULL,
+    PRIMARY KEY (rule_id, clause_order),
+    FOREIGN KEY (rule_id) REFERENCES targeting_rules(rule_id) ON DELETE CASCADE
+);
+
+-- Create segments table: named sets of clients, members stored as a serialized compressed bitmap
+-- of client ordinals. Like features, segments belong to a project and their names are unique
+-- within it
+CREATE TABLE segments (
+    segment_id UUID NOT NULL DEFAULT gen_random_uuid(),
+    project_id SMALLINT DEFAULT 1 NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    members BYTEA NOT NULL,
+    member_count INTEGER NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (segment_id),
+    CONSTRAINT uk_segments_project_name UNIQUE (project_id, name),
+    FOREIGN KEY (project_id) REFERENCES projects(project_id)
+);
+
+-- Create feature_prerequisites table: a feature is only enabled when all its prerequisites are
+-- enabled for the same environment and client
+CREATE TABLE feature_prerequisites (
+    feature_id UUID NOT NULL,
+    prerequisite_id UUID NOT NULL,
+    PRIMARY KEY (feature_id, prerequisite_id),
+    CHECK (feature_id <> prerequisite_id),
+    FOREIGN KEY (feature_id) REFERENCES features(feature_id) ON DELETE CASCADE,
+    FOREIGN KEY (prerequisite_id) REFERENCES features(feature_id) ON DELETE CASCADE
+);
+
+-- Create prerequisite_graph_version table: single row versioning the prerequisite graph. Writes
+-- increment it first, which also serializes them so that cycle checks never run concurrently
+CREATE TABLE prerequisite_graph_version (
+    id INTEGER NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+INSERT INTO prerequisite_graph_version (id, version) VALUES (1, 0);
+
+-- Create feature_variants table: typed values a feature can serve, stored as JSON text
+CREATE TABLE feature_variants (
+    variant_id UUID NOT NULL DEFAULT gen_random_uuid(),
+    feature_id UUID NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    value_type VARCHAR(10) NOT NULL CHECK (value_type IN ('STRING', 'NUMBER', 'JSON')),
+    variant_value TEXT NOT NULL,
+    PRIMARY KEY (variant_id),
+    CONSTRAINT uk_feature_variants_feature_name UNIQUE (feature_id, name),
+    FOREIGN KEY (feature_id) REFERENCES features(feature_id) ON DELETE CASCADE
+);
+
+-- Create variant_allocations table: share of the clients of a configuration served each variant,
+-- out of 10000 buckets
+CREATE TABLE variant_allocations (
+    feature_config_id UUID NOT NULL,
+    variant_id UUID NOT NULL,
+    weight INTEGER NOT NULL CHECK (weight > 0),
+    PRIMARY KEY (feature_config_id, variant_id),
+    FOREIGN KEY (feature_config_id) REFERENCES feature_configs(feature_config_id) ON DELETE CASCADE,
+    FOREIGN KEY (variant_id) REFERENCES feature_variants(variant_id) ON DELETE CASCADE
+);
+
+-- Create exposures table: flag values served to clients, written in batches after evaluation.
+-- Kept without foreign keys so that exposures outlive the features and configurations they name
+CREATE TABLE exposures (
+    exposure_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    project_id SMALLINT NOT NULL,
+    feature_name VARCHAR(255) NOT NULL,
+    environment SMALLINT NOT NULL,
+    client_id VARCHAR(255) NOT NULL,
+    enabled BOOLEAN NOT NULL,
+    variant VARCHAR(255),
+    exposed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (exposure_id)
+);
+
+-- Create feature_evaluations table: last instant each feature was evaluated in each environment,
+-- persisted periodically to find the flags no longer in use
+CREATE TABLE feature_evaluations (
+    feature_id UUID NOT NULL,
+    environment SMALLINT NOT NULL,
+    last_evaluated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (feature_id, environment),
     FOREIGN KEY (feature_id) REFERENCES features(feature_id) ON DELETE CASCADE
 );
 
+-- Create kill_switches table: engaged kill switches, each one either turning a feature off in
+-- every environment or turning every feature of a project off in an environment (emergency mode)
+CREATE TABLE kill_switches (
+    kill_switch_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    project_id SMALLINT DEFAULT 1 NOT NULL,
+    feature_id UUID,
+    environment SMALLINT,
+    engaged_by VARCHAR(255) NOT NULL,
+    engaged_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (kill_switch_id),
+    CONSTRAINT uk_kill_switches_feature UNIQUE (feature_id),
+    CONSTRAINT uk_kill_switches_environment UNIQUE (project_id, environment),
+    CONSTRAINT ck_kill_switches_target CHECK ((feature_id IS NULL) <> (environment IS NULL)),
+    FOREIGN KEY (project_id) REFERENCES projects(project_id),
+    FOREIGN KEY (feature_id) REFERENCES features(feature_id) ON DELETE CASCADE,
+    FOREIGN KEY (environment) REFERENCES environments(environment_id)
+);
+
 -- Create indexes for better performance
+-- Change history of a feature, newest first
+CREATE INDEX idx_flag_change_history_feature_id ON flag_change_history(feature_id, history_id);
+-- Nearest checkpoint at or before an instant
+CREATE INDEX idx_flag_history_checkpoints_as_of ON flag_history_checkpoints(as_of);
+-- Pending changes loaded at startup, and pending changes listed per configuration
+CREATE INDEX idx_scheduled_changes_status_apply_at ON scheduled_changes(status, apply_at);
+CREATE INDEX idx_scheduled_changes_config_status ON scheduled_changes(feature_config_id, status, apply_at);
+-- Allocations referencing a variant, checked before the variant is removed
+CREATE INDEX idx_variant_allocations_variant_id ON variant_allocations(variant_id);
+-- Exposures of a feature of a project over a period, for experiment analysis
+CREATE INDEX idx_exposures_project_feature_exposed_at ON exposures(project_id, feature_name, exposed_at);
+-- Purge of expired idempotency keys
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys(created_at);
 CREATE INDEX idx_users_username ON users(username);
 CREATE INDEX idx_users_active ON users(active);
-CREATE INDEX idx_features_name ON features(name);
+-- Keyset pagination of users filtered by active status and role, ordered by id
+CREATE INDEX idx_users_active_role_id ON users(active, role, id);
 CREATE INDEX idx_feature_configs_environment ON feature_configs(environment);
 CREATE INDEX idx_feature_configs_client_id ON feature_configs(client_id);
-CREATE INDEX idx_feature_configs_feature_id ON feature_configs(feature_id);
+-- Single-flag evaluation by (feature, environment, client), answered from the index alone
+CREATE INDEX idx_feature_configs_lookup ON feature_configs(feature_id, environment, client_id) INCLUDE (enabled);
 
 -- Comments for documentation
 COMMENT ON TABLE users IS 'User accounts for authentication and authorization';
+COMMENT ON TABLE projects IS 'Namespaces of features, feature names being unique within a project';
 COMMENT ON TABLE features IS 'Feature toggles/flags that can be enabled/disabled';
 COMMENT ON TABLE feature_configs IS 'Configuration of features per environment and client';
+COMMENT ON TABLE environments IS 'Deployment targets of feature configurations, by small integer identifier';
+COMMENT ON TABLE kill_switches IS 'Engaged kill switches of a feature in every environment, or of every feature in an environment';
+COMMENT ON TABLE feature_evaluations IS 'Last evaluation of each feature per environment, written periodically';
+COMMENT ON TABLE exposures IS 'Flag values served to clients, deduplicated within a window, for experiment analysis';
 
 COMMENT ON COLUMN users.role IS 'User role: ADMIN, USER, or GUEST';
 COMMENT ON COLUMN users.active IS 'Whether the user account is active';
 COMMENT ON COLUMN features.enabled_by_default IS 'Default state for new feature configurations';
-COMMENT ON COLUMN feature_configs.environment IS 'Environment: DEV, STAGING, or PROD';
+COMMENT ON COLUMN feature_configs.environment IS 'Identifier of the environment, such as 1 for DEV';
 COMMENT ON COLUMN feature_configs.client_id IS 'Optional client identifier for client-specific configurations';
 COMMENT ON COLUMN feature_configs.enabled IS 'Whether the feature is enabled in this environment/client';
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.equipo01.featureflag.featureflag.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.mapper.FeatureMapper;
+import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.repository.specifications.FeatureSpecification;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the entity + MapStruct read path against the DTO projection path for paged feature
+ * listings. Reports mean latency and allocated bytes per page.
+ *
+ * <p>Disabled by default; run with {@code mvn test -Dbenchmark=true
+ * -Dtest=FeatureReadProjectionBenchmarkTest}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("staging")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FeatureReadProjectionBenchmarkTest {
+
+  private static final String PREFIX = "bench_projection_";
+  private static final int FEATURES = 2_000;
+  private static final int PAGE_SIZE = 100;
+  private static final int WARMUP_ROUNDS = 200;
+  private static final int MEASURED_ROUNDS = 1_000;
+
+  @Autowired private FeatureRepository featureRepository;
+  @Autowired private FeatureMapper featureMapper;
+  @Autowired private FeatureSpecification featureSpecification;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate readOnlyTx;
+
+  @BeforeEach
+  void seed() {
+    readOnlyTx = new TransactionTemplate(transactionManager);
+    readOnlyTx.setReadOnly(true);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO features (feature_id, name, description, enabled_by_default)"
+            + " VALUES (?, ?, ?, ?)",
+        IntStream.range(0, FEATURES)
+            .mapToObj(
+                i ->
+                    new Object[] {
+                      UUID.randomUUID(), PREFIX + i, "Benchmark feature " + i, i % 2 == 0
+                    })
+            .toList());
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM features WHERE name LIKE ?", PREFIX + "%");
+  }
+
+  @Test
+  void compareEntityAndProjectionPages() {
+    Specification<Feature> spec =
+        featureSpecification.getFeatures(Project.DEFAULT_ID, PREFIX, null);
+    int pages = FEATURES / PAGE_SIZE;
+
+    Supplier<List<FeatureResponseDto>> entityPath =
+        new PageCycler(
+            page ->
+                readOnlyTx.execute(
+                    status ->
+                        featureMapper.toDtoList(
+                            featureRepository
+                                .findAll(spec, PageRequest.of(page, PAGE_SIZE))
+                                .getContent())),
+            pages);
+    Supplier<List<FeatureResponseDto>> projectionPath =
+        new PageCycler(
+            page ->
+                readOnlyTx.execute(
+                    status ->
+                        featureRepository
+                            .findDtoPage(spec, PageRequest.of(page, PAGE_SIZE))
+                            .getContent()),
+            pages);
+
+    assertEquals(entityPath.get().size(), projectionPath.get().size());
+
+    Result entity = measure(entityPath);
+    Result projection = measure(projectionPath);
+
+    System.out.printf(
+        "%nfeature page of %d: entity+mapper %.1f us / %d B, projection %.1f us / %d B%n",
+        PAGE_SIZE, entity.micros(), entity.bytes(), projection.micros(), projection.bytes());
+    assertTrue(projection.bytes() < entity.bytes());
+  }
+
+  private Result measure(Supplier<List<FeatureResponseDto>> path) {
+    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+      path.get();
+    }
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().threadId();
+    long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      path.get();
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+    return new Result(elapsed / 1_000.0 / MEASURED_ROUNDS, allocated / MEASURED_ROUNDS);
+  }
+
+  private record Result(double micros, long bytes) {}
+
+  /** Cycles through all pages so every round reads a different slice of the table. */
+  private static final class PageCycler implements Supplier<List<FeatureResponseDto>> {
+    private final IntFunction<List<FeatureResponseDto>> reader;
+    private final int pages;
+    private int next;
+
+    PageCycler(IntFunction<List<FeatureResponseDto>> reader, int pages) {
+      this.reader = reader;
+      this.pages = pages;
+    }
+
+    @Override
+    public List<FeatureResponseDto> get() {
+      List<FeatureResponseDto> page = reader.apply(next);
+      next = (next + 1) % pages;
+      return page;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.equipo01.featureflag.featureflag.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.FeatureflagApplication;
+import com.equipo01.featureflag.featureflag.config.JwtUtil;
+import com.equipo01.featureflag.featureflag.util.ConcurrencyLimitedDataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * Compares the default Tomcat platform-thread pool with virtual threads and the connection limit
+ * for concurrent feature checks. Each check authenticates its token and reads the feature state,
+ * both from the database. Starts the application once per mode on a random port, keeps a fixed
+ * number of requests in flight and reports throughput and latency percentiles.
+ *
+ * <p>The staging database lives in memory, so queries hardly block and the comparison mostly shows
+ * the cost of each threading mode; a networked database widens the gap in favour of virtual
+ * threads.
+ *
+ * <p>Disabled by default; run with {@code mvn test -Dbenchmark=true
+ * -Dtest=RequestThreadingBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RequestThreadingBenchmarkTest {
+
+  // A user of the staging data set, clients being users
+  private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440002";
+  private static final int IN_FLIGHT = 1_000;
+  private static final int WARMUP_REQUESTS = 2_000;
+  private static final int MEASURED_REQUESTS = 10_000;
+
+  @Test
+  void comparePlatformAndVirtualThreads() throws Exception {
+    Result platform = run(false);
+    Result virtual = run(true);
+
+    System.out.printf(
+        "%n%d checks, %d in flight:%n  platform threads %.0f req/s, p50 %.1f ms, p99 %.1f ms%n"
+            + "  virtual threads  %.0f req/s, p50 %.1f ms, p99 %.1f ms%n",
+        MEASURED_REQUESTS,
+        IN_FLIGHT,
+        platform.throughput(),
+        platform.p50(),
+        platform.p99(),
+        virtual.throughput(),
+        virtual.p50(),
+        virtual.p99());
+    assertEquals(0, platform.failures());
+    assertEquals(0, virtual.failures());
+  }
+
+  private Result run(boolean virtualThreads) throws Exception {
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(FeatureflagApplication.class)
+            .run(
+                "--spring.profiles.active=staging",
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--spring.threads.virtual.enabled=" + virtualThreads)) {
+      assertEquals(
+          virtualThreads,
+          context.getBean(DataSource.class) instanceof ConcurrencyLimitedDataSource);
+      int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+      String token =
+          context
+              .getBean(JwtUtil.class)
+              .generateToken(new UsernamePasswordAuthenticationToken("admin", null));
+      HttpRequest request =
+          HttpRequest.newBuilder(
+                  URI.create(
+                      "http://localhost:"
+                          + port
+                          + "/api/features/check?nameFeature=NEW_USER_DASHBOARD&clientID="
+                          + CLIENT_ID
+                          + "&environment=PROD"))
+              .header("Authorization", "Bearer " + token)
+              .build();
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        HttpClient client =
+            HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build();
+        send(client, request, executor, new long[WARMUP_REQUESTS]);
+        long[] latencies = new long[MEASURED_REQUESTS];
+        long start = System.nanoTime();
+        int failures = send(client, request, executor, latencies);
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(
+            MEASURED_REQUESTS * 1e9 / elapsed,
+            latencies[latencies.length / 2] / 1e6,
+            latencies[latencies.length * 99 / 100] / 1e6,
+            failures);
+      }
+    }
+  }
+
+  /** Sends one request per latency slot, keeping at most {@link #IN_FLIGHT} of them in flight. */
+  private static int send(
+      HttpClient client, HttpRequest request, ExecutorService executor, long[] latencies)
+      throws InterruptedException {
+    Semaphore inFlight = new Semaphore(IN_FLIGHT);
+    AtomicInteger failures = new AtomicInteger();
+    AtomicInteger done = new AtomicInteger();
+    for (int i = 0; i < latencies.length; i++) {
+      int slot = i;
+      inFlight.acquire();
+      executor.execute(
+          () -> {
+            long start = System.nanoTime();
+            try {
+              if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()
+                  != 200) {
+                failures.incrementAndGet();
+              }
+            } catch (Exception e) {
+              failures.incrementAndGet();
+            } finally {
+              latencies[slot] = System.nanoTime() - start;
+              done.incrementAndGet();
+              inFlight.release();
+            }
+          });
+    }
+    assertTrue(inFlight.tryAcquire(IN_FLIGHT, 60, TimeUnit.SECONDS));
+    assertEquals(latencies.length, done.get());
+    return failures.get();
+  }
+
+  private record Result(double throughput, double p50, double p99, int failures) {}
+}
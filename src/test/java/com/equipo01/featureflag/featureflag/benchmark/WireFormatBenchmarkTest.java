@@ -0,0 +1,106 @@
+package com.equipo01.featureflag.featureflag.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.config.WireFormatConfig;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureSnapshotResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares JSON, CBOR and Smile for 10k-flag payloads: encoded size and mean encode/decode time.
+ * The binary mappers are built exactly as {@link WireFormatConfig} builds them for responses.
+ *
+ * <p>Disabled by default; run with {@code mvn test -Dbenchmark=true
+ * -Dtest=WireFormatBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WireFormatBenchmarkTest {
+
+  private static final int FLAGS = 10_000;
+  private static final int WARMUP_ROUNDS = 200;
+  private static final int MEASURED_ROUNDS = 500;
+
+  private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+  WireFormatBenchmarkTest() {
+    mappers.put("json", new Jackson2ObjectMapperBuilder().build());
+    mappers.put("cbor", WireFormatConfig.cborMapper(new Jackson2ObjectMapperBuilder()));
+    mappers.put("smile", WireFormatConfig.smileMapper(new Jackson2ObjectMapperBuilder()));
+  }
+
+  @Test
+  void snapshotPayload() throws Exception {
+    Map<String, Boolean> flags = new LinkedHashMap<>();
+    IntStream.range(0, FLAGS).forEach(i -> flags.put("FEATURE_FLAG_" + i, i % 3 == 0));
+    FeatureSnapshotResponseDto snapshot = new FeatureSnapshotResponseDto(Environment.PROD, flags);
+
+    compare("snapshot", snapshot, new TypeReference<FeatureSnapshotResponseDto>() {});
+  }
+
+  @Test
+  void configListPayload() throws Exception {
+    UUID[] features = IntStream.range(0, 500).mapToObj(i -> UUID.randomUUID()).toArray(UUID[]::new);
+    Environment[] environments = Environment.values();
+    List<FeatureConfigResponseDto> configs =
+        IntStream.range(0, FLAGS)
+            .mapToObj(
+                i ->
+                    new FeatureConfigResponseDto(
+                        UUID.randomUUID(),
+                        environments[i % environments.length],
+                        i % 4 == 0 ? null : "client-" + (i % 50),
+                        i % 2 == 0,
+                        features[i % features.length],
+                        0L))
+            .toList();
+
+    compare("config list", configs, new TypeReference<List<FeatureConfigResponseDto>>() {});
+  }
+
+  private <T> void compare(String payloadName, T payload, TypeReference<T> type) throws Exception {
+    System.out.printf("%n%s (%d entries)%n", payloadName, FLAGS);
+    System.out.printf("%-6s %10s %12s %12s%n", "format", "bytes", "encode us", "decode us");
+
+    int jsonSize = 0;
+    for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+      ObjectMapper mapper = entry.getValue();
+      byte[] encoded = mapper.writeValueAsBytes(payload);
+      assertEquals(
+          mappers.get("json").writeValueAsString(payload),
+          mappers.get("json").writeValueAsString(mapper.readValue(encoded, type)));
+
+      for (int i = 0; i < WARMUP_ROUNDS; i++) {
+        mapper.readValue(mapper.writeValueAsBytes(payload), type);
+      }
+      long start = System.nanoTime();
+      for (int i = 0; i < MEASURED_ROUNDS; i++) {
+        mapper.writeValueAsBytes(payload);
+      }
+      double encodeMicros = (System.nanoTime() - start) / 1_000.0 / MEASURED_ROUNDS;
+      start = System.nanoTime();
+      for (int i = 0; i < MEASURED_ROUNDS; i++) {
+        mapper.readValue(encoded, type);
+      }
+      double decodeMicros = (System.nanoTime() - start) / 1_000.0 / MEASURED_ROUNDS;
+
+      System.out.printf(
+          "%-6s %10d %12.1f %12.1f%n", entry.getKey(), encoded.length, encodeMicros, decodeMicros);
+      if (entry.getKey().equals("json")) {
+        jsonSize = encoded.length;
+      } else {
+        assertTrue(encoded.length < jsonSize);
+      }
+    }
+  }
+}
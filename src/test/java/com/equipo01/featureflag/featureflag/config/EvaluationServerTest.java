@@ -0,0 +1,142 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.impl.FlagStateRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that the evaluation server answers feature checks like the REST endpoint, with the same
+ * authorization. The server listens on a random port.
+ */
+@SpringBootTest(
+    properties = {
+      "application.evaluation-server.enabled=true",
+      "application.evaluation-server.port=0"
+    })
+@ActiveProfiles("staging")
+class EvaluationServerTest {
+
+  // A user of the staging data set, clients being users
+  private static final UUID CLIENT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+  @Autowired private EvaluationServer evaluationServer;
+  @Autowired private FlagStateRegistry flagStateRegistry;
+  @Autowired private FeatureService featureService;
+  @Autowired private JwtUtil jwtUtil;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  void check_answersLikeFeatureService() throws Exception {
+    flagStateRegistry.refresh();
+    List<String> names =
+        jdbcTemplate.queryForList(
+            "SELECT name FROM features WHERE deleted_at IS NULL AND project_id = 1", String.class);
+    assertFalse(names.isEmpty());
+
+    for (String name : names) {
+      for (Environment environment : List.of(Environment.DEV, Environment.PROD)) {
+        HttpResponse<String> response = check(name, CLIENT_ID, environment, token("admin"));
+
+        assertEquals(200, response.statusCode(), name);
+        assertEquals(
+            featureService.checkFeatureIsActive(name, CLIENT_ID, environment).toString(),
+            response.body(),
+            name + " in " + environment);
+      }
+    }
+  }
+
+  @Test
+  void check_followsStoredChangesAfterRefresh() throws Exception {
+    UUID featureId = UUID.randomUUID();
+    String name = "EVALUATION_SERVER_TEST";
+    try {
+      jdbcTemplate.update(
+          "INSERT INTO features (feature_id, name, enabled_by_default) VALUES (?, ?, FALSE)",
+          featureId,
+          name);
+      assertEquals(404, check(name, CLIENT_ID, Environment.DEV, token("admin")).statusCode());
+
+      jdbcTemplate.update(
+          "INSERT INTO feature_configs (feature_config_id, environment, enabled, feature_id)"
+              + " VALUES (?, ?, TRUE, ?)",
+          UUID.randomUUID(),
+          Environment.DEV.id(),
+          featureId);
+      flagStateRegistry.refresh();
+
+      assertEquals("true", check(name, CLIENT_ID, Environment.DEV, token("admin")).body());
+      assertEquals("false", check(name, CLIENT_ID, Environment.PROD, token("user1")).body());
+    } finally {
+      jdbcTemplate.update("DELETE FROM feature_configs WHERE feature_id = ?", featureId);
+      jdbcTemplate.update("DELETE FROM features WHERE feature_id = ?", featureId);
+      flagStateRegistry.refresh();
+    }
+  }
+
+  @Test
+  void check_rejectsMissingTokenAndGuests() throws Exception {
+    HttpResponse<String> missing = check("DARK_MODE", CLIENT_ID, Environment.DEV, null);
+    HttpResponse<String> guest = check("DARK_MODE", CLIENT_ID, Environment.DEV, token("guest"));
+
+    assertEquals(401, missing.statusCode());
+    assertTrue(missing.body().contains("UNAUTHORIZED"));
+    assertEquals(403, guest.statusCode());
+  }
+
+  @Test
+  void check_reportsUnknownFeatureClientAndParameters() throws Exception {
+    String token = token("admin");
+
+    assertEquals(404, check("NO_SUCH_FEATURE", CLIENT_ID, Environment.DEV, token).statusCode());
+    assertEquals(404, check("DARK_MODE", UUID.randomUUID(), Environment.DEV, token).statusCode());
+    HttpResponse<String> invalid =
+        send("/api/features/check?nameFeature=DARK_MODE&clientID=invalid&environment=DEV", token);
+    assertEquals(400, invalid.statusCode());
+    assertTrue(invalid.body().contains("VALIDATION_PARAMETER_NOT_VALID"));
+  }
+
+  private String token(String username) {
+    return jwtUtil.generateToken(new UsernamePasswordAuthenticationToken(username, null));
+  }
+
+  private HttpResponse<String> check(
+      String name, UUID clientId, Environment environment, String token)
+      throws IOException, InterruptedException {
+    return send(
+        "/api/features/check?nameFeature="
+            + name
+            + "&clientID="
+            + clientId
+            + "&environment="
+            + environment.name(),
+        token);
+  }
+
+  private HttpResponse<String> send(String path, String token)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(URI.create("http://localhost:" + evaluationServer.port() + path));
+    if (token != null) {
+      request.header("Authorization", "Bearer " + token);
+    }
+    return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+}
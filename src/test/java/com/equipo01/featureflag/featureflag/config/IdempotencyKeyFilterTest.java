@@ -0,0 +1,113 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.equipo01.featureflag.featureflag.service.IdempotencyService;
+import com.equipo01.featureflag.featureflag.service.impl.ProjectContext;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyFilterTest {
+
+  private static final String PATH = "/api/features";
+  private static final String BODY = "{\"name\":\"IDEMPOTENT\"}";
+
+  @Mock private IdempotencyService idempotencyService;
+  @Mock private HandlerExceptionResolver handlerExceptionResolver;
+
+  private IdempotencyKeyFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter =
+        new IdempotencyKeyFilter(
+            idempotencyService, handlerExceptionResolver, new ProjectContext(), Set.of(PATH));
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void testKeyReusedInAnotherProject_isProcessedAgain() throws Exception {
+    when(idempotencyService.find(anyString())).thenReturn(Optional.empty());
+    when(idempotencyService.reserve(anyString(), anyString())).thenReturn(true);
+
+    MockFilterChain first = new MockFilterChain();
+    MockFilterChain second = new MockFilterChain();
+    filter.doFilter(request("1"), new MockHttpServletResponse(), first);
+    filter.doFilter(request("2"), new MockHttpServletResponse(), second);
+
+    ArgumentCaptor<String> ids = ArgumentCaptor.forClass(String.class);
+    verify(idempotencyService, times(2)).find(ids.capture());
+    assertNotEquals(ids.getAllValues().get(0), ids.getAllValues().get(1));
+    assertNotNull(first.getRequest());
+    assertNotNull(second.getRequest());
+  }
+
+  @Test
+  void testKeyReusedInSameProject_hasSameScope() throws Exception {
+    when(idempotencyService.find(anyString())).thenReturn(Optional.empty());
+    when(idempotencyService.reserve(anyString(), anyString())).thenReturn(true);
+
+    filter.doFilter(request("2"), new MockHttpServletResponse(), new MockFilterChain());
+    filter.doFilter(request("2"), new MockHttpServletResponse(), new MockFilterChain());
+
+    ArgumentCaptor<String> ids = ArgumentCaptor.forClass(String.class);
+    verify(idempotencyService, times(2)).find(ids.capture());
+    assertEquals(ids.getAllValues().get(0), ids.getAllValues().get(1));
+  }
+
+  @Test
+  void testCachedBody_notifiesReadListenerOfWholeBody() throws Exception {
+    when(idempotencyService.find(anyString())).thenReturn(Optional.empty());
+    when(idempotencyService.reserve(anyString(), anyString())).thenReturn(true);
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request("1"), new MockHttpServletResponse(), chain);
+
+    ServletRequest cached = chain.getRequest();
+    ServletInputStream input = cached.getInputStream();
+    ReadListener listener = mock(ReadListener.class);
+    input.setReadListener(listener);
+
+    verify(listener).onDataAvailable();
+    verify(listener).onAllDataRead();
+    assertEquals(BODY, new String(input.readAllBytes(), StandardCharsets.UTF_8));
+  }
+
+  private static MockHttpServletRequest request(String projectId) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+    request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, "key");
+    request.addHeader(ProjectContext.PROJECT_HEADER, projectId);
+    request.setContentType("application/json");
+    request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+}
@@ -0,0 +1,104 @@
+package com.equipo01.featureflag.featureflag.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.util.ReadWriteRoutingDataSource;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Verifies the routing between two embedded databases standing for a primary and its replica. A
+ * feature inserted in the replica only tells which database a transaction reads from.
+ */
+@SpringBootTest(
+    properties = {
+      "application.datasource.replica.enabled=true",
+      "application.datasource.replica.url=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1",
+      "application.datasource.replica.username=sa",
+      "application.datasource.replica.read-your-writes-window=PT0.5S"
+    })
+@ActiveProfiles("staging")
+class ReadReplicaConfigTest {
+
+  private static final String FEATURE_NAME = "READ_REPLICA_TEST";
+  private static final String COUNT = "SELECT COUNT(*) FROM features WHERE feature_id = ?";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private FeatureRepository featureRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  private final UUID featureId = UUID.randomUUID();
+
+  @BeforeEach
+  void insertReplicaFeature() {
+    new JdbcTemplate(replicaDataSource)
+        .update(
+            "INSERT INTO features (feature_id, name, enabled_by_default) VALUES (?, ?, FALSE)",
+            featureId,
+            FEATURE_NAME);
+  }
+
+  @AfterEach
+  void deleteReplicaFeature() {
+    new JdbcTemplate(replicaDataSource)
+        .update("DELETE FROM features WHERE feature_id = ?", featureId);
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void readOnlyTransactions_readFromReplica() {
+    long replicaConnections = readWriteRoutingDataSource.replicaConnections();
+
+    assertTrue(read(true));
+    assertEquals(
+        Boolean.TRUE, transaction(true).execute(status -> featureRepository.existsById(featureId)));
+    assertFalse(read(false));
+    assertFalse(jdbcTemplate.queryForObject(COUNT, Integer.class, featureId) > 0);
+    assertEquals(replicaConnections + 2, readWriteRoutingDataSource.replicaConnections());
+  }
+
+  @Test
+  void writingUser_readsFromPrimaryWithinWindow() throws InterruptedException {
+    SecurityContextHolder.setContext(
+        new SecurityContextImpl(new UsernamePasswordAuthenticationToken("admin", null, List.of())));
+    transaction(false)
+        .executeWithoutResult(
+            status -> jdbcTemplate.update("UPDATE users SET username = username WHERE 1 = 0"));
+
+    assertFalse(read(true));
+    Thread.sleep(600);
+    assertTrue(read(true));
+  }
+
+  /** Tells whether the replica-only feature is seen. */
+  private boolean read(boolean readOnly) {
+    return transaction(readOnly)
+        .execute(status -> jdbcTemplate.queryForObject(COUNT, Integer.class, featureId) > 0);
+  }
+
+  private TransactionTemplate transaction(boolean readOnly) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setReadOnly(readOnly);
+    return template;
+  }
+}
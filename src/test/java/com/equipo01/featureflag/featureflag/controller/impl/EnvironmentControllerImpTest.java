@@ -0,0 +1,105 @@
+package com.equipo01.featureflag.featureflag.controller.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.equipo01.featureflag.featureflag.dto.request.EnvironmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EnvironmentResponseDto;
+import com.equipo01.featureflag.featureflag.service.EnvironmentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("staging")
+class EnvironmentControllerImpTest {
+
+  @Value("${api.environments}")
+  private String environmentsEndpoint;
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private EnvironmentService environmentService;
+
+  private ObjectMapper objectMapper;
+  private EnvironmentResponseDto responseDto;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    responseDto = EnvironmentResponseDto.builder().id(4).name("EU_PROD").served(true).build();
+  }
+
+  @Test
+  void testCreateEnvironment_Success() throws Exception {
+    when(environmentService.createEnvironment(any(EnvironmentRequestDto.class)))
+        .thenReturn(responseDto);
+
+    mockMvc
+        .perform(
+            post(environmentsEndpoint)
+                .with(user("admin").roles("ADMIN"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        EnvironmentRequestDto.builder().name("EU_PROD").build())))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id", is(4)))
+        .andExpect(jsonPath("$.name", is("EU_PROD")));
+  }
+
+  @Test
+  void testCreateEnvironment_LowerCaseName() throws Exception {
+    mockMvc
+        .perform(
+            post(environmentsEndpoint)
+                .with(user("admin").roles("ADMIN"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"eu-prod\"}"))
+        .andExpect(status().isBadRequest());
+
+    verify(environmentService, never()).createEnvironment(any());
+  }
+
+  @Test
+  void testCreateEnvironment_Forbidden() throws Exception {
+    mockMvc
+        .perform(
+            post(environmentsEndpoint)
+                .with(user("testuser").roles("USER"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"EU_PROD\"}"))
+        .andExpect(status().isForbidden());
+
+    verify(environmentService, never()).createEnvironment(any());
+  }
+
+  @Test
+  void testGetEnvironments_Success() throws Exception {
+    when(environmentService.getEnvironments()).thenReturn(List.of(responseDto));
+
+    mockMvc
+        .perform(get(environmentsEndpoint).with(user("testuser").roles("USER")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].name", is("EU_PROD")))
+        .andExpect(jsonPath("$[0].served", is(true)));
+  }
+}
@@ -3,7 +3,9 @@ package com.equipo01.featureflag.featureflag.controller.impl;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,9 +14,11 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -32,10 +36,23 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleCriteriaDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.BulkToggleResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.ScheduledChangeResponseDto;
+import com.equipo01.featureflag.featureflag.dto.request.ScheduledChangeRequestDto;
+import com.equipo01.featureflag.featureflag.dto.TargetingClauseDto;
+import com.equipo01.featureflag.featureflag.dto.VariantAllocationDto;
+import com.equipo01.featureflag.featureflag.dto.response.TargetingRuleResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.ClauseOperator;
+import com.equipo01.featureflag.featureflag.model.enums.ScheduledChangeStatus;
 import com.equipo01.featureflag.featureflag.model.enums.Environment;
 import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.ScheduledChangeService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import com.equipo01.featureflag.featureflag.service.VariantService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @SpringBootTest
@@ -52,6 +69,15 @@ class FeatureConfigControllerImpTest {
   @MockitoBean 
   private FeatureConfigService featureConfigService;
 
+  @MockitoBean 
+  private ScheduledChangeService scheduledChangeService;
+
+  @MockitoBean 
+  private TargetingRuleService targetingRuleService;
+
+  @MockitoBean 
+  private VariantService variantService;
+
   private ObjectMapper objectMapper;
   private UUID featureConfigId;
   private FeatureConfigRequestDto requestDto;
@@ -85,7 +111,7 @@ class FeatureConfigControllerImpTest {
   @Test
   void testSetFeatureEnabledOrDisabled_Success() throws Exception {
     List<FeatureConfigResponseDto> expectedResponse = Arrays.asList(responseDto);
-    when(featureConfigService.enableOrDisableFeature(featureConfigId, true))
+    when(featureConfigService.enableOrDisableFeature(featureConfigId, true, null))
         .thenReturn(ResponseEntity.ok(expectedResponse));
 
     mockMvc.perform(put(configurationsEndpoint + "/enable-disable")
@@ -98,7 +124,7 @@ class FeatureConfigControllerImpTest {
         .andExpect(jsonPath("$[0].id", is(featureConfigId.toString())))
         .andExpect(jsonPath("$[0].enabled", is(true)));
 
-    verify(featureConfigService, times(1)).enableOrDisableFeature(featureConfigId, true);
+    verify(featureConfigService, times(1)).enableOrDisableFeature(featureConfigId, true, null);
   }
 
   @Test
@@ -112,7 +138,7 @@ class FeatureConfigControllerImpTest {
         .build();
     
     List<FeatureConfigResponseDto> expectedResponse = Arrays.asList(disabledResponse);
-    when(featureConfigService.enableOrDisableFeature(featureConfigId, false))
+    when(featureConfigService.enableOrDisableFeature(featureConfigId, false, null))
         .thenReturn(ResponseEntity.ok(expectedResponse));
 
     mockMvc.perform(put(configurationsEndpoint + "/enable-disable")
@@ -124,7 +150,7 @@ class FeatureConfigControllerImpTest {
         .andExpect(jsonPath("$", hasSize(1)))
         .andExpect(jsonPath("$[0].enabled", is(false)));
 
-    verify(featureConfigService, times(1)).enableOrDisableFeature(featureConfigId, false);
+    verify(featureConfigService, times(1)).enableOrDisableFeature(featureConfigId, false, null);
   }
 
   @Test
@@ -187,6 +213,33 @@ class FeatureConfigControllerImpTest {
     verify(featureConfigService, times(1)).createFeatureConfig(any(FeatureConfigRequestDto.class));
   }
 
+  @Test
+  void testCreateFeatureConfig_WithIdempotencyKey_ReplaysPerUser() throws Exception {
+    String idempotencyKey = UUID.randomUUID().toString();
+    when(featureConfigService.createFeatureConfig(any(FeatureConfigRequestDto.class)))
+        .thenReturn(responseDto);
+
+    for (int attempt = 0; attempt < 2; attempt++) {
+      mockMvc.perform(post(configurationsEndpoint)
+              .with(user("testuser").roles("USER"))
+              .header("Idempotency-Key", idempotencyKey)
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(requestDto)))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.id", is(featureConfigId.toString())));
+    }
+    // The same key sent by another user is a different request
+    mockMvc.perform(post(configurationsEndpoint)
+            .with(user("admin").roles("ADMIN"))
+            .header("Idempotency-Key", idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDto)))
+        .andExpect(status().isCreated())
+        .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+    verify(featureConfigService, times(2)).createFeatureConfig(any(FeatureConfigRequestDto.class));
+  }
+
   @Test
   void testCreateFeatureConfig_Unauthorized() throws Exception {
     mockMvc.perform(post(configurationsEndpoint)
@@ -286,6 +339,217 @@ class FeatureConfigControllerImpTest {
         .andExpect(status().isUnauthorized());
   }
 
+  @Test
+  void testSetFeatureEnabledOrDisabled_PassesIfMatchVersionAndReturnsETag() throws Exception {
+    responseDto.setVersion(5L);
+    when(featureConfigService.enableOrDisableFeature(featureConfigId, true, 4L))
+        .thenReturn(ResponseEntity.ok().eTag("5").body(List.of(responseDto)));
+
+    mockMvc.perform(put(configurationsEndpoint + "/enable-disable")
+            .with(user("testuser").roles("USER"))
+            .header("If-Match", "\"4\"")
+            .param("featureConfigId", featureConfigId.toString())
+            .param("enable", "true"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"5\""))
+        .andExpect(jsonPath("$[0].version", is(5)));
+
+    verify(featureConfigService, times(1)).enableOrDisableFeature(featureConfigId, true, 4L);
+  }
+
+  @Test
+  void testSetFeatureEnabledOrDisabled_MalformedIfMatch() throws Exception {
+    mockMvc.perform(put(configurationsEndpoint + "/enable-disable")
+            .with(user("testuser").roles("USER"))
+            .header("If-Match", "\"not-a-version\"")
+            .param("featureConfigId", featureConfigId.toString())
+            .param("enable", "true"))
+        .andExpect(status().isPreconditionFailed());
+
+    verify(featureConfigService, never()).enableOrDisableFeature(any(), anyBoolean(), any());
+  }
+
+  // ===== PUT /bulk-toggle tests =====
+
+  @Test
+  void testBulkToggle_Success() throws Exception {
+    BulkToggleRequestDto bulkRequest = BulkToggleRequestDto.builder()
+        .enabled(false)
+        .criteria(List.of(BulkToggleCriteriaDto.builder()
+            .environments(List.of(Environment.PROD))
+            .clientIds(List.of("client-a", "client-b"))
+            .build()))
+        .build();
+    when(featureConfigService.bulkToggle(any(BulkToggleRequestDto.class)))
+        .thenReturn(BulkToggleResponseDto.builder()
+            .enabled(false)
+            .affectedRows(List.of(2))
+            .totalAffectedRows(2)
+            .build());
+
+    mockMvc.perform(put(configurationsEndpoint + "/bulk-toggle")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(bulkRequest)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.enabled", is(false)))
+        .andExpect(jsonPath("$.affectedRows[0]", is(2)))
+        .andExpect(jsonPath("$.totalAffectedRows", is(2)));
+
+    verify(featureConfigService, times(1)).bulkToggle(any(BulkToggleRequestDto.class));
+  }
+
+  @Test
+  void testBulkToggle_MissingCriteria() throws Exception {
+    mockMvc.perform(put(configurationsEndpoint + "/bulk-toggle")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"enabled\": true, \"criteria\": []}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testBulkToggle_Unauthorized() throws Exception {
+    mockMvc.perform(put(configurationsEndpoint + "/bulk-toggle")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"enabled\": true, \"criteria\": [{\"clientIds\": [\"a\"]}]}"))
+        .andExpect(status().isUnauthorized());
+  }
+
+  // ===== /{featureConfigId}/scheduled-changes tests =====
+
+  @Test
+  void testScheduleChange_Success() throws Exception {
+    UUID changeId = UUID.randomUUID();
+    when(scheduledChangeService.scheduleChange(any(UUID.class), any(ScheduledChangeRequestDto.class)))
+        .thenReturn(ScheduledChangeResponseDto.builder()
+            .id(changeId)
+            .featureConfigId(featureConfigId)
+            .enabled(true)
+            .applyAt(Instant.parse("2030-01-01T09:00:00Z"))
+            .status(ScheduledChangeStatus.PENDING)
+            .build());
+
+    mockMvc.perform(post(configurationsEndpoint + "/" + featureConfigId + "/scheduled-changes")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"enabled\": true, \"applyAt\": \"2030-01-01T09:00:00Z\"}"))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id", is(changeId.toString())))
+        .andExpect(jsonPath("$.status", is("PENDING")));
+
+    verify(scheduledChangeService, times(1))
+        .scheduleChange(any(UUID.class), any(ScheduledChangeRequestDto.class));
+  }
+
+  @Test
+  void testScheduleChange_MissingApplyAt() throws Exception {
+    mockMvc.perform(post(configurationsEndpoint + "/" + featureConfigId + "/scheduled-changes")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"enabled\": true}"))
+        .andExpect(status().isBadRequest());
+
+    verify(scheduledChangeService, never()).scheduleChange(any(), any());
+  }
+
+  @Test
+  void testScheduleChange_ApplyAtInThePast() throws Exception {
+    mockMvc.perform(post(configurationsEndpoint + "/" + featureConfigId + "/scheduled-changes")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"enabled\": true, \"applyAt\": \"2020-01-01T09:00:00Z\"}"))
+        .andExpect(status().isBadRequest());
+
+    verify(scheduledChangeService, never()).scheduleChange(any(), any());
+  }
+
+  @Test
+  void testCancelScheduledChange_Success() throws Exception {
+    UUID changeId = UUID.randomUUID();
+    doNothing().when(scheduledChangeService).cancelChange(changeId);
+
+    mockMvc.perform(delete(configurationsEndpoint + "/scheduled-changes/" + changeId)
+            .with(user("testuser").roles("USER")))
+        .andExpect(status().isNoContent());
+
+    verify(scheduledChangeService, times(1)).cancelChange(changeId);
+  }
+
+  // ===== /{featureConfigId}/rules tests =====
+
+  @Test
+  void testReplaceTargetingRules_Success() throws Exception {
+    UUID ruleId = UUID.randomUUID();
+    when(targetingRuleService.replaceRules(any(UUID.class), any()))
+        .thenReturn(List.of(TargetingRuleResponseDto.builder()
+            .id(ruleId)
+            .priority(0)
+            .enabled(true)
+            .clauses(List.of(TargetingClauseDto.builder()
+                .attribute("country")
+                .operator(ClauseOperator.IN)
+                .values(List.of("AR"))
+                .build()))
+            .build()));
+
+    mockMvc.perform(put(configurationsEndpoint + "/" + featureConfigId + "/rules")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"rules\": [{\"enabled\": true, \"clauses\": [{\"attribute\": \"country\","
+                + " \"operator\": \"IN\", \"values\": [\"AR\"]}]}]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].id", is(ruleId.toString())))
+        .andExpect(jsonPath("$[0].clauses[0].operator", is("IN")));
+
+    verify(targetingRuleService, times(1)).replaceRules(any(UUID.class), any());
+  }
+
+  @Test
+  void testReplaceTargetingRules_ClauseWithoutValues() throws Exception {
+    mockMvc.perform(put(configurationsEndpoint + "/" + featureConfigId + "/rules")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"rules\": [{\"enabled\": true, \"clauses\": [{\"attribute\": \"country\","
+                + " \"operator\": \"IN\", \"values\": []}]}]}"))
+        .andExpect(status().isBadRequest());
+
+    verify(targetingRuleService, never()).replaceRules(any(), any());
+  }
+
+  // ===== /{featureConfigId}/allocations tests =====
+
+  @Test
+  void testReplaceVariantAllocation_Success() throws Exception {
+    when(variantService.replaceAllocation(any(UUID.class), any()))
+        .thenReturn(List.of(
+            VariantAllocationDto.builder().variant("blue").weight(2500).build(),
+            VariantAllocationDto.builder().variant("green").weight(7500).build()));
+
+    mockMvc.perform(put(configurationsEndpoint + "/" + featureConfigId + "/allocations")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"allocations\": [{\"variant\": \"green\", \"weight\": 7500},"
+                + " {\"variant\": \"blue\", \"weight\": 2500}]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].variant", is("blue")));
+
+    verify(variantService, times(1)).replaceAllocation(any(UUID.class), any());
+  }
+
+  @Test
+  void testReplaceVariantAllocation_NonPositiveWeight() throws Exception {
+    mockMvc.perform(put(configurationsEndpoint + "/" + featureConfigId + "/allocations")
+            .with(user("testuser").roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"allocations\": [{\"variant\": \"blue\", \"weight\": 0}]}"))
+        .andExpect(status().isBadRequest());
+
+    verify(variantService, never()).replaceAllocation(any(), any());
+  }
+
   // ===== DELETE /{featureConfigId} tests =====
   
   @Test
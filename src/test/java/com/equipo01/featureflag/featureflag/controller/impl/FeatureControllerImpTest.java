@@ -6,12 +6,33 @@ import static org.mockito.Mockito.*;
 
 import com.equipo01.featureflag.featureflag.dto.LinkDto;
 import com.equipo01.featureflag.featureflag.dto.LinksDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureDetailResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeaturePrerequisitesResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureSnapshotResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagChangeHistoryResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagHistoryStateResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.GetFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.StaleFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.VariantResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
 import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.enums.VariantType;
+import com.equipo01.featureflag.featureflag.service.FeaturePrerequisiteService;
 import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import com.equipo01.featureflag.featureflag.service.VariantService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +64,14 @@ class FeatureControllerImpTest {
 
   @MockitoBean private FeatureService featureService;
 
+  @MockitoBean private FlagChangeHistoryService flagChangeHistoryService;
+
+  @MockitoBean private TargetingRuleService targetingRuleService;
+
+  @MockitoBean private FeaturePrerequisiteService featurePrerequisiteService;
+
+  @MockitoBean private VariantService variantService;
+
   private ObjectMapper objectMapper;
   private UUID featureId;
 
@@ -61,6 +90,7 @@ class FeatureControllerImpTest {
             .name("New Feature")
             .description("This is a new feature")
             .enabledByDefault(true)
+            .version(3L)
             .build();
 
     when(featureService.getFeatureById(anyString())).thenReturn(responseDto);
@@ -71,7 +101,334 @@ class FeatureControllerImpTest {
         .andExpect(MockMvcResultMatchers.status().isOk())
         .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("New Feature"))
         .andExpect(MockMvcResultMatchers.jsonPath("$.description").value("This is a new feature"))
-        .andExpect(MockMvcResultMatchers.jsonPath("$.enabledByDefault").value(true));
+        .andExpect(MockMvcResultMatchers.jsonPath("$.enabledByDefault").value(true))
+        .andExpect(MockMvcResultMatchers.header().string("ETag", "\"3\""));
+  }
+
+  @Test
+  void testUpdateFeatureForClientOrEnvironment_passesIfMatchVersion() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put(featuresEndpoint + "/{id}/disable", featureId.toString())
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"environment\": \"PROD\"}"))
+        .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+    verify(featureService)
+        .updateFeatureForClientOrEnvironment(eq(featureId), any(), eq(false), eq(3L));
+  }
+
+  @Test
+  void testUpdateFeatureForClientOrEnvironment_staleVersionReturnsPreconditionFailed()
+      throws Exception {
+    doThrow(
+            new FeatureFlagException(
+                MessageError.VERSION_MISMATCH.getStatus(),
+                MessageError.VERSION_MISMATCH.getMessage(),
+                MessageError.VERSION_MISMATCH.getDescription()))
+        .when(featureService)
+        .updateFeatureForClientOrEnvironment(eq(featureId), any(), eq(true), eq(2L));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put(featuresEndpoint + "/{id}/enable", featureId.toString())
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"environment\": \"PROD\"}"))
+        .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.message")
+                .value(MessageError.VERSION_MISMATCH.getMessage()));
+  }
+
+  @Test
+  void testUpdateFeatureForClientOrEnvironment_weakIfMatchReturnsPreconditionFailed()
+      throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put(featuresEndpoint + "/{id}/enable", featureId.toString())
+                .header("If-Match", "W/\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"environment\": \"PROD\"}"))
+        .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+    verify(featureService, never())
+        .updateFeatureForClientOrEnvironment(any(), any(), anyBoolean(), any());
+  }
+
+  @Test
+  void testGetFeatureDetail() throws Exception {
+    FeatureDetailResponseDto responseDto =
+        FeatureDetailResponseDto.builder()
+            .id(featureId)
+            .name("New Feature")
+            .description("This is a new feature")
+            .enabledByDefault(true)
+            .configs(
+                List.of(
+                    new FeatureConfigResponseDto(
+                        UUID.randomUUID(),
+                        Environment.PROD,
+                        "client-premium",
+                        true,
+                        featureId,
+                        0L)))
+            .build();
+
+    when(featureService.getFeatureDetailsById(featureId.toString())).thenReturn(responseDto);
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get(
+                featuresEndpoint + "/{featureId}/details", featureId.toString()))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("New Feature"))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.configs.length()").value(1))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.configs[0].environment").value("PROD"))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.configs[0].featureId").value(featureId.toString()));
+  }
+
+  @Test
+  void testGetFeatureSnapshot_defaultsToJson() throws Exception {
+    when(featureService.getFeatureSnapshot(Environment.PROD))
+        .thenReturn(new FeatureSnapshotResponseDto(Environment.PROD, Map.of("DARK_MODE", true)));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get(featuresEndpoint + "/snapshot").param("environment", "PROD"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.environment").value("PROD"))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.flags.DARK_MODE").value(true));
+  }
+
+  @Test
+  void testGetFeatureSnapshot_encodesCborWhenRequested() throws Exception {
+    when(featureService.getFeatureSnapshot(Environment.PROD))
+        .thenReturn(new FeatureSnapshotResponseDto(Environment.PROD, Map.of("DARK_MODE", true)));
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.get(featuresEndpoint + "/snapshot")
+                    .param("environment", "PROD")
+                    .accept(MediaType.APPLICATION_CBOR))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn();
+
+    FeatureSnapshotResponseDto snapshot =
+        new CBORMapper()
+            .readValue(
+                result.getResponse().getContentAsByteArray(), FeatureSnapshotResponseDto.class);
+    assertEquals(Environment.PROD, snapshot.getEnvironment());
+    assertEquals(Map.of("DARK_MODE", true), snapshot.getFlags());
+  }
+
+  @Test
+  void testGetStaleFeatures() throws Exception {
+    when(featureService.getStaleFeatures(30))
+        .thenReturn(
+            List.of(
+                StaleFeatureResponseDto.builder().id(featureId).name("BETA_REPORTS").build()));
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(featuresEndpoint + "/stale"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("BETA_REPORTS"))
+        .andExpect(MockMvcResultMatchers.jsonPath("$[0].lastEvaluatedAt").doesNotExist());
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(featuresEndpoint + "/stale").param("days", "0"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    verify(featureService, never()).getStaleFeatures(0);
+  }
+
+  @Test
+  void testEvaluateFeature() throws Exception {
+    UUID ruleId = UUID.randomUUID();
+    when(targetingRuleService.evaluate(any()))
+        .thenReturn(
+            EvaluationResponseDto.builder()
+                .featureName("DARK_MODE")
+                .enabled(true)
+                .ruleId(ruleId)
+                .build());
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(featuresEndpoint + "/evaluate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"featureName\": \"DARK_MODE\", \"environment\": \"PROD\","
+                        + " \"context\": {\"country\": \"AR\", \"appVersion\": \"2.5.1\"}}"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.enabled").value(true))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.ruleId").value(ruleId.toString()));
+  }
+
+  @Test
+  void testEvaluateFeature_missingContextReturnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(featuresEndpoint + "/evaluate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"featureName\": \"DARK_MODE\", \"environment\": \"PROD\"}"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    verify(targetingRuleService, never()).evaluate(any());
+  }
+
+  @Test
+  void testEvaluateFeatures() throws Exception {
+    when(targetingRuleService.evaluateBatch(any()))
+        .thenReturn(
+            List.of(
+                EvaluationResponseDto.builder()
+                    .featureName("EXPORT_DATA")
+                    .enabled(false)
+                    .blockedBy("DARK_MODE")
+                    .build(),
+                EvaluationResponseDto.builder().featureName("DARK_MODE").enabled(false).build()));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(featuresEndpoint + "/evaluate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"featureNames\": [\"EXPORT_DATA\", \"DARK_MODE\"],"
+                        + " \"environment\": \"PROD\", \"context\": {}}"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$[0].blockedBy").value("DARK_MODE"))
+        .andExpect(MockMvcResultMatchers.jsonPath("$[1].enabled").value(false));
+  }
+
+  @Test
+  void testEvaluateFeatures_emptyFeatureNamesReturnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(featuresEndpoint + "/evaluate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"featureNames\": [], \"environment\": \"PROD\", \"context\": {}}"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    verify(targetingRuleService, never()).evaluateBatch(any());
+  }
+
+  @Test
+  void testReplacePrerequisites_cycleReturnsConflict() throws Exception {
+    when(featurePrerequisiteService.replacePrerequisites(eq(featureId), any()))
+        .thenThrow(
+            new FeatureFlagException(
+                MessageError.PREREQUISITE_CYCLE.getStatus(),
+                MessageError.PREREQUISITE_CYCLE.getMessage(),
+                MessageError.PREREQUISITE_CYCLE.getDescription()));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put(featuresEndpoint + "/" + featureId + "/prerequisites")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"prerequisiteIds\": [\"" + UUID.randomUUID() + "\"]}"))
+        .andExpect(MockMvcResultMatchers.status().isConflict());
+  }
+
+  @Test
+  void testReplaceVariants() throws Exception {
+    when(variantService.replaceVariants(eq(featureId), any()))
+        .thenReturn(
+            List.of(
+                VariantResponseDto.builder()
+                    .id(UUID.randomUUID())
+                    .name("limit")
+                    .type(VariantType.NUMBER)
+                    .value(IntNode.valueOf(50))
+                    .build()));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put(featuresEndpoint + "/" + featureId + "/variants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"variants\": [{\"name\": \"limit\", \"type\": \"NUMBER\","
+                        + " \"value\": 50}]}"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$[0].value").value(50));
+  }
+
+  @Test
+  void testReplaceVariants_missingTypeReturnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put(featuresEndpoint + "/" + featureId + "/variants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"variants\": [{\"name\": \"limit\", \"value\": 50}]}"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    verify(variantService, never()).replaceVariants(any(), any());
+  }
+
+  @Test
+  void testGetPrerequisites() throws Exception {
+    UUID prerequisiteId = UUID.randomUUID();
+    when(featurePrerequisiteService.getPrerequisites(featureId))
+        .thenReturn(
+            FeaturePrerequisitesResponseDto.builder()
+                .featureId(featureId)
+                .prerequisiteIds(List.of(prerequisiteId))
+                .build());
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(featuresEndpoint + "/" + featureId + "/prerequisites"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.prerequisiteIds[0]").value(prerequisiteId.toString()));
+  }
+
+  @Test
+  void testGetFeatureHistory() throws Exception {
+    FlagChangeHistoryResponseDto change =
+        FlagChangeHistoryResponseDto.builder()
+            .sequence(42L)
+            .type(FlagChangeType.CONFIG_TOGGLED)
+            .actor("admin")
+            .featureId(featureId)
+            .environment(Environment.PROD)
+            .enabledBefore(true)
+            .enabledAfter(false)
+            .build();
+    when(flagChangeHistoryService.getFeatureHistory(featureId, 10)).thenReturn(List.of(change));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get(featuresEndpoint + "/{featureId}/history", featureId)
+                .param("limit", "10"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$[0].sequence").value(42))
+        .andExpect(MockMvcResultMatchers.jsonPath("$[0].actor").value("admin"))
+        .andExpect(MockMvcResultMatchers.jsonPath("$[0].enabledBefore").value(true))
+        .andExpect(MockMvcResultMatchers.jsonPath("$[0].enabledAfter").value(false));
+  }
+
+  @Test
+  void testGetHistoricalState() throws Exception {
+    Instant at = Instant.parse("2025-01-01T00:00:00Z");
+    when(flagChangeHistoryService.getStateAt(Environment.PROD, at))
+        .thenReturn(
+            FlagHistoryStateResponseDto.builder()
+                .environment(Environment.PROD)
+                .at(at)
+                .replayedChanges(3)
+                .configurations(List.of())
+                .build());
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get(featuresEndpoint + "/history/state")
+                .param("environment", "PROD")
+                .param("at", at.toString()))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.environment").value("PROD"))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.replayedChanges").value(3));
   }
 
   @Test
@@ -99,6 +456,105 @@ class FeatureControllerImpTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$.enabledByDefault").value(true));
   }
 
+  @Test
+  void testCreateFeature_withIdempotencyKey_replaysOriginalResponse() throws Exception {
+    String idempotencyKey = UUID.randomUUID().toString();
+    FeatureResponseDto featureResponseDto =
+        FeatureResponseDto.builder()
+            .id(featureId)
+            .name("Retried Feature")
+            .description("Created once, whatever the retries")
+            .enabledByDefault(true)
+            .build();
+    String body = objectMapper.writeValueAsString(featureResponseDto);
+
+    when(featureService.createFeature(any())).thenReturn(featureResponseDto);
+
+    String original =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.post(featuresEndpoint)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+            .andExpect(MockMvcResultMatchers.status().isCreated())
+            .andExpect(MockMvcResultMatchers.header().doesNotExist("Idempotent-Replayed"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(featuresEndpoint)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+        .andExpect(MockMvcResultMatchers.status().isCreated())
+        .andExpect(MockMvcResultMatchers.header().string("Idempotent-Replayed", "true"))
+        .andExpect(
+            MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.content().string(original));
+
+    verify(featureService, times(1)).createFeature(any());
+  }
+
+  @Test
+  void testCreateFeature_withIdempotencyKeyReusedForOtherBody_returnsUnprocessableEntity()
+      throws Exception {
+    String idempotencyKey = UUID.randomUUID().toString();
+    FeatureResponseDto first =
+        FeatureResponseDto.builder()
+            .name("First Feature")
+            .description("First description")
+            .enabledByDefault(true)
+            .build();
+    FeatureResponseDto second =
+        FeatureResponseDto.builder()
+            .name("Second Feature")
+            .description("Second description")
+            .enabledByDefault(true)
+            .build();
+
+    when(featureService.createFeature(any())).thenReturn(first);
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(featuresEndpoint)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(first)))
+        .andExpect(MockMvcResultMatchers.status().isCreated());
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(featuresEndpoint)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(second)))
+        .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.message")
+                .value(MessageError.IDEMPOTENCY_KEY_REUSED.getMessage()));
+
+    verify(featureService, times(1)).createFeature(any());
+  }
+
+  @Test
+  void testCreateFeature_withBlankIdempotencyKey_returnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(featuresEndpoint)
+                .header("Idempotency-Key", " ")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Feature\",\"enabledByDefault\":true}"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest())
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.message")
+                .value(MessageError.IDEMPOTENCY_KEY_INVALID.getMessage()));
+
+    verify(featureService, never()).createFeature(any());
+  }
+
   @Test
   void testCreateFeature_throwsExceptionInvalidBody() throws Exception {
     FeatureResponseDto featureResponseDto =
@@ -207,11 +663,12 @@ class FeatureControllerImpTest {
                 result.getResponse().getContentAsString().contains("Size must be at least 1")));
   }
 
-    @Test
+  @Test
   void testCheckPermissionTest() throws Exception {
     mockMvc
-        .perform(MockMvcRequestBuilders.get(featuresEndpoint + "/test")
-            .with(user("admin").roles("ADMIN")))
+        .perform(
+            MockMvcRequestBuilders.get(featuresEndpoint + "/test")
+                .with(user("admin").roles("ADMIN")))
         .andExpect(MockMvcResultMatchers.status().isOk())
         .andExpect(MockMvcResultMatchers.content().string("Test permission ok"));
   }
@@ -219,8 +676,8 @@ class FeatureControllerImpTest {
   @Test
   void testCheckPermissionTestWithoutAdminRole_shouldReturnForbidden() throws Exception {
     mockMvc
-        .perform(MockMvcRequestBuilders.get(featuresEndpoint + "/test")
-            .with(user("user").roles("USER")))
+        .perform(
+            MockMvcRequestBuilders.get(featuresEndpoint + "/test").with(user("user").roles("USER")))
         .andExpect(MockMvcResultMatchers.status().isForbidden());
   }
 }
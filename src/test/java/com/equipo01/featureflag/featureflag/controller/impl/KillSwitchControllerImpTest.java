@@ -0,0 +1,96 @@
+package com.equipo01.featureflag.featureflag.controller.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.equipo01.featureflag.featureflag.dto.response.KillSwitchResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.KillSwitchService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("staging")
+class KillSwitchControllerImpTest {
+
+  @Value("${api.kill-switches}")
+  private String killSwitchesEndpoint;
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private KillSwitchService killSwitchService;
+
+  private final UUID featureId = UUID.randomUUID();
+
+  @Test
+  void testKillFeature_Success() throws Exception {
+    when(killSwitchService.killFeature(featureId))
+        .thenReturn(
+            KillSwitchResponseDto.builder().id(1L).featureId(featureId).engagedBy("admin").build());
+
+    mockMvc
+        .perform(
+            put(killSwitchesEndpoint + "/features/{featureId}", featureId)
+                .with(user("admin").roles("ADMIN")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.featureId", is(featureId.toString())))
+        .andExpect(jsonPath("$.engagedBy", is("admin")));
+  }
+
+  @Test
+  void testKillFeature_Forbidden() throws Exception {
+    mockMvc
+        .perform(
+            put(killSwitchesEndpoint + "/features/{featureId}", featureId)
+                .with(user("testuser").roles("USER")))
+        .andExpect(status().isForbidden());
+
+    verify(killSwitchService, never()).killFeature(any());
+  }
+
+  @Test
+  void testReleaseEmergency_NoContent() throws Exception {
+    mockMvc
+        .perform(
+            delete(killSwitchesEndpoint + "/environments/{environment}", "PROD")
+                .with(user("admin").roles("ADMIN")))
+        .andExpect(status().isNoContent());
+
+    verify(killSwitchService).releaseEmergency(Environment.PROD);
+  }
+
+  @Test
+  void testGetKillSwitches_Success() throws Exception {
+    when(killSwitchService.getKillSwitches())
+        .thenReturn(
+            List.of(
+                KillSwitchResponseDto.builder()
+                    .id(2L)
+                    .environment(Environment.PROD)
+                    .engagedBy("admin")
+                    .build()));
+
+    mockMvc
+        .perform(get(killSwitchesEndpoint).with(user("testuser").roles("USER")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].environment", is("PROD")));
+  }
+}
@@ -0,0 +1,134 @@
+package com.equipo01.featureflag.featureflag.controller.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.equipo01.featureflag.featureflag.dto.request.ProjectRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.ProjectResponseDto;
+import com.equipo01.featureflag.featureflag.service.ProjectService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("staging")
+class ProjectControllerImpTest {
+
+  @Value("${api.projects}")
+  private String projectsEndpoint;
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private ProjectService projectService;
+
+  private ObjectMapper objectMapper;
+  private ProjectResponseDto responseDto;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    responseDto =
+        ProjectResponseDto.builder()
+            .id((short) 2)
+            .name("CHECKOUT")
+            .description("Flags of the checkout team")
+            .build();
+  }
+
+  @Test
+  void testCreateProject_Success() throws Exception {
+    when(projectService.createProject(any(ProjectRequestDto.class))).thenReturn(responseDto);
+
+    mockMvc
+        .perform(
+            post(projectsEndpoint)
+                .with(user("admin").roles("ADMIN"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        ProjectRequestDto.builder().name("CHECKOUT").build())))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id", is(2)))
+        .andExpect(jsonPath("$.name", is("CHECKOUT")));
+  }
+
+  @Test
+  void testCreateProject_LowerCaseName() throws Exception {
+    mockMvc
+        .perform(
+            post(projectsEndpoint)
+                .with(user("admin").roles("ADMIN"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"checkout\"}"))
+        .andExpect(status().isBadRequest());
+
+    verify(projectService, never()).createProject(any());
+  }
+
+  @Test
+  void testCreateProject_Forbidden() throws Exception {
+    mockMvc
+        .perform(
+            post(projectsEndpoint)
+                .with(user("testuser").roles("USER"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"CHECKOUT\"}"))
+        .andExpect(status().isForbidden());
+
+    verify(projectService, never()).createProject(any());
+  }
+
+  @Test
+  void testGetProjects_Success() throws Exception {
+    when(projectService.getProjects()).thenReturn(List.of(responseDto));
+
+    mockMvc
+        .perform(get(projectsEndpoint).with(user("testuser").roles("USER")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].name", is("CHECKOUT")));
+  }
+
+  @Test
+  void testBindUser_Success() throws Exception {
+    UUID userId = UUID.randomUUID();
+
+    mockMvc
+        .perform(put(projectsEndpoint + "/2/users/" + userId).with(user("admin").roles("ADMIN")))
+        .andExpect(status().isNoContent());
+
+    verify(projectService).bindUser((short) 2, userId);
+  }
+
+  @Test
+  void testUnbindUser_Forbidden() throws Exception {
+    UUID userId = UUID.randomUUID();
+
+    mockMvc
+        .perform(
+            delete(projectsEndpoint + "/2/users/" + userId).with(user("testuser").roles("USER")))
+        .andExpect(status().isForbidden());
+
+    verify(projectService, never()).unbindUser(any(), any());
+  }
+}
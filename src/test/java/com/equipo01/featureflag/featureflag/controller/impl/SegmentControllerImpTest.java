@@ -0,0 +1,143 @@
+package com.equipo01.featureflag.featureflag.controller.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.equipo01.featureflag.featureflag.dto.request.SegmentMembersRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.SegmentResponseDto;
+import com.equipo01.featureflag.featureflag.service.SegmentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("staging")
+class SegmentControllerImpTest {
+
+  @Value("${api.segments}")
+  private String segmentsEndpoint;
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private SegmentService segmentService;
+
+  private ObjectMapper objectMapper;
+  private UUID segmentId;
+  private SegmentResponseDto responseDto;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    segmentId = UUID.randomUUID();
+    responseDto =
+        SegmentResponseDto.builder()
+            .id(segmentId)
+            .name("beta-testers")
+            .memberCount(0)
+            .version(0L)
+            .build();
+  }
+
+  @Test
+  void testCreateSegment_Success() throws Exception {
+    when(segmentService.createSegment(any(SegmentRequestDto.class))).thenReturn(responseDto);
+
+    mockMvc
+        .perform(
+            post(segmentsEndpoint)
+                .with(user("testuser").roles("USER"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        SegmentRequestDto.builder().name("beta-testers").build())))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id", is(segmentId.toString())))
+        .andExpect(jsonPath("$.name", is("beta-testers")));
+  }
+
+  @Test
+  void testCreateSegment_BlankName() throws Exception {
+    mockMvc
+        .perform(
+            post(segmentsEndpoint)
+                .with(user("testuser").roles("USER"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \" \"}"))
+        .andExpect(status().isBadRequest());
+
+    verify(segmentService, never()).createSegment(any());
+  }
+
+  @Test
+  void testUpdateMembers_Success() throws Exception {
+    UUID userId = UUID.randomUUID();
+    responseDto.setMemberCount(1);
+    when(segmentService.updateMembers(eq(segmentId), any(SegmentMembersRequestDto.class)))
+        .thenReturn(responseDto);
+
+    mockMvc
+        .perform(
+            patch(segmentsEndpoint + "/" + segmentId + "/members")
+                .with(user("testuser").roles("USER"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        SegmentMembersRequestDto.builder().add(List.of(userId)).build())))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.memberCount", is(1)));
+  }
+
+  @Test
+  void testIsMember() throws Exception {
+    when(segmentService.isMember(segmentId, "client-1")).thenReturn(true);
+
+    mockMvc
+        .perform(
+            get(segmentsEndpoint + "/" + segmentId + "/members/client-1")
+                .with(user("testuser").roles("USER")))
+        .andExpect(status().isOk())
+        .andExpect(content().string("true"));
+  }
+
+  @Test
+  void testDeleteSegment_AsAdmin() throws Exception {
+    mockMvc
+        .perform(delete(segmentsEndpoint + "/" + segmentId).with(user("admin").roles("ADMIN")))
+        .andExpect(status().isNoContent());
+
+    verify(segmentService).deleteSegment(segmentId);
+  }
+
+  @Test
+  void testDeleteSegment_WithoutAdminRole_shouldReturnForbidden() throws Exception {
+    mockMvc
+        .perform(delete(segmentsEndpoint + "/" + segmentId).with(user("user").roles("USER")))
+        .andExpect(status().isForbidden());
+
+    verify(segmentService, never()).deleteSegment(any());
+  }
+}
@@ -9,10 +9,13 @@ import static org.hamcrest.Matchers.is;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import com.equipo01.featureflag.featureflag.dto.UserDTO;
 import com.equipo01.featureflag.featureflag.dto.request.LoginRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.UserRequestDTO;
+import com.equipo01.featureflag.featureflag.dto.response.UserPageResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.Role;
 import com.equipo01.featureflag.featureflag.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import net.bytebuddy.utility.RandomString;
@@ -128,17 +131,49 @@ void testGetAllUsers() throws Exception {
       UserDTO.builder().id(UUID.randomUUID()).username("user1").email("user1@test.com").build(),
       UserDTO.builder().id(UUID.randomUUID()).username("user2").email("user2@test.com").build()
   );
-  when(userService.getAllUsers()).thenReturn(users);
-
-  mockMvc
+  doAnswer(invocation -> {
+        Consumer<List<UserDTO>> consumer = invocation.getArgument(2);
+        consumer.accept(users.subList(0, 1));
+        consumer.accept(users.subList(1, 2));
+        return null;
+      })
+      .when(userService).forEachUserChunk(isNull(), isNull(), any());
+
+  MvcResult asyncResult = mockMvc
       .perform(MockMvcRequestBuilders.get(authEndpoint + "/users")
           .with(user("testuser").roles("USER")))
+      .andExpect(MockMvcResultMatchers.request().asyncStarted())
+      .andReturn();
+
+  mockMvc
+      .perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
       .andExpect(MockMvcResultMatchers.status().isOk())
       .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(2)))
       .andExpect(MockMvcResultMatchers.jsonPath("$[0].username", is("user1")))
       .andExpect(MockMvcResultMatchers.jsonPath("$[1].username", is("user2")));
 }
 
+ @Test
+void testGetUsersPage() throws Exception {
+  UUID cursor = UUID.randomUUID();
+  UserPageResponseDto page = UserPageResponseDto.builder()
+      .users(List.of(UserDTO.builder().id(cursor).username("user1").role(Role.USER).build()))
+      .nextCursor(cursor)
+      .build();
+  when(userService.getUsers(Role.USER, true, null, 1)).thenReturn(page);
+
+  mockMvc
+      .perform(MockMvcRequestBuilders.get(authEndpoint + "/users/page")
+          .param("role", "USER")
+          .param("active", "true")
+          .param("limit", "1")
+          .with(user("testuser").roles("USER")))
+      .andExpect(MockMvcResultMatchers.status().isOk())
+      .andExpect(MockMvcResultMatchers.jsonPath("$.users", hasSize(1)))
+      .andExpect(MockMvcResultMatchers.jsonPath("$.users[0].username", is("user1")))
+      .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", is(cursor.toString())));
+}
+
  @Test
 void testGetUserByEmail() throws Exception {
   UserDTO user = UserDTO.builder()
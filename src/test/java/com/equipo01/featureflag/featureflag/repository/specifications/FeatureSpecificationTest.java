@@ -121,7 +121,7 @@ class FeatureSpecificationTest {
     Boolean enabledByDefault = true;
 
     // Act
-    Specification<Feature> specification = featureSpecification.getFeatures(name, enabledByDefault);
+    Specification<Feature> specification = featureSpecification.getFeatures((short) 1, name, enabledByDefault);
 
     // Assert
     assertNotNull(specification);
@@ -183,7 +183,7 @@ class FeatureSpecificationTest {
     Boolean enabledByDefault = true;
 
     // Act
-    Specification<Feature> specification = featureSpecification.getFeatures(name, enabledByDefault);
+    Specification<Feature> specification = featureSpecification.getFeatures((short) 1, name, enabledByDefault);
 
     // Assert
     assertNotNull(specification);
@@ -204,7 +204,7 @@ class FeatureSpecificationTest {
     Boolean enabledByDefault = null;
 
     // Act
-    Specification<Feature> specification = featureSpecification.getFeatures(name, enabledByDefault);
+    Specification<Feature> specification = featureSpecification.getFeatures((short) 1, name, enabledByDefault);
 
     // Assert
     assertNotNull(specification);
@@ -0,0 +1,135 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.EnvironmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EnvironmentResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.service.EnvironmentService;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that environments are stored, interned once created and usable by configurations and
+ * evaluations, against the staging data set. Each call commits on its own, as it would across
+ * requests, so the environments and configurations created by a test are removed after it. Interned
+ * environments outlive their rows, so every test uses its own names.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+class EnvironmentTest {
+
+  private static final UUID FEATURE_ID = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+  private static final String FEATURE_NAME = "NEW_USER_DASHBOARD";
+
+  @Autowired private EnvironmentService environmentService;
+  @Autowired private EnvironmentRegistry environmentRegistry;
+  @Autowired private FeatureConfigService featureConfigService;
+  @Autowired private FeatureConfigRepository featureConfigRepository;
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM feature_configs WHERE environment > 3");
+    jdbcTemplate.update("DELETE FROM environments WHERE environment_id > 3");
+  }
+
+  @Test
+  void getEnvironments_listsBuiltInEnvironmentsByIdentifier() {
+    List<EnvironmentResponseDto> environments = environmentService.getEnvironments();
+
+    assertEquals(
+        List.of("DEV", "STAGING", "PROD"),
+        environments.stream().map(EnvironmentResponseDto::getName).limit(3).toList());
+    assertEquals(Environment.PROD.id(), environments.get(2).getId());
+    assertTrue(environments.get(2).getServed());
+  }
+
+  @Test
+  void createEnvironment_isUsableByConfigurationsAndEvaluations() {
+    EnvironmentResponseDto created =
+        environmentService.createEnvironment(
+            EnvironmentRequestDto.builder().name("QA").description("Quality assurance").build());
+
+    Environment qa = Environment.valueOf("QA");
+    assertEquals(created.getId(), qa.id());
+    featureConfigService.createFeatureConfig(
+        FeatureConfigRequestDto.builder()
+            .featureId(FEATURE_ID.toString())
+            .environment(qa)
+            .enabled(true)
+            .build());
+
+    assertTrue(evaluate(qa));
+    // Configurations of other environments are left alone
+    assertFalse(evaluate(Environment.PROD));
+  }
+
+  @Test
+  void createEnvironment_existingName_throwsConflict() {
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                environmentService.createEnvironment(
+                    EnvironmentRequestDto.builder().name("PROD").build()));
+    assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+  }
+
+  @Test
+  void readConfiguration_ofEnvironmentCreatedElsewhere_internsItOnFirstRead() {
+    // Written directly, as another instance would, so this one has not interned it
+    jdbcTemplate.update(
+        "INSERT INTO environments (environment_id, name, created_at)"
+            + " VALUES (40, 'REMOTE', CURRENT_TIMESTAMP)");
+    UUID configId = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO feature_configs (feature_config_id, environment, enabled, feature_id)"
+            + " VALUES (?, 40, true, ?)",
+        configId,
+        FEATURE_ID);
+    assertNull(Environment.find(40));
+
+    Environment environment =
+        featureConfigRepository.findById(configId).orElseThrow().getEnvironment();
+
+    assertEquals("REMOTE", environment.name());
+    assertSame(environment, Environment.valueOf("REMOTE"));
+    assertSame(environment, environmentRegistry.resolve(40));
+  }
+
+  @Test
+  void isServed_onlyListedEnvironmentsWhenConfigured() {
+    EnvironmentRegistry prodOnly = new EnvironmentRegistry(jdbcTemplate, List.of("PROD"));
+
+    assertTrue(prodOnly.isServed(Environment.PROD));
+    assertFalse(prodOnly.isServed(Environment.DEV));
+    assertTrue(environmentRegistry.isServed(Environment.DEV));
+  }
+
+  private boolean evaluate(Environment environment) {
+    return targetingRuleService
+        .evaluate(
+            EvaluationRequestDto.builder()
+                .featureName(FEATURE_NAME)
+                .environment(environment)
+                .context(Map.of())
+                .build())
+        .getEnabled();
+  }
+}
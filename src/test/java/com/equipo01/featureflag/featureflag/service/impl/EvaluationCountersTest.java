@@ -0,0 +1,80 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.events.EvaluationWatermark;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EvaluationCountersTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private EvaluationCounters evaluationCounters;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    evaluationCounters = new EvaluationCounters(meterRegistry);
+  }
+
+  @Test
+  void record_countsPerFeatureEnvironmentAndResult() {
+    evaluationCounters.record(Project.DEFAULT_ID, "DARK_MODE", Environment.PROD, true);
+    evaluationCounters.record(Project.DEFAULT_ID, "DARK_MODE", Environment.PROD, true);
+    evaluationCounters.record(Project.DEFAULT_ID, "DARK_MODE", Environment.PROD, false);
+    evaluationCounters.record(Project.DEFAULT_ID, "DARK_MODE", Environment.DEV, false);
+
+    List<EvaluationCounters.Counter> counters = evaluationCounters.counters();
+    assertEquals(2, counters.size());
+    EvaluationCounters.Counter dev = counters.get(0);
+    EvaluationCounters.Counter prod = counters.get(1);
+    assertEquals(Environment.DEV, dev.getEnvironment());
+    assertEquals(0, dev.getEnabled());
+    assertEquals(1, dev.getDisabled());
+    assertEquals(Environment.PROD, prod.getEnvironment());
+    assertEquals(2, prod.getEnabled());
+    assertEquals(1, prod.getDisabled());
+  }
+
+  @Test
+  void record_publishesCountersToMeterRegistry() {
+    evaluationCounters.record(Project.DEFAULT_ID, "DARK_MODE", Environment.PROD, true);
+    evaluationCounters.record(Project.DEFAULT_ID, "DARK_MODE", Environment.PROD, true);
+
+    FunctionCounter enabled =
+        meterRegistry
+            .get(EvaluationCounters.METER_NAME)
+            .tags(
+                "project", "1", "feature", "DARK_MODE", "environment", "PROD", "result", "enabled")
+            .functionCounter();
+    FunctionCounter disabled =
+        meterRegistry
+            .get(EvaluationCounters.METER_NAME)
+            .tags(
+                "project", "1", "feature", "DARK_MODE", "environment", "PROD", "result", "disabled")
+            .functionCounter();
+    assertEquals(2.0, enabled.count());
+    assertEquals(0.0, disabled.count());
+  }
+
+  @Test
+  void pendingWatermarks_onlyReturnsWatermarksNotPersisted() {
+    evaluationCounters.record(Project.DEFAULT_ID, "DARK_MODE", Environment.PROD, true);
+    evaluationCounters.record(Project.DEFAULT_ID, "BETA_REPORTS", Environment.PROD, false);
+
+    List<EvaluationWatermark> pending = evaluationCounters.pendingWatermarks();
+    assertEquals(2, pending.size());
+
+    evaluationCounters.markPersisted(pending);
+    assertTrue(evaluationCounters.pendingWatermarks().isEmpty());
+
+    // Evaluated again within the watermark resolution, so the watermark did not move
+    evaluationCounters.record(Project.DEFAULT_ID, "DARK_MODE", Environment.PROD, true);
+    assertTrue(evaluationCounters.pendingWatermarks().isEmpty());
+  }
+}
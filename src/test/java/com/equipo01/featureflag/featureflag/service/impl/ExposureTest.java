@@ -0,0 +1,92 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that evaluations for a client are written to the exposures table in the background, once
+ * per window. Exposures are written by the consumer thread in its own transactions, so the tests
+ * are not transactional and delete the rows of their client afterwards.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+class ExposureTest {
+
+  private static final long WAIT_MILLIS = 10_000;
+
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private ExposurePipeline exposurePipeline;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final String clientId = "exposure-" + UUID.randomUUID();
+
+  @AfterEach
+  void deleteExposures() {
+    jdbcTemplate.update("DELETE FROM exposures WHERE client_id = ?", clientId);
+  }
+
+  @Test
+  void evaluate_writesExposureOfServedValue() throws InterruptedException {
+    evaluate("NEW_USER_DASHBOARD");
+
+    awaitExposures(1);
+    Map<String, Object> row =
+        jdbcTemplate.queryForMap(
+            "SELECT feature_name, environment, enabled FROM exposures WHERE client_id = ?",
+            clientId);
+    assertEquals("NEW_USER_DASHBOARD", row.get("feature_name"));
+    assertEquals(Environment.PROD.id(), ((Number) row.get("environment")).intValue());
+    assertEquals(Boolean.FALSE, row.get("enabled"));
+  }
+
+  @Test
+  void evaluate_repeatedWithinWindow_isWrittenOnce() throws InterruptedException {
+    long deduplicated = exposurePipeline.deduplicated();
+
+    evaluate("NEW_USER_DASHBOARD");
+    evaluate("NEW_USER_DASHBOARD");
+
+    awaitExposures(1);
+    long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+    while (exposurePipeline.deduplicated() == deduplicated
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    assertEquals(deduplicated + 1, exposurePipeline.deduplicated());
+    assertEquals(1, countExposures());
+  }
+
+  private void evaluate(String featureName) {
+    targetingRuleService.evaluate(
+        EvaluationRequestDto.builder()
+            .featureName(featureName)
+            .environment(Environment.PROD)
+            .clientId(clientId)
+            .context(Map.of())
+            .build());
+  }
+
+  private void awaitExposures(int expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+    while (countExposures() < expected && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    assertEquals(expected, countExposures());
+  }
+
+  private int countExposures() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM exposures WHERE client_id = ?", Integer.class, clientId);
+  }
+}
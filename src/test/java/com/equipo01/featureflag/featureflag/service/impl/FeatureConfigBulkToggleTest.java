@@ -0,0 +1,178 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleCriteriaDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.BulkToggleResponseDto;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that bulk toggles run one update statement per criteria set, plus inserts recording the
+ * history and outbox entries of the rows they change, against the staging data set, without loading
+ * any configuration. Each test is rolled back. Statistics count the statements of the whole session
+ * factory, so background jobs are turned off.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.jpa.properties.hibernate.generate_statistics=true",
+      "application.scheduling.enabled=false"
+    })
+@ActiveProfiles("staging")
+@Transactional
+class FeatureConfigBulkToggleTest {
+
+  private static final UUID NEW_USER_DASHBOARD_ID =
+      UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+  private static final UUID EXPORT_DATA_ID =
+      UUID.fromString("660e8400-e29b-41d4-a716-446655440007");
+
+  // NEW_USER_DASHBOARD PROD default, disabled, and client-premium override, enabled
+  private static final UUID PROD_DEFAULT_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440003");
+  private static final UUID PROD_PREMIUM_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440004");
+
+  @Autowired private FeatureConfigService featureConfigService;
+  @Autowired private FeatureConfigRepository featureConfigRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void bulkToggle_runsOneUpdatePerCriteriaSetWithoutLoadingEntities() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    BulkToggleRequestDto request =
+        BulkToggleRequestDto.builder()
+            .enabled(false)
+            .criteria(
+                List.of(
+                    BulkToggleCriteriaDto.builder()
+                        .featureIds(List.of(NEW_USER_DASHBOARD_ID, EXPORT_DATA_ID))
+                        .environments(List.of(Environment.PROD))
+                        .build(),
+                    BulkToggleCriteriaDto.builder()
+                        .clientIds(List.of("client-beta-testers"))
+                        .build()))
+            .build();
+
+    statistics.clear();
+    BulkToggleResponseDto result = featureConfigService.bulkToggle(request);
+
+    // two PROD rows for each of the two features, one of which is already disabled, then the
+    // single beta testers override
+    assertEquals(List.of(3, 1), result.getAffectedRows());
+    assertEquals(4, result.getTotalAffectedRows());
+    // One query checking the project of the named features, then per criteria set: one INSERT ...
+    // SELECT into the history, one INSERT ... SELECT into the outbox and one UPDATE
+    assertEquals(7, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+
+    long disabledInProd =
+        featureConfigRepository.findAllDtos(Project.DEFAULT_ID).stream()
+            .filter(config -> config.getEnvironment() == Environment.PROD)
+            .filter(
+                config ->
+                    config.getFeatureId().equals(NEW_USER_DASHBOARD_ID)
+                        || config.getFeatureId().equals(EXPORT_DATA_ID))
+            .filter(config -> !config.getEnabled())
+            .count();
+    assertEquals(4, disabledInProd);
+  }
+
+  @Test
+  void bulkToggle_recordsOnlyConfigurationsWhoseStateChanges() {
+    BulkToggleRequestDto request =
+        BulkToggleRequestDto.builder()
+            .enabled(false)
+            .criteria(
+                List.of(
+                    BulkToggleCriteriaDto.builder()
+                        .featureIds(List.of(NEW_USER_DASHBOARD_ID, EXPORT_DATA_ID))
+                        .environments(List.of(Environment.PROD))
+                        .build()))
+            .build();
+
+    BulkToggleResponseDto result = featureConfigService.bulkToggle(request);
+
+    // The NEW_USER_DASHBOARD PROD default is already disabled: neither updated nor recorded
+    assertEquals(List.of(3), result.getAffectedRows());
+    assertEquals(
+        List.of(true, true, true),
+        jdbcTemplate.queryForList(
+            "SELECT enabled_before FROM flag_change_history WHERE change_type = 'CONFIG_TOGGLED'"
+                + " AND enabled_after = FALSE AND feature_id IN (?, ?)",
+            Boolean.class,
+            NEW_USER_DASHBOARD_ID,
+            EXPORT_DATA_ID));
+    assertEquals(
+        List.of(false, false, false),
+        jdbcTemplate.queryForList(
+            "SELECT enabled FROM flag_change_events WHERE change_type = 'CONFIG_TOGGLED'"
+                + " AND feature_id IN (?, ?)",
+            Boolean.class,
+            NEW_USER_DASHBOARD_ID,
+            EXPORT_DATA_ID));
+  }
+
+  @Test
+  void bulkToggle_keepsVersionOfConfigurationsAlreadyInRequestedState() {
+    long defaultVersion = version(PROD_DEFAULT_CONFIG_ID);
+    long overrideVersion = version(PROD_PREMIUM_CONFIG_ID);
+    BulkToggleRequestDto request =
+        BulkToggleRequestDto.builder()
+            .enabled(true)
+            .criteria(
+                List.of(
+                    BulkToggleCriteriaDto.builder()
+                        .featureIds(List.of(NEW_USER_DASHBOARD_ID))
+                        .environments(List.of(Environment.PROD))
+                        .build()))
+            .build();
+
+    BulkToggleResponseDto result = featureConfigService.bulkToggle(request);
+
+    // Only the disabled PROD default changes; the enabled client-premium override is untouched
+    assertEquals(List.of(1), result.getAffectedRows());
+    assertEquals(defaultVersion + 1, version(PROD_DEFAULT_CONFIG_ID));
+    assertEquals(overrideVersion, version(PROD_PREMIUM_CONFIG_ID));
+  }
+
+  @Test
+  void bulkToggle_onlyMatchesRowsSatisfyingEveryFilter() {
+    BulkToggleRequestDto request =
+        BulkToggleRequestDto.builder()
+            .enabled(true)
+            .criteria(
+                List.of(
+                    BulkToggleCriteriaDto.builder()
+                        .environments(List.of(Environment.DEV))
+                        .clientIds(List.of("client-premium"))
+                        .build()))
+            .build();
+
+    BulkToggleResponseDto result = featureConfigService.bulkToggle(request);
+
+    // client-premium only has a PROD override
+    assertEquals(List.of(0), result.getAffectedRows());
+    assertEquals(0, result.getTotalAffectedRows());
+  }
+
+  private long version(UUID configId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT version FROM feature_configs WHERE feature_config_id = ?", Long.class, configId);
+  }
+}
@@ -4,25 +4,35 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleCriteriaDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.BulkToggleResponseDto;
 import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
 import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
 import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
 import com.equipo01.featureflag.featureflag.mapper.FeatureConfigMapper;
 import com.equipo01.featureflag.featureflag.model.Feature;
 import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.Project;
 import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
 import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
 import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeEventService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +46,15 @@ class FeatureConfigServiceImplTest {
 
   @Mock private FeatureService featureService;
 
+  @Mock private FeatureRepository featureRepository;
+
+  @Mock private FlagChangeEventService flagChangeEventService;
+
+  @Mock private FlagChangeHistoryService flagChangeHistoryService;
+
+  // Outside of a request, the context resolves the default project
+  @Spy private ProjectContext projectContext = new ProjectContext();
+
   @InjectMocks private FeatureConfigServiceImpl featureConfigService;
 
   private FeatureConfig featureConfig;
@@ -88,13 +107,14 @@ class FeatureConfigServiceImplTest {
   @Test
   void testEnableOrDisableFeature_Success_EnableFeature() {
     // Given
-    when(featureConfigRepository.findById(featureConfigId)).thenReturn(Optional.of(featureConfig));
+    when(featureConfigRepository.findByIdInProject(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.of(featureConfig));
     when(featureConfigRepository.save(any(FeatureConfig.class))).thenReturn(featureConfig);
     when(featureConfigMapper.toDto(featureConfig)).thenReturn(responseDto);
 
     // When
     ResponseEntity<List<FeatureConfigResponseDto>> result = 
-        featureConfigService.enableOrDisableFeature(featureConfigId, true);
+        featureConfigService.enableOrDisableFeature(featureConfigId, true, null);
 
     // Then
     assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -104,22 +124,26 @@ class FeatureConfigServiceImplTest {
     assertEquals(1, body.size());
     assertEquals(responseDto, body.get(0));
     
-    verify(featureConfigRepository).findById(featureConfigId);
+    verify(featureConfigRepository).findByIdInProject(featureConfigId, Project.DEFAULT_ID);
     verify(featureConfigRepository).save(featureConfig);
     verify(featureConfigMapper).toDto(featureConfig);
+    verify(flagChangeEventService).recordConfigChange(FlagChangeType.CONFIG_TOGGLED, featureConfig);
+    verify(flagChangeHistoryService)
+        .recordConfigChange(FlagChangeType.CONFIG_TOGGLED, featureConfig, true);
     assertTrue(featureConfig.getEnabled());
   }
 
   @Test
   void testEnableOrDisableFeature_Success_DisableFeature() {
     // Given
-    when(featureConfigRepository.findById(featureConfigId)).thenReturn(Optional.of(featureConfig));
+    when(featureConfigRepository.findByIdInProject(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.of(featureConfig));
     when(featureConfigRepository.save(any(FeatureConfig.class))).thenReturn(featureConfig);
     when(featureConfigMapper.toDto(featureConfig)).thenReturn(responseDto);
 
     // When
     ResponseEntity<List<FeatureConfigResponseDto>> result = 
-        featureConfigService.enableOrDisableFeature(featureConfigId, false);
+        featureConfigService.enableOrDisableFeature(featureConfigId, false, null);
 
     // Then
     assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -127,7 +151,7 @@ class FeatureConfigServiceImplTest {
     assertNotNull(body);
     assertEquals(1, body.size());
     
-    verify(featureConfigRepository).findById(featureConfigId);
+    verify(featureConfigRepository).findByIdInProject(featureConfigId, Project.DEFAULT_ID);
     verify(featureConfigRepository).save(featureConfig);
     verify(featureConfigMapper).toDto(featureConfig);
     assertFalse(featureConfig.getEnabled());
@@ -136,19 +160,21 @@ class FeatureConfigServiceImplTest {
   @Test
   void testEnableOrDisableFeature_NotFound() {
     // Given
-    when(featureConfigRepository.findById(featureConfigId)).thenReturn(Optional.empty());
+    when(featureConfigRepository.findByIdInProject(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.empty());
 
     // When
     ResponseEntity<List<FeatureConfigResponseDto>> result = 
-        featureConfigService.enableOrDisableFeature(featureConfigId, true);
+        featureConfigService.enableOrDisableFeature(featureConfigId, true, null);
 
     // Then
     assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
     assertNull(result.getBody());
     
-    verify(featureConfigRepository).findById(featureConfigId);
+    verify(featureConfigRepository).findByIdInProject(featureConfigId, Project.DEFAULT_ID);
     verify(featureConfigRepository, never()).save(any());
     verify(featureConfigMapper, never()).toDto(any());
+    verifyNoInteractions(flagChangeEventService);
   }
 
   @Test
@@ -156,7 +182,7 @@ class FeatureConfigServiceImplTest {
     // Given
     when(featureConfigMapper.toEntity(requestDto)).thenReturn(featureConfig);
     when(featureService.findById(featureId)).thenReturn(feature);
-    when(featureConfigRepository.save(any(FeatureConfig.class))).thenReturn(featureConfig);
+    when(featureConfigRepository.upsert(any(FeatureConfig.class))).thenReturn(featureConfig);
     when(featureConfigMapper.toDto(featureConfig)).thenReturn(responseDto);
 
     // When
@@ -168,8 +194,12 @@ class FeatureConfigServiceImplTest {
     
     verify(featureConfigMapper).toEntity(requestDto);
     verify(featureService).findById(featureId);
-    verify(featureConfigRepository).save(featureConfig);
+    verify(featureConfigRepository).upsert(featureConfig);
     verify(featureConfigMapper).toDto(featureConfig);
+    verify(flagChangeEventService)
+        .recordConfigChange(FlagChangeType.CONFIG_UPSERTED, featureConfig);
+    verify(flagChangeHistoryService)
+        .recordConfigChange(FlagChangeType.CONFIG_UPSERTED, featureConfig, null);
     assertEquals(feature, featureConfig.getFeature());
   }
 
@@ -184,7 +214,7 @@ class FeatureConfigServiceImplTest {
     
     verify(featureConfigMapper).toEntity(requestDto);
     verify(featureService, never()).findById(any());
-    verify(featureConfigRepository, never()).save(any());
+    verify(featureConfigRepository, never()).upsert(any());
   }
 
   @Test
@@ -202,14 +232,14 @@ class FeatureConfigServiceImplTest {
     
     verify(featureConfigMapper).toEntity(requestDto);
     verify(featureService).findById(featureId);
-    verify(featureConfigRepository, never()).save(any());
+    verify(featureConfigRepository, never()).upsert(any());
   }
 
   @Test
   void testGetFeatureByID_Success() {
     // Given
-    when(featureConfigRepository.findById(featureConfigId)).thenReturn(Optional.of(featureConfig));
-    when(featureConfigMapper.toDto(featureConfig)).thenReturn(responseDto);
+    when(featureConfigRepository.findDtoById(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.of(responseDto));
 
     // When
     List<FeatureConfigResponseDto> result = featureConfigService.getFeatureByID(featureConfigId);
@@ -219,14 +249,16 @@ class FeatureConfigServiceImplTest {
     assertEquals(1, result.size());
     assertEquals(responseDto, result.get(0));
     
-    verify(featureConfigRepository).findById(featureConfigId);
-    verify(featureConfigMapper).toDto(featureConfig);
+    verify(featureConfigRepository).findDtoById(featureConfigId, Project.DEFAULT_ID);
+    verify(featureConfigRepository, never()).findById(any());
+    verify(featureConfigMapper, never()).toDto(any());
   }
 
   @Test
   void testGetFeatureByID_NotFound() {
     // Given
-    when(featureConfigRepository.findById(featureConfigId)).thenReturn(Optional.empty());
+    when(featureConfigRepository.findDtoById(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.empty());
 
     // When
     List<FeatureConfigResponseDto> result = featureConfigService.getFeatureByID(featureConfigId);
@@ -235,7 +267,7 @@ class FeatureConfigServiceImplTest {
     assertNotNull(result);
     assertTrue(result.isEmpty());
     
-    verify(featureConfigRepository).findById(featureConfigId);
+    verify(featureConfigRepository).findDtoById(featureConfigId, Project.DEFAULT_ID);
     verify(featureConfigMapper, never()).toDto(any());
   }
 
@@ -261,8 +293,7 @@ class FeatureConfigServiceImplTest {
     List<FeatureConfig> featureConfigs = Arrays.asList(featureConfig, featureConfig2);
     List<FeatureConfigResponseDto> responseDtos = Arrays.asList(responseDto, responseDto2);
 
-    when(featureConfigRepository.findAll()).thenReturn(featureConfigs);
-    when(featureConfigMapper.toDtoList(featureConfigs)).thenReturn(responseDtos);
+    when(featureConfigRepository.findAllDtos(Project.DEFAULT_ID)).thenReturn(responseDtos);
 
     // When
     List<FeatureConfigResponseDto> result = featureConfigService.getAllFeatures();
@@ -272,15 +303,15 @@ class FeatureConfigServiceImplTest {
     assertEquals(2, result.size());
     assertEquals(responseDtos, result);
     
-    verify(featureConfigRepository).findAll();
-    verify(featureConfigMapper).toDtoList(featureConfigs);
+    verify(featureConfigRepository).findAllDtos(Project.DEFAULT_ID);
+    verify(featureConfigRepository, never()).findAll();
+    verify(featureConfigMapper, never()).toDtoList(featureConfigs);
   }
 
   @Test
   void testGetAllFeatures_EmptyList() {
     // Given
-    when(featureConfigRepository.findAll()).thenReturn(Arrays.asList());
-    when(featureConfigMapper.toDtoList(Arrays.asList())).thenReturn(Arrays.asList());
+    when(featureConfigRepository.findAllDtos(Project.DEFAULT_ID)).thenReturn(Arrays.asList());
 
     // When
     List<FeatureConfigResponseDto> result = featureConfigService.getAllFeatures();
@@ -289,27 +320,31 @@ class FeatureConfigServiceImplTest {
     assertNotNull(result);
     assertTrue(result.isEmpty());
     
-    verify(featureConfigRepository).findAll();
-    verify(featureConfigMapper).toDtoList(Arrays.asList());
+    verify(featureConfigRepository).findAllDtos(Project.DEFAULT_ID);
   }
 
   @Test
   void testDeleteFeatureConfig_Success() {
     // Given
-    when(featureConfigRepository.existsById(featureConfigId)).thenReturn(true);
+    when(featureConfigRepository.findByIdInProject(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.of(featureConfig));
 
     // When
     assertDoesNotThrow(() -> featureConfigService.deleteFeatureConfig(featureConfigId));
 
     // Then
-    verify(featureConfigRepository).existsById(featureConfigId);
-    verify(featureConfigRepository).deleteById(featureConfigId);
+    verify(featureConfigRepository).findByIdInProject(featureConfigId, Project.DEFAULT_ID);
+    verify(featureConfigRepository).delete(featureConfig);
+    verify(flagChangeEventService).recordConfigChange(FlagChangeType.CONFIG_DELETED, featureConfig);
+    verify(flagChangeHistoryService)
+        .recordConfigChange(FlagChangeType.CONFIG_DELETED, featureConfig, featureConfig.getEnabled());
   }
 
   @Test
   void testDeleteFeatureConfig_NotFound() {
     // Given
-    when(featureConfigRepository.existsById(featureConfigId)).thenReturn(false);
+    when(featureConfigRepository.findByIdInProject(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.empty());
 
     // When & Then
     FeatureFlagException exception = assertThrows(FeatureFlagException.class, () -> 
@@ -319,8 +354,117 @@ class FeatureConfigServiceImplTest {
     assertEquals(MessageError.FEATURE_CONFIG_NOT_FOUND.getMessage(), exception.getMessage());
     assertEquals(MessageError.FEATURE_CONFIG_NOT_FOUND.getDescription(), exception.getDescription());
     
-    verify(featureConfigRepository).existsById(featureConfigId);
-    verify(featureConfigRepository, never()).deleteById(any());
+    verify(featureConfigRepository).findByIdInProject(featureConfigId, Project.DEFAULT_ID);
+    verify(featureConfigRepository, never()).delete(any());
+    verifyNoInteractions(flagChangeEventService);
+  }
+
+  @Test
+  void testEnableOrDisableFeature_VersionMismatch() {
+    // Given
+    featureConfig.setVersion(2L);
+    when(featureConfigRepository.findByIdInProject(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.of(featureConfig));
+
+    // When & Then
+    FeatureFlagException exception = assertThrows(FeatureFlagException.class, () ->
+        featureConfigService.enableOrDisableFeature(featureConfigId, false, 1L));
+
+    assertEquals(MessageError.VERSION_MISMATCH.getStatus(), exception.getStatus());
+    assertTrue(featureConfig.getEnabled());
+    verify(featureConfigRepository, never()).save(any());
+  }
+
+  @Test
+  void testBulkToggle_ReturnsAffectedRowsPerCriteria() {
+    // Given
+    BulkToggleCriteriaDto prodForFeature = BulkToggleCriteriaDto.builder()
+        .featureIds(List.of(featureId))
+        .environments(List.of(Environment.PROD))
+        .build();
+    BulkToggleCriteriaDto clients = BulkToggleCriteriaDto.builder()
+        .clientIds(List.of("client-a", "client-b"))
+        .build();
+    BulkToggleRequestDto request = BulkToggleRequestDto.builder()
+        .enabled(false)
+        .criteria(List.of(prodForFeature, clients))
+        .build();
+    when(featureRepository.countByProjectIdAndIdIn(Project.DEFAULT_ID, Set.of(featureId)))
+        .thenReturn(1L);
+    when(featureConfigRepository.updateEnabled(
+            Project.DEFAULT_ID, List.of(featureId), List.of(Environment.PROD), null, false))
+        .thenReturn(1);
+    when(featureConfigRepository.updateEnabled(
+            Project.DEFAULT_ID, null, null, List.of("client-a", "client-b"), false))
+        .thenReturn(2);
+
+    // When
+    BulkToggleResponseDto result = featureConfigService.bulkToggle(request);
+
+    // Then
+    assertFalse(result.getEnabled());
+    assertEquals(List.of(1, 2), result.getAffectedRows());
+    assertEquals(3, result.getTotalAffectedRows());
+    verify(featureConfigRepository, never()).save(any());
+    verify(flagChangeEventService)
+        .recordConfigToggles(
+            Project.DEFAULT_ID, List.of(featureId), List.of(Environment.PROD), null, false);
+    verify(flagChangeEventService)
+        .recordConfigToggles(
+            Project.DEFAULT_ID, null, null, List.of("client-a", "client-b"), false);
+    verify(flagChangeHistoryService)
+        .recordConfigToggles(
+            Project.DEFAULT_ID, List.of(featureId), List.of(Environment.PROD), null, false);
+    verify(flagChangeHistoryService)
+        .recordConfigToggles(
+            Project.DEFAULT_ID, null, null, List.of("client-a", "client-b"), false);
+  }
+
+  @Test
+  void testBulkToggle_FeatureOfOtherProject_ThrowsBeforeAnyUpdate() {
+    // Given
+    UUID otherFeatureId = UUID.randomUUID();
+    BulkToggleRequestDto request = BulkToggleRequestDto.builder()
+        .enabled(true)
+        .criteria(List.of(BulkToggleCriteriaDto.builder()
+            .featureIds(List.of(featureId, otherFeatureId, featureId))
+            .build()))
+        .build();
+    when(featureRepository.countByProjectIdAndIdIn(
+            Project.DEFAULT_ID, Set.of(featureId, otherFeatureId)))
+        .thenReturn(1L);
+
+    // When & Then
+    FeatureFlagException exception =
+        assertThrows(FeatureFlagException.class, () -> featureConfigService.bulkToggle(request));
+
+    assertEquals(MessageError.FEATURE_NOT_FOUND.getStatus(), exception.getStatus());
+    verify(featureConfigRepository, never())
+        .updateEnabled(anyShort(), any(), any(), any(), anyBoolean());
+  }
+
+  @Test
+  void testBulkToggle_CriteriaWithoutFilters_ThrowsBeforeAnyUpdate() {
+    // Given
+    BulkToggleCriteriaDto valid = BulkToggleCriteriaDto.builder()
+        .environments(List.of(Environment.PROD))
+        .build();
+    BulkToggleCriteriaDto empty = BulkToggleCriteriaDto.builder()
+        .featureIds(List.of())
+        .build();
+    BulkToggleRequestDto request = BulkToggleRequestDto.builder()
+        .enabled(true)
+        .criteria(List.of(valid, empty))
+        .build();
+
+    // When & Then
+    FeatureFlagException exception = assertThrows(FeatureFlagException.class, () ->
+        featureConfigService.bulkToggle(request));
+
+    assertEquals(MessageError.BULK_TOGGLE_CRITERIA_INVALID.getStatus(), exception.getStatus());
+    assertEquals(MessageError.BULK_TOGGLE_CRITERIA_INVALID.getMessage(), exception.getMessage());
+    verify(featureConfigRepository, never())
+        .updateEnabled(anyShort(), any(), any(), any(), anyBoolean());
   }
 
   @Test
@@ -334,7 +478,7 @@ class FeatureConfigServiceImplTest {
 
     when(featureConfigMapper.toEntity(requestDto)).thenReturn(mappedEntity);
     when(featureService.findById(featureId)).thenReturn(feature);
-    when(featureConfigRepository.save(any(FeatureConfig.class))).thenReturn(featureConfig);
+    when(featureConfigRepository.upsert(any(FeatureConfig.class))).thenReturn(featureConfig);
     when(featureConfigMapper.toDto(featureConfig)).thenReturn(responseDto);
 
     // When
@@ -348,7 +492,7 @@ class FeatureConfigServiceImplTest {
     assertEquals(responseDto.getEnabled(), result.getEnabled());
     
     // Verify that the feature was set correctly
-    verify(featureConfigRepository).save(argThat(config -> 
+    verify(featureConfigRepository).upsert(argThat(config -> 
         config.getFeature().equals(feature) &&
         config.getEnvironment().equals(Environment.DEV) &&
         config.getClientId().equals("test-client") &&
@@ -361,25 +505,27 @@ class FeatureConfigServiceImplTest {
     // Test enabling an already enabled feature
     featureConfig.setEnabled(true);
     
-    when(featureConfigRepository.findById(featureConfigId)).thenReturn(Optional.of(featureConfig));
+    when(featureConfigRepository.findByIdInProject(featureConfigId, Project.DEFAULT_ID))
+        .thenReturn(Optional.of(featureConfig));
     when(featureConfigRepository.save(any(FeatureConfig.class))).thenReturn(featureConfig);
     when(featureConfigMapper.toDto(featureConfig)).thenReturn(responseDto);
 
     // Enable already enabled feature
     ResponseEntity<List<FeatureConfigResponseDto>> result1 = 
-        featureConfigService.enableOrDisableFeature(featureConfigId, true);
+        featureConfigService.enableOrDisableFeature(featureConfigId, true, null);
     
     assertEquals(HttpStatus.OK, result1.getStatusCode());
     assertTrue(featureConfig.getEnabled());
 
     // Disable the feature
     ResponseEntity<List<FeatureConfigResponseDto>> result2 = 
-        featureConfigService.enableOrDisableFeature(featureConfigId, false);
+        featureConfigService.enableOrDisableFeature(featureConfigId, false, null);
     
     assertEquals(HttpStatus.OK, result2.getStatusCode());
     assertFalse(featureConfig.getEnabled());
 
-    verify(featureConfigRepository, times(2)).findById(featureConfigId);
+    verify(featureConfigRepository, times(2))
+        .findByIdInProject(featureConfigId, Project.DEFAULT_ID);
     verify(featureConfigRepository, times(2)).save(featureConfig);
   }
 }
\ No newline at end of file
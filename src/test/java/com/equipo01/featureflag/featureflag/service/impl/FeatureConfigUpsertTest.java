@@ -0,0 +1,102 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
+import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies the uniqueness of (feature, environment, client) configurations and the upsert path
+ * against the staging data set. Each test is rolled back.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+class FeatureConfigUpsertTest {
+
+  private static final String DARK_MODE_ID = "660e8400-e29b-41d4-a716-446655440005";
+  private static final UUID NEW_USER_DASHBOARD_ID =
+      UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+  private static final UUID NEW_USER_DASHBOARD_DEV_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440001");
+
+  @Autowired private FeatureConfigService featureConfigService;
+  @Autowired private FeatureConfigRepository featureConfigRepository;
+  @Autowired private FeatureRepository featureRepository;
+
+  @Test
+  void createFeatureConfig_twiceForSameKey_updatesInsteadOfDuplicating() {
+    long configsBefore = featureConfigRepository.count();
+    FeatureConfigRequestDto request =
+        FeatureConfigRequestDto.builder()
+            .featureId(DARK_MODE_ID)
+            .environment(Environment.PROD)
+            .clientId("client-retry")
+            .enabled(true)
+            .build();
+
+    FeatureConfigResponseDto created = featureConfigService.createFeatureConfig(request);
+    request.setEnabled(false);
+    FeatureConfigResponseDto retried = featureConfigService.createFeatureConfig(request);
+
+    assertEquals(configsBefore + 1, featureConfigRepository.count());
+    assertEquals(created.getId(), retried.getId());
+    assertEquals(0L, created.getVersion());
+    assertEquals(1L, retried.getVersion());
+    assertFalse(
+        featureConfigRepository
+            .findDtoById(created.getId(), Project.DEFAULT_ID)
+            .get()
+            .getEnabled());
+  }
+
+  @Test
+  void upsert_treatsNullClientAsTheSameEnvironmentDefault() {
+    long configsBefore = featureConfigRepository.count();
+    Feature feature = featureRepository.getReferenceById(NEW_USER_DASHBOARD_ID);
+
+    FeatureConfig stored =
+        featureConfigRepository.upsert(
+            FeatureConfig.builder()
+                .feature(feature)
+                .environment(Environment.DEV)
+                .clientId(null)
+                .enabled(false)
+                .build());
+
+    assertEquals(configsBefore, featureConfigRepository.count());
+    assertEquals(NEW_USER_DASHBOARD_DEV_CONFIG_ID, stored.getId());
+    assertFalse(
+        featureConfigRepository.findDtoById(stored.getId(), Project.DEFAULT_ID).get().getEnabled());
+  }
+
+  @Test
+  void insertingDuplicateKey_isRejectedByConstraint() {
+    Feature feature = featureRepository.getReferenceById(NEW_USER_DASHBOARD_ID);
+    FeatureConfig duplicate =
+        FeatureConfig.builder()
+            .feature(feature)
+            .environment(Environment.PROD)
+            .clientId(null)
+            .enabled(true)
+            .build();
+
+    assertThrows(
+        DataIntegrityViolationException.class,
+        () -> featureConfigRepository.saveAndFlush(duplicate));
+  }
+}
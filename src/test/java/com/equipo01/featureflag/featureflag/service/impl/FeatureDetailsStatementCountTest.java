@@ -0,0 +1,71 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.response.FeatureDetailResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.GetFeatureDetailResponseDto;
+import com.equipo01.featureflag.featureflag.service.FeatureService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that the feature detail endpoints load configurations without N+1 queries, using
+ * Hibernate statistics against the staging data set (7 features, 24 configurations). Background
+ * jobs are turned off, as their statements would be counted too.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.jpa.properties.hibernate.generate_statistics=true",
+      "application.scheduling.enabled=false"
+    })
+@ActiveProfiles("staging")
+class FeatureDetailsStatementCountTest {
+
+  private static final String NEW_USER_DASHBOARD_ID = "660e8400-e29b-41d4-a716-446655440001";
+
+  @Autowired private FeatureService featureService;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void getFeatureDetails_statementCountDoesNotDependOnPageSize() {
+    statistics.clear();
+    GetFeatureDetailResponseDto onePage = featureService.getFeatureDetails(null, null, 0, 1);
+    long statementsForOne = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    GetFeatureDetailResponseDto sevenPage = featureService.getFeatureDetails(null, null, 0, 7);
+    long statementsForSeven = statistics.getPrepareStatementCount();
+
+    assertEquals(1, onePage.getFeatures().size());
+    assertEquals(7, sevenPage.getFeatures().size());
+    assertEquals(
+        24,
+        sevenPage.getFeatures().stream().mapToInt(feature -> feature.getConfigs().size()).sum());
+    assertEquals(statementsForOne, statementsForSeven);
+    // page query + count query + one batch query for the configurations
+    assertEquals(3, statementsForSeven);
+  }
+
+  @Test
+  void getFeatureDetailsById_loadsFeatureAndConfigsInOneStatement() {
+    statistics.clear();
+    FeatureDetailResponseDto detail = featureService.getFeatureDetailsById(NEW_USER_DASHBOARD_ID);
+
+    assertEquals(NEW_USER_DASHBOARD_ID, detail.getId().toString());
+    assertFalse(detail.getConfigs().isEmpty());
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+}
@@ -0,0 +1,139 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.repository.projections.FeatureStateView;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies the single-statement flag evaluation queries against the staging data set and checks
+ * that the plan of the SQL Hibernate generates for them reads the configuration lookups from the
+ * covering index only. The generated SQL is captured with a {@link StatementInspector}; background
+ * jobs are turned off, as their statements would be captured too.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "com.equipo01.featureflag.featureflag.service.impl.FeatureEvaluationQueryTest$SqlCapture",
+      "application.scheduling.enabled=false"
+    })
+@ActiveProfiles("staging")
+class FeatureEvaluationQueryTest {
+
+  private static final String LOOKUP_INDEX = "IDX_FEATURE_CONFIGS_LOOKUP";
+
+  // The index condition H2 prints for a lookup bound on all three key columns
+  private static final Pattern INDEX_SEEK =
+      Pattern.compile(
+          "/\\* PUBLIC\\."
+              + LOOKUP_INDEX
+              + ": CLIENT_ID (= \\?\\d+|IS NULL)\\s+AND ENVIRONMENT = \\?\\d+"
+              + "\\s+AND FEATURE_ID = \\w+\\.FEATURE_ID\\s+\\*/");
+
+  @Autowired private FeatureRepository featureRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void findEnabledStates_prefersClientOverrideOverEnvironmentDefault() {
+    assertEquals(
+        Map.of("NEW_USER_DASHBOARD", true),
+        states(Environment.PROD, "client-premium", "NEW_USER_DASHBOARD"));
+    assertEquals(
+        Map.of("NEW_USER_DASHBOARD", false),
+        states(Environment.PROD, "client-other", "NEW_USER_DASHBOARD"));
+  }
+
+  @Test
+  void findEnabledStates_fallsBackToEnvironmentDefault() {
+    assertEquals(
+        Map.of("NEW_USER_DASHBOARD", true),
+        states(Environment.DEV, "client-premium", "NEW_USER_DASHBOARD"));
+  }
+
+  @Test
+  void findEnabledStates_unknownFeature_isLeftOut() {
+    assertEquals(Map.of(), states(Environment.PROD, "client-premium", "UNKNOWN_FEATURE"));
+  }
+
+  @Test
+  void findEnabledStates_resolvesEachFeatureLikeSingleLookup() {
+    Map<String, Boolean> states =
+        states(
+            Environment.PROD,
+            "client-premium",
+            "NEW_USER_DASHBOARD",
+            "DARK_MODE",
+            "UNKNOWN_FEATURE");
+
+    assertEquals(Set.of("NEW_USER_DASHBOARD", "DARK_MODE"), states.keySet());
+    for (String name : states.keySet()) {
+      assertEquals(
+          states(Environment.PROD, "client-premium", name).get(name), states.get(name), name);
+    }
+  }
+
+  @Test
+  void evaluationPlan_readsConfigurationsFromCoveringIndexOnly() {
+    SqlCapture.STATEMENTS.clear();
+    states(Environment.PROD, "client-premium", "NEW_USER_DASHBOARD");
+    assertEquals(1, SqlCapture.STATEMENTS.size(), SqlCapture.STATEMENTS::toString);
+
+    // Parameters in the order of the query: environment identifier, client id, environment,
+    // project and the single name
+    String plan =
+        jdbcTemplate.queryForObject(
+            "EXPLAIN " + SqlCapture.STATEMENTS.get(0),
+            String.class,
+            Environment.PROD.id(),
+            "client-premium",
+            Environment.PROD.id(),
+            Project.DEFAULT_ID,
+            "NEW_USER_DASHBOARD");
+
+    assertNotNull(plan);
+    // H2 marks no covering index in its plans: each lookup must seek on the whole key of the
+    // index, and the index must hold the enabled column it reads
+    assertEquals(2, INDEX_SEEK.matcher(plan).results().count(), plan);
+    assertFalse(plan.contains("tableScan"), plan);
+    assertEquals(
+        List.of("FEATURE_ID", "ENVIRONMENT", "CLIENT_ID", "ENABLED"),
+        jdbcTemplate.queryForList(
+            "SELECT column_name FROM information_schema.index_columns "
+                + "WHERE index_name = ? ORDER BY ordinal_position",
+            String.class,
+            LOOKUP_INDEX));
+  }
+
+  private Map<String, Boolean> states(Environment environment, String clientId, String... names) {
+    return featureRepository
+        .findEnabledStates(Project.DEFAULT_ID, List.of(names), environment, clientId)
+        .stream()
+        .collect(Collectors.toMap(FeatureStateView::getName, FeatureStateView::getEnabled));
+  }
+
+  /** Records the SQL of every statement Hibernate prepares. */
+  public static class SqlCapture implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
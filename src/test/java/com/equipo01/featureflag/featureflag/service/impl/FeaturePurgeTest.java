@@ -0,0 +1,104 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.service.FeaturePurgeService;
+import com.equipo01.featureflag.featureflag.service.FeatureService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that deleting a feature hides it immediately and that the purge removes its
+ * configurations chunk by chunk, against the staging data set. Each test is rolled back.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+class FeaturePurgeTest {
+
+  private static final UUID NEW_USER_DASHBOARD_ID =
+      UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+  private static final String NEW_USER_DASHBOARD = "NEW_USER_DASHBOARD";
+
+  @Autowired private FeatureService featureService;
+  @Autowired private FeaturePurgeService featurePurgeService;
+  @Autowired private FeatureRepository featureRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void deleteFeature_hidesFeatureButKeepsConfigurationsUntilPurged() {
+    featureService.deleteFeature(NEW_USER_DASHBOARD_ID);
+    featureRepository.flush();
+
+    assertTrue(featureRepository.findDtoById(NEW_USER_DASHBOARD_ID, Project.DEFAULT_ID).isEmpty());
+    assertTrue(
+        featureRepository
+            .findEnabledStates(
+                Project.DEFAULT_ID, List.of(NEW_USER_DASHBOARD), Environment.PROD, "client-premium")
+            .isEmpty());
+    // The name stays reserved until the row is purged
+    assertTrue(featureRepository.existsByName(Project.DEFAULT_ID, NEW_USER_DASHBOARD));
+    assertEquals(4, configCount());
+    assertTrue(featurePurgeService.findFeaturesPendingPurge(100).contains(NEW_USER_DASHBOARD_ID));
+  }
+
+  @Test
+  void purgeFeature_deletesConfigurationsInChunksThenFeature() {
+    featureService.deleteFeature(NEW_USER_DASHBOARD_ID);
+    featureRepository.flush();
+    FeaturePurgeJob job = new FeaturePurgeJob(featurePurgeService, 3, Duration.ofMinutes(1));
+
+    assertEquals(3, featurePurgeService.purgeNextChunk(NEW_USER_DASHBOARD_ID, 3));
+    assertEquals(1, configCount());
+    assertEquals(1, featureRowCount());
+
+    assertEquals(1, job.purgeFeature(NEW_USER_DASHBOARD_ID));
+    assertEquals(0, configCount());
+    assertEquals(0, featureRowCount());
+    assertFalse(featureRepository.existsByName(Project.DEFAULT_ID, NEW_USER_DASHBOARD));
+    assertFalse(featurePurgeService.findFeaturesPendingPurge(100).contains(NEW_USER_DASHBOARD_ID));
+  }
+
+  @Test
+  void purgeFeature_stopsAtDeadline() {
+    featureService.deleteFeature(NEW_USER_DASHBOARD_ID);
+    featureRepository.flush();
+    FeaturePurgeJob job = new FeaturePurgeJob(featurePurgeService, 1, Duration.ofMinutes(1));
+
+    // The first chunk always runs, then the past deadline stops the purge
+    assertEquals(1, job.purgeFeature(NEW_USER_DASHBOARD_ID, Instant.EPOCH));
+    assertEquals(3, configCount());
+    assertEquals(1, featureRowCount());
+  }
+
+  @Test
+  void purgeNextChunk_neverRemovesLiveFeature() {
+    featurePurgeService.purgeNextChunk(NEW_USER_DASHBOARD_ID, 10);
+
+    assertEquals(1, featureRowCount());
+    assertTrue(featureRepository.findById(NEW_USER_DASHBOARD_ID).isPresent());
+  }
+
+  private int configCount() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM feature_configs WHERE feature_id = ?",
+        Integer.class,
+        NEW_USER_DASHBOARD_ID);
+  }
+
+  private int featureRowCount() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM features WHERE feature_id = ?", Integer.class, NEW_USER_DASHBOARD_ID);
+  }
+}
@@ -5,21 +5,36 @@ import static org.mockito.Mockito.*;
 
 import com.equipo01.featureflag.featureflag.dto.request.FeatureRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.FeatureToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureDetailResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureSnapshotResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.GetFeatureDetailResponseDto;
 import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
 import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
 import com.equipo01.featureflag.featureflag.mapper.FeatureMapper;
 import com.equipo01.featureflag.featureflag.model.Feature;
 import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.Project;
 import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.enums.ScheduledChangeStatus;
+import com.equipo01.featureflag.featureflag.repository.FeatureEvaluationRepository;
 import com.equipo01.featureflag.featureflag.repository.FeatureRepository;
+import com.equipo01.featureflag.featureflag.repository.ProjectRepository;
+import com.equipo01.featureflag.featureflag.repository.ScheduledChangeRepository;
+import com.equipo01.featureflag.featureflag.repository.projections.FeatureStateView;
 import com.equipo01.featureflag.featureflag.repository.specifications.FeatureSpecification;
+import com.equipo01.featureflag.featureflag.service.FlagChangeEventService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
 import com.equipo01.featureflag.featureflag.service.UserService;
 import com.equipo01.featureflag.featureflag.util.BaseLinkBuilder;
 import com.equipo01.featureflag.featureflag.util.LinksDtoBuilder;
 import com.equipo01.featureflag.featureflag.util.PageRequestFactory;
 import com.equipo01.featureflag.featureflag.util.QueryParamBuilder;
+import com.equipo01.featureflag.featureflag.util.targeting.EvaluationPlan;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.domain.Specification;
@@ -42,6 +58,17 @@ class FeatureServiceImplTest {
   @Mock private PageRequestFactory pageRequestFactory;
   @Mock private QueryParamBuilder queryParamBuilder;
   @Mock private FeatureSpecification featureSpecification;
+  @Mock private FlagChangeEventService flagChangeEventService;
+  @Mock private FlagChangeHistoryService flagChangeHistoryService;
+  @Mock private EvaluationPlanCache evaluationPlanCache;
+  @Mock private ExposurePipeline exposurePipeline;
+  @Mock private EvaluationCounters evaluationCounters;
+  @Mock private FeatureEvaluationRepository featureEvaluationRepository;
+  @Mock private KillSwitchRegistry killSwitchRegistry;
+  @Mock private ProjectRepository projectRepository;
+  @Mock private ScheduledChangeRepository scheduledChangeRepository;
+  // Outside of a request, the context resolves the default project
+  @Spy private ProjectContext projectContext = new ProjectContext();
   @InjectMocks private FeatureServiceImpl featureServiceImpl;
 
   private Feature feature;
@@ -71,6 +98,7 @@ class FeatureServiceImplTest {
     feature =
         Feature.builder()
             .id(UUID.randomUUID())
+            .projectId(Project.DEFAULT_ID)
             .name("featureX")
             .description("Test Feature")
             .enabledByDefault(false)
@@ -83,35 +111,63 @@ class FeatureServiceImplTest {
 
   @Test
   void testEnabledFeatureForClientOrEnvironment_success() {
-    when(featureRepository.findById(feature.getId())).thenReturn(Optional.of(feature));
+    when(featureRepository.findForUpdateById(feature.getId())).thenReturn(Optional.of(feature));
 
     FeatureToggleRequestDto requestDto =
         FeatureToggleRequestDto.builder().clientId("clienteA").environment(null).build();
 
-    featureServiceImpl.updateFeatureForClientOrEnvironment(feature.getId(), requestDto, true);
+    featureServiceImpl.updateFeatureForClientOrEnvironment(feature.getId(), requestDto, true, null);
 
     assertTrue(configDev.getEnabled());
     assertFalse(configProd.getEnabled());
 
     verify(featureRepository, times(1)).save(feature);
+    verify(flagChangeEventService).recordConfigChange(FlagChangeType.CONFIG_TOGGLED, configDev);
+    verify(flagChangeEventService, never())
+        .recordConfigChange(FlagChangeType.CONFIG_TOGGLED, configProd);
+    verify(flagChangeHistoryService)
+        .recordConfigChange(FlagChangeType.CONFIG_TOGGLED, configDev, false);
+    verify(flagChangeHistoryService, never())
+        .recordConfigChange(eq(FlagChangeType.CONFIG_TOGGLED), eq(configProd), any());
+  }
+
+  @Test
+  void testUpdateFeatureForClientOrEnvironment_versionMismatch() {
+    feature.setVersion(7L);
+    when(featureRepository.findForUpdateById(feature.getId())).thenReturn(Optional.of(feature));
+
+    FeatureToggleRequestDto requestDto =
+        FeatureToggleRequestDto.builder().clientId("clienteA").environment(null).build();
+
+    FeatureFlagException ex =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                featureServiceImpl.updateFeatureForClientOrEnvironment(
+                    feature.getId(), requestDto, true, 6L));
+
+    assertEquals(MessageError.VERSION_MISMATCH.getStatus(), ex.getStatus());
+    assertFalse(configDev.getEnabled());
+    verify(featureRepository, never()).save(any());
+    verifyNoInteractions(flagChangeEventService);
   }
 
   @Test
   void testEnableFeatureForClientOrEnvironment_featureNotFound() {
     UUID randomId = UUID.randomUUID();
-    when(featureRepository.findById(randomId)).thenReturn(Optional.empty());
+    when(featureRepository.findForUpdateById(randomId)).thenReturn(Optional.empty());
 
     FeatureToggleRequestDto dto = FeatureToggleRequestDto.builder().clientId("clientA").build();
 
     assertThrows(
         FeatureFlagException.class,
-        () -> featureServiceImpl.updateFeatureForClientOrEnvironment(randomId, dto, true));
+        () -> featureServiceImpl.updateFeatureForClientOrEnvironment(randomId, dto, true, null));
   }
 
   @Test
   void testDisableFeatureForClientOrEnvironment_success() {
     // Mock repository to return the feature
-    when(featureRepository.findById(feature.getId())).thenReturn(Optional.of(feature));
+    when(featureRepository.findForUpdateById(feature.getId())).thenReturn(Optional.of(feature));
 
     // Crear DTO para deshabilitar configDev
     FeatureToggleRequestDto requestDto =
@@ -122,7 +178,8 @@ class FeatureServiceImplTest {
     configProd.setEnabled(true);
 
     // Llamada al método de servicio
-    featureServiceImpl.updateFeatureForClientOrEnvironment(feature.getId(), requestDto, false);
+    featureServiceImpl.updateFeatureForClientOrEnvironment(
+        feature.getId(), requestDto, false, null);
 
     // Verificaciones
     assertFalse(configDev.getEnabled()); // La configuración objetivo debe estar deshabilitada
@@ -135,19 +192,19 @@ class FeatureServiceImplTest {
   @Test
   void testDisableFeatureForClientOrEnvironment_featureNotFound() {
     UUID randomId = UUID.randomUUID();
-    when(featureRepository.findById(randomId)).thenReturn(Optional.empty());
+    when(featureRepository.findForUpdateById(randomId)).thenReturn(Optional.empty());
 
     FeatureToggleRequestDto dto = FeatureToggleRequestDto.builder().clientId("clientA").build();
 
     assertThrows(
         FeatureFlagException.class,
-        () -> featureServiceImpl.updateFeatureForClientOrEnvironment(randomId, dto, false));
+        () -> featureServiceImpl.updateFeatureForClientOrEnvironment(randomId, dto, false, null));
   }
 
   @Test
   void testDisableFeatureForClientOrEnvironment_invalidRequest() {
     // Mock repository
-    when(featureRepository.findById(feature.getId())).thenReturn(Optional.of(feature));
+    when(featureRepository.findForUpdateById(feature.getId())).thenReturn(Optional.of(feature));
 
     // DTO inválido (ambos clientId y environment null)
     FeatureToggleRequestDto invalidDto =
@@ -157,12 +214,12 @@ class FeatureServiceImplTest {
         FeatureFlagException.class,
         () ->
             featureServiceImpl.updateFeatureForClientOrEnvironment(
-                feature.getId(), invalidDto, false));
+                feature.getId(), invalidDto, false, null));
   }
 
   @Test
   void validateFeatureToggleRequest_throwsException_whenClientIdAndEnvironmentAreNull() {
-    when(featureRepository.findById(feature.getId())).thenReturn(Optional.of(feature));
+    when(featureRepository.findForUpdateById(feature.getId())).thenReturn(Optional.of(feature));
     // Crear DTO con clientId y environment nulos
     FeatureToggleRequestDto invalidDto =
         FeatureToggleRequestDto.builder().clientId(null).environment(null).build();
@@ -172,7 +229,7 @@ class FeatureServiceImplTest {
             FeatureFlagException.class,
             () -> {
               featureServiceImpl.updateFeatureForClientOrEnvironment(
-                  feature.getId(), invalidDto, true);
+                  feature.getId(), invalidDto, true, null);
             });
 
     assertEquals(MessageError.FEATURE_TOGGLE_REQUEST_INVALID.getMessage(), ex.getMessage());
@@ -182,7 +239,7 @@ class FeatureServiceImplTest {
 
   @Test
   void validateFeatureToggleRequest_throwsException_whenClientIdAndEnvironmentAreEmpty() {
-    when(featureRepository.findById(feature.getId())).thenReturn(Optional.of(feature));
+    when(featureRepository.findForUpdateById(feature.getId())).thenReturn(Optional.of(feature));
     FeatureToggleRequestDto invalidDto =
         FeatureToggleRequestDto.builder().clientId(" ").environment(null).build();
 
@@ -191,7 +248,7 @@ class FeatureServiceImplTest {
             FeatureFlagException.class,
             () -> {
               featureServiceImpl.updateFeatureForClientOrEnvironment(
-                  feature.getId(), invalidDto, false);
+                  feature.getId(), invalidDto, false, null);
             });
 
     assertEquals(MessageError.FEATURE_TOGGLE_REQUEST_INVALID.getMessage(), ex.getMessage());
@@ -209,17 +266,65 @@ class FeatureServiceImplTest {
     when(featureRepository.save(feature)).thenReturn(expectedFeature);
     featureServiceImpl.createFeature(featureRequestDto);
     verify(featureMapper).toEntity(featureRequestDto);
+    verify(feature).setProjectId(Project.DEFAULT_ID);
     verify(featureRepository).save(feature);
+    verify(flagChangeEventService)
+        .recordFeatureChange(FlagChangeType.FEATURE_CREATED, expectedFeature);
+    verify(flagChangeHistoryService)
+        .recordFeatureChange(FlagChangeType.FEATURE_CREATED, expectedFeature);
+  }
+
+  @Test
+  void testDeleteFeature() {
+    when(featureRepository.findById(feature.getId())).thenReturn(Optional.of(feature));
+
+    featureServiceImpl.deleteFeature(feature.getId());
+
+    assertNotNull(feature.getDeletedAt());
+    verify(featureRepository, never()).delete(any(Feature.class));
+    verify(scheduledChangeRepository)
+        .updateStatusByFeatureId(
+            feature.getId(), ScheduledChangeStatus.PENDING, ScheduledChangeStatus.CANCELLED);
+    verify(flagChangeEventService).recordFeatureChange(FlagChangeType.FEATURE_DELETED, feature);
+    verify(flagChangeHistoryService).recordFeatureChange(FlagChangeType.FEATURE_DELETED, feature);
+  }
+
+  @Test
+  void testDeleteFeature_notFound() {
+    UUID randomId = UUID.randomUUID();
+    when(featureRepository.findById(randomId)).thenReturn(Optional.empty());
+
+    FeatureFlagException ex =
+        assertThrows(FeatureFlagException.class, () -> featureServiceImpl.deleteFeature(randomId));
+
+    assertEquals(MessageError.FEATURE_NOT_FOUND.getStatus(), ex.getStatus());
+    verifyNoInteractions(flagChangeEventService);
   }
 
   @Test
   void testGetFeatureById() {
     String featureId = "44dc4cdb-aed4-4c55-8c9b-f1751faf47f9";
     UUID featureUUID = UUID.fromString(featureId);
-    Feature expectedFeature = mock(Feature.class);
-    when(featureRepository.findById(featureUUID)).thenReturn(Optional.of(expectedFeature));
-    featureServiceImpl.getFeatureById(featureId);
-    verify(featureRepository).findById(featureUUID);
+    FeatureResponseDto expectedDto =
+        new FeatureResponseDto(featureUUID, "featureX", "Test Feature", false, 0L);
+    when(featureRepository.findDtoById(featureUUID, Project.DEFAULT_ID))
+        .thenReturn(Optional.of(expectedDto));
+    FeatureResponseDto result = featureServiceImpl.getFeatureById(featureId);
+    verify(featureRepository).findDtoById(featureUUID, Project.DEFAULT_ID);
+    verify(featureRepository, never()).findById(any());
+    assertSame(expectedDto, result);
+  }
+
+  @Test
+  void testGetFeatureById_throwsFeatureFlagException() {
+    String featureId = "44dc4cdb-aed4-4c55-8c9b-f1751faf47f9";
+    UUID featureUUID = UUID.fromString(featureId);
+    when(featureRepository.findDtoById(featureUUID, Project.DEFAULT_ID))
+        .thenReturn(Optional.empty());
+    FeatureFlagException result =
+        assertThrows(
+            FeatureFlagException.class, () -> featureServiceImpl.getFeatureById(featureId));
+    assertEquals(MessageError.FEATURE_NOT_FOUND.getMessage(), result.getMessage());
   }
 
   @Test
@@ -230,12 +335,73 @@ class FeatureServiceImplTest {
     String name = "Test Feature";
 
     Specification<Feature> spec = mock(Specification.class);
-    when(featureSpecification.getFeatures(name, enabledByDefault)).thenReturn(spec);
-    Page<Feature> featurePage = mock(Page.class);
-    when(featureRepository.findAll(spec, pageRequestFactory.createPageRequest(page, size)))
+    when(featureSpecification.getFeatures(Project.DEFAULT_ID, name, enabledByDefault))
+        .thenReturn(spec);
+    Page<FeatureResponseDto> featurePage = mock(Page.class);
+    when(featureRepository.findDtoPage(spec, pageRequestFactory.createPageRequest(page, size)))
         .thenReturn(featurePage);
     featureServiceImpl.getFeatures(name, enabledByDefault, page, size);
-    verify(featureSpecification).getFeatures(name, enabledByDefault);
+    verify(featureSpecification).getFeatures(Project.DEFAULT_ID, name, enabledByDefault);
+    verify(featureMapper, never()).toDtoList(any());
+  }
+
+  @Test
+  void testGetFeatureDetailsById() {
+    FeatureDetailResponseDto expectedDto = FeatureDetailResponseDto.builder().build();
+    when(featureRepository.findWithConfigsByIdAndProjectId(feature.getId(), Project.DEFAULT_ID))
+        .thenReturn(Optional.of(feature));
+    when(featureMapper.toDetailDto(feature)).thenReturn(expectedDto);
+    FeatureDetailResponseDto result =
+        featureServiceImpl.getFeatureDetailsById(feature.getId().toString());
+    verify(featureRepository).findWithConfigsByIdAndProjectId(feature.getId(), Project.DEFAULT_ID);
+    assertSame(expectedDto, result);
+  }
+
+  @Test
+  void testGetFeatureDetailsById_throwsFeatureFlagException() {
+    UUID randomId = UUID.randomUUID();
+    when(featureRepository.findWithConfigsByIdAndProjectId(randomId, Project.DEFAULT_ID))
+        .thenReturn(Optional.empty());
+    FeatureFlagException result =
+        assertThrows(
+            FeatureFlagException.class,
+            () -> featureServiceImpl.getFeatureDetailsById(randomId.toString()));
+    assertEquals(MessageError.FEATURE_NOT_FOUND.getMessage(), result.getMessage());
+  }
+
+  @Test
+  void testGetFeatureDetails() {
+    Specification<Feature> spec = mock(Specification.class);
+    when(featureSpecification.getFeatures(Project.DEFAULT_ID, null, null)).thenReturn(spec);
+    Page<Feature> featurePage = mock(Page.class);
+    when(featurePage.getContent()).thenReturn(List.of(feature));
+    when(featureRepository.findAll(spec, pageRequestFactory.createPageRequest(0, 10)))
+        .thenReturn(featurePage);
+    List<FeatureDetailResponseDto> details = List.of(FeatureDetailResponseDto.builder().build());
+    when(featureMapper.toDetailDtoList(List.of(feature))).thenReturn(details);
+
+    GetFeatureDetailResponseDto result = featureServiceImpl.getFeatureDetails(null, null, 0, 10);
+
+    assertSame(details, result.getFeatures());
+  }
+
+  @Test
+  void testGetFeatureSnapshot() {
+    FeatureStateView darkMode = mock(FeatureStateView.class);
+    when(darkMode.getName()).thenReturn("DARK_MODE");
+    when(darkMode.getEnabled()).thenReturn(true);
+    FeatureStateView betaSearch = mock(FeatureStateView.class);
+    when(betaSearch.getName()).thenReturn("BETA_SEARCH");
+    when(betaSearch.getEnabled()).thenReturn(false);
+    when(featureRepository.findStatesByEnvironment(Project.DEFAULT_ID, Environment.PROD))
+        .thenReturn(List.of(betaSearch, darkMode));
+
+    FeatureSnapshotResponseDto result = featureServiceImpl.getFeatureSnapshot(Environment.PROD);
+
+    assertEquals(Environment.PROD, result.getEnvironment());
+    assertEquals(List.of("BETA_SEARCH", "DARK_MODE"), List.copyOf(result.getFlags().keySet()));
+    assertFalse(result.getFlags().get("BETA_SEARCH"));
+    assertTrue(result.getFlags().get("DARK_MODE"));
   }
 
   @Test
@@ -250,20 +416,20 @@ class FeatureServiceImplTest {
   @Test
   void testExistsByName_throwsFeatureFlagException() {
     String featureName = "Test Feature";
-    when(featureRepository.existsByName(featureName)).thenReturn(Boolean.TRUE);
+    when(featureRepository.existsByName(Project.DEFAULT_ID, featureName)).thenReturn(Boolean.TRUE);
     FeatureFlagException result =
         assertThrows(
             FeatureFlagException.class, () -> featureServiceImpl.existsByName(featureName));
-    verify(featureRepository).existsByName(featureName);
+    verify(featureRepository).existsByName(Project.DEFAULT_ID, featureName);
     assertEquals(MessageError.FEATURE_ALREADY_EXISTS.getMessage(), result.getMessage());
   }
 
   @Test
   void testExistsByName() {
     String featureName = "Test Feature";
-    when(featureRepository.existsByName(featureName)).thenReturn(Boolean.FALSE);
+    when(featureRepository.existsByName(Project.DEFAULT_ID, featureName)).thenReturn(Boolean.FALSE);
     boolean exists = featureServiceImpl.existsByName(featureName);
-    verify(featureRepository).existsByName(featureName);
+    verify(featureRepository).existsByName(Project.DEFAULT_ID, featureName);
     assertFalse(exists);
   }
 
@@ -293,19 +459,31 @@ class FeatureServiceImplTest {
     String featureId = "44dc4cdb-aed4-4c55-8c9b-f1751faf47f9";
     UUID featureUUID = UUID.fromString(featureId);
     Feature expectedFeature = mock(Feature.class);
+    when(expectedFeature.getProjectId()).thenReturn(Project.DEFAULT_ID);
     when(featureRepository.findById(featureUUID)).thenReturn(Optional.of(expectedFeature));
     Feature result = featureServiceImpl.findById(featureUUID);
     verify(featureRepository).findById(featureUUID);
     assertNotNull(result);
   }
 
+  @Test
+  void testFindById_otherProject_throwsFeatureFlagException() {
+    feature.setProjectId((short) 2);
+    when(featureRepository.findById(feature.getId())).thenReturn(Optional.of(feature));
+    FeatureFlagException result =
+        assertThrows(
+            FeatureFlagException.class, () -> featureServiceImpl.findById(feature.getId()));
+    assertEquals(MessageError.FEATURE_NOT_FOUND.getMessage(), result.getMessage());
+  }
+
   @Test
   void testFindByName_throwsFeatureFlagException() {
     String featureName = "Test Feature";
-    when(featureRepository.findByName(featureName)).thenReturn(Optional.empty());
+    when(featureRepository.findByProjectIdAndName(Project.DEFAULT_ID, featureName))
+        .thenReturn(Optional.empty());
     FeatureFlagException result =
         assertThrows(FeatureFlagException.class, () -> featureServiceImpl.findByName(featureName));
-    verify(featureRepository).findByName(featureName);
+    verify(featureRepository).findByProjectIdAndName(Project.DEFAULT_ID, featureName);
     assertEquals(MessageError.FEATURE_NOT_FOUND.getMessage(), result.getMessage());
   }
 
@@ -313,49 +491,62 @@ class FeatureServiceImplTest {
   void testFindByName() {
     String featureName = "Test Feature";
     Feature expectedFeature = mock(Feature.class);
-    when(featureRepository.findByName(featureName)).thenReturn(Optional.of(expectedFeature));
+    when(featureRepository.findByProjectIdAndName(Project.DEFAULT_ID, featureName))
+        .thenReturn(Optional.of(expectedFeature));
     Feature result = featureServiceImpl.findByName(featureName);
-    verify(featureRepository).findByName(featureName);
+    verify(featureRepository).findByProjectIdAndName(Project.DEFAULT_ID, featureName);
     assertNotNull(result);
   }
 
   @Test
-  void testCheckFeatureIsActive_returnFalseByEnvironment() {
+  void testCheckFeatureIsActive_throwsFeatureNotFound() {
     String featureName = "Test Feature";
     Environment environment = Environment.DEV;
     UUID clientID = UUID.randomUUID();
 
-    Feature feature = mock(Feature.class);
-    when(featureRepository.findByName(featureName)).thenReturn(Optional.of(feature));
+    when(evaluationPlanCache.get(Project.DEFAULT_ID)).thenReturn(EvaluationPlan.build(0, Map.of()));
+    when(featureRepository.findEnabledStates(
+            Project.DEFAULT_ID, List.of(featureName), environment, clientID.toString()))
+        .thenReturn(List.of());
+
+    FeatureFlagException result =
+        assertThrows(
+            FeatureFlagException.class,
+            () -> featureServiceImpl.checkFeatureIsActive(featureName, clientID, environment));
+    assertEquals(MessageError.FEATURE_NOT_FOUND.getMessage(), result.getMessage());
+    verify(userService, never()).existsByClientID(clientID);
+  }
 
-    FeatureConfig featureConfig =
-        FeatureConfig.builder().environment(Environment.PROD).enabled(true).build();
-    var featureConfigList = List.of(featureConfig);
-    when(feature.getConfigs()).thenReturn(featureConfigList);
+  @Test
+  void testCheckFeatureIsActive_returnFalse() {
+    String featureName = "Test Feature";
+    Environment environment = Environment.DEV;
+    UUID clientID = UUID.randomUUID();
+
+    List<FeatureStateView> states = List.of(state(featureName, false));
+    when(evaluationPlanCache.get(Project.DEFAULT_ID)).thenReturn(EvaluationPlan.build(0, Map.of()));
+    when(featureRepository.findEnabledStates(
+            Project.DEFAULT_ID, List.of(featureName), environment, clientID.toString()))
+        .thenReturn(states);
 
     Boolean isActive = featureServiceImpl.checkFeatureIsActive(featureName, clientID, environment);
-    verify(featureRepository).findByName(featureName);
-    verify(feature).getConfigs();
+    verify(userService).existsByClientID(clientID);
+    verify(featureRepository, never()).findByProjectIdAndName(Project.DEFAULT_ID, featureName);
     assertFalse(isActive);
   }
 
   @Test
-  void testCheckFeatureIsActive_returnFalseByEnabled() {
+  void testCheckFeatureIsActive_killed_returnFalseWithoutReading() {
     String featureName = "Test Feature";
-    Environment environment = Environment.DEV;
+    Environment environment = Environment.PROD;
     UUID clientID = UUID.randomUUID();
 
-    Feature feature = mock(Feature.class);
-    when(featureRepository.findByName(featureName)).thenReturn(Optional.of(feature));
-
-    FeatureConfig featureConfig =
-        FeatureConfig.builder().environment(environment).enabled(false).build();
-    var featureConfigList = List.of(featureConfig);
-    when(feature.getConfigs()).thenReturn(featureConfigList);
+    when(killSwitchRegistry.isKilled(Project.DEFAULT_ID, featureName, environment))
+        .thenReturn(true);
 
     Boolean isActive = featureServiceImpl.checkFeatureIsActive(featureName, clientID, environment);
-    verify(featureRepository).findByName(featureName);
-    verify(feature).getConfigs();
+    verifyNoInteractions(featureRepository, userService);
+    verify(evaluationCounters).record(Project.DEFAULT_ID, featureName, environment, false);
     assertFalse(isActive);
   }
 
@@ -365,17 +556,44 @@ class FeatureServiceImplTest {
     Environment environment = Environment.DEV;
     UUID clientID = UUID.randomUUID();
 
-    Feature feature = mock(Feature.class);
-    when(featureRepository.findByName(featureName)).thenReturn(Optional.of(feature));
-
-    FeatureConfig featureConfig =
-        FeatureConfig.builder().environment(environment).enabled(true).build();
-    var featureConfigList = List.of(featureConfig);
-    when(feature.getConfigs()).thenReturn(featureConfigList);
+    List<FeatureStateView> states = List.of(state(featureName, true));
+    when(evaluationPlanCache.get(Project.DEFAULT_ID)).thenReturn(EvaluationPlan.build(0, Map.of()));
+    when(featureRepository.findEnabledStates(
+            Project.DEFAULT_ID, List.of(featureName), environment, clientID.toString()))
+        .thenReturn(states);
 
     Boolean isActive = featureServiceImpl.checkFeatureIsActive(featureName, clientID, environment);
-    verify(featureRepository).findByName(featureName);
-    verify(feature).getConfigs();
+    verify(userService).existsByClientID(clientID);
     assertTrue(isActive);
   }
+
+  @Test
+  void testCheckFeatureIsActive_prerequisiteDisabled_returnFalse() {
+    String featureName = "Test Feature";
+    Environment environment = Environment.DEV;
+    UUID clientID = UUID.randomUUID();
+
+    List<FeatureStateView> states = List.of(state(featureName, true), state("Base Feature", false));
+    when(evaluationPlanCache.get(Project.DEFAULT_ID))
+        .thenReturn(EvaluationPlan.build(1, Map.of(featureName, List.of("Base Feature"))));
+    when(featureRepository.findEnabledStates(
+            Project.DEFAULT_ID,
+            List.of("Base Feature", featureName),
+            environment,
+            clientID.toString()))
+        .thenReturn(states);
+
+    Boolean isActive = featureServiceImpl.checkFeatureIsActive(featureName, clientID, environment);
+    // The flag and its prerequisite are resolved together, in a single statement
+    verify(featureRepository, times(1))
+        .findEnabledStates(anyShort(), anyCollection(), any(), anyString());
+    assertFalse(isActive);
+  }
+
+  private static FeatureStateView state(String name, boolean enabled) {
+    FeatureStateView state = mock(FeatureStateView.class);
+    when(state.getName()).thenReturn(name);
+    when(state.getEnabled()).thenReturn(enabled);
+    return state;
+  }
 }
@@ -0,0 +1,147 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleCriteriaDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.FeatureConfigRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigStateDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagChangeHistoryResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FlagHistoryStateResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeHistoryService;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that configuration changes are recorded in the change history and that the state of an
+ * environment can be rebuilt at an earlier instant, against the staging data set. The initial
+ * checkpoint is taken when the context starts, so every test has a checkpoint to replay from.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+class FlagChangeHistoryTest {
+
+  // NEW_USER_DASHBOARD and its DEV environment default, enabled
+  private static final UUID FEATURE_ID = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+  private static final UUID CONFIG_ID = UUID.fromString("770e8400-e29b-41d4-a716-446655440001");
+
+  @Autowired private FeatureConfigService featureConfigService;
+  @Autowired private FlagChangeHistoryService flagChangeHistoryService;
+
+  @Test
+  @WithMockUser(username = "alice")
+  void enableOrDisableFeature_recordsActorAndBeforeAfterState() {
+    featureConfigService.enableOrDisableFeature(CONFIG_ID, false, null);
+
+    FlagChangeHistoryResponseDto latest =
+        flagChangeHistoryService.getFeatureHistory(FEATURE_ID, 1).get(0);
+    assertEquals(FlagChangeType.CONFIG_TOGGLED, latest.getType());
+    assertEquals("alice", latest.getActor());
+    assertEquals(CONFIG_ID, latest.getFeatureConfigId());
+    assertEquals(Environment.DEV, latest.getEnvironment());
+    assertTrue(latest.getEnabledBefore());
+    assertFalse(latest.getEnabledAfter());
+  }
+
+  @Test
+  void bulkToggle_recordsPreviousStateOfEveryMatchedConfiguration() {
+    BulkToggleRequestDto request =
+        BulkToggleRequestDto.builder()
+            .enabled(false)
+            .criteria(
+                List.of(
+                    BulkToggleCriteriaDto.builder()
+                        .featureIds(List.of(FEATURE_ID))
+                        .environments(List.of(Environment.DEV))
+                        .build()))
+            .build();
+
+    featureConfigService.bulkToggle(request);
+
+    List<FlagChangeHistoryResponseDto> history =
+        flagChangeHistoryService.getFeatureHistory(FEATURE_ID, 100);
+    FlagChangeHistoryResponseDto entry =
+        history.stream()
+            .filter(change -> CONFIG_ID.equals(change.getFeatureConfigId()))
+            .findFirst()
+            .orElseThrow();
+    assertEquals(FlagChangeType.CONFIG_TOGGLED, entry.getType());
+    assertEquals(FlagChangeHistoryServiceImpl.SYSTEM_ACTOR, entry.getActor());
+    assertTrue(entry.getEnabledBefore());
+    assertFalse(entry.getEnabledAfter());
+  }
+
+  @Test
+  void createFeatureConfig_overEnvironmentDefault_recordsPreviousState() {
+    featureConfigService.createFeatureConfig(
+        FeatureConfigRequestDto.builder()
+            .featureId(FEATURE_ID.toString())
+            .environment(Environment.DEV)
+            .enabled(false)
+            .build());
+
+    FlagChangeHistoryResponseDto latest =
+        flagChangeHistoryService.getFeatureHistory(FEATURE_ID, 1).get(0);
+    assertEquals(FlagChangeType.CONFIG_UPSERTED, latest.getType());
+    assertEquals(CONFIG_ID, latest.getFeatureConfigId());
+    assertTrue(latest.getEnabledBefore());
+    assertFalse(latest.getEnabledAfter());
+  }
+
+  @Test
+  void getStateAt_replaysHistoryUpToTheRequestedInstant() throws InterruptedException {
+    Instant beforeToggle = Instant.now();
+    Thread.sleep(5);
+    featureConfigService.enableOrDisableFeature(CONFIG_ID, false, null);
+    Instant afterToggle = Instant.now();
+
+    assertTrue(configState(flagChangeHistoryService.getStateAt(Environment.DEV, beforeToggle)));
+    FlagHistoryStateResponseDto current =
+        flagChangeHistoryService.getStateAt(Environment.DEV, afterToggle);
+    assertFalse(configState(current));
+    assertTrue(current.getReplayedChanges() >= 1);
+  }
+
+  @Test
+  void createCheckpoint_foldsSettledHistoryIntoANewCheckpoint() {
+    featureConfigService.enableOrDisableFeature(CONFIG_ID, false, null);
+
+    assertTrue(flagChangeHistoryService.createCheckpoint(Instant.now().plusSeconds(1)));
+
+    FlagHistoryStateResponseDto state =
+        flagChangeHistoryService.getStateAt(Environment.DEV, Instant.now());
+    assertEquals(0, state.getReplayedChanges());
+    assertFalse(configState(state));
+    assertFalse(flagChangeHistoryService.createCheckpoint(Instant.now().plusSeconds(1)));
+  }
+
+  @Test
+  void getStateAt_beforeFirstCheckpoint_throwsNotFound() {
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () -> flagChangeHistoryService.getStateAt(Environment.DEV, Instant.EPOCH));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  private static boolean configState(FlagHistoryStateResponseDto state) {
+    return state.getConfigurations().stream()
+        .filter(configuration -> CONFIG_ID.equals(configuration.getFeatureConfigId()))
+        .map(FeatureConfigStateDto::getEnabled)
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,137 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleCriteriaDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
+import com.equipo01.featureflag.featureflag.model.Feature;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.repository.FlagChangeEventRepository;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.FlagChangeEventService;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that mutations record flag change outbox entries in their own transaction and that the
+ * relay publishes them in sequence order. Each test is rolled back; published events are filtered
+ * by configuration, since entries committed by other tests may be relayed in the same batch.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+@RecordApplicationEvents
+class FlagChangeOutboxTest {
+
+  private static final UUID ADVANCED_ANALYTICS_ID =
+      UUID.fromString("660e8400-e29b-41d4-a716-446655440002");
+  private static final Set<UUID> ADVANCED_ANALYTICS_CONFIG_IDS =
+      Set.of(
+          UUID.fromString("770e8400-e29b-41d4-a716-446655440005"),
+          UUID.fromString("770e8400-e29b-41d4-a716-446655440006"),
+          UUID.fromString("770e8400-e29b-41d4-a716-446655440007"));
+  private static final UUID DARK_MODE_DEV_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440015");
+
+  @Autowired private FeatureConfigService featureConfigService;
+  @Autowired private FlagChangeEventService flagChangeEventService;
+  @Autowired private FlagChangeEventRepository flagChangeEventRepository;
+  @Autowired private ApplicationEvents applicationEvents;
+
+  @Test
+  void toggle_recordsEntryThatIsRelayedAndDeleted() {
+    long pendingBefore = flagChangeEventRepository.count();
+
+    featureConfigService.enableOrDisableFeature(DARK_MODE_DEV_CONFIG_ID, false, null);
+    assertEquals(pendingBefore + 1, flagChangeEventRepository.count());
+
+    flagChangeEventService.relayPendingEvents(1000);
+
+    List<FlagChangedEvent> published = publishedFor(Set.of(DARK_MODE_DEV_CONFIG_ID));
+    assertEquals(1, published.size());
+    FlagChangedEvent event = published.get(0);
+    assertEquals(FlagChangeType.CONFIG_TOGGLED, event.getType());
+    assertEquals(Environment.DEV, event.getEnvironment());
+    assertNull(event.getClientId());
+    assertFalse(event.getEnabled());
+    assertNotNull(event.getOccurredAt());
+    assertEquals(0, flagChangeEventRepository.count());
+  }
+
+  @Test
+  void bulkToggle_recordsOneEntryPerChangedRowInSequenceOrder() {
+    BulkToggleRequestDto request =
+        BulkToggleRequestDto.builder()
+            .enabled(true)
+            .criteria(
+                List.of(
+                    BulkToggleCriteriaDto.builder()
+                        .featureIds(List.of(ADVANCED_ANALYTICS_ID))
+                        .build()))
+            .build();
+
+    featureConfigService.bulkToggle(request);
+    featureConfigService.enableOrDisableFeature(DARK_MODE_DEV_CONFIG_ID, false, null);
+    flagChangeEventService.relayPendingEvents(1000);
+
+    // The DEV default is already enabled, so only the STAGING and PROD defaults are recorded
+    List<FlagChangedEvent> bulk = publishedFor(ADVANCED_ANALYTICS_CONFIG_IDS);
+    assertEquals(
+        Set.of(
+            UUID.fromString("770e8400-e29b-41d4-a716-446655440006"),
+            UUID.fromString("770e8400-e29b-41d4-a716-446655440007")),
+        bulk.stream().map(FlagChangedEvent::getFeatureConfigId).collect(Collectors.toSet()));
+    assertTrue(bulk.stream().allMatch(e -> e.getType() == FlagChangeType.CONFIG_TOGGLED));
+    assertTrue(bulk.stream().allMatch(e -> ADVANCED_ANALYTICS_ID.equals(e.getFeatureId())));
+    assertTrue(bulk.stream().allMatch(FlagChangedEvent::getEnabled));
+
+    // The single toggle committed after the bulk toggle is relayed after all its entries
+    long lastBulkSequence =
+        bulk.stream().mapToLong(FlagChangedEvent::getSequence).max().getAsLong();
+    FlagChangedEvent toggle = publishedFor(Set.of(DARK_MODE_DEV_CONFIG_ID)).get(0);
+    assertTrue(toggle.getSequence() > lastBulkSequence);
+
+    List<Long> sequences =
+        applicationEvents.stream(FlagChangedEvent.class)
+            .map(FlagChangedEvent::getSequence)
+            .toList();
+    assertEquals(sequences.stream().sorted().toList(), sequences);
+  }
+
+  @Test
+  void relayPendingEvents_withEmptyOutbox_publishesNothing() {
+    flagChangeEventRepository.deleteAllInBatch();
+
+    assertEquals(0, flagChangeEventService.relayPendingEvents(1000));
+    assertEquals(0, applicationEvents.stream(FlagChangedEvent.class).count());
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void recordFeatureChange_outsideTransaction_isRejected() {
+    Feature feature = Feature.builder().id(ADVANCED_ANALYTICS_ID).enabledByDefault(true).build();
+
+    assertThrows(
+        IllegalTransactionStateException.class,
+        () -> flagChangeEventService.recordFeatureChange(FlagChangeType.FEATURE_CREATED, feature));
+  }
+
+  private List<FlagChangedEvent> publishedFor(Set<UUID> featureConfigIds) {
+    return applicationEvents.stream(FlagChangedEvent.class)
+        .filter(e -> featureConfigIds.contains(e.getFeatureConfigId()))
+        .toList();
+  }
+}
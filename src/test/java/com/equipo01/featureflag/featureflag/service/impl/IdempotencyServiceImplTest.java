@@ -0,0 +1,146 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.equipo01.featureflag.featureflag.model.IdempotencyRecord;
+import com.equipo01.featureflag.featureflag.repository.IdempotencyRecordRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceImplTest {
+
+  private static final byte[] BODY = "{}".getBytes();
+
+  @Mock private IdempotencyRecordRepository idempotencyRecordRepository;
+
+  private IdempotencyServiceImpl idempotencyService;
+
+  @BeforeEach
+  void setUp() {
+    idempotencyService =
+        new IdempotencyServiceImpl(
+            idempotencyRecordRepository, Duration.ofHours(1), Duration.ofMinutes(1), 1);
+  }
+
+  @Test
+  void testFind_completedRecordIsServedFromMemory() {
+    idempotencyService.complete("key", "hash", 201, "application/json", BODY);
+
+    Optional<IdempotencyRecord> result = idempotencyService.find("key");
+
+    assertTrue(result.isPresent());
+    assertEquals(201, result.get().getStatusCode());
+    assertArrayEquals(BODY, result.get().getResponseBody());
+    verify(idempotencyRecordRepository, never()).findById(any());
+  }
+
+  @Test
+  void testFind_evictsLeastRecentlyUsedBeyondCacheSize() {
+    idempotencyService.complete("first", "hash", 201, "application/json", BODY);
+    idempotencyService.complete("second", "hash", 201, "application/json", BODY);
+    when(idempotencyRecordRepository.findById("first")).thenReturn(Optional.empty());
+
+    assertTrue(idempotencyService.find("first").isEmpty());
+    assertTrue(idempotencyService.find("second").isPresent());
+    verify(idempotencyRecordRepository).findById("first");
+  }
+
+  @Test
+  void testFind_expiredRecordIsDeletedAndIgnored() {
+    IdempotencyRecord expired =
+        IdempotencyRecord.builder()
+            .id("key")
+            .requestHash("hash")
+            .statusCode(201)
+            .createdAt(Instant.now().minus(Duration.ofHours(2)))
+            .build();
+    when(idempotencyRecordRepository.findById("key")).thenReturn(Optional.of(expired));
+
+    assertTrue(idempotencyService.find("key").isEmpty());
+    verify(idempotencyRecordRepository).deleteById("key");
+  }
+
+  @Test
+  void testFind_reservedRecordIsNotCached() {
+    IdempotencyRecord reserved = reserved(Instant.now());
+    when(idempotencyRecordRepository.findById("key")).thenReturn(Optional.of(reserved));
+
+    assertFalse(idempotencyService.find("key").get().isCompleted());
+    idempotencyService.find("key");
+
+    verify(idempotencyRecordRepository, times(2)).findById("key");
+    verify(idempotencyRecordRepository, never()).deleteAbandoned(any(), any());
+  }
+
+  @Test
+  void testFind_reservationPastItsLeaseIsReleased() {
+    IdempotencyRecord abandoned = reserved(Instant.now().minus(Duration.ofMinutes(2)));
+    when(idempotencyRecordRepository.findById("key")).thenReturn(Optional.of(abandoned));
+    when(idempotencyRecordRepository.deleteAbandoned(eq("key"), any(Instant.class))).thenReturn(1);
+
+    assertTrue(idempotencyService.find("key").isEmpty());
+  }
+
+  @Test
+  void testFind_reservationTakenAgainMeanwhileIsReadAgain() {
+    IdempotencyRecord abandoned = reserved(Instant.now().minus(Duration.ofMinutes(2)));
+    IdempotencyRecord retried = reserved(Instant.now());
+    when(idempotencyRecordRepository.findById("key"))
+        .thenReturn(Optional.of(abandoned), Optional.of(retried));
+    when(idempotencyRecordRepository.deleteAbandoned(eq("key"), any(Instant.class))).thenReturn(0);
+
+    assertSame(retried, idempotencyService.find("key").orElseThrow());
+  }
+
+  @Test
+  void testReserve_leasesKey() {
+    assertTrue(idempotencyService.reserve("key", "hash"));
+
+    verify(idempotencyRecordRepository)
+        .reserve(
+            eq("key"),
+            eq("hash"),
+            any(Instant.class),
+            argThat(leaseExpiresAt -> leaseExpiresAt.isAfter(Instant.now().plusSeconds(30))));
+  }
+
+  @Test
+  void testReserve_returnsFalseWhenKeyIsTaken() {
+    when(idempotencyRecordRepository.reserve(
+            eq("key"), eq("hash"), any(Instant.class), any(Instant.class)))
+        .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+    assertFalse(idempotencyService.reserve("key", "hash"));
+  }
+
+  @Test
+  void testRelease_forgetsKey() {
+    idempotencyService.complete("key", "hash", 201, "application/json", BODY);
+    when(idempotencyRecordRepository.findById("key")).thenReturn(Optional.empty());
+
+    idempotencyService.release("key");
+
+    assertTrue(idempotencyService.find("key").isEmpty());
+    verify(idempotencyRecordRepository).deleteById("key");
+  }
+
+  /** Builds a reservation whose lease of one minute started at the given time. */
+  private static IdempotencyRecord reserved(Instant createdAt) {
+    return IdempotencyRecord.builder()
+        .id("key")
+        .requestHash("hash")
+        .createdAt(createdAt)
+        .leaseExpiresAt(createdAt.plus(Duration.ofMinutes(1)))
+        .build();
+  }
+}
@@ -0,0 +1,140 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.KillSwitchResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.KillSwitchService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that kill switches turn features off in evaluations as soon as they are engaged. Kill
+ * switches take effect once committed, so the tests are not transactional. They work on a feature
+ * and an environment of their own, so that instances of other test contexts sharing the database
+ * never evaluate anything they turned off.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+class KillSwitchTest {
+
+  private static final String FEATURE_NAME = "KILL_SWITCH_TEST";
+  private static final int ENVIRONMENT_ID = 41;
+
+  @Autowired private KillSwitchService killSwitchService;
+  @Autowired private KillSwitchRegistry killSwitchRegistry;
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final UUID featureId = UUID.randomUUID();
+  private Environment environment;
+
+  @BeforeEach
+  void insertFeature() {
+    jdbcTemplate.update(
+        "INSERT INTO environments (environment_id, name, created_at)"
+            + " VALUES (?, ?, CURRENT_TIMESTAMP)",
+        ENVIRONMENT_ID,
+        FEATURE_NAME);
+    environment = Environment.intern(ENVIRONMENT_ID, FEATURE_NAME);
+    jdbcTemplate.update(
+        "INSERT INTO features (feature_id, name, enabled_by_default) VALUES (?, ?, TRUE)",
+        featureId,
+        FEATURE_NAME);
+    for (int environmentId : new int[] {Environment.DEV.id(), ENVIRONMENT_ID}) {
+      jdbcTemplate.update(
+          "INSERT INTO feature_configs (feature_config_id, environment, enabled, feature_id)"
+              + " VALUES (?, ?, TRUE, ?)",
+          UUID.randomUUID(),
+          environmentId,
+          featureId);
+    }
+  }
+
+  @AfterEach
+  void deleteFeature() {
+    jdbcTemplate.update(
+        "DELETE FROM kill_switches WHERE feature_id = ? OR environment = ?",
+        featureId,
+        ENVIRONMENT_ID);
+    jdbcTemplate.update("DELETE FROM feature_configs WHERE feature_id = ?", featureId);
+    jdbcTemplate.update("DELETE FROM features WHERE feature_id = ?", featureId);
+    jdbcTemplate.update("DELETE FROM environments WHERE environment_id = ?", ENVIRONMENT_ID);
+    killSwitchRegistry.refresh();
+  }
+
+  @Test
+  void killFeature_disablesFeatureEverywhereUntilRevived() {
+    assertTrue(evaluate(Environment.DEV).getEnabled());
+
+    killSwitchService.killFeature(featureId);
+
+    EvaluationResponseDto killed = evaluate(Environment.DEV);
+    assertFalse(killed.getEnabled());
+    assertTrue(killed.getKilled());
+    assertFalse(evaluate(environment).getEnabled());
+
+    killSwitchService.reviveFeature(featureId);
+
+    EvaluationResponseDto revived = evaluate(Environment.DEV);
+    assertTrue(revived.getEnabled());
+    assertNull(revived.getKilled());
+  }
+
+  @Test
+  void engageEmergency_disablesEveryFeatureOfEnvironmentOnly() {
+    killSwitchService.engageEmergency(environment);
+
+    assertTrue(evaluate(environment).getKilled());
+    assertFalse(evaluate(environment).getEnabled());
+    assertTrue(evaluate(Environment.DEV).getEnabled());
+
+    killSwitchService.releaseEmergency(environment);
+
+    assertTrue(evaluate(environment).getEnabled());
+  }
+
+  @Test
+  void killFeature_isIdempotent() {
+    KillSwitchResponseDto first = killSwitchService.killFeature(featureId);
+    KillSwitchResponseDto second = killSwitchService.killFeature(featureId);
+
+    assertEquals(first.getId(), second.getId());
+    assertEquals(featureId, second.getFeatureId());
+    assertNull(second.getEnvironment());
+    assertEquals(
+        1,
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM kill_switches WHERE feature_id = ?", Integer.class, featureId));
+  }
+
+  @Test
+  void killFeature_unknownFeature_throwsNotFound() {
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class, () -> killSwitchService.killFeature(UUID.randomUUID()));
+
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  private EvaluationResponseDto evaluate(Environment environment) {
+    return targetingRuleService.evaluate(
+        EvaluationRequestDto.builder()
+            .featureName(FEATURE_NAME)
+            .environment(environment)
+            .context(Map.of())
+            .build());
+  }
+}
@@ -0,0 +1,128 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.FeatureToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureConfigResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
+import com.equipo01.featureflag.featureflag.model.FeatureConfig;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.repository.FeatureConfigRepository;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.FeatureService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Verifies optimistic concurrency on toggles against the staging data set. Every test restores the
+ * enabled state it changes; versions only ever grow, so tests read them instead of assuming them.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+class OptimisticConcurrencyTest {
+
+  private static final String REAL_TIME_NOTIFICATIONS_ID = "660e8400-e29b-41d4-a716-446655440006";
+  private static final UUID DARK_MODE_DEV_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440015");
+  private static final UUID REAL_TIME_NOTIFICATIONS_DEV_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440018");
+
+  @Autowired private FeatureService featureService;
+  @Autowired private FeatureConfigService featureConfigService;
+  @Autowired private FeatureConfigRepository featureConfigRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void restoreState() {
+    featureConfigService.enableOrDisableFeature(DARK_MODE_DEV_CONFIG_ID, true, null);
+    featureConfigService.enableOrDisableFeature(REAL_TIME_NOTIFICATIONS_DEV_CONFIG_ID, true, null);
+  }
+
+  @Test
+  void enableOrDisableFeature_rejectsOutdatedVersion() {
+    long version = configVersion(DARK_MODE_DEV_CONFIG_ID);
+
+    ResponseEntity<List<FeatureConfigResponseDto>> response =
+        featureConfigService.enableOrDisableFeature(DARK_MODE_DEV_CONFIG_ID, false, version);
+
+    assertEquals("\"" + (version + 1) + "\"", response.getHeaders().getETag());
+    assertEquals(version + 1, response.getBody().get(0).getVersion());
+
+    FeatureFlagException ex =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                featureConfigService.enableOrDisableFeature(
+                    DARK_MODE_DEV_CONFIG_ID, true, version));
+    assertEquals(MessageError.VERSION_MISMATCH.getStatus(), ex.getStatus());
+    assertFalse(
+        featureConfigRepository
+            .findDtoById(DARK_MODE_DEV_CONFIG_ID, Project.DEFAULT_ID)
+            .get()
+            .getEnabled());
+  }
+
+  @Test
+  void updateFeatureForClientOrEnvironment_incrementsFeatureVersion() {
+    UUID featureId = UUID.fromString(REAL_TIME_NOTIFICATIONS_ID);
+    long featureVersion = featureService.getFeatureById(REAL_TIME_NOTIFICATIONS_ID).getVersion();
+    long configVersion = configVersion(REAL_TIME_NOTIFICATIONS_DEV_CONFIG_ID);
+    FeatureToggleRequestDto dev =
+        FeatureToggleRequestDto.builder().environment(Environment.DEV).build();
+
+    featureService.updateFeatureForClientOrEnvironment(featureId, dev, false, featureVersion);
+
+    assertEquals(
+        featureVersion + 1, featureService.getFeatureById(REAL_TIME_NOTIFICATIONS_ID).getVersion());
+    assertEquals(configVersion + 1, configVersion(REAL_TIME_NOTIFICATIONS_DEV_CONFIG_ID));
+
+    FeatureFlagException ex =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                featureService.updateFeatureForClientOrEnvironment(
+                    featureId, dev, true, featureVersion));
+    assertEquals(MessageError.VERSION_MISMATCH.getStatus(), ex.getStatus());
+  }
+
+  @Test
+  void concurrentWriteCommittedAfterRead_failsOnFlush() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    TransactionTemplate concurrentTransaction = new TransactionTemplate(transactionManager);
+    concurrentTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+
+    assertThrows(
+        OptimisticLockingFailureException.class,
+        () ->
+            transaction.executeWithoutResult(
+                status -> {
+                  FeatureConfig config =
+                      featureConfigRepository.findById(DARK_MODE_DEV_CONFIG_ID).orElseThrow();
+                  // Another operator toggles the same configuration and commits first
+                  concurrentTransaction.executeWithoutResult(
+                      inner ->
+                          featureConfigService.enableOrDisableFeature(
+                              DARK_MODE_DEV_CONFIG_ID, false, null));
+                  config.setEnabled(false);
+                  featureConfigRepository.flush();
+                }));
+  }
+
+  private long configVersion(UUID configId) {
+    return featureConfigRepository
+        .findDtoById(configId, Project.DEFAULT_ID)
+        .orElseThrow()
+        .getVersion();
+  }
+}
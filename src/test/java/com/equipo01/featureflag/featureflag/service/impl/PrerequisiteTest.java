@@ -0,0 +1,153 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.BatchEvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.FeaturePrerequisitesRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.service.FeaturePrerequisiteService;
+import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that prerequisite relationships are checked for cycles when stored and applied by
+ * evaluations and status checks, against the staging data set. A plan built inside a rolled back
+ * transaction is labelled with a graph version that the next test may reach again with other
+ * relationships, so the plan is dropped after each test.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+class PrerequisiteTest {
+
+  // PROD environment defaults: ADVANCED_ANALYTICS disabled, the other three enabled
+  private static final UUID ADVANCED_ANALYTICS =
+      UUID.fromString("660e8400-e29b-41d4-a716-446655440002");
+  private static final UUID MOBILE_APP_INTEGRATION =
+      UUID.fromString("660e8400-e29b-41d4-a716-446655440003");
+  private static final UUID DARK_MODE = UUID.fromString("660e8400-e29b-41d4-a716-446655440005");
+  private static final UUID EXPORT_DATA = UUID.fromString("660e8400-e29b-41d4-a716-446655440007");
+
+  // user1
+  private static final UUID CLIENT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+  @Autowired private FeaturePrerequisiteService featurePrerequisiteService;
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private FeatureService featureService;
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  @AfterEach
+  void clearEvaluationPlan() {
+    eventPublisher.publishEvent(
+        FlagChangedEvent.builder().type(FlagChangeType.FEATURE_DELETED).build());
+  }
+
+  @Test
+  void replacePrerequisites_storesAndReadsPrerequisites() {
+    replace(EXPORT_DATA, DARK_MODE, MOBILE_APP_INTEGRATION);
+
+    assertEquals(
+        List.of(MOBILE_APP_INTEGRATION, DARK_MODE),
+        featurePrerequisiteService.getPrerequisites(EXPORT_DATA).getPrerequisiteIds().stream()
+            .sorted()
+            .toList());
+
+    replace(EXPORT_DATA);
+    assertTrue(
+        featurePrerequisiteService.getPrerequisites(EXPORT_DATA).getPrerequisiteIds().isEmpty());
+  }
+
+  @Test
+  void replacePrerequisites_cycle_throwsConflictAndKeepsGraph() {
+    replace(EXPORT_DATA, DARK_MODE);
+    replace(DARK_MODE, MOBILE_APP_INTEGRATION);
+
+    FeatureFlagException transitive =
+        assertThrows(
+            FeatureFlagException.class, () -> replace(MOBILE_APP_INTEGRATION, EXPORT_DATA));
+    assertEquals(HttpStatus.CONFLICT, transitive.getStatus());
+    FeatureFlagException self =
+        assertThrows(FeatureFlagException.class, () -> replace(DARK_MODE, DARK_MODE));
+    assertEquals(HttpStatus.CONFLICT, self.getStatus());
+    assertTrue(
+        featurePrerequisiteService
+            .getPrerequisites(MOBILE_APP_INTEGRATION)
+            .getPrerequisiteIds()
+            .isEmpty());
+  }
+
+  @Test
+  void replacePrerequisites_unknownFeature_throwsNotFound() {
+    FeatureFlagException exception =
+        assertThrows(FeatureFlagException.class, () -> replace(EXPORT_DATA, UUID.randomUUID()));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  @Test
+  void evaluateBatch_disabledPrerequisiteBlocksEveryDependent() {
+    replace(EXPORT_DATA, DARK_MODE, MOBILE_APP_INTEGRATION);
+    replace(DARK_MODE, MOBILE_APP_INTEGRATION);
+
+    List<EvaluationResponseDto> enabled = evaluate("EXPORT_DATA", "DARK_MODE");
+    assertTrue(enabled.get(0).getEnabled());
+    assertTrue(enabled.get(1).getEnabled());
+
+    replace(MOBILE_APP_INTEGRATION, ADVANCED_ANALYTICS);
+
+    List<EvaluationResponseDto> blocked =
+        evaluate("EXPORT_DATA", "DARK_MODE", "ADVANCED_ANALYTICS");
+    assertEquals("EXPORT_DATA", blocked.get(0).getFeatureName());
+    assertFalse(blocked.get(0).getEnabled());
+    assertNotNull(blocked.get(0).getBlockedBy());
+    assertFalse(blocked.get(1).getEnabled());
+    assertEquals("MOBILE_APP_INTEGRATION", blocked.get(1).getBlockedBy());
+    assertFalse(blocked.get(2).getEnabled());
+    assertNull(blocked.get(2).getBlockedBy());
+  }
+
+  @Test
+  void evaluateBatch_unknownFeature_throwsNotFound() {
+    FeatureFlagException exception =
+        assertThrows(FeatureFlagException.class, () -> evaluate("DARK_MODE", "UNKNOWN_FEATURE"));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  @Test
+  void checkFeatureIsActive_requiresEveryTransitivePrerequisite() {
+    replace(DARK_MODE, MOBILE_APP_INTEGRATION);
+    assertTrue(featureService.checkFeatureIsActive("DARK_MODE", CLIENT_ID, Environment.PROD));
+
+    replace(MOBILE_APP_INTEGRATION, ADVANCED_ANALYTICS);
+    assertFalse(featureService.checkFeatureIsActive("DARK_MODE", CLIENT_ID, Environment.PROD));
+  }
+
+  private void replace(UUID featureId, UUID... prerequisiteIds) {
+    featurePrerequisiteService.replacePrerequisites(
+        featureId,
+        FeaturePrerequisitesRequestDto.builder().prerequisiteIds(List.of(prerequisiteIds)).build());
+  }
+
+  private List<EvaluationResponseDto> evaluate(String... featureNames) {
+    return targetingRuleService.evaluateBatch(
+        BatchEvaluationRequestDto.builder()
+            .featureNames(List.of(featureNames))
+            .environment(Environment.PROD)
+            .context(Map.of())
+            .build());
+  }
+}
@@ -0,0 +1,323 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.TargetingClauseDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleCriteriaDto;
+import com.equipo01.featureflag.featureflag.dto.request.BulkToggleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.ProjectRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.TargetingRuleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.FeatureResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.KillSwitchResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.SegmentResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.ClauseOperator;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.KillSwitchService;
+import com.equipo01.featureflag.featureflag.service.ProjectService;
+import com.equipo01.featureflag.featureflag.service.SegmentService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Verifies that features are isolated by project: the same name can be used in two projects, and a
+ * request bound to a project neither lists, reads, changes nor evaluates the features of another
+ * one, nor their configurations, segments and kill switches. The tests commit a project and
+ * features of their own, so they are not transactional and clean up after themselves.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+class ProjectTest {
+
+  private static final String FEATURE_NAME = "PROJECT_TEST";
+
+  @Autowired private ProjectService projectService;
+  @Autowired private FeatureService featureService;
+  @Autowired private FeatureConfigService featureConfigService;
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private SegmentService segmentService;
+  @Autowired private KillSwitchService killSwitchService;
+  @Autowired private KillSwitchRegistry killSwitchRegistry;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final UUID defaultFeatureId = UUID.randomUUID();
+  private final UUID projectFeatureId = UUID.randomUUID();
+  private final UUID defaultConfigId = UUID.randomUUID();
+  private final UUID projectConfigId = UUID.randomUUID();
+  private short projectId;
+  private MockHttpServletRequest request;
+
+  @BeforeEach
+  void insertFeatures() {
+    projectId =
+        projectService
+            .createProject(
+                ProjectRequestDto.builder()
+                    .name("PROJECT_TEST_" + Long.toHexString(System.nanoTime()).toUpperCase())
+                    .build())
+            .getId();
+    // The same name in both projects, disabled in the default one and enabled in the new one
+    insertFeature(defaultFeatureId, defaultConfigId, Project.DEFAULT_ID, false);
+    insertFeature(projectFeatureId, projectConfigId, projectId, true);
+
+    request = new MockHttpServletRequest();
+    request.setAttribute(ProjectContext.PROJECT_ATTRIBUTE, projectId);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void deleteFeatures() {
+    RequestContextHolder.resetRequestAttributes();
+    SecurityContextHolder.clearContext();
+    jdbcTemplate.update("DELETE FROM segments WHERE name = ?", FEATURE_NAME);
+    jdbcTemplate.update("DELETE FROM kill_switches WHERE project_id = ?", projectId);
+    killSwitchRegistry.refresh();
+    for (UUID featureId : new UUID[] {defaultFeatureId, projectFeatureId}) {
+      jdbcTemplate.update("DELETE FROM feature_configs WHERE feature_id = ?", featureId);
+      jdbcTemplate.update("DELETE FROM features WHERE feature_id = ?", featureId);
+    }
+    jdbcTemplate.update("DELETE FROM projects WHERE project_id = ?", projectId);
+  }
+
+  @Test
+  void evaluate_servesFeatureOfBoundProject() {
+    assertTrue(evaluate().getEnabled());
+
+    RequestContextHolder.resetRequestAttributes();
+
+    assertFalse(evaluate().getEnabled());
+  }
+
+  @Test
+  void getFeatures_listsFeaturesOfBoundProjectOnly() {
+    var features = featureService.getFeatures(null, null, 0, 100).getFeatures();
+
+    assertEquals(1, features.size());
+    assertEquals(projectFeatureId, features.get(0).getId());
+    assertEquals(
+        Map.of(FEATURE_NAME, true), featureService.getFeatureSnapshot(Environment.DEV).getFlags());
+  }
+
+  @Test
+  void getFeatureById_featureOfOtherProject_throwsNotFound() {
+    FeatureResponseDto own = featureService.getFeatureById(projectFeatureId.toString());
+    assertEquals(FEATURE_NAME, own.getName());
+
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () -> featureService.getFeatureById(defaultFeatureId.toString()));
+
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  @Test
+  void evaluate_otherProjectRequestedByBoundUser_throwsForbidden() {
+    request.addHeader(ProjectContext.PROJECT_HEADER, String.valueOf(Project.DEFAULT_ID));
+
+    FeatureFlagException exception = assertThrows(FeatureFlagException.class, this::evaluate);
+
+    assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+  }
+
+  @Test
+  void evaluate_projectRequestedByUnboundAdmin_servesFeatureOfThatProject() {
+    request.removeAttribute(ProjectContext.PROJECT_ATTRIBUTE);
+    request.addHeader(ProjectContext.PROJECT_HEADER, String.valueOf(projectId));
+    authenticate("ROLE_ADMIN");
+
+    assertTrue(evaluate().getEnabled());
+  }
+
+  @Test
+  void evaluate_projectRequestedByUnboundUser_throwsForbidden() {
+    request.removeAttribute(ProjectContext.PROJECT_ATTRIBUTE);
+    request.addHeader(ProjectContext.PROJECT_HEADER, String.valueOf(projectId));
+    authenticate("ROLE_USER");
+
+    FeatureFlagException exception = assertThrows(FeatureFlagException.class, this::evaluate);
+
+    assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+  }
+
+  @Test
+  void getFeatureConfigs_listsConfigsOfBoundProjectOnly() {
+    assertEquals(
+        List.of(projectConfigId),
+        featureConfigService.getAllFeatures().stream().map(config -> config.getId()).toList());
+    assertEquals(1, featureConfigService.getFeatureByID(projectConfigId).size());
+    assertTrue(featureConfigService.getFeatureByID(defaultConfigId).isEmpty());
+  }
+
+  @Test
+  void changeFeatureConfig_configOfOtherProject_isNotFound() {
+    assertEquals(
+        HttpStatus.NOT_FOUND,
+        featureConfigService.enableOrDisableFeature(defaultConfigId, true, null).getStatusCode());
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () -> featureConfigService.deleteFeatureConfig(defaultConfigId));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    exception =
+        assertThrows(
+            FeatureFlagException.class, () -> targetingRuleService.getRules(defaultConfigId));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+
+    assertFalse(configEnabled(defaultConfigId));
+  }
+
+  @Test
+  void bulkToggle_onlyTogglesConfigsOfBoundProject() {
+    var result =
+        featureConfigService.bulkToggle(
+            BulkToggleRequestDto.builder()
+                .enabled(false)
+                .criteria(
+                    List.of(
+                        BulkToggleCriteriaDto.builder()
+                            .environments(List.of(Environment.DEV))
+                            .build()))
+                .build());
+
+    assertEquals(List.of(1), result.getAffectedRows());
+    assertFalse(configEnabled(projectConfigId));
+
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                featureConfigService.bulkToggle(
+                    BulkToggleRequestDto.builder()
+                        .enabled(true)
+                        .criteria(
+                            List.of(
+                                BulkToggleCriteriaDto.builder()
+                                    .featureIds(List.of(projectFeatureId, defaultFeatureId))
+                                    .build()))
+                        .build()));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    assertFalse(configEnabled(projectConfigId));
+    assertFalse(configEnabled(defaultConfigId));
+  }
+
+  @Test
+  void segments_areIsolatedByProject() {
+    RequestContextHolder.resetRequestAttributes();
+    UUID defaultSegmentId = createSegment();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    // The same name in both projects
+    UUID projectSegmentId = createSegment();
+
+    assertEquals(
+        List.of(projectSegmentId),
+        segmentService.getSegments().stream().map(SegmentResponseDto::getId).toList());
+    FeatureFlagException exception =
+        assertThrows(FeatureFlagException.class, () -> segmentService.getSegment(defaultSegmentId));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                targetingRuleService.replaceRules(
+                    projectConfigId,
+                    List.of(
+                        TargetingRuleRequestDto.builder()
+                            .enabled(true)
+                            .clauses(
+                                List.of(
+                                    TargetingClauseDto.builder()
+                                        .attribute("userId")
+                                        .operator(ClauseOperator.IN_SEGMENT)
+                                        .values(List.of(defaultSegmentId.toString()))
+                                        .build()))
+                            .build())));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  @Test
+  void engageEmergency_onlyDisablesFeaturesOfBoundProject() {
+    KillSwitchResponseDto emergency = killSwitchService.engageEmergency(Environment.DEV);
+
+    assertTrue(evaluate().getKilled());
+    assertEquals(
+        List.of(emergency.getId()),
+        killSwitchService.getKillSwitches().stream().map(KillSwitchResponseDto::getId).toList());
+
+    RequestContextHolder.resetRequestAttributes();
+
+    assertNull(evaluate().getKilled());
+    assertTrue(
+        killSwitchService.getKillSwitches().stream()
+            .noneMatch(killSwitch -> killSwitch.getId().equals(emergency.getId())));
+    // Releasing the emergency mode of the default project leaves the other one engaged
+    killSwitchService.releaseEmergency(Environment.DEV);
+    assertTrue(killSwitchRegistry.isEmergency(projectId, Environment.DEV));
+  }
+
+  private UUID createSegment() {
+    return segmentService
+        .createSegment(SegmentRequestDto.builder().name(FEATURE_NAME).build())
+        .getId();
+  }
+
+  private boolean configEnabled(UUID configId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT enabled FROM feature_configs WHERE feature_config_id = ?", Boolean.class, configId);
+  }
+
+  private static void authenticate(String authority) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(
+                "user", null, List.of(new SimpleGrantedAuthority(authority))));
+  }
+
+  private void insertFeature(UUID featureId, UUID configId, short project, boolean enabled) {
+    jdbcTemplate.update(
+        "INSERT INTO features (feature_id, project_id, name, enabled_by_default)"
+            + " VALUES (?, ?, ?, FALSE)",
+        featureId,
+        project,
+        FEATURE_NAME);
+    jdbcTemplate.update(
+        "INSERT INTO feature_configs (feature_config_id, environment, enabled, feature_id)"
+            + " VALUES (?, ?, ?, ?)",
+        configId,
+        Environment.DEV.id(),
+        enabled,
+        featureId);
+  }
+
+  private EvaluationResponseDto evaluate() {
+    return targetingRuleService.evaluate(
+        EvaluationRequestDto.builder()
+            .featureName(FEATURE_NAME)
+            .environment(Environment.DEV)
+            .context(Map.of())
+            .build());
+  }
+}
@@ -0,0 +1,179 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.request.ScheduledChangeRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.ScheduledChangeResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.ScheduledChange;
+import com.equipo01.featureflag.featureflag.model.enums.ScheduledChangeStatus;
+import com.equipo01.featureflag.featureflag.repository.ScheduledChangeRepository;
+import com.equipo01.featureflag.featureflag.service.FeatureConfigService;
+import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.ScheduledChangeService;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that scheduled changes are applied through the manual toggle write path, at most once,
+ * against the staging data set. Each test is rolled back, so changes are never armed on the timer
+ * and due changes are applied by calling the service directly. The service is called without the
+ * request validation that rejects past instants, so that changes can be scheduled already due.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+class ScheduledChangeTest {
+
+  // NEW_USER_DASHBOARD, DEV environment default, enabled
+  private static final UUID CONFIG_ID = UUID.fromString("770e8400-e29b-41d4-a716-446655440001");
+
+  @Autowired private ScheduledChangeService scheduledChangeService;
+  @Autowired private ScheduledChangeRepository scheduledChangeRepository;
+  @Autowired private FeatureService featureService;
+  @Autowired private FeatureConfigService featureConfigService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void applyDueChanges_togglesConfigurationAndRecordsOutboxEntry() {
+    long version = configVersion();
+    ScheduledChangeResponseDto change = schedule(false, Instant.now().minusSeconds(1));
+
+    assertEquals(1, scheduledChangeService.applyDueChanges(List.of(change.getId())));
+    scheduledChangeRepository.flush();
+
+    assertFalse(
+        jdbcTemplate.queryForObject(
+            "SELECT enabled FROM feature_configs WHERE feature_config_id = ?",
+            Boolean.class,
+            CONFIG_ID));
+    assertEquals(version + 1, configVersion());
+    assertEquals(
+        1,
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM flag_change_events WHERE change_type = 'CONFIG_TOGGLED'"
+                + " AND feature_config_id = ?",
+            Integer.class,
+            CONFIG_ID));
+    var stored = scheduledChangeRepository.findById(change.getId()).orElseThrow();
+    assertEquals(ScheduledChangeStatus.APPLIED, stored.getStatus());
+    assertNotNull(stored.getAppliedAt());
+    assertTrue(scheduledChangeService.getPendingChanges(CONFIG_ID).isEmpty());
+  }
+
+  @Test
+  void applyDueChanges_appliesEachChangeOnlyOnce() {
+    long version = configVersion();
+    ScheduledChangeResponseDto change = schedule(false, Instant.now());
+
+    assertEquals(1, scheduledChangeService.applyDueChanges(List.of(change.getId())));
+    assertEquals(0, scheduledChangeService.applyDueChanges(List.of(change.getId())));
+    scheduledChangeRepository.flush();
+
+    assertEquals(version + 1, configVersion());
+  }
+
+  @Test
+  void cancelChange_preventsApplication() {
+    long version = configVersion();
+    ScheduledChangeResponseDto change = schedule(false, Instant.now());
+
+    scheduledChangeService.cancelChange(change.getId());
+
+    assertEquals(0, scheduledChangeService.applyDueChanges(List.of(change.getId())));
+    assertEquals(version, configVersion());
+    FeatureFlagException e =
+        assertThrows(
+            FeatureFlagException.class, () -> scheduledChangeService.cancelChange(change.getId()));
+    assertEquals(HttpStatus.CONFLICT, e.getStatus());
+  }
+
+  @Test
+  void deleteFeature_cancelsPendingChangesAndHidesItsConfigurations() {
+    long version = configVersion();
+    ScheduledChangeResponseDto change = schedule(false, Instant.now());
+
+    featureService.deleteFeature(
+        jdbcTemplate.queryForObject(
+            "SELECT feature_id FROM feature_configs WHERE feature_config_id = ?",
+            UUID.class,
+            CONFIG_ID));
+
+    assertEquals(
+        ScheduledChangeStatus.CANCELLED.name(),
+        jdbcTemplate.queryForObject(
+            "SELECT status FROM scheduled_changes WHERE scheduled_change_id = ?",
+            String.class,
+            change.getId()));
+    assertEquals(0, scheduledChangeService.applyDueChanges(List.of(change.getId())));
+    assertFalse(featureConfigService.applyScheduledToggle(CONFIG_ID, false));
+    assertTrue(featureConfigService.getFeatureByID(CONFIG_ID).isEmpty());
+    assertEquals(
+        HttpStatus.NOT_FOUND,
+        featureConfigService.enableOrDisableFeature(CONFIG_ID, false, null).getStatusCode());
+    assertEquals(version, configVersion());
+  }
+
+  @Test
+  void getPendingChanges_listsSoonestFirst() {
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    ScheduledChangeResponseDto later = schedule(true, now.plus(2, ChronoUnit.DAYS));
+    ScheduledChangeResponseDto sooner = schedule(false, now.plus(1, ChronoUnit.DAYS));
+
+    assertEquals(
+        List.of(sooner.getId(), later.getId()),
+        scheduledChangeService.getPendingChanges(CONFIG_ID).stream()
+            .map(ScheduledChangeResponseDto::getId)
+            .toList());
+  }
+
+  @Test
+  void scheduleChange_rejectsUnknownConfiguration() {
+    FeatureFlagException e =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                scheduledChangeService.scheduleChange(
+                    UUID.randomUUID(),
+                    ScheduledChangeRequestDto.builder()
+                        .enabled(true)
+                        .applyAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                        .build()));
+    assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+  }
+
+  @Test
+  void findPendingChangesDueBefore_returnsOverdueAndSoonDueChangesOnly() {
+    Instant now = Instant.now();
+    ScheduledChangeResponseDto overdue = schedule(false, now.minusSeconds(1));
+    ScheduledChangeResponseDto soon = schedule(true, now.plusSeconds(30));
+    ScheduledChangeResponseDto later = schedule(false, now.plus(1, ChronoUnit.HOURS));
+
+    List<UUID> due =
+        scheduledChangeService.findPendingChangesDueBefore(now.plusSeconds(60)).stream()
+            .map(ScheduledChange::getId)
+            .toList();
+
+    assertTrue(due.containsAll(List.of(overdue.getId(), soon.getId())));
+    assertFalse(due.contains(later.getId()));
+  }
+
+  private ScheduledChangeResponseDto schedule(boolean enabled, Instant applyAt) {
+    return scheduledChangeService.scheduleChange(
+        CONFIG_ID, ScheduledChangeRequestDto.builder().enabled(enabled).applyAt(applyAt).build());
+  }
+
+  private long configVersion() {
+    return jdbcTemplate.queryForObject(
+        "SELECT version FROM feature_configs WHERE feature_config_id = ?", Long.class, CONFIG_ID);
+  }
+}
@@ -0,0 +1,210 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.TargetingClauseDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentMembersRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.SegmentRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.TargetingRuleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.SegmentResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.Segment;
+import com.equipo01.featureflag.featureflag.model.enums.ClauseOperator;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.repository.SegmentRepository;
+import com.equipo01.featureflag.featureflag.repository.UserRepository;
+import com.equipo01.featureflag.featureflag.service.SegmentService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import com.equipo01.featureflag.featureflag.util.CompressedBitmap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that segment members are stored as bitmaps of client ordinals, published in memory when
+ * their transaction commits, and applied by IN_SEGMENT targeting clauses, against the staging data
+ * set. Each call commits on its own, as it would across requests, so the segment and rules created
+ * by a test are removed after it.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+class SegmentTest {
+
+  // NEW_USER_DASHBOARD, PROD environment default, disabled
+  private static final UUID PROD_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440003");
+  private static final UUID USER1_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+  private static final UUID GUEST_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+
+  @Autowired private SegmentService segmentService;
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private SegmentRepository segmentRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  private UUID segmentId;
+
+  @BeforeEach
+  void createSegment() {
+    segmentId =
+        segmentService
+            .createSegment(SegmentRequestDto.builder().name("beta-testers").build())
+            .getId();
+  }
+
+  @AfterEach
+  void cleanUp() {
+    targetingRuleService.replaceRules(PROD_CONFIG_ID, List.of());
+    if (segmentRepository.existsById(segmentId)) {
+      segmentService.deleteSegment(segmentId);
+    }
+    eventPublisher.publishEvent(
+        FlagChangedEvent.builder().type(FlagChangeType.FEATURE_DELETED).build());
+  }
+
+  @Test
+  void updateMembers_storesOrdinalsAndPublishesThemOnCommit() {
+    SegmentResponseDto updated =
+        segmentService.updateMembers(
+            segmentId, SegmentMembersRequestDto.builder().add(List.of(USER1_ID, GUEST_ID)).build());
+
+    assertEquals(2, updated.getMemberCount());
+    assertTrue(segmentService.isMember(segmentId, USER1_ID.toString()));
+    assertTrue(segmentService.isMember(segmentId, GUEST_ID.toString()));
+
+    segmentService.updateMembers(
+        segmentId, SegmentMembersRequestDto.builder().remove(List.of(GUEST_ID)).build());
+
+    assertFalse(segmentService.isMember(segmentId, GUEST_ID.toString()));
+    assertFalse(segmentService.isMember(segmentId, "not-a-user"));
+    CompressedBitmap stored =
+        CompressedBitmap.deserialize(
+            segmentRepository.findById(segmentId).orElseThrow().getMembers());
+    assertArrayEquals(
+        new int[] {userRepository.findClientOrdinalById(USER1_ID).orElseThrow()}, stored.toArray());
+  }
+
+  @Test
+  void updateMembers_unknownUser_throwsNotFoundAndKeepsMembers() {
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                segmentService.updateMembers(
+                    segmentId,
+                    SegmentMembersRequestDto.builder()
+                        .add(List.of(USER1_ID, UUID.randomUUID()))
+                        .build()));
+
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    assertEquals(0, segmentService.getSegment(segmentId).getMemberCount());
+    assertFalse(segmentService.isMember(segmentId, USER1_ID.toString()));
+  }
+
+  @Test
+  void evaluate_segmentClauseFollowsMembershipChanges() {
+    targetingRuleService.replaceRules(
+        PROD_CONFIG_ID,
+        List.of(
+            TargetingRuleRequestDto.builder()
+                .enabled(true)
+                .clauses(
+                    List.of(
+                        TargetingClauseDto.builder()
+                            .attribute("userId")
+                            .operator(ClauseOperator.IN_SEGMENT)
+                            .values(List.of(segmentId.toString()))
+                            .build()))
+                .build()));
+
+    assertFalse(evaluate(USER1_ID).getEnabled());
+
+    segmentService.updateMembers(
+        segmentId, SegmentMembersRequestDto.builder().add(List.of(USER1_ID)).build());
+
+    EvaluationResponseDto result = evaluate(USER1_ID);
+    assertTrue(result.getEnabled());
+    assertNotNull(result.getRuleId());
+    assertFalse(evaluate(GUEST_ID).getEnabled());
+  }
+
+  @Test
+  void replaceRules_unknownSegment_throwsNotFound() {
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                targetingRuleService.replaceRules(
+                    PROD_CONFIG_ID,
+                    List.of(
+                        TargetingRuleRequestDto.builder()
+                            .enabled(true)
+                            .clauses(
+                                List.of(
+                                    TargetingClauseDto.builder()
+                                        .attribute("userId")
+                                        .operator(ClauseOperator.IN_SEGMENT)
+                                        .values(List.of(UUID.randomUUID().toString()))
+                                        .build()))
+                            .build())));
+
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  @Test
+  void refreshSegments_picksUpChangesMadeByOtherInstances() {
+    // Written straight to the database, as another instance would
+    Segment segment = segmentRepository.findById(segmentId).orElseThrow();
+    CompressedBitmap members = new CompressedBitmap();
+    members.add(userRepository.findClientOrdinalById(USER1_ID).orElseThrow());
+    segment.setMembers(members.serialize());
+    segment.setMemberCount(1);
+    segmentRepository.save(segment);
+
+    assertFalse(segmentService.isMember(segmentId, USER1_ID.toString()));
+    assertTrue(segmentService.refreshSegments() >= 1);
+    assertTrue(segmentService.isMember(segmentId, USER1_ID.toString()));
+
+    segmentRepository.deleteById(segmentId);
+    segmentService.refreshSegments();
+
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () -> segmentService.isMember(segmentId, USER1_ID.toString()));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  @Test
+  void createSegment_duplicateName_throwsConflict() {
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                segmentService.createSegment(
+                    SegmentRequestDto.builder().name("beta-testers").build()));
+
+    assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+  }
+
+  private EvaluationResponseDto evaluate(UUID userId) {
+    return targetingRuleService.evaluate(
+        EvaluationRequestDto.builder()
+            .featureName("NEW_USER_DASHBOARD")
+            .environment(Environment.PROD)
+            .context(Map.of("userId", userId.toString()))
+            .build());
+  }
+}
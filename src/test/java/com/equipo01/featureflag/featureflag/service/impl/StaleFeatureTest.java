@@ -0,0 +1,131 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.config.EvaluationsEndpoint;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationCountResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.StaleFeatureResponseDto;
+import com.equipo01.featureflag.featureflag.model.Project;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.events.EvaluationWatermark;
+import com.equipo01.featureflag.featureflag.repository.FeatureEvaluationRepository;
+import com.equipo01.featureflag.featureflag.service.FeatureService;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that evaluations are counted and that their persisted watermarks drive the listing of
+ * stale features, against the staging data set. Each test works on a feature of its own, inserted
+ * and rolled back with the test, since other tests evaluate the staging features.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+class StaleFeatureTest {
+
+  private static final String FEATURE_NAME = "STALE_FEATURE_TEST";
+
+  @Autowired private FeatureService featureService;
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private FeatureEvaluationRepository featureEvaluationRepository;
+  @Autowired private EvaluationWatermarkJob evaluationWatermarkJob;
+  @Autowired private EvaluationsEndpoint evaluationsEndpoint;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final UUID featureId = UUID.randomUUID();
+
+  @BeforeEach
+  void insertFeature() {
+    jdbcTemplate.update(
+        "INSERT INTO features (feature_id, name, enabled_by_default) VALUES (?, ?, FALSE)",
+        featureId,
+        FEATURE_NAME);
+  }
+
+  @Test
+  void getStaleFeatures_listsNeverEvaluatedFeature() {
+    Optional<StaleFeatureResponseDto> stale = find(featureService.getStaleFeatures(30));
+
+    assertTrue(stale.isPresent());
+    assertEquals(featureId, stale.get().getId());
+    assertNull(stale.get().getLastEvaluatedAt());
+  }
+
+  @Test
+  void getStaleFeatures_comparesLastEvaluationWithDays() {
+    Instant lastEvaluatedAt =
+        Instant.now().minus(Duration.ofDays(40)).truncatedTo(ChronoUnit.SECONDS);
+    featureEvaluationRepository.saveAll(List.of(watermark(Environment.DEV, lastEvaluatedAt)));
+
+    Optional<StaleFeatureResponseDto> stale = find(featureService.getStaleFeatures(30));
+    assertTrue(stale.isPresent());
+    assertEquals(lastEvaluatedAt, stale.get().getLastEvaluatedAt());
+    assertTrue(find(featureService.getStaleFeatures(60)).isEmpty());
+  }
+
+  @Test
+  void saveAll_neverMovesWatermarkBack() {
+    Instant now = Instant.now();
+    featureEvaluationRepository.saveAll(List.of(watermark(Environment.PROD, now)));
+    featureEvaluationRepository.saveAll(
+        List.of(watermark(Environment.PROD, now.minus(Duration.ofDays(40)))));
+
+    assertTrue(find(featureService.getStaleFeatures(30)).isEmpty());
+    assertEquals(
+        1,
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM feature_evaluations WHERE feature_id = ?",
+            Integer.class,
+            featureId));
+  }
+
+  @Test
+  void evaluate_isCountedAndPersistedByJob() {
+    targetingRuleService.evaluate(
+        EvaluationRequestDto.builder()
+            .featureName(FEATURE_NAME)
+            .environment(Environment.STAGING)
+            .context(Map.of())
+            .build());
+
+    EvaluationCountResponseDto count =
+        evaluationsEndpoint.evaluations().stream()
+            .filter(
+                c ->
+                    c.getFeatureName().equals(FEATURE_NAME)
+                        && c.getEnvironment() == Environment.STAGING)
+            .findFirst()
+            .orElseThrow();
+    assertTrue(count.getDisabled() >= 1);
+
+    evaluationWatermarkJob.persistWatermarks();
+    assertTrue(find(featureService.getStaleFeatures(1)).isEmpty());
+  }
+
+  private EvaluationWatermark watermark(Environment environment, Instant lastEvaluatedAt) {
+    return EvaluationWatermark.builder()
+        .projectId(Project.DEFAULT_ID)
+        .featureName(FEATURE_NAME)
+        .environment(environment)
+        .lastEvaluatedAt(lastEvaluatedAt)
+        .build();
+  }
+
+  private static Optional<StaleFeatureResponseDto> find(List<StaleFeatureResponseDto> stale) {
+    return stale.stream().filter(feature -> FEATURE_NAME.equals(feature.getName())).findFirst();
+  }
+}
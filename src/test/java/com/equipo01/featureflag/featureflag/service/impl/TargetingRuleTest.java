@@ -0,0 +1,190 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.TargetingClauseDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.TargetingRuleRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.TargetingRuleResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.enums.ClauseOperator;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that targeting rules are stored, versioned with their configuration and applied by
+ * evaluations, against the staging data set. Compiled rules outlive the rolled back transaction of
+ * a test, so the cache is cleared after each one.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+class TargetingRuleTest {
+
+  private static final String FEATURE_NAME = "NEW_USER_DASHBOARD";
+
+  // NEW_USER_DASHBOARD, PROD environment default, disabled
+  private static final UUID PROD_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440003");
+
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private ApplicationEventPublisher eventPublisher;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void clearCompiledRules() {
+    eventPublisher.publishEvent(
+        FlagChangedEvent.builder().type(FlagChangeType.FEATURE_DELETED).build());
+  }
+
+  @Test
+  void replaceRules_storesRulesInOrderAndIncrementsConfigurationVersion() {
+    long version = configVersion();
+
+    List<TargetingRuleResponseDto> stored =
+        targetingRuleService.replaceRules(PROD_CONFIG_ID, rules());
+
+    assertEquals(version + 1, configVersion());
+    assertEquals(2, stored.size());
+    assertEquals(0, stored.get(0).getPriority());
+    assertEquals(List.of("AR", "UY"), stored.get(0).getClauses().get(0).getValues());
+    List<TargetingRuleResponseDto> read = targetingRuleService.getRules(PROD_CONFIG_ID);
+    assertEquals(
+        stored.stream().map(TargetingRuleResponseDto::getId).toList(),
+        read.stream().map(TargetingRuleResponseDto::getId).toList());
+    assertEquals(ClauseOperator.SEMVER_GTE, read.get(0).getClauses().get(1).getOperator());
+  }
+
+  @Test
+  void evaluate_firstMatchingRuleDecides() {
+    List<TargetingRuleResponseDto> stored =
+        targetingRuleService.replaceRules(PROD_CONFIG_ID, rules());
+
+    EvaluationResponseDto byCountry =
+        evaluate(null, Map.of("country", "AR", "appVersion", "2.5.1"));
+    assertTrue(byCountry.getEnabled());
+    assertEquals(stored.get(0).getId(), byCountry.getRuleId());
+
+    EvaluationResponseDto byPlan = evaluate(null, Map.of("country", "AR", "plan", "enterprise"));
+    assertTrue(byPlan.getEnabled());
+    assertEquals(stored.get(1).getId(), byPlan.getRuleId());
+
+    EvaluationResponseDto noMatch = evaluate(null, Map.of("country", "AR", "appVersion", "2.3.9"));
+    assertFalse(noMatch.getEnabled());
+    assertNull(noMatch.getRuleId());
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void evaluate_seesRulesReplacedAfterAnEarlierEvaluation() {
+    // Each call commits on its own, as it would across requests
+    try {
+      targetingRuleService.replaceRules(PROD_CONFIG_ID, rules());
+      assertTrue(evaluate(null, Map.of("plan", "pro")).getEnabled());
+
+      targetingRuleService.replaceRules(
+          PROD_CONFIG_ID, List.of(rule(false, clause("plan", ClauseOperator.IN, "pro"))));
+
+      EvaluationResponseDto result = evaluate(null, Map.of("plan", "pro"));
+      assertFalse(result.getEnabled());
+      assertNotNull(result.getRuleId());
+    } finally {
+      targetingRuleService.replaceRules(PROD_CONFIG_ID, List.of());
+    }
+  }
+
+  @Test
+  void evaluate_clientConfigurationTakesPrecedence() {
+    targetingRuleService.replaceRules(PROD_CONFIG_ID, rules());
+
+    EvaluationResponseDto result = evaluate("client-premium", Map.of("country", "BR"));
+
+    assertTrue(result.getEnabled());
+    assertNull(result.getRuleId());
+  }
+
+  @Test
+  void evaluate_unknownFeature_throwsNotFound() {
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                targetingRuleService.evaluate(
+                    EvaluationRequestDto.builder()
+                        .featureName("UNKNOWN_FEATURE")
+                        .environment(Environment.PROD)
+                        .context(Map.of())
+                        .build()));
+    assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+  }
+
+  @Test
+  void replaceRules_invalidRegex_throwsBadRequestAndKeepsRules() {
+    targetingRuleService.replaceRules(PROD_CONFIG_ID, rules());
+
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                targetingRuleService.replaceRules(
+                    PROD_CONFIG_ID,
+                    List.of(rule(true, clause("plan", ClauseOperator.MATCHES, "(pro")))));
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    assertEquals(2, targetingRuleService.getRules(PROD_CONFIG_ID).size());
+  }
+
+  private EvaluationResponseDto evaluate(String clientId, Map<String, String> context) {
+    return targetingRuleService.evaluate(
+        EvaluationRequestDto.builder()
+            .featureName(FEATURE_NAME)
+            .environment(Environment.PROD)
+            .clientId(clientId)
+            .context(context)
+            .build());
+  }
+
+  private long configVersion() {
+    return jdbcTemplate.queryForObject(
+        "SELECT version FROM feature_configs WHERE feature_config_id = ?",
+        Long.class,
+        PROD_CONFIG_ID);
+  }
+
+  private static List<TargetingRuleRequestDto> rules() {
+    return List.of(
+        rule(
+            true,
+            clause("country", ClauseOperator.IN, "AR", "UY"),
+            clause("appVersion", ClauseOperator.SEMVER_GTE, "2.4.0")),
+        rule(true, clause("plan", ClauseOperator.MATCHES, "pro|enterprise")));
+  }
+
+  private static TargetingRuleRequestDto rule(boolean enabled, TargetingClauseDto... clauses) {
+    return TargetingRuleRequestDto.builder().enabled(enabled).clauses(List.of(clauses)).build();
+  }
+
+  private static TargetingClauseDto clause(
+      String attribute, ClauseOperator operator, String... values) {
+    return TargetingClauseDto.builder()
+        .attribute(attribute)
+        .operator(operator)
+        .values(List.of(values))
+        .build();
+  }
+}
@@ -0,0 +1,60 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.UserDTO;
+import com.equipo01.featureflag.featureflag.dto.response.UserPageResponseDto;
+import com.equipo01.featureflag.featureflag.model.enums.Role;
+import com.equipo01.featureflag.featureflag.service.UserService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/** Runs the keyset pagination of users against the staging data set (4 users, 3 active). */
+@SpringBootTest
+@ActiveProfiles("staging")
+class UserKeysetPaginationTest {
+
+  @Autowired private UserService userService;
+
+  @Test
+  void getUsers_walksAllUsersInIdOrder() {
+    List<UUID> ids = new ArrayList<>();
+    UUID cursor = null;
+    do {
+      UserPageResponseDto page = userService.getUsers(null, null, cursor, 1);
+      page.getUsers().forEach(user -> ids.add(user.getId()));
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+
+    assertEquals(
+        List.of(
+            UUID.fromString("550e8400-e29b-41d4-a716-446655440001"),
+            UUID.fromString("550e8400-e29b-41d4-a716-446655440002"),
+            UUID.fromString("550e8400-e29b-41d4-a716-446655440003"),
+            UUID.fromString("550e8400-e29b-41d4-a716-446655440004")),
+        ids);
+  }
+
+  @Test
+  void getUsers_appliesRoleAndActiveFilters() {
+    UserPageResponseDto page = userService.getUsers(Role.USER, true, null, 10);
+
+    assertEquals(1, page.getUsers().size());
+    assertEquals("user1", page.getUsers().get(0).getUsername());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void forEachUserChunk_streamsOnlyMatchingUsers() {
+    List<UserDTO> users = new ArrayList<>();
+    userService.forEachUserChunk(null, true, users::addAll);
+
+    assertEquals(3, users.size());
+    assertTrue(users.stream().allMatch(UserDTO::getActive));
+  }
+}
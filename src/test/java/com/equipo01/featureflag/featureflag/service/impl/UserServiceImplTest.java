@@ -8,24 +8,34 @@ import com.equipo01.featureflag.featureflag.config.JwtUtil;
 import com.equipo01.featureflag.featureflag.dto.UserDTO;
 import com.equipo01.featureflag.featureflag.dto.request.LoginRequestDto;
 import com.equipo01.featureflag.featureflag.dto.request.UserRequestDTO;
+import com.equipo01.featureflag.featureflag.dto.response.UserPageResponseDto;
 import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
 import com.equipo01.featureflag.featureflag.exception.enums.MessageError;
 import com.equipo01.featureflag.featureflag.mapper.UserMapper;
 import com.equipo01.featureflag.featureflag.model.User;
+import com.equipo01.featureflag.featureflag.model.enums.Role;
 import com.equipo01.featureflag.featureflag.repository.UserRepository;
+import com.equipo01.featureflag.featureflag.repository.specifications.UserSpecification;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceImplTest {
   @Mock private UserRepository userRepository;
+  @Mock private UserSpecification userSpecification;
   @Mock private UserMapper userMapper;
   @Mock private JwtUtil jwtUtil;
   @Mock private PasswordEncoder passwordEncoder;
@@ -61,10 +71,11 @@ class UserServiceImplTest {
 
     when(userRepository.findByUsername(loginRequestDto.getUsername()))
         .thenReturn(Optional.of(user));
-    when(jwtUtil.generateToken(any())).thenReturn("mocked-jwt-token");
+    when(user.getProjectId()).thenReturn((short) 2);
+    when(jwtUtil.generateToken(any(), eq((short) 2))).thenReturn("mocked-jwt-token");
     when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
     String token = userService.loginUser(loginRequestDto);
-    verify(jwtUtil, times(1)).generateToken(any());
+    verify(jwtUtil, times(1)).generateToken(any(), eq((short) 2));
     assertEquals("mocked-jwt-token", token);
   }
 
@@ -105,6 +116,53 @@ class UserServiceImplTest {
     assertEquals(MessageError.USER_NOT_FOUND.getMessage(), result.getMessage());
   }
 
+  @Test
+  void testGetUsers_returnsCursorWhenMoreUsersExist() {
+    User first = User.builder().id(UUID.randomUUID()).build();
+    User second = User.builder().id(UUID.randomUUID()).build();
+    List<UserDTO> dtos = List.of(mock(UserDTO.class), mock(UserDTO.class));
+    when(userSpecification.getUsers(any(), any())).thenReturn(mock(Specification.class));
+    when(userRepository.findBy(any(Specification.class), any(Function.class)))
+        .thenReturn(Window.from(List.of(first, second), ScrollPosition::offset, true));
+    when(userMapper.userListToUserDTOList(List.of(first, second))).thenReturn(dtos);
+
+    UserPageResponseDto result = userService.getUsers(Role.USER, true, null, 2);
+
+    verify(userSpecification).getUsers(Role.USER, true);
+    assertSame(dtos, result.getUsers());
+    assertEquals(second.getId(), result.getNextCursor());
+  }
+
+  @Test
+  void testGetUsers_returnsNullCursorOnLastPage() {
+    User last = User.builder().id(UUID.randomUUID()).build();
+    when(userSpecification.getUsers(any(), any())).thenReturn(mock(Specification.class));
+    when(userRepository.findBy(any(Specification.class), any(Function.class)))
+        .thenReturn(Window.from(List.of(last), ScrollPosition::offset, false));
+
+    UserPageResponseDto result = userService.getUsers(null, null, UUID.randomUUID(), null);
+
+    assertNull(result.getNextCursor());
+  }
+
+  @Test
+  void testForEachUserChunk_consumesEveryWindow() {
+    User first = User.builder().id(UUID.randomUUID()).build();
+    User second = User.builder().id(UUID.randomUUID()).build();
+    when(userSpecification.getUsers(any(), any())).thenReturn(mock(Specification.class));
+    when(userRepository.findBy(any(Specification.class), any(Function.class)))
+        .thenReturn(Window.from(List.of(first), ScrollPosition::offset, true))
+        .thenReturn(Window.from(List.of(second), ScrollPosition::offset, false));
+    when(userMapper.userListToUserDTOList(anyList()))
+        .thenAnswer(invocation -> List.of(mock(UserDTO.class)));
+
+    List<List<UserDTO>> chunks = new ArrayList<>();
+    userService.forEachUserChunk(null, true, chunks::add);
+
+    assertEquals(2, chunks.size());
+    verify(userRepository, times(2)).findBy(any(Specification.class), any(Function.class));
+  }
+
   @Test
   void testExistsByClientID() {
     String clientID = "44dc4cdb-aed4-4c55-8c9b-f1751faf47f9";
@@ -0,0 +1,200 @@
+package com.equipo01.featureflag.featureflag.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.dto.VariantAllocationDto;
+import com.equipo01.featureflag.featureflag.dto.request.EvaluationRequestDto;
+import com.equipo01.featureflag.featureflag.dto.request.VariantRequestDto;
+import com.equipo01.featureflag.featureflag.dto.response.EvaluationResponseDto;
+import com.equipo01.featureflag.featureflag.dto.response.VariantResponseDto;
+import com.equipo01.featureflag.featureflag.exception.FeatureFlagException;
+import com.equipo01.featureflag.featureflag.model.enums.Environment;
+import com.equipo01.featureflag.featureflag.model.enums.FlagChangeType;
+import com.equipo01.featureflag.featureflag.model.enums.VariantType;
+import com.equipo01.featureflag.featureflag.model.events.FlagChangedEvent;
+import com.equipo01.featureflag.featureflag.service.TargetingRuleService;
+import com.equipo01.featureflag.featureflag.service.VariantService;
+import com.equipo01.featureflag.featureflag.util.targeting.VariantTable;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies that variants are validated against their type, allocated by weight and served to the
+ * bucket of the evaluated client, against the staging data set. Variant tables outlive the rolled
+ * back transaction of a test, so the cache is cleared after each one.
+ */
+@SpringBootTest
+@ActiveProfiles("staging")
+@Transactional
+class VariantTest {
+
+  private static final String FEATURE_NAME = "NEW_USER_DASHBOARD";
+  private static final UUID FEATURE_ID = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+
+  // NEW_USER_DASHBOARD in PROD: environment default disabled, client-premium enabled
+  private static final UUID PROD_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440003");
+  private static final UUID PREMIUM_CONFIG_ID =
+      UUID.fromString("770e8400-e29b-41d4-a716-446655440004");
+
+  @Autowired private VariantService variantService;
+  @Autowired private TargetingRuleService targetingRuleService;
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  @AfterEach
+  void clearVariantTables() {
+    eventPublisher.publishEvent(
+        FlagChangedEvent.builder().type(FlagChangeType.FEATURE_DELETED).build());
+  }
+
+  @Test
+  void replaceVariants_storesTypedValuesByName() {
+    JsonNode layout = JsonNodeFactory.instance.objectNode().put("steps", 3);
+
+    List<VariantResponseDto> stored =
+        variantService.replaceVariants(
+            FEATURE_ID,
+            List.of(
+                variant("limit", VariantType.NUMBER, IntNode.valueOf(50)),
+                variant("color", VariantType.STRING, TextNode.valueOf("blue")),
+                variant("layout", VariantType.JSON, layout)));
+
+    assertEquals(List.of("color", "layout", "limit"), names(stored));
+    List<VariantResponseDto> read = variantService.getVariants(FEATURE_ID);
+    assertEquals(stored.stream().map(VariantResponseDto::getId).toList(), ids(read));
+    assertEquals(layout, read.get(1).getValue());
+    assertEquals(50, read.get(2).getValue().intValue());
+
+    variantService.replaceVariants(
+        FEATURE_ID, List.of(variant("color", VariantType.STRING, TextNode.valueOf("green"))));
+    List<VariantResponseDto> updated = variantService.getVariants(FEATURE_ID);
+    assertEquals(List.of(read.get(0).getId()), ids(updated));
+    assertEquals("green", updated.get(0).getValue().textValue());
+  }
+
+  @Test
+  void replaceVariants_valueNotMatchingType_throwsBadRequest() {
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                variantService.replaceVariants(
+                    FEATURE_ID,
+                    List.of(variant("limit", VariantType.NUMBER, TextNode.valueOf("50")))));
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+  }
+
+  @Test
+  void replaceVariants_removingAllocatedVariant_throwsConflict() {
+    replaceColors();
+    variantService.replaceAllocation(PREMIUM_CONFIG_ID, List.of(allocation("blue", 10_000)));
+
+    FeatureFlagException exception =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                variantService.replaceVariants(
+                    FEATURE_ID,
+                    List.of(variant("green", VariantType.STRING, TextNode.valueOf("#00ff00")))));
+    assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+  }
+
+  @Test
+  void replaceAllocation_invalidAllocation_throws() {
+    replaceColors();
+
+    FeatureFlagException weights =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                variantService.replaceAllocation(
+                    PREMIUM_CONFIG_ID,
+                    List.of(allocation("blue", 5000), allocation("green", 4000))));
+    assertEquals(HttpStatus.BAD_REQUEST, weights.getStatus());
+    FeatureFlagException unknown =
+        assertThrows(
+            FeatureFlagException.class,
+            () ->
+                variantService.replaceAllocation(
+                    PREMIUM_CONFIG_ID, List.of(allocation("red", 10_000))));
+    assertEquals(HttpStatus.NOT_FOUND, unknown.getStatus());
+    assertTrue(variantService.getAllocation(PREMIUM_CONFIG_ID).isEmpty());
+  }
+
+  @Test
+  void evaluate_servesVariantOfClientBucket() {
+    replaceColors();
+    List<VariantAllocationDto> stored =
+        variantService.replaceAllocation(
+            PREMIUM_CONFIG_ID, List.of(allocation("green", 5000), allocation("blue", 5000)));
+    assertEquals(
+        List.of("blue", "green"), stored.stream().map(VariantAllocationDto::getVariant).toList());
+
+    EvaluationResponseDto result = evaluate("client-premium");
+
+    // Variants take their bucket ranges in name order
+    boolean firstHalf = VariantTable.bucket(FEATURE_NAME, "client-premium") < 5000;
+    assertTrue(result.getEnabled());
+    assertEquals(firstHalf ? "blue" : "green", result.getVariant());
+    assertEquals(firstHalf ? "#0000ff" : "#00ff00", result.getValue().textValue());
+  }
+
+  @Test
+  void evaluate_disabledConfiguration_servesNoVariant() {
+    replaceColors();
+    variantService.replaceAllocation(PROD_CONFIG_ID, List.of(allocation("blue", 10_000)));
+
+    EvaluationResponseDto result = evaluate("client-basic");
+
+    assertFalse(result.getEnabled());
+    assertNull(result.getVariant());
+    assertNull(result.getValue());
+  }
+
+  private void replaceColors() {
+    variantService.replaceVariants(
+        FEATURE_ID,
+        List.of(
+            variant("blue", VariantType.STRING, TextNode.valueOf("#0000ff")),
+            variant("green", VariantType.STRING, TextNode.valueOf("#00ff00"))));
+  }
+
+  private EvaluationResponseDto evaluate(String clientId) {
+    return targetingRuleService.evaluate(
+        EvaluationRequestDto.builder()
+            .featureName(FEATURE_NAME)
+            .environment(Environment.PROD)
+            .clientId(clientId)
+            .context(Map.of())
+            .build());
+  }
+
+  private static VariantRequestDto variant(String name, VariantType type, JsonNode value) {
+    return VariantRequestDto.builder().name(name).type(type).value(value).build();
+  }
+
+  private static VariantAllocationDto allocation(String variant, int weight) {
+    return VariantAllocationDto.builder().variant(variant).weight(weight).build();
+  }
+
+  private static List<String> names(List<VariantResponseDto> variants) {
+    return variants.stream().map(VariantResponseDto::getName).toList();
+  }
+
+  private static List<UUID> ids(List<VariantResponseDto> variants) {
+    return variants.stream().map(VariantResponseDto::getId).toList();
+  }
+}
@@ -0,0 +1,108 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+  @Test
+  public void testAddContainsAndRemove() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+
+    assertTrue(bitmap.add(7));
+    assertFalse(bitmap.add(7));
+    assertTrue(bitmap.add(200_000));
+    assertTrue(bitmap.contains(7));
+    assertTrue(bitmap.contains(200_000));
+    assertFalse(bitmap.contains(8));
+    assertFalse(bitmap.contains(-1));
+    assertEquals(2, bitmap.cardinality());
+
+    assertTrue(bitmap.remove(7));
+    assertFalse(bitmap.remove(7));
+    assertFalse(bitmap.contains(7));
+    assertEquals(1, bitmap.cardinality());
+    assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+  }
+
+  @Test
+  public void testDenseChunkIsConvertedToBitmapAndBack() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    for (int value = 0; value < 1 << 16; value++) {
+      bitmap.add(value);
+    }
+    // One chunk of 65536 values takes 8 KiB, instead of 128 KiB as an array
+    assertEquals(4 + 8192, bitmap.sizeInBytes());
+
+    for (int value = 10; value < 1 << 16; value++) {
+      bitmap.remove(value);
+    }
+    assertEquals(4 + 10 * 2, bitmap.sizeInBytes());
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, bitmap.toArray());
+  }
+
+  @Test
+  public void testRandomValuesMatchAReferenceSet() {
+    Random random = new Random(42);
+    CompressedBitmap bitmap = new CompressedBitmap();
+    TreeSet<Integer> reference = new TreeSet<>();
+    for (int i = 0; i < 50_000; i++) {
+      // Mostly dense first chunk, sparse beyond it
+      int value = random.nextInt(4) == 0 ? random.nextInt(1_000_000) : random.nextInt(20_000);
+      if (random.nextInt(5) == 0) {
+        assertEquals(reference.remove(value), bitmap.remove(value));
+      } else {
+        assertEquals(reference.add(value), bitmap.add(value));
+      }
+    }
+
+    assertEquals(reference.size(), bitmap.cardinality());
+    assertArrayEquals(reference.stream().mapToInt(Integer::intValue).toArray(), bitmap.toArray());
+  }
+
+  @Test
+  public void testSerializeRoundTrip() {
+    Random random = new Random(7);
+    CompressedBitmap bitmap = new CompressedBitmap();
+    for (int i = 0; i < 20_000; i++) {
+      bitmap.add(random.nextInt(300_000));
+    }
+
+    CompressedBitmap copy = CompressedBitmap.deserialize(bitmap.serialize());
+
+    assertEquals(bitmap.cardinality(), copy.cardinality());
+    assertArrayEquals(bitmap.toArray(), copy.toArray());
+    assertEquals(0, CompressedBitmap.deserialize(new CompressedBitmap().serialize()).cardinality());
+  }
+
+  @Test
+  public void testDeserializeRejectsMalformedInput() {
+    byte[] serialized = new CompressedBitmap().serialize();
+    CompressedBitmap bitmap = new CompressedBitmap();
+    bitmap.add(1);
+    bitmap.add(2);
+    byte[] truncated = Arrays.copyOf(bitmap.serialize(), 8);
+
+    assertThrows(IllegalArgumentException.class, () -> CompressedBitmap.deserialize(truncated));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CompressedBitmap.deserialize(Arrays.copyOf(serialized, 6)));
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    bitmap.add(1);
+    CompressedBitmap copy = bitmap.copy();
+    copy.add(2);
+    copy.remove(1);
+
+    assertTrue(bitmap.contains(1));
+    assertFalse(bitmap.contains(2));
+    assertEquals(1, copy.cardinality());
+  }
+}
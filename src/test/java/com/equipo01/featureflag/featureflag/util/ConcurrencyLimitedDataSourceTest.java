@@ -0,0 +1,104 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimitedDataSourceTest {
+
+  private final DataSource target = mock(DataSource.class);
+
+  @Test
+  public void testConnectionsBeyondLimitWaitForClose() throws SQLException {
+    when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+
+    Connection first = dataSource.getConnection();
+    dataSource.getConnection();
+    assertEquals(0, dataSource.available());
+    assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+    first.close();
+    first.close();
+    assertEquals(1, dataSource.available());
+    assertNotNull(dataSource.getConnection());
+  }
+
+  @Test
+  public void testCloseReachesTargetConnection() throws SQLException {
+    Connection connection = mock(Connection.class);
+    when(target.getConnection()).thenReturn(connection);
+    ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+    Connection limited = dataSource.getConnection();
+    assertEquals(limited, limited);
+    assertNotEquals(connection, limited);
+    limited.close();
+
+    verify(connection).close();
+    assertEquals(1, dataSource.available());
+  }
+
+  @Test
+  public void testFailedConnectionGivesPermitBack() throws SQLException {
+    when(target.getConnection()).thenThrow(new SQLException("down"));
+    ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+    SQLException exception = assertThrows(SQLException.class, dataSource::getConnection);
+
+    assertEquals("down", exception.getMessage());
+    assertEquals(1, dataSource.available());
+  }
+
+  @Test
+  public void testVirtualThreadsNeverExceedLimit() throws Exception {
+    AtomicInteger open = new AtomicInteger();
+    AtomicInteger maxOpen = new AtomicInteger();
+    when(target.getConnection())
+        .thenAnswer(
+            invocation -> {
+              maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+              return mock(Connection.class);
+            });
+    ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, 4, Duration.ofSeconds(30));
+    AtomicInteger served = new AtomicInteger();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 1_000; i++) {
+        executor.execute(
+            () -> {
+              try (Connection connection = dataSource.getConnection()) {
+                Thread.sleep(1);
+                // Counted down before the permit is given back on close
+                open.decrementAndGet();
+                served.incrementAndGet();
+              } catch (SQLException | InterruptedException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+      }
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+
+    assertEquals(1_000, served.get());
+    assertTrue(maxOpen.get() <= 4);
+    assertEquals(4, dataSource.available());
+  }
+}
@@ -0,0 +1,121 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ExposureRingBufferTest {
+
+  @Test
+  public void testEventsAreDrainedInPublicationOrder() {
+    ExposureRingBuffer buffer = new ExposureRingBuffer(4);
+    List<String> drained = new ArrayList<>();
+
+    for (int lap = 0; lap < 3; lap++) {
+      assertTrue(buffer.offer((short) 1, "A", 1, "client-" + lap, true, null, lap));
+      assertTrue(buffer.offer((short) 1, "B", 3, "client-" + lap, false, "blue", lap));
+      buffer.drain(
+          (project, feature, environment, client, enabled, variant, timestamp) ->
+              drained.add(
+                  project
+                      + ":"
+                      + feature
+                      + ":"
+                      + environment
+                      + ":"
+                      + client
+                      + ":"
+                      + enabled
+                      + ":"
+                      + variant),
+          10);
+    }
+
+    assertEquals(
+        List.of(
+            "1:A:1:client-0:true:null",
+            "1:B:3:client-0:false:blue",
+            "1:A:1:client-1:true:null",
+            "1:B:3:client-1:false:blue",
+            "1:A:1:client-2:true:null",
+            "1:B:3:client-2:false:blue"),
+        drained);
+  }
+
+  @Test
+  public void testFullBufferDropsAndCounts() {
+    ExposureRingBuffer buffer = new ExposureRingBuffer(2);
+
+    assertTrue(buffer.offer((short) 1, "A", 1, "c", true, null, 0));
+    assertTrue(buffer.offer((short) 1, "B", 1, "c", true, null, 0));
+    assertFalse(buffer.offer((short) 1, "C", 1, "c", true, null, 0));
+    assertEquals(1, buffer.dropped());
+
+    assertEquals(1, buffer.drain((p, f, e, c, en, v, t) -> assertEquals("A", f), 1));
+    assertTrue(buffer.offer((short) 1, "D", 1, "c", true, null, 0));
+    assertEquals(1, buffer.dropped());
+  }
+
+  @Test
+  public void testCapacityIsRoundedUpToPowerOfTwo() {
+    assertEquals(1, new ExposureRingBuffer(1).capacity());
+    assertEquals(8, new ExposureRingBuffer(5).capacity());
+    assertEquals(1024, new ExposureRingBuffer(1024).capacity());
+    assertThrows(IllegalArgumentException.class, () -> new ExposureRingBuffer(0));
+  }
+
+  @Test
+  public void testConcurrentProducersAreEachDeliveredOnce() throws InterruptedException {
+    int producers = 4;
+    int perProducer = 20_000;
+    ExposureRingBuffer buffer = new ExposureRingBuffer(1024);
+    BitSet seen = new BitSet(producers * perProducer);
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    for (int p = 0; p < producers; p++) {
+      int producer = p;
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              return;
+            }
+            for (int i = 0; i < perProducer; i++) {
+              // Retried until published, so every event must come out exactly once
+              while (!buffer.offer(
+                  (short) 1, "A", 1, "c", true, null, producer * perProducer + i)) {
+                Thread.onSpinWait();
+              }
+            }
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+
+    int[] duplicates = new int[1];
+    ExposureRingBuffer.Handler handler =
+        (p, f, e, c, en, v, timestamp) -> {
+          if (seen.get((int) timestamp)) {
+            duplicates[0]++;
+          }
+          seen.set((int) timestamp);
+        };
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (seen.cardinality() < producers * perProducer && System.nanoTime() < deadline) {
+      buffer.drain(handler, 256);
+    }
+
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    assertEquals(producers * perProducer, seen.cardinality());
+    assertEquals(0, duplicates[0]);
+    assertEquals(0, buffer.drain(handler, 256));
+  }
+}
@@ -0,0 +1,92 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalTimerWheelTest {
+
+  private static final long START = 1_000_000L;
+
+  @Test
+  public void testItemIsReleasedAtItsDeadlineAndNotBefore() {
+    HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 2, 3, START);
+    wheel.add("a", START + 35);
+
+    assertTrue(wheel.advance(START + 39).isEmpty());
+    assertEquals(List.of("a"), wheel.advance(START + 40));
+    assertTrue(wheel.advance(START + 1000).isEmpty());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void testPastDeadlineIsReleasedOnNextAdvance() {
+    HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 2, 3, START);
+    wheel.add("late", START - 500);
+
+    assertEquals(1, wheel.size());
+    assertEquals(List.of("late"), wheel.advance(START));
+  }
+
+  @Test
+  public void testItemsBeyondTheHighestLevelWaitInOverflow() {
+    // 4 slots x 3 levels span 64 ticks
+    HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 2, 3, START);
+    wheel.add("far", START + 10 * 200);
+
+    assertTrue(wheel.advance(START + 10 * 199).isEmpty());
+    assertEquals(List.of("far"), wheel.advance(START + 10 * 200));
+  }
+
+  @Test
+  public void testRandomDeadlinesAreReleasedWithinOneTick() {
+    long tick = 10;
+    HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(tick, 3, 3, START);
+    Random random = new Random(42);
+    for (int i = 0; i < 5_000; i++) {
+      wheel.add(START + random.nextInt(20_000), START + random.nextInt(20_000));
+    }
+    for (int i = 0; i < 5_000; i++) {
+      long deadline = START + random.nextInt(20_000);
+      wheel.add(deadline, deadline);
+    }
+
+    List<Long> released = new ArrayList<>();
+    for (long now = START; now <= START + 20_000 + tick; now += 7) {
+      for (Long deadline : wheel.advance(now)) {
+        released.add(deadline);
+      }
+    }
+
+    assertEquals(10_000, released.size());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void testDeadlinesAreNeverReleasedEarlyNorLate() {
+    long tick = 10;
+    HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(tick, 3, 3, START);
+    Random random = new Random(7);
+    for (int i = 0; i < 5_000; i++) {
+      long deadline = START + random.nextInt(50_000);
+      wheel.add(deadline, deadline);
+    }
+
+    for (long now = START; now <= START + 50_000 + tick; now += tick) {
+      for (Long deadline : wheel.advance(now)) {
+        assertTrue(deadline <= now, "released before its deadline");
+        assertTrue(now - deadline < tick, "released more than one tick late");
+      }
+    }
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void testInvalidDimensionsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimerWheel<>(0, 6, 4, 0));
+    assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimerWheel<>(1, 16, 4, 0));
+  }
+}
@@ -0,0 +1,22 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class MurmurHash3Test {
+
+  @Test
+  public void testHash32MatchesReferenceImplementation() {
+    assertEquals(0, MurmurHash3.hash32(new byte[0], 0));
+    assertEquals(0x514e28b7, MurmurHash3.hash32(new byte[0], 1));
+    assertEquals(0x248bfa47, MurmurHash3.hash32(bytes("hello"), 0));
+    assertEquals(
+        0x2e4ff723, MurmurHash3.hash32(bytes("The quick brown fox jumps over the lazy dog"), 0));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,54 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class PartitionedMapTest {
+
+  @Test
+  public void testPartitionsAreIndependent() {
+    PartitionedMap<String, Integer> map = new PartitionedMap<>();
+    map.partition(1).put("A", 1);
+    map.partition(3).put("A", 3);
+
+    assertEquals(1, map.get(1, "A"));
+    assertEquals(3, map.get(3, "A"));
+    assertNull(map.get(2, "A"));
+    assertSame(map.partition(3), map.partition(3));
+  }
+
+  @Test
+  public void testGetDoesNotCreatePartitions() {
+    PartitionedMap<String, Integer> map = new PartitionedMap<>();
+
+    assertNull(map.get(40, "A"));
+    map.partition(2).put("A", 2);
+
+    assertEquals(2, map.get(2, "A"));
+    assertNull(map.get(40, "A"));
+  }
+
+  @Test
+  public void testRemoveAndClearApplyToEveryPartition() {
+    PartitionedMap<String, Integer> map = new PartitionedMap<>();
+    map.partition(0).put("A", 0);
+    map.partition(5).put("A", 5);
+    map.partition(5).put("B", 5);
+
+    map.remove("A");
+    assertNull(map.get(0, "A"));
+    assertNull(map.get(5, "A"));
+    assertEquals(5, map.get(5, "B"));
+
+    map.clear();
+    assertTrue(map.partition(5).isEmpty());
+  }
+
+  @Test
+  public void testNegativeIndexIsRejected() {
+    PartitionedMap<String, Integer> map = new PartitionedMap<>();
+
+    assertThrows(IllegalArgumentException.class, () -> map.partition(-1));
+  }
+}
@@ -0,0 +1,91 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSourceTest {
+
+  private final DataSource primary = mock(DataSource.class);
+  private final DataSource replica = mock(DataSource.class);
+  private final Connection primaryConnection = mock(Connection.class);
+  private final Connection replicaConnection = mock(Connection.class);
+  private String client;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    when(replica.getConnection()).thenReturn(replicaConnection);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  public void testReadOnlyTransactionsReadFromReplica() throws SQLException {
+    ReadWriteRoutingDataSource dataSource = dataSource(Duration.ZERO);
+
+    assertSame(primaryConnection, dataSource.getConnection());
+    inTransaction(true);
+    assertSame(replicaConnection, dataSource.getConnection());
+    inTransaction(false);
+    assertSame(primaryConnection, dataSource.getConnection());
+
+    assertEquals(2, dataSource.primaryConnections());
+    assertEquals(1, dataSource.replicaConnections());
+  }
+
+  @Test
+  public void testWritingClientReadsFromPrimaryWithinWindow() throws Exception {
+    ReadWriteRoutingDataSource dataSource = dataSource(Duration.ofMillis(200));
+    client = "admin";
+    inTransaction(false);
+    dataSource.getConnection();
+
+    inTransaction(true);
+    assertSame(primaryConnection, dataSource.getConnection());
+    client = "user1";
+    assertSame(replicaConnection, dataSource.getConnection());
+    client = null;
+    assertSame(replicaConnection, dataSource.getConnection());
+
+    Thread.sleep(250);
+    client = "admin";
+    assertSame(replicaConnection, dataSource.getConnection());
+    assertEquals(1, dataSource.pinnedReads());
+    assertEquals(0, dataSource.pinnedClients());
+  }
+
+  @Test
+  public void testWorkOutsideTransactionsNeverPins() throws SQLException {
+    ReadWriteRoutingDataSource dataSource = dataSource(Duration.ofMinutes(1));
+    client = "admin";
+
+    dataSource.getConnection();
+    inTransaction(true);
+
+    assertSame(replicaConnection, dataSource.getConnection());
+    assertEquals(0, dataSource.pinnedClients());
+  }
+
+  private ReadWriteRoutingDataSource dataSource(Duration pinWindow) {
+    return new ReadWriteRoutingDataSource(primary, replica, pinWindow, () -> client);
+  }
+
+  private static void inTransaction(boolean readOnly) {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+  }
+}
@@ -0,0 +1,36 @@
+package com.equipo01.featureflag.featureflag.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class TopologicalSortTest {
+
+  @Test
+  public void testSortPlacesDependenciesFirst() {
+    List<String> order =
+        TopologicalSort.sort(
+            Map.of("CHECKOUT", List.of("PAYMENTS", "CART"), "PAYMENTS", List.of("CART")));
+
+    assertEquals(List.of("CART", "PAYMENTS", "CHECKOUT"), order);
+  }
+
+  @Test
+  public void testSortIncludesNodesOnlyAppearingAsDependencies() {
+    List<String> order = TopologicalSort.sort(Map.of("A", List.of("B", "B")));
+
+    assertEquals(List.of("B", "A"), order);
+  }
+
+  @Test
+  public void testSortRejectsCycles() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TopologicalSort.sort(Map.of("A", List.of("B"), "B", List.of("C"), "C", List.of("A"))));
+    assertThrows(
+        IllegalArgumentException.class, () -> TopologicalSort.sort(Map.of("A", List.of("A"))));
+  }
+}
@@ -0,0 +1,58 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class EvaluationPlanTest {
+
+  // CHECKOUT and ONE_CLICK share PAYMENTS, which depends on ACCOUNTS; SEARCH stands alone
+  private static final Map<String, List<String>> GRAPH =
+      Map.of(
+          "CHECKOUT", List.of("PAYMENTS"),
+          "ONE_CLICK", List.of("PAYMENTS", "CHECKOUT"),
+          "PAYMENTS", List.of("ACCOUNTS"),
+          "SEARCH", List.of());
+
+  @Test
+  public void testPrerequisitesHaveSmallerIndices() {
+    EvaluationPlan plan = EvaluationPlan.build(3, GRAPH);
+
+    assertEquals(3, plan.version());
+    assertEquals(5, plan.size());
+    for (int index = 0; index < plan.size(); index++) {
+      for (int prerequisite : plan.prerequisites(index)) {
+        assertTrue(prerequisite < index);
+      }
+    }
+    assertEquals(-1, plan.indexOf("UNKNOWN"));
+    assertEquals("PAYMENTS", plan.name(plan.indexOf("PAYMENTS")));
+  }
+
+  @Test
+  public void testClosureListsSharedPrerequisitesOnceInEvaluationOrder() {
+    EvaluationPlan plan = EvaluationPlan.build(0, GRAPH);
+
+    int[] closure = plan.closure(plan.indexOf("ONE_CLICK"), plan.indexOf("CHECKOUT"));
+
+    assertArrayEquals(
+        new int[] {
+          plan.indexOf("ACCOUNTS"),
+          plan.indexOf("PAYMENTS"),
+          plan.indexOf("CHECKOUT"),
+          plan.indexOf("ONE_CLICK")
+        },
+        closure);
+    assertArrayEquals(new int[] {plan.indexOf("SEARCH")}, plan.closure(plan.indexOf("SEARCH")));
+    assertEquals(0, plan.closure().length);
+  }
+
+  @Test
+  public void testBuildRejectsCycles() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> EvaluationPlan.build(0, Map.of("A", List.of("B"), "B", List.of("A"))));
+  }
+}
@@ -0,0 +1,42 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class SemanticVersionsTest {
+
+  @Test
+  public void testParseFillsMissingComponentsWithZero() {
+    assertArrayEquals(new int[] {2, 4, 0}, SemanticVersions.parse("2.4"));
+    assertArrayEquals(new int[] {1, 0, 0}, SemanticVersions.parse("v1"));
+    assertArrayEquals(new int[] {3, 1, 2}, SemanticVersions.parse("3.1.2-beta.1+build.5"));
+  }
+
+  @Test
+  public void testParseRejectsMalformedVersions() {
+    for (String version : new String[] {"", "v", "1.", ".1", "1..2", "1.2.3.4", "1.a", "-1"}) {
+      assertThrows(IllegalArgumentException.class, () -> SemanticVersions.parse(version), version);
+    }
+  }
+
+  @Test
+  public void testAtLeastComparesComponentsNumerically() {
+    int[] minimum = SemanticVersions.parse("2.4.1");
+
+    assertTrue(SemanticVersions.atLeast("2.4.1", minimum));
+    assertTrue(SemanticVersions.atLeast("2.10.0", minimum));
+    assertTrue(SemanticVersions.atLeast("3", minimum));
+    assertFalse(SemanticVersions.atLeast("2.4.0", minimum));
+    assertFalse(SemanticVersions.atLeast("2.4", minimum));
+    assertFalse(SemanticVersions.atLeast("1.99.99", minimum));
+  }
+
+  @Test
+  public void testAtLeastIsFalseForUnparseableVersions() {
+    int[] minimum = SemanticVersions.parse("0.0.0");
+
+    assertFalse(SemanticVersions.atLeast("latest", minimum));
+    assertFalse(SemanticVersions.atLeast("99999999999.0.0", minimum));
+  }
+}
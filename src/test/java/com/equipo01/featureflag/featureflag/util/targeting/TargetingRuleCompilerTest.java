@@ -0,0 +1,161 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.equipo01.featureflag.featureflag.model.TargetingClause;
+import com.equipo01.featureflag.featureflag.model.TargetingRule;
+import com.equipo01.featureflag.featureflag.model.enums.ClauseOperator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class TargetingRuleCompilerTest {
+
+  @Test
+  public void testInMatchesAnyOfTheValues() {
+    TargetingPredicate predicate = compile(clause("country", ClauseOperator.IN, "UY", "AR", "CL"));
+
+    assertTrue(predicate.test(Map.of("country", "AR")));
+    assertTrue(predicate.test(Map.of("country", "UY")));
+    assertFalse(predicate.test(Map.of("country", "BR")));
+  }
+
+  @Test
+  public void testStartsWithMatchesAnyPrefix() {
+    TargetingPredicate predicate =
+        compile(clause("email", ClauseOperator.STARTS_WITH, "qa+", "beta+"));
+
+    assertTrue(predicate.test(Map.of("email", "beta+ana@example.com")));
+    assertFalse(predicate.test(Map.of("email", "ana@example.com")));
+  }
+
+  @Test
+  public void testSemverGteUsesTheLowestBound() {
+    TargetingPredicate predicate =
+        compile(clause("appVersion", ClauseOperator.SEMVER_GTE, "3.0.0", "2.4"));
+
+    assertTrue(predicate.test(Map.of("appVersion", "2.4.0")));
+    assertTrue(predicate.test(Map.of("appVersion", "v2.10.1")));
+    assertFalse(predicate.test(Map.of("appVersion", "2.3.99")));
+    assertFalse(predicate.test(Map.of("appVersion", "not-a-version")));
+  }
+
+  @Test
+  public void testMatchesRequiresAFullMatch() {
+    TargetingPredicate predicate =
+        compile(clause("plan", ClauseOperator.MATCHES, "pro|enterprise"));
+
+    assertTrue(predicate.test(Map.of("plan", "enterprise")));
+    assertFalse(predicate.test(Map.of("plan", "professional")));
+  }
+
+  @Test
+  public void testNegatedClauseNeverMatchesAMissingAttribute() {
+    TargetingClause clause = clause("country", ClauseOperator.IN, "AR");
+    clause.setNegate(true);
+    TargetingPredicate predicate = compile(clause);
+
+    assertTrue(predicate.test(Map.of("country", "BR")));
+    assertFalse(predicate.test(Map.of("country", "AR")));
+    assertFalse(predicate.test(Map.of()));
+  }
+
+  @Test
+  public void testRuleMatchesWhenAllClausesHold() {
+    TargetingPredicate predicate =
+        TargetingRuleCompiler.compile(
+            List.of(
+                clause("country", ClauseOperator.IN, "AR"),
+                clause("appVersion", ClauseOperator.SEMVER_GTE, "2.0.0")),
+            SegmentMembership.NONE);
+
+    assertTrue(predicate.test(Map.of("country", "AR", "appVersion", "2.1.0")));
+    assertFalse(predicate.test(Map.of("country", "AR", "appVersion", "1.9.0")));
+    assertFalse(predicate.test(Map.of("appVersion", "2.1.0")));
+  }
+
+  @Test
+  public void testFirstMatchingRuleWins() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    CompiledTargeting targeting =
+        TargetingRuleCompiler.compile(
+            7,
+            List.of(
+                rule(first, false, clause("country", ClauseOperator.IN, "AR")),
+                rule(second, true, clause("plan", ClauseOperator.IN, "pro"))));
+
+    assertEquals(7, targeting.version());
+    assertEquals(first, targeting.match(Map.of("country", "AR", "plan", "pro")).ruleId());
+    assertTrue(targeting.match(Map.of("country", "UY", "plan", "pro")).enabled());
+    assertNull(targeting.match(Map.of("country", "UY")));
+  }
+
+  @Test
+  public void testRuleWithoutClausesMatchesEveryContext() {
+    CompiledTargeting targeting =
+        TargetingRuleCompiler.compile(1, List.of(rule(UUID.randomUUID(), true)));
+
+    assertNotNull(targeting.match(Map.of()));
+  }
+
+  @Test
+  public void testSegmentClauseReadsMembershipOnEveryTest() {
+    UUID segmentId = UUID.randomUUID();
+    Set<Integer> members = new HashSet<>(Set.of(3));
+    SegmentMembership membership =
+        new SegmentMembership() {
+          @Override
+          public int ordinalOf(String clientId) {
+            return clientId.startsWith("user-") ? Integer.parseInt(clientId.substring(5)) : -1;
+          }
+
+          @Override
+          public boolean contains(UUID segment, int ordinal) {
+            return segment.equals(segmentId) && members.contains(ordinal);
+          }
+        };
+    TargetingPredicate predicate =
+        TargetingRuleCompiler.compile(
+            List.of(clause("userId", ClauseOperator.IN_SEGMENT, segmentId.toString())), membership);
+
+    assertTrue(predicate.test(Map.of("userId", "user-3")));
+    assertFalse(predicate.test(Map.of("userId", "user-4")));
+    assertFalse(predicate.test(Map.of("userId", "unknown")));
+    members.add(4);
+    assertTrue(predicate.test(Map.of("userId", "user-4")));
+  }
+
+  @Test
+  public void testInvalidValuesAreRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> compile(clause("appVersion", ClauseOperator.SEMVER_GTE, "2.x")));
+    assertThrows(
+        IllegalArgumentException.class, () -> compile(clause("plan", ClauseOperator.MATCHES, "(")));
+    assertThrows(IllegalArgumentException.class, () -> compile(clause("plan", ClauseOperator.IN)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> compile(clause("userId", ClauseOperator.IN_SEGMENT, "beta")));
+  }
+
+  private static TargetingPredicate compile(TargetingClause clause) {
+    return TargetingRuleCompiler.compile(List.of(clause), SegmentMembership.NONE);
+  }
+
+  private static TargetingClause clause(
+      String attribute, ClauseOperator operator, String... values) {
+    return TargetingClause.builder()
+        .attribute(attribute)
+        .operator(operator)
+        .values(List.of(values))
+        .build();
+  }
+
+  private static TargetingRule rule(UUID id, boolean enabled, TargetingClause... clauses) {
+    return TargetingRule.builder().id(id).enabled(enabled).clauses(List.of(clauses)).build();
+  }
+}
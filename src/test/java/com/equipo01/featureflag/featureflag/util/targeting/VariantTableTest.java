@@ -0,0 +1,68 @@
+package com.equipo01.featureflag.featureflag.util.targeting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class VariantTableTest {
+
+  private static final List<VariantTable.Variant> VARIANTS =
+      List.of(
+          new VariantTable.Variant("control", TextNode.valueOf("blue")),
+          new VariantTable.Variant("treatment", TextNode.valueOf("green")),
+          new VariantTable.Variant("limit", IntNode.valueOf(50)));
+
+  @Test
+  public void testPickMapsBucketsToCumulativeRanges() {
+    VariantTable table = VariantTable.build(1, 2, VARIANTS, new int[] {2500, 2500, 5000});
+
+    assertEquals(1, table.configVersion());
+    assertEquals(2, table.featureVersion());
+    assertFalse(table.isEmpty());
+    assertEquals("control", table.pick(0).name());
+    assertEquals("control", table.pick(2499).name());
+    assertEquals("treatment", table.pick(2500).name());
+    assertEquals("treatment", table.pick(4999).name());
+    assertEquals("limit", table.pick(5000).name());
+    assertEquals(50, table.pick(VariantTable.BUCKETS - 1).value().intValue());
+  }
+
+  @Test
+  public void testEmptyTableServesNoVariant() {
+    VariantTable table = VariantTable.build(0, 0, List.of(), new int[0]);
+
+    assertTrue(table.isEmpty());
+    assertNull(table.pick(42));
+  }
+
+  @Test
+  public void testBuildRejectsInvalidWeights() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> VariantTable.build(0, 0, VARIANTS, new int[] {2500, 2500, 2500}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> VariantTable.build(0, 0, VARIANTS, new int[] {5000, 0, 5000}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> VariantTable.build(0, 0, VARIANTS, new int[] {10_000}));
+  }
+
+  @Test
+  public void testBucketIsStableAndSpreadsClients() {
+    assertEquals(
+        VariantTable.bucket("NEW_CHECKOUT", "client-1"),
+        VariantTable.bucket("NEW_CHECKOUT", "client-1"));
+
+    int[] halves = new int[2];
+    for (int i = 0; i < 10_000; i++) {
+      int bucket = VariantTable.bucket("NEW_CHECKOUT", "client-" + i);
+      assertTrue(bucket >= 0 && bucket < VariantTable.BUCKETS);
+      halves[bucket < VariantTable.BUCKETS / 2 ? 0 : 1]++;
+    }
+    assertTrue(Math.abs(halves[0] - halves[1]) < 500);
+  }
+}